@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.benchmark;
+
+import org.codehaus.groovy.ast.ClassNode;
+import org.codenarc.rule.AbstractAstVisitorRule;
+import org.codenarc.rule.AstVisitor;
+import org.codenarc.rule.Rule;
+import org.codenarc.ruleset.CompositeRuleSet;
+import org.codenarc.ruleset.XmlFileRuleSet;
+import org.codenarc.source.SourceCode;
+import org.codenarc.source.SourceFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time and allocation to apply the AbstractAstVisitorRules of the "basic", "unnecessary" and
+ * "groovyism" rulesets to the project's own Groovy source (<code>src/main/groovy</code>, parsed up front), comparing
+ * how the new visitor for each class is created:
+ * <ul>
+ *   <li>newVisitor - from <code>getAstVisitor()</code> (a constructor MethodHandle), as <code>Rule.applyTo()</code> does</li>
+ *   <li>reflective - from <code>Class.newInstance()</code>, as CodeNarc previously did</li>
+ * </ul>
+ * Only the rules that create their visitors from the <code>astVisitorClass</code>, and have no file or class name
+ * filters, are applied, so that each mode visits the same classes.
+ * <p/>
+ * Run from the project directory, with the allocation rate per operation (<code>gc.alloc.rate.norm</code>), with:
+ * <code>./gradlew jmh -PjmhArgs="AstVisitorBenchmark -prof gc"</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AstVisitorBenchmark {
+
+    private static final String[] RULESETS = {"basic", "unnecessary", "groovyism"};
+
+    @Param({"newVisitor", "reflective"})
+    public String visitors;
+
+    private List<SourceCode> sources;
+    private List<AbstractAstVisitorRule> rules;
+    private List<Class<?>> visitorClasses;
+
+    @Setup(Level.Trial)
+    public void parseSources() throws Exception {
+        try (Stream<Path> paths = Files.walk(Paths.get("src/main/groovy"))) {
+            sources = paths.filter(path -> path.toString().endsWith(".groovy"))
+                .map(path -> (SourceCode) new SourceFile(path.toFile()))
+                .collect(Collectors.toList());
+        }
+        CompositeRuleSet ruleSet = new CompositeRuleSet();
+        for (String name : RULESETS) {
+            ruleSet.addRuleSet(new XmlFileRuleSet("rulesets/" + name + ".xml"));
+        }
+        rules = new ArrayList<AbstractAstVisitorRule>();
+        visitorClasses = new ArrayList<Class<?>>();
+        for (Object object : ruleSet.getRules()) {
+            Rule rule = (Rule) object;
+            if (rule instanceof AbstractAstVisitorRule && isUnfiltered((AbstractAstVisitorRule) rule)
+                    && rule.getCompilerPhase() == SourceCode.DEFAULT_COMPILER_PHASE
+                    && rule.getClass().getMethod("getAstVisitor").getDeclaringClass() == AbstractAstVisitorRule.class) {
+                rules.add((AbstractAstVisitorRule) rule);
+                visitorClasses.add(((AbstractAstVisitorRule) rule).getAstVisitor().getClass());
+            }
+        }
+        for (SourceCode source : sources) {
+            source.getAst();
+            source.getAstNodeIndex();
+        }
+    }
+
+    @Benchmark
+    public void applyRules(Blackhole blackhole) throws Throwable {
+        boolean reflective = "reflective".equals(visitors);
+        for (SourceCode source : sources) {
+            for (int index = 0; index < rules.size(); index++) {
+                AbstractAstVisitorRule rule = rules.get(index);
+                for (ClassNode classNode : source.getAst().getClasses()) {
+                    AstVisitor visitor = reflective ? (AstVisitor) visitorClasses.get(index).newInstance() : rule.getAstVisitor();
+                    visitor.setRule(rule);
+                    visitor.setSourceCode(source);
+                    visitor.visitClass(classNode);
+                    blackhole.consume(visitor.getViolations());
+                }
+            }
+        }
+    }
+
+    private static boolean isUnfiltered(AbstractAstVisitorRule rule) {
+        return rule.getApplyToClassNames() == null && rule.getDoNotApplyToClassNames() == null
+            && rule.getApplyToFilesMatching() == null && rule.getDoNotApplyToFilesMatching() == null
+            && rule.getApplyToFileNames() == null && rule.getDoNotApplyToFileNames() == null;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.benchmark;
+
+import org.codenarc.analyzer.FileSchedulingPolicy;
+import org.codenarc.analyzer.FilesSourceAnalyzer;
+import org.codenarc.results.Results;
+import org.codenarc.ruleset.CompositeRuleSet;
+import org.codenarc.ruleset.XmlFileRuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the wall-clock time to analyze a skewed corpus, comparing the FileSchedulingPolicy
+ * (largest files first, small files batched) against plain submission order.
+ * <p/>
+ * The corpus has many tiny scripts, some medium-sized classes and a single very large generated
+ * class, which is listed last, so that in submission order the run ends with one thread analyzing it.
+ * <p/>
+ * Run with: <code>./gradlew jmh -PjmhArgs="FileSchedulingBenchmark"</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FileSchedulingBenchmark {
+
+    private static final int NUM_TINY_FILES = 400;
+    private static final int NUM_MEDIUM_FILES = 40;
+    private static final int MEDIUM_FILE_METHODS = 30;
+    private static final int LARGE_FILE_METHODS = 1500;
+
+    @Param({"true", "false"})
+    public boolean schedulingPolicy;
+
+    @Param({"4"})
+    public int threads;
+
+    private File corpusDir;
+    private String[] sourceFiles;
+    private CompositeRuleSet ruleSet;
+
+    @Setup(Level.Trial)
+    public void createCorpus() throws IOException {
+        corpusDir = Files.createTempDirectory("codenarc-scheduling").toFile();
+        List<String> paths = new ArrayList<String>();
+        for (int i = 0; i < NUM_TINY_FILES; i++) {
+            paths.add(writeFile("Jenkinsfile" + i + ".groovy", tinyScript(i)));
+        }
+        for (int i = 0; i < NUM_MEDIUM_FILES; i++) {
+            paths.add(writeFile("Medium" + i + ".groovy", generatedClass("Medium" + i, MEDIUM_FILE_METHODS)));
+        }
+        paths.add(writeFile("Generated.groovy", generatedClass("Generated", LARGE_FILE_METHODS)));
+        sourceFiles = paths.toArray(new String[0]);
+
+        ruleSet = new CompositeRuleSet();
+        ruleSet.addRuleSet(new XmlFileRuleSet("rulesets/basic.xml"));
+        ruleSet.addRuleSet(new XmlFileRuleSet("rulesets/convention.xml"));
+        ruleSet.addRuleSet(new XmlFileRuleSet("rulesets/unnecessary.xml"));
+        ruleSet.addRuleSet(new XmlFileRuleSet("rulesets/unused.xml"));
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCorpus() throws IOException {
+        try (Stream<Path> paths = Files.walk(corpusDir.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public Results analyze() {
+        FilesSourceAnalyzer analyzer = new FilesSourceAnalyzer();
+        analyzer.setBaseDirectory(corpusDir.getPath());
+        analyzer.setSourceFiles(sourceFiles);
+        analyzer.setThreads(threads);
+        if (!schedulingPolicy) {
+            FileSchedulingPolicy submissionOrder = new FileSchedulingPolicy();
+            submissionOrder.setLargestFirst(false);
+            submissionOrder.setSmallFileSize(0);
+            analyzer.setSchedulingPolicy(submissionOrder);
+        }
+        return analyzer.analyze(ruleSet);
+    }
+
+    private String writeFile(String name, String text) throws IOException {
+        Files.write(new File(corpusDir, name).toPath(), text.getBytes(StandardCharsets.UTF_8));
+        return name;
+    }
+
+    private static String tinyScript(int index) {
+        return "node {\n    stage('build " + index + "') {\n        sh 'make'\n    }\n}\n";
+    }
+
+    private static String generatedClass(String className, int numMethods) {
+        StringBuilder text = new StringBuilder("class ").append(className).append(" {\n");
+        for (int i = 0; i < numMethods; i++) {
+            text.append("    def method").append(i).append("(String value) {\n")
+                .append("        def result = value ?: \"default\"\n")
+                .append("        if (result.size() > ").append(i).append(") {\n")
+                .append("            return result.toUpperCase()\n")
+                .append("        }\n")
+                .append("        result.each { ch -> println ch }\n")
+                .append("        return null\n")
+                .append("    }\n\n");
+        }
+        return text.append("}\n").toString();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.benchmark;
+
+import org.codenarc.rule.FusedAstVisitor;
+import org.codenarc.rule.Rule;
+import org.codenarc.ruleset.CompositeRuleSet;
+import org.codenarc.ruleset.XmlFileRuleSet;
+import org.codenarc.source.SourceCode;
+import org.codenarc.source.SourceFile;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time to apply the AbstractAstVisitorRules of the standard rulesets to the project's own Groovy
+ * source (<code>src/main/groovy</code>, parsed up front), comparing a FusedAstVisitor, which walks each class once
+ * for all of the rules whose visitors support it, against applying each rule in turn, each walking the class itself.
+ * The <code>classTraversals</code> counter reports the number of times that a class is walked (or visited, by the
+ * visitors that use the AstNodeIndex) for all of the rules.
+ * <p/>
+ * Run from the project directory with: <code>./gradlew jmh -PjmhArgs="FusedAstVisitorBenchmark"</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FusedAstVisitorBenchmark {
+
+    private static final String[] RULESETS = {"basic", "braces", "comments", "concurrency", "convention", "design",
+        "dry", "exceptions", "formatting", "generic", "grails", "groovyism", "imports", "jdbc", "jenkins", "junit",
+        "logging", "naming", "security", "serialization", "size", "unnecessary", "unused"};
+
+    @Param({"fused", "perRule"})
+    public String visitors;
+
+    private List<SourceCode> sources;
+    private List<Rule> rules;
+    private long perRuleClassTraversals;
+
+    @Setup(Level.Trial)
+    public void parseSources() throws Throwable {
+        try (Stream<Path> paths = Files.walk(Paths.get("src/main/groovy"))) {
+            sources = paths.filter(path -> path.toString().endsWith(".groovy"))
+                .map(path -> (SourceCode) new SourceFile(path.toFile()))
+                .collect(Collectors.toList());
+        }
+        CompositeRuleSet ruleSet = new CompositeRuleSet();
+        for (String name : RULESETS) {
+            ruleSet.addRuleSet(new XmlFileRuleSet("rulesets/" + name + ".xml"));
+        }
+        rules = new ArrayList<Rule>();
+        for (Object rule : ruleSet.getRules()) {
+            if (FusedAstVisitor.isFusible((Rule) rule) && ((Rule) rule).getCompilerPhase() == SourceCode.DEFAULT_COMPILER_PHASE) {
+                rules.add((Rule) rule);
+            }
+        }
+        for (SourceCode source : sources) {
+            source.getAst();
+            source.getAstNodeIndex();
+            for (Rule rule : rules) {
+                FusedAstVisitor singleRuleVisitor = new FusedAstVisitor(Collections.singletonList(rule));
+                singleRuleVisitor.applyTo(source);
+                perRuleClassTraversals += singleRuleVisitor.getClassTraversalCount();
+            }
+        }
+    }
+
+    @Benchmark
+    public void applyRules(Counters counters, Blackhole blackhole) throws Throwable {
+        if ("fused".equals(visitors)) {
+            for (SourceCode source : sources) {
+                FusedAstVisitor fusedAstVisitor = new FusedAstVisitor(rules);
+                blackhole.consume(fusedAstVisitor.applyTo(source));
+                counters.classTraversals += fusedAstVisitor.getClassTraversalCount();
+            }
+        } else {
+            for (SourceCode source : sources) {
+                for (Rule rule : rules) {
+                    blackhole.consume(rule.applyTo(source));
+                }
+            }
+            counters.classTraversals += perRuleClassTraversals;
+        }
+    }
+
+    /**
+     * The number of class traversals for each operation
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long classTraversals;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.benchmark;
+
+import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.ast.ModuleNode;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codenarc.source.SourceString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput, in files per second, of parsing many small source files into an AST, comparing
+ * the reusable per-thread ParserContext (as used by SourceString and SourceFile) against creating a new
+ * GroovyClassLoader, CompilerConfiguration and CompilationUnit for each file, as CodeNarc previously did.
+ * <p/>
+ * Run with: <code>./gradlew jmh -PjmhArgs="ParserContextBenchmark"</code>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(4)
+@Fork(1)
+public class ParserContextBenchmark {
+
+    private static final int NUM_FILES = 200;
+
+    @Param({"pooled", "perFile"})
+    public String parser;
+
+    private String[] sources;
+
+    @Setup(Level.Trial)
+    public void createSources() {
+        sources = new String[NUM_FILES];
+        for (int i = 0; i < NUM_FILES; i++) {
+            sources[i] = smallClass(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_FILES)
+    public void parseFiles(Blackhole blackhole) {
+        boolean pooled = "pooled".equals(parser);
+        for (String source : sources) {
+            blackhole.consume(pooled ? new SourceString(source).getAst() : parsePerFile(source));
+        }
+    }
+
+    private static ModuleNode parsePerFile(String source) {
+        SourceUnit unit = SourceUnit.create("None", source);
+        GroovyClassLoader transformLoader = new GroovyClassLoader(ParserContextBenchmark.class.getClassLoader());
+        CompilationUnit compilationUnit = new CompilationUnit(null, null, null, transformLoader);
+        compilationUnit.addSource(unit);
+        compilationUnit.compile(Phases.CONVERSION);
+        return unit.getAST();
+    }
+
+    private static String smallClass(int index) {
+        return "package org.example.generated\n\n"
+            + "import java.util.concurrent.TimeUnit\n\n"
+            + "class Small" + index + " {\n"
+            + "    String name = 'small" + index + "'\n\n"
+            + "    def run(List items) {\n"
+            + "        items.findAll { item -> item != null }.each { item ->\n"
+            + "            println \"$name: ${item}\"\n"
+            + "        }\n"
+            + "        TimeUnit.SECONDS.toMillis(items.size())\n"
+            + "    }\n"
+            + "}\n";
+    }
+}
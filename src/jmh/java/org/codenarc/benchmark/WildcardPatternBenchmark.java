@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.benchmark;
+
+import org.codenarc.util.WildcardPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to match 100,000 generated source file paths against realistic include and exclude patterns,
+ * as for the files to analyze, comparing:
+ * <ul>
+ *   <li>compiled - <code>WildcardPattern.matches()</code>, with the patterns compiled once</li>
+ *   <li>regex - each pattern converted to a regular expression, and matched with <code>String.matches()</code>
+ *       (compiling the regular expression for each match), as WildcardPattern previously did</li>
+ * </ul>
+ * <p/>
+ * Run from the project directory with: <code>./gradlew jmh -PjmhArgs="WildcardPatternBenchmark"</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class WildcardPatternBenchmark {
+
+    private static final int NUM_PATHS = 100_000;
+    private static final String INCLUDES = "**/*.groovy, **/*.gradle, buildSrc/**/*.java";
+    private static final String EXCLUDES = "**/build/**, **/target/**, **/.gradle/**, **/generated/**, "
+        + "**/*Spec.groovy, **/*IT.groovy, src/test/resources/**, config/codenarc/*.groovy, Jenkinsfile";
+
+    private static final String[] DIRECTORIES = {"src/main/groovy", "src/test/groovy", "src/integrationTest/groovy",
+        "build/generated/sources", "buildSrc/src/main/java", "target/classes", "src/test/resources", "config/codenarc"};
+    private static final String[] PACKAGES = {"org", "codenarc", "rule", "analyzer", "report", "util", "impl", "api"};
+    private static final String[] SUFFIXES = {".groovy", "Test.groovy", "Spec.groovy", "IT.groovy", ".java", ".gradle", ".xml"};
+
+    @Param({"compiled", "regex"})
+    public String patterns;
+
+    private List<String> paths;
+    private WildcardPattern includes;
+    private WildcardPattern excludes;
+    private RegexPatterns includeRegexes;
+    private RegexPatterns excludeRegexes;
+
+    @Setup(Level.Trial)
+    public void generatePaths() {
+        Random random = new Random(1234);
+        paths = new ArrayList<String>(NUM_PATHS);
+        for (int index = 0; index < NUM_PATHS; index++) {
+            StringBuilder path = new StringBuilder(DIRECTORIES[random.nextInt(DIRECTORIES.length)]);
+            int depth = 1 + random.nextInt(5);
+            for (int level = 0; level < depth; level++) {
+                path.append('/').append(PACKAGES[random.nextInt(PACKAGES.length)]);
+            }
+            path.append("/Class").append(random.nextInt(1000)).append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+            paths.add(path.toString());
+        }
+        includes = new WildcardPattern(INCLUDES);
+        excludes = new WildcardPattern(EXCLUDES, false);
+        includeRegexes = new RegexPatterns(INCLUDES);
+        excludeRegexes = new RegexPatterns(EXCLUDES);
+    }
+
+    @Benchmark
+    public int matchPaths() {
+        int count = 0;
+        if ("compiled".equals(patterns)) {
+            for (String path : paths) {
+                if (includes.matches(path) && !excludes.matches(path)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (String path : paths) {
+            if (includeRegexes.matches(path) && !excludeRegexes.matches(path)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The patterns as WildcardPattern previously held them: each pattern with wildcards converted to a regular
+     * expression String, matched with <code>String.matches()</code>; and a List of those without wildcards
+     */
+    private static final class RegexPatterns {
+        private final List<String> regexes = new ArrayList<String>();
+        private final List<String> strings = new ArrayList<String>();
+
+        RegexPatterns(String patternString) {
+            for (String pattern : patternString.split(",")) {
+                pattern = pattern.trim();
+                if (pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0) {
+                    regexes.add(toRegex(pattern));
+                } else {
+                    strings.add(pattern);
+                }
+            }
+        }
+
+        boolean matches(String path) {
+            for (String regex : regexes) {
+                if (path.matches(regex)) {
+                    return true;
+                }
+            }
+            return strings.contains(path);
+        }
+
+        private static String toRegex(String pattern) {
+            StringBuilder regex = new StringBuilder();
+            boolean prevCharWasStar = false;
+            for (char ch : pattern.toCharArray()) {
+                if (ch == '*') {
+                    regex.append(prevCharWasStar ? ".*" : "[^/]*");
+                    prevCharWasStar = !prevCharWasStar;
+                } else if (ch == '?') {
+                    regex.append("[^/]");
+                } else {
+                    regex.append("$|[]().:{}\\^+".indexOf(ch) >= 0 ? "\\" + ch : String.valueOf(ch));
+                }
+            }
+            return regex.toString();
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.codenarc
 
+import org.codenarc.analyzer.AnalysisTimings
 import org.codenarc.ruleset.RuleSet
 
 /**
@@ -34,4 +35,15 @@ class AnalysisContext {
      */
     RuleSet ruleSet
 
+    /**
+     * The slowest files and rules, and any parse or rule timeouts, recorded during the analysis. May be null.
+     */
+    AnalysisTimings analysisTimings
+
+    /**
+     * If the analysis was abandoned early because a fail-fast threshold was exceeded, so that the results are
+     * incomplete, then a description of why; otherwise null.
+     */
+    String truncatedMessage
+
 }
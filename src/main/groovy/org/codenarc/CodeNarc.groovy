@@ -15,9 +15,17 @@
  */
 package org.codenarc
 
+import org.codenarc.analyzer.AnalysisCache
+import org.codenarc.analyzer.AnalysisSchedulerFactory
+import org.codenarc.analyzer.AnalysisShard
+import org.codenarc.analyzer.AnalysisTimings
+import org.codenarc.analyzer.FileSchedulingPolicy
 import org.codenarc.analyzer.FilesystemSourceAnalyzer
 import org.codenarc.analyzer.FilesSourceAnalyzer
+import org.codenarc.analyzer.GitDiffSourceAnalyzer
+import org.codenarc.analyzer.MergedReportsSourceAnalyzer
 import org.codenarc.analyzer.SourceAnalyzer
+import org.codenarc.analyzer.ViolationThresholds
 import org.codenarc.plugin.baseline.BaselineResultsPlugin
 import org.codenarc.report.JsonReportWriter
 import org.codenarc.report.HtmlReportWriter
@@ -44,6 +52,16 @@ import org.codenarc.util.io.ResourceFactory
  *          any problematic characters, such as comma (',') or hash ('#'). See URLEncoder#encode(java.lang.String, java.lang.String).
  *          Defaults to "rulesets/basic.xml".</li>
  *   <li>ruleset - JSON string (URL-encoded in UTF-8) containing a ruleSet in JSON format (if set, rulesetfiles will be ignored).
+ *   <li>watch - If true, then after the analysis, watch the basedir for changes, and re-analyze the created or modified
+ *          files, writing the reports again after each change. Runs until stopped. Not supported with sourcefiles. Optional.</li>
+ *   <li>gitDiffBase - If set, analyze only the files added or modified since this git revision (e.g. "origin/main"),
+ *          as listed by "git diff". The includes and excludes are still applied. Ignored if sourcefiles is set. Optional.</li>
+ *   <li>shard - Analyze only one slice of the files, "i/n" for the i-th of n disjoint slices, partitioned by a stable hash of
+ *          each file path. Write a json report for each shard, and merge them using mergeShards. Optional.</li>
+ *   <li>mergeShards - The comma-separated list of json reports written by each shard. If set, then no files are analyzed;
+ *          the results from those reports are merged, and the reports are written for the merged results. Optional.</li>
+ *   <li>loadResults - The binary results file (see report type "binary") written by an earlier analysis. If set, then no
+ *          files are analyzed; the reports are written for the results loaded from that file. Optional.</li>
  *   <li>excludeBaseline - The filename of the optional baseline. If not set, no baseline will be used.
  *   <li>includes - The comma-separated list of Ant file patterns specifying files that must be included;
  *          all files are included when omitted.</li>
@@ -52,7 +70,25 @@ import org.codenarc.util.io.ResourceFactory
  *   <li>maxPriority1Violations - The maximum number of priority 1 violations allowed. Optional.</li>
  *   <li>maxPriority2Violations - The maximum number of priority 2 violations allowed. Optional.</li>
  *   <li>maxPriority3Violations - The maximum number of priority 3 violations allowed. Optional.</li>
+ *   <li>failFast - Whether to abandon the analysis as soon as a maxPriorityNViolations threshold is exceeded. Optional.</li>
  *   <li>failOnError -  whether to terminate and fail the task if any errors occur parsing source files. Optional.</li>
+ *   <li>threads - The number of threads used to analyze the source files in parallel. Defaults to 1. Optional.</li>
+ *   <li>scheduler - The scheduler type used to analyze the source files: "sequential", "fixed", "forkjoin" or "virtual". Optional.</li>
+ *   <li>queueSize - The maximum number of source files waiting to be analyzed. Defaults to no maximum. Optional.</li>
+ *   <li>analysisTimeout - The maximum number of seconds to wait for the analysis to complete. Defaults to 3600. Optional.</li>
+ *   <li>largestFirst - Whether to analyze the largest (most costly) files first when running in parallel. Defaults to true. Optional.</li>
+ *   <li>smallFileSize - Files smaller than this number of bytes are batched into a single task. Defaults to 2048. Optional.</li>
+ *   <li>costHistoryFile - The file in which to record the analysis time of each file, used to order later runs. Optional.</li>
+ *   <li>parallelRulesMinLines - Apply the rules concurrently for each file with at least this many lines. Optional.</li>
+ *   <li>fusedAstVisitors - Whether to apply the AST visitor rules for each file with a single walk of each class. Optional.</li>
+ *   <li>parseTimeoutMillis - The time budget for parsing each source file, in milliseconds. Optional.</li>
+ *   <li>ruleTimeoutMillis - The time budget for applying a single rule to a source file, in milliseconds. Optional.</li>
+ *   <li>slowestCount - The number of slowest files and rules to list in the log and text reports. Optional.</li>
+ *   <li>cacheFile - The file in which to cache the violations for each source file, reused by later runs. Optional.</li>
+ *   <li>cacheMaxEntries - The maximum number of source files held in the cacheFile. Defaults to 10000. Optional.</li>
+ *   <li>streamReports - Whether to write the text, xml, json, sarif and gitlab reports incrementally, as each file is analyzed. Optional.</li>
+ *   <li>lowMemory - Whether to release the AST and text of each file once it has been analyzed, keeping only what the reports need. Optional.</li>
+ *   <li>encoding - The charset used to read the source files that have no byte order mark. Optional.</li>
  *   <li>title - The title description for this analysis; used in the output report(s), if supported. Optional.</li>
  *   <li>report - The definition of the report to produce. The option value is of the form TYPE[:FILENAME|:stdout].
  *          where TYPE is 'html' and FILENAME is the filename (with optional path) of the output report filename.
@@ -96,6 +132,28 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
     -ruleset=JSON_STRING
         String containing a ruleSet in JSON format (if set, rulesetfiles argument will be ignored)
         The JSON string must be URL-encoded in UTF-8 before being sent as argument to CodeNarc
+    -watch=true/false
+        If true, then after the analysis, watch the basedir for changes: re-analyze each created or modified file
+        (and remove deleted files from the results), then write the reports again. Runs until stopped (e.g. Ctrl-C).
+        The maximum violations are not checked. Not supported with -sourcefiles. Defaults to false.
+    -gitDiffBase=<REVISION>
+        If set, analyze only the files under the basedir that have been added or modified since this git revision
+        (e.g. "origin/main"), as listed by "git diff --name-only". The -includes and -excludes are still applied.
+        Ignored if -sourcefiles is set. Can be combined with -excludeBaseline.
+    -shard=<INDEX>/<COUNT>
+        Analyze only one slice of the files, e.g. "2/4" for the second of four disjoint slices, so that each of
+        several machines can analyze a different slice. Each file is assigned to a slice by a stable hash of its path,
+        relative to the basedir. Write a json report for each shard (-report=json:FILENAME), then merge them
+        using -mergeShards. Not supported with -watch.
+    -mergeShards=<FILENAMES>
+        The comma-separated list of json reports written by each shard. If set, then no files are analyzed: the
+        results from those reports are merged, the reports are written for the merged results, and the maximum
+        violations are checked. Use the same -rulesetfiles as the shards, for the rule descriptions. Binary
+        results files (-report=binary:FILENAME) can be merged as well as json reports.
+    -loadResults=<FILENAME>
+        The binary results file written by an earlier analysis (-report=binary:FILENAME). If set, then no files are
+        analyzed: the reports are written for the results loaded from that file, and the maximum violations are
+        checked. Use the same -rulesetfiles as the earlier analysis, for the rule descriptions.
     -excludeBaseline=<FILENAME>
         The filename of the optional baseline. If not set, no baseline will be used.
     -maxPriority1Violations=<MAX>
@@ -104,8 +162,63 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
         The maximum number of priority 2 violations allowed (int).
     -maxPriority3Violations=<MAX>
         The maximum number of priority 3 violations allowed (int).
+    -failFast=true/false
+        Whether to abandon the analysis as soon as the violations counted so far (as each file completes) exceed
+        any of the -maxPriority1Violations, -maxPriority2Violations or -maxPriority3Violations thresholds. The files
+        not yet analyzed are skipped, and the reports are written for the partial results, marked as truncated.
+        Not supported with -watch. Defaults to false.
     -failOnError=true/false
         Whether to terminate and fail the task if any errors occur parsing source files (true), or just log the errors (false). It defaults to false.
+    -threads=<NUMBER>
+        The number of threads used to analyze the source files in parallel. Defaults to 1 (analyze sequentially).
+    -scheduler=<TYPE>
+        The scheduler type used to analyze the source files: "sequential", "fixed" (a fixed thread pool),
+        "forkjoin" (a work-stealing ForkJoinPool) or "virtual" (a virtual thread per file; requires Java 21+).
+        Defaults to "forkjoin" for -basedir and "fixed" for -sourcefiles, if -threads is more than 1.
+    -queueSize=<NUMBER>
+        The maximum number of source files waiting to be analyzed. Defaults to no maximum.
+    -analysisTimeout=<SECONDS>
+        The maximum number of seconds to wait for the analysis of all source files to complete. Defaults to 3600.
+    -largestFirst=true/false
+        Whether to submit the largest (most costly) files first when analyzing in parallel. Defaults to true.
+    -smallFileSize=<BYTES>
+        When analyzing in parallel, files smaller than this are batched into a single task. Defaults to 2048; 0 disables batching.
+    -costHistoryFile=<FILENAME>
+        The file in which to record the analysis time of each source file. If it exists, the recorded times
+        (rather than the file sizes) determine which files are analyzed first. Optional.
+    -parallelRulesMinLines=<LINES>
+        If set, then the rules for each source file with at least this many lines are applied concurrently,
+        so that a very large file does not delay the end of the analysis. Defaults to 0 (disabled).
+    -fusedAstVisitors=true/false
+        Whether to apply the AST visitor rules for each source file together, walking the AST of each class
+        once for all of them rather than once per rule. The violations are the same. Defaults to false.
+    -parseTimeoutMillis=<MILLISECONDS>
+        The time budget for parsing each source file. A file that is not parsed in time is abandoned and
+        reported as an analysis error. Defaults to 0 (no limit).
+    -ruleTimeoutMillis=<MILLISECONDS>
+        The time budget for applying a single rule to a source file. A rule that exceeds it is abandoned for
+        that file, and the timeout is logged and listed in the text reports. Defaults to 0 (no limit).
+    -slowestCount=<COUNT>
+        List the analysis timeouts and the COUNT slowest files and rules in the log and the text reports.
+        Defaults to 10 if parseTimeoutMillis or ruleTimeoutMillis is set; otherwise 0 (not listed).
+    -cacheFile=<FILENAME>
+        The file in which to cache the violations for each source file. Files whose path and contents are unchanged
+        since a previous run with the same ruleset are not analyzed again. Optional.
+    -cacheMaxEntries=<COUNT>
+        The maximum number of source files held in the cacheFile; the least recently used are evicted. Defaults to 10000.
+    -streamReports=true/false
+        Whether to write the text, xml, json, sarif and gitlab reports incrementally, passing each file to the
+        report as soon as it has been analyzed, rather than only once the analysis has completed. The "sarif" and
+        "gitlab" reports are written to the output as they go; the others spool each file to a temporary file
+        until their summary is known. The reports are the same. Defaults to false.
+    -lowMemory=true/false
+        Whether to release the AST and full text of each source file as soon as its rules and plugins have been
+        applied, retaining only its path, violations and source lines for the reports. Reduces the heap required
+        to analyze a large number of files. Defaults to false.
+    -encoding=<CHARSET>
+        The charset used to read the source files that do not start with a byte order mark, e.g. "UTF-8" or
+        "ISO-8859-1". If not set, then each such file is read as UTF-8 if it is valid UTF-8, and otherwise using the
+        platform default charset.
     -title=<REPORT TITLE>
         The title for this analysis; used in the output report(s), if supported by the report type. Optional.
     -report=<REPORT-TYPE[:FILENAME|:stdout]>
@@ -114,8 +227,9 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
         optional path) of the output report filename. If the TYPE is followed by :stdout (e.g. "html:stdout", "json:stdout"),
         then the report is written to standard out. If the report filename is  omitted, the default filename
         is used for the specified report type ("CodeNarcReport.html" for "html", "CodeNarcXmlReport.xml" for
-        "xml", "CodeNarcReport.txt" for "text", "CodeNarcJsonReport.json" for "json" and
-        "CodeNarcGitlabCodeQualityReport.json" for "gitlab"). If no report option is specified, default to a
+        "xml", "CodeNarcReport.txt" for "text", "CodeNarcJsonReport.json" for "json",
+        "CodeNarcGitlabCodeQualityReport.json" for "gitlab" and "CodeNarcResults.cnr" for the "binary" results,
+        which can be loaded using -loadResults). If no report option is specified, default to a
         single "html" report with the default filename.
     -plugins=<PLUGIN CLASS NAMES>
         The optional list of CodeNarcPlugin class names to register, separated by commas.
@@ -150,11 +264,129 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
      */
     String excludeBaseline
 
+    /**
+     * If set, then only analyze the files changed (added or modified) since this git revision
+     */
+    String gitDiffBase
+
+    /**
+     * If set, then only analyze the files within this shard, in the form "i/n". See AnalysisShard.
+     */
+    String shard
+
+    /**
+     * If set, then merge the results from these (comma-separated) json reports, written by each shard, rather than
+     * analyze any files. See MergedReportsSourceAnalyzer.
+     */
+    String mergeShards
+
+    /**
+     * If set, then load the results from this binary results file, rather than analyze any files.
+     * See BinaryResultsReportWriter.
+     */
+    String loadResults
+
+    /**
+     * If true, then keep watching the source directory tree for changes, and re-analyze the changed files
+     */
+    boolean watch = false
+
     /**
      * Whether to terminate and fail the task if errors occur parsing source files (true), or just log the errors (false)
      */
     boolean failOnError = false
 
+    /**
+     * The number of threads used to analyze the source files. If zero (the default), then analyze sequentially,
+     * unless the scheduler is "virtual", in which case there is no maximum.
+     */
+    int threads = 0
+
+    /**
+     * The scheduler type used to analyze the source files. See AnalysisSchedulerFactory.
+     */
+    String scheduler
+
+    /**
+     * The maximum number of source files waiting to be analyzed. Defaults to no maximum (0).
+     */
+    int queueSize = 0
+
+    /**
+     * The maximum number of seconds to wait for the analysis of all source files to complete.
+     */
+    long analysisTimeoutSeconds = AnalysisSchedulerFactory.DEFAULT_TIMEOUT_SECONDS
+
+    /**
+     * Whether to submit the largest (most costly) files first when analyzing in parallel. See FileSchedulingPolicy.
+     */
+    boolean largestFirst = true
+
+    /**
+     * Files smaller than this number of bytes are batched into a single task when analyzing in parallel.
+     */
+    long smallFileSize = FileSchedulingPolicy.DEFAULT_SMALL_FILE_SIZE
+
+    /**
+     * The optional file in which to record the analysis time of each source file. See FileSchedulingPolicy.
+     */
+    String costHistoryFile
+
+    /**
+     * If positive, then apply the rules concurrently for each source file with at least this many lines
+     */
+    int parallelRulesMinLines = 0
+
+    /**
+     * If true, then apply the AST visitor rules for each source file with a single walk of each class
+     */
+    boolean fusedAstVisitors = false
+
+    /**
+     * The time budget for parsing each source file, in milliseconds; zero for no limit
+     */
+    long parseTimeoutMillis = 0
+
+    /**
+     * The time budget for applying a single rule to a source file, in milliseconds; zero for no limit
+     */
+    long ruleTimeoutMillis = 0
+
+    /**
+     * The number of slowest files and rules to list; zero for the default
+     */
+    int slowestCount = 0
+
+    /**
+     * The optional file in which to cache the violations for each source file
+     */
+    String cacheFile
+
+    /**
+     * The maximum number of source files held in the cacheFile
+     */
+    int cacheMaxEntries = AnalysisCache.DEFAULT_MAX_ENTRIES
+
+    /**
+     * Whether to pass the results for each file to the (streaming) reports as soon as it has been analyzed
+     */
+    boolean streamReports = false
+
+    /**
+     * Whether to release the AST and text of each source file once it has been analyzed
+     */
+    boolean lowMemory = false
+
+    /**
+     * Whether to abandon the analysis, and truncate the results, as soon as a maxPriorityNViolations threshold is exceeded
+     */
+    boolean failFast = false
+
+    /**
+     * The name of the charset used to read the source files that have no byte order mark
+     */
+    String encoding
+
     private final ResourceFactory resourceFactory = new DefaultResourceFactory()
 
     // Abstract creation of the CodeNarcRunner instance to allow substitution of test spy for unit tests
@@ -169,6 +401,11 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
         return codeNarcRunner
     }
 
+    // Abstract creation of the CodeNarcWatcher instance to allow substitution of test spy for unit tests
+    protected Closure createCodeNarcWatcher = { CodeNarcRunner codeNarcRunner, Results results ->
+        new CodeNarcWatcher(codeNarcRunner, baseDir, results)
+    }
+
     protected int maxPriority1Violations = Integer.MAX_VALUE
     protected int maxPriority2Violations = Integer.MAX_VALUE
     protected int maxPriority3Violations = Integer.MAX_VALUE
@@ -205,6 +442,9 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
 
     protected void execute(String[] args) {
         parseArgs(args)
+        assert !(watch && sourceFiles), 'The watch option is not supported with sourcefiles'
+        assert !(watch && failFast), 'The watch option is not supported with failFast'
+        assert !(watch && (shard || mergeShards || loadResults)), 'The watch option is not supported with shard, mergeShards or loadResults'
         setDefaultsIfNecessary()
         def sourceAnalyzer = createSourceAnalyzer()
         reports.each { reportWriter ->
@@ -219,12 +459,21 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
         codeNarcRunner.reportWriters = reports
         codeNarcRunner.sourceAnalyzer = sourceAnalyzer
         codeNarcRunner.propertiesFilename = propertiesFilename
+        codeNarcRunner.streamReports = streamReports
+        codeNarcRunner.lowMemory = lowMemory
+        codeNarcRunner.failFastThresholds = createFailFastThresholds()
 
         if (plugins) {
             codeNarcRunner.registerPluginsForClassNames(plugins)
         }
 
         Results results = codeNarcRunner.execute()
+        if (watch) {
+            def watcher = createCodeNarcWatcher(codeNarcRunner, results)
+            println "Watching [$baseDir] for changes; press Ctrl-C to stop"
+            watcher.watch()
+            return
+        }
         checkMaxViolations(results, 1, maxPriority1Violations)
         checkMaxViolations(results, 2, maxPriority2Violations)
         checkMaxViolations(results, 3, maxPriority3Violations)
@@ -255,21 +504,80 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
      * @return a configured SourceAnalyzer instance
      */
     protected SourceAnalyzer createSourceAnalyzer() {
+        // The results from the reports written by each shard
+        if (mergeShards) {
+            return new MergedReportsSourceAnalyzer(reportFiles:mergeShards.tokenize(',')*.trim())
+        }
+        // The results loaded from a binary results file
+        if (loadResults) {
+            return new MergedReportsSourceAnalyzer(reportFiles:[loadResults])
+        }
         // List of files sent as argument
         if (sourceFiles) {
             return new FilesSourceAnalyzer(
                 baseDirectory: baseDir,
                 sourceFiles: sourceFiles.split(','),
-                failOnError: failOnError
+                failOnError: failOnError,
+                schedulerFactory: createSchedulerFactory(),
+                schedulingPolicy: createSchedulingPolicy(),
+                parallelRulesMinLines: parallelRulesMinLines,
+                fusedAstVisitors: fusedAstVisitors,
+                parseTimeoutMillis: parseTimeoutMillis,
+                ruleTimeoutMillis: ruleTimeoutMillis,
+                analysisTimings: createAnalysisTimings(),
+                analysisCache: createAnalysisCache(),
+                shard: createShard(),
+                encoding: encoding
             )
         }
         // Files will be listed using base directory, includes & excludes
-        return new FilesystemSourceAnalyzer(
+        Map analyzerProperties = [
             baseDirectory: baseDir,
             includes: includes,
             excludes: excludes,
-            failOnError: failOnError
-        )
+            failOnError: failOnError,
+            schedulerFactory: createSchedulerFactory(),
+            schedulingPolicy: createSchedulingPolicy(),
+            parallelRulesMinLines: parallelRulesMinLines,
+            fusedAstVisitors: fusedAstVisitors,
+            parseTimeoutMillis: parseTimeoutMillis,
+            ruleTimeoutMillis: ruleTimeoutMillis,
+            analysisTimings: createAnalysisTimings(),
+            analysisCache: createAnalysisCache(),
+            shard: createShard(),
+            encoding: encoding
+        ]
+        // Only the files changed since the git revision, if specified
+        return gitDiffBase ?
+            new GitDiffSourceAnalyzer(analyzerProperties + [gitDiffBase: gitDiffBase]) :
+            new FilesystemSourceAnalyzer(analyzerProperties)
+    }
+
+    protected AnalysisSchedulerFactory createSchedulerFactory() {
+        new AnalysisSchedulerFactory(type: scheduler, threads: threads, queueSize: queueSize, timeoutSeconds: analysisTimeoutSeconds)
+    }
+
+    protected FileSchedulingPolicy createSchedulingPolicy() {
+        new FileSchedulingPolicy(largestFirst: largestFirst, smallFileSize: smallFileSize, costHistoryFile: costHistoryFile)
+    }
+
+    protected AnalysisTimings createAnalysisTimings() {
+        if (slowestCount > 0) {
+            return new AnalysisTimings(slowestCount)
+        }
+        parseTimeoutMillis > 0 || ruleTimeoutMillis > 0 ? new AnalysisTimings() : null
+    }
+
+    protected AnalysisShard createShard() {
+        shard ? AnalysisShard.parse(shard) : null
+    }
+
+    protected ViolationThresholds createFailFastThresholds() {
+        failFast ? new ViolationThresholds(maxPriority1Violations, maxPriority2Violations, maxPriority3Violations) : null
+    }
+
+    protected AnalysisCache createAnalysisCache() {
+        cacheFile ? new AnalysisCache(cacheFile, cacheMaxEntries) : null
     }
 
     protected void parseArgs(String[] args) {
@@ -283,6 +591,11 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
                 case 'rulesetfiles': ruleSetFiles = value; break
                 case 'ruleset': ruleset = URLDecoder.decode(value, 'UTF-8') ; break
                 case 'excludeBaseline': excludeBaseline = value; break
+                case 'gitDiffBase': gitDiffBase = value; break
+                case 'shard': shard = value; break
+                case 'mergeShards': mergeShards = value; break
+                case 'loadResults': loadResults = value; break
+                case 'watch': watch = Boolean.parseBoolean(value); break
                 case 'basedir': baseDir = value; break
                 case 'includes': includes = value; break
                 case 'excludes': excludes = value; break
@@ -295,6 +608,24 @@ Usage: java org.codenarc.CodeNarc [OPTIONS]
                 case 'plugins': plugins = value; break
                 case 'properties': propertiesFilename = value; break
                 case 'failOnError': failOnError = Boolean.parseBoolean(value); break
+                case 'threads': threads = value as int; break
+                case 'scheduler': scheduler = value; break
+                case 'queueSize': queueSize = value as int; break
+                case 'analysisTimeout': analysisTimeoutSeconds = value as long; break
+                case 'largestFirst': largestFirst = Boolean.parseBoolean(value); break
+                case 'smallFileSize': smallFileSize = value as long; break
+                case 'costHistoryFile': costHistoryFile = value; break
+                case 'parallelRulesMinLines': parallelRulesMinLines = value as int; break
+                case 'fusedAstVisitors': fusedAstVisitors = Boolean.parseBoolean(value); break
+                case 'parseTimeoutMillis': parseTimeoutMillis = value as long; break
+                case 'ruleTimeoutMillis': ruleTimeoutMillis = value as long; break
+                case 'slowestCount': slowestCount = value as int; break
+                case 'cacheFile': cacheFile = value; break
+                case 'cacheMaxEntries': cacheMaxEntries = value as int; break
+                case 'streamReports': streamReports = Boolean.parseBoolean(value); break
+                case 'lowMemory': lowMemory = Boolean.parseBoolean(value); break
+                case 'failFast': failFast = Boolean.parseBoolean(value); break
+                case 'encoding': encoding = value; break
                 default: throw new IllegalArgumentException("Invalid option: [$arg]")
             }
         }
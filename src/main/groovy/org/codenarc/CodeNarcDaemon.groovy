@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc
+
+import static org.codenarc.CodeNarcDaemonClient.readString
+
+import org.codenarc.ruleregistry.RuleRegistryInitializer
+import org.codenarc.ruleset.RuleSet
+import org.codenarc.util.CodeNarcVersion
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.security.SecureRandom
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * A long-lived CodeNarc process, which runs analysis requests from <code>CodeNarcDaemonClient</code>, so that
+ * each run does not pay the startup costs: JVM startup, loading the rule registry, parsing the rulesets and
+ * warming up the Groovy compiler and the JIT. Each request has the same arguments as the <code>CodeNarc</code>
+ * command-line, and its output and exit code are returned to the client.
+ * <p/>
+ * The daemon listens on a loopback socket, and writes its port and a random token to the daemon file (by
+ * default ".codenarc-daemon", in the current directory); a request without that token is rejected. It serves
+ * only the current directory, against which relative paths (e.g. the basedir and report files) are resolved.
+ * Requests are run one at a time; each run may still analyze the files in parallel. The RuleSets are reused by
+ * later runs with the same arguments (see <code>CodeNarcRunner.ruleSetCache</code>).
+ * <p/>
+ * Usage:
+ * <pre>
+ *   java org.codenarc.CodeNarcDaemon [-daemonFile=FILENAME] [-port=PORT] [-idleTimeoutMinutes=MINUTES]
+ * </pre>
+ * The daemon stops once it has been idle for <code>idleTimeoutMinutes</code>, or on a request with the single
+ * argument "-stop".
+ */
+@SuppressWarnings('Println')
+class CodeNarcDaemon {
+
+    static final String STOP_ARG = '-stop'
+    static final long DEFAULT_IDLE_TIMEOUT_MINUTES = 180
+
+    private static final Logger LOG = LoggerFactory.getLogger(CodeNarcDaemon)
+
+    /**
+     * The file to which the port and token are written. Defaults to ".codenarc-daemon".
+     */
+    String daemonFile = CodeNarcDaemonClient.DEFAULT_DAEMON_FILE
+
+    /**
+     * The port on which to listen; zero (the default) means any free port
+     */
+    int port = 0
+
+    /**
+     * The daemon stops once no request has been received for this many minutes. Zero means never.
+     */
+    long idleTimeoutMinutes = DEFAULT_IDLE_TIMEOUT_MINUTES
+
+    protected final Map<String, RuleSet> ruleSetCache = new ConcurrentHashMap<>()
+    protected final String token = new BigInteger(128, new SecureRandom()).toString(16)
+    protected String directory
+    private ServerSocket serverSocket
+    private volatile boolean stopped
+
+    static void main(String[] args) {
+        def daemon = new CodeNarcDaemon()
+        daemon.parseArgs(args)
+        daemon.start()
+        daemon.serve()
+    }
+
+    /**
+     * Open the server socket, write the daemon file and initialize the rule registry
+     */
+    void start() {
+        directory = CodeNarcDaemonClient.currentDirectory()
+        serverSocket = new ServerSocket(port, 0, InetAddress.loopbackAddress)
+        serverSocket.soTimeout = TimeUnit.MINUTES.toMillis(idleTimeoutMinutes) as int
+        writeDaemonFile()
+        new RuleRegistryInitializer().initializeRuleRegistry()
+        println "CodeNarc daemon ${CodeNarcVersion.version} listening on port $localPort for directory [$directory]"
+    }
+
+    /**
+     * @return the port on which the daemon is listening
+     */
+    int getLocalPort() {
+        serverSocket.localPort
+    }
+
+    /**
+     * Accept and run requests until stopped, or until idle for idleTimeoutMinutes. Then delete the daemon file.
+     */
+    void serve() {
+        try {
+            while (!stopped) {
+                acceptRequest()
+            }
+        }
+        finally {
+            stop()
+        }
+    }
+
+    /**
+     * Stop the daemon, and delete the daemon file
+     */
+    synchronized void stop() {
+        stopped = true
+        if (!serverSocket.closed) {
+            serverSocket.close()
+            new File(daemonFile).delete()
+        }
+    }
+
+    protected void parseArgs(String[] args) {
+        args.each { arg ->
+            def matcher = arg =~ /\-(.*)\=(.*)/
+            assert matcher, "Invalid argument format: [$arg]"
+            String name = matcher[0][1]
+            String value = matcher[0][2]
+            switch (name) {
+                case 'daemonFile': daemonFile = value; break
+                case 'port': port = value as int; break
+                case 'idleTimeoutMinutes': idleTimeoutMinutes = value as long; break
+                default: throw new IllegalArgumentException("Invalid option: [$arg]")
+            }
+        }
+    }
+
+    protected void acceptRequest() {
+        Socket socket
+        try {
+            socket = serverSocket.accept()
+        }
+        catch (SocketTimeoutException e) {
+            println "CodeNarc daemon idle for $idleTimeoutMinutes minutes; stopping"
+            stopped = true
+            return
+        }
+        catch (SocketException e) {
+            // The server socket has been closed by stop()
+            stopped = true
+            return
+        }
+        socket.withCloseable {
+            try {
+                handleRequest(socket.inputStream, socket.outputStream)
+            }
+            catch (IOException e) {
+                LOG.warn("Error handling CodeNarc daemon request: $e")
+            }
+        }
+    }
+
+    protected void handleRequest(InputStream inputStream, OutputStream outputStream) {
+        def input = new DataInputStream(new BufferedInputStream(inputStream))
+        def output = new DataOutputStream(new BufferedOutputStream(outputStream))
+        if (input.readInt() != CodeNarcDaemonClient.PROTOCOL_VERSION || readString(input) != token) {
+            LOG.warn('Rejected CodeNarc daemon request with an invalid protocol version or token')
+            return
+        }
+        String clientDirectory = readString(input)
+        String[] args = (0..<input.readInt()).collect { readString(input) } as String[]
+
+        def frameOutputStream = new FrameOutputStream(output)
+        def printStream = new PrintStream(frameOutputStream, true, 'UTF-8')
+        int exitCode = withStandardOutput(printStream) {
+            if (clientDirectory != directory) {
+                println "ERROR: The CodeNarc daemon serves the directory [$directory], not [$clientDirectory]"
+                return 1
+            }
+            runCodeNarc(args)
+        }
+        printStream.flush()
+        output.writeByte(CodeNarcDaemonClient.EXIT_FRAME)
+        output.writeInt(exitCode)
+        output.flush()
+    }
+
+    /**
+     * Run CodeNarc for the command-line arguments, writing its output to standard out
+     * @return the exit code, as for the CodeNarc command-line
+     */
+    @SuppressWarnings('CatchThrowable')
+    protected int runCodeNarc(String[] args) {
+        if (args == [STOP_ARG] as String[]) {
+            println 'CodeNarc daemon stopping'
+            stop()
+            return 0
+        }
+        if (args == ['-help'] as String[] || args == ['-version'] as String[]) {
+            CodeNarc.main(args)
+            return 0
+        }
+
+        def codeNarc = createCodeNarc()
+        def originalSystemExit = CodeNarc.systemExit
+        CodeNarc.systemExit = { int exitCode -> throw new SystemExitException(exitCode) }
+        try {
+            codeNarc.execute(args)
+            return 0
+        }
+        catch (SystemExitException e) {
+            return e.exitCode
+        }
+        catch (Throwable t) {
+            println "ERROR: $t"
+            t.printStackTrace(System.out)
+            println CodeNarc.HELP
+            return 1
+        }
+        finally {
+            CodeNarc.systemExit = originalSystemExit
+        }
+    }
+
+    protected CodeNarc createCodeNarc() {
+        def codeNarc = new CodeNarc()
+        def createCodeNarcRunner = codeNarc.createCodeNarcRunner
+        codeNarc.createCodeNarcRunner = { ->
+            CodeNarcRunner codeNarcRunner = createCodeNarcRunner()
+            codeNarcRunner.ruleSetCache = ruleSetCache
+            codeNarcRunner
+        }
+        codeNarc
+    }
+
+    private void writeDaemonFile() {
+        def properties = new Properties()
+        properties.setProperty(CodeNarcDaemonClient.PORT_PROPERTY, localPort as String)
+        properties.setProperty(CodeNarcDaemonClient.TOKEN_PROPERTY, token)
+        properties.setProperty(CodeNarcDaemonClient.DIRECTORY_PROPERTY, directory)
+        // The token must only be readable by the current user
+        def file = new File(daemonFile)
+        file.delete()
+        file.createNewFile()
+        file.setReadable(false, false)
+        file.setReadable(true, true)
+        file.withOutputStream { outputStream -> properties.store(outputStream, 'CodeNarc daemon') }
+        file.deleteOnExit()
+    }
+
+    // Redirect System.out (and System.err) for the duration of the closure; requests are run one at a time
+    private static <T> T withStandardOutput(PrintStream printStream, Closure<T> closure) {
+        def originalOut = System.out
+        def originalErr = System.err
+        System.out = printStream
+        System.err = printStream
+        try {
+            return closure()
+        }
+        finally {
+            System.out = originalOut
+            System.err = originalErr
+        }
+    }
+
+    /**
+     * Writes the output of a request to the client, as OUTPUT_FRAMEs
+     */
+    private static class FrameOutputStream extends OutputStream {
+        private final DataOutputStream output
+
+        FrameOutputStream(DataOutputStream output) {
+            this.output = output
+        }
+
+        @Override
+        void write(int b) {
+            write([(byte) b] as byte[], 0, 1)
+        }
+
+        @Override
+        void write(byte[] bytes, int offset, int length) {
+            output.writeByte(CodeNarcDaemonClient.OUTPUT_FRAME)
+            output.writeInt(length)
+            output.write(bytes, offset, length)
+        }
+
+        @Override
+        void flush() {
+            output.flush()
+        }
+    }
+
+    /**
+     * Thrown in place of System.exit() by a CodeNarc run within the daemon
+     */
+    private static class SystemExitException extends RuntimeException {
+        final int exitCode
+
+        SystemExitException(int exitCode) {
+            super("CodeNarc exit code $exitCode")
+            this.exitCode = exitCode
+        }
+    }
+}
@@ -15,15 +15,26 @@
  */
 package org.codenarc
 
+import org.codenarc.analyzer.AbstractSourceAnalyzer
+import org.codenarc.analyzer.AnalysisSchedulerFactory
+import org.codenarc.analyzer.FilesystemSourceAnalyzer
 import org.codenarc.analyzer.SourceAnalyzer
+import org.codenarc.analyzer.ViolationThresholds
 import org.codenarc.plugin.CodeNarcPlugin
 import org.codenarc.plugin.FileViolations
 import org.codenarc.report.ReportWriter
+import org.codenarc.report.StreamingReportWriter
+import org.codenarc.results.DirectoryResults
 import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 import org.codenarc.rule.Rule
+import org.codenarc.ruleregistry.RuleRegistryHolder
 import org.codenarc.ruleregistry.RuleRegistryInitializer
 import org.codenarc.ruleset.*
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.util.function.Consumer
 
 /**
  * Helper class to run CodeNarc.
@@ -36,6 +47,33 @@ import org.codenarc.ruleset.*
  *   <li><code>reportWriters</code> - The list of <code>ReportWriter</code> instances. A report is generated
  *          for each element in this list. At least one <code>ReportWriter</code> must be configured.</li>
  * </ul>
+ * The optional <code>schedulerFactory</code> property configures how the source files are scheduled for analysis.
+ * If set, it replaces the <code>schedulerFactory</code> of the <code>sourceAnalyzer</code> (if that is an
+ * <code>AbstractSourceAnalyzer</code>).
+ * <p/>
+ * The optional <code>ruleSetCache</code> property is for a long-lived process that runs CodeNarc many times
+ * (see <code>CodeNarcDaemon</code>). If set, then the rule registry is initialized only once, and each RuleSet
+ * is loaded, processed by the plugins and configured only once for the same ruleSetFiles (or ruleSetString),
+ * properties file and plugins; later runs reuse the same (configured) rules. A RuleSet is loaded again if any of
+ * its files (or the properties file) with a "file:" prefix has been modified since it was loaded.
+ * <p/>
+ * If the optional <code>streamReports</code> property is true, and the <code>sourceAnalyzer</code> is an
+ * <code>AbstractSourceAnalyzer</code>, then each <code>StreamingReportWriter</code> is passed the results for each
+ * file as soon as it has been analyzed, rather than the complete results afterwards; the reports are the same.
+ * <p/>
+ * If the optional <code>lowMemory</code> property is true, and the <code>sourceAnalyzer</code> is an
+ * <code>AbstractSourceAnalyzer</code>, then the plugins are applied to each file as soon as it has been analyzed,
+ * and then only the path, violations and source lines of that file are retained for the reports; its AST and
+ * full text (and the ASTs for any custom compiler phases) are released.
+ * <p/>
+ * If the <code>sourceAnalyzer</code> is an <code>AbstractSourceAnalyzer</code> with <code>analysisTimings</code>,
+ * then the slowest files and rules, and any parse or rule timeouts, are logged, and passed to the reports within
+ * the <code>AnalysisContext</code>.
+ * <p/>
+ * If the optional <code>failFastThresholds</code> property is set, and the <code>sourceAnalyzer</code> is an
+ * <code>AbstractSourceAnalyzer</code>, then the plugins are applied to each file as soon as it has been analyzed, and
+ * its remaining violations are counted. Once any maximum is exceeded, the files not yet analyzed are skipped, and
+ * the reports are written for the partial results, marked as truncated (see <code>AnalysisContext.truncatedMessage</code>).
  *
  * NOTE: This is an internal class. Its API is subject to change.
  *
@@ -45,14 +83,23 @@ class CodeNarcRunner {
 
     public static final String PLUGINS_PROPERTY = 'org.codenarc.plugins'
     public static final String STANDARD_PLUGIN_CLASSES = 'org.codenarc.plugin.disablerules.DisableRulesInCommentsPlugin'
+    private static final String FILE_PREFIX = 'file:'
+    private static final Logger LOG = LoggerFactory.getLogger(CodeNarcRunner)
 
     String ruleSetFiles
     String ruleSetString
     SourceAnalyzer sourceAnalyzer
     List<ReportWriter> reportWriters = []
     String propertiesFilename
+    AnalysisSchedulerFactory schedulerFactory
+    Map<String, RuleSet> ruleSetCache
+    boolean streamReports = false
+    boolean lowMemory = false
+    ViolationThresholds failFastThresholds
 
     protected final List<CodeNarcPlugin> plugins = []
+    protected RuleSet ruleSet
+    protected AnalysisContext analysisContext
     protected RuleSetConfigurer ruleSetConfigurer = new PropertiesFileRuleSetConfigurer()
 
     /**
@@ -87,22 +134,106 @@ class CodeNarcRunner {
         initializeRuleRegistry()
         initializePlugins()
 
-        def ruleSet = buildRuleSet()
+        ruleSet = buildRuleSet()
 
-        def results = sourceAnalyzer.analyze(ruleSet)
-        applyPluginsProcessViolationsForAllFiles(results)
+        if (schedulerFactory && sourceAnalyzer instanceof AbstractSourceAnalyzer) {
+            sourceAnalyzer.schedulerFactory = schedulerFactory
+        }
+        analysisContext = new AnalysisContext(ruleSet:ruleSet, sourceDirectories:sourceAnalyzer.sourceDirectories)
+        if (sourceAnalyzer instanceof AbstractSourceAnalyzer) {
+            analysisContext.analysisTimings = sourceAnalyzer.analysisTimings
+        }
+        Set<FileResults> processedFiles = Collections.newSetFromMap(new IdentityHashMap<FileResults, Boolean>())
+        def streamingReportWriters = shouldStreamReports() ? beginStreamingReports() : []
+        boolean processFilesDuringAnalysis = streamingReportWriters || shouldReleaseSourceCode() || shouldFailFast()
+        boolean previousLowMemory = false
+        ViolationThresholds previousFailFastThresholds = null
+        Consumer<FileResults> previousFileResultsListener = null
+        if (processFilesDuringAnalysis) {
+            // Restored once the analysis completes, since the sourceAnalyzer belongs to the caller
+            previousLowMemory = sourceAnalyzer.lowMemory
+            previousFailFastThresholds = sourceAnalyzer.failFastThresholds
+            previousFileResultsListener = sourceAnalyzer.fileResultsListener
+            if (lowMemory) {
+                sourceAnalyzer.lowMemory = true
+            }
+            if (shouldFailFast()) {
+                sourceAnalyzer.failFastThresholds = failFastThresholds
+            }
+            sourceAnalyzer.fileResultsListener = { FileResults fileResults ->
+                processAnalyzedFile(fileResults, streamingReportWriters)
+                processedFiles << fileResults
+            } as Consumer<FileResults>
+        }
+
+        Results results
+        try {
+            results = sourceAnalyzer.analyze(ruleSet)
+        }
+        finally {
+            if (processFilesDuringAnalysis) {
+                sourceAnalyzer.fileResultsListener = previousFileResultsListener
+                sourceAnalyzer.failFastThresholds = previousFailFastThresholds
+                sourceAnalyzer.lowMemory = previousLowMemory
+            }
+        }
+        applyPluginsProcessViolationsForAllFiles(results, processedFiles)
+        logAnalysisTimings()
+        logTruncation()
 
         String countsText = buildCountsText(results)
         def elapsedTime = System.currentTimeMillis() - startTime
-        def analysisContext = new AnalysisContext(ruleSet:ruleSet, sourceDirectories:sourceAnalyzer.sourceDirectories)
+        // The source directories may have been normalized by the analysis
+        analysisContext.sourceDirectories = sourceAnalyzer.sourceDirectories
 
-        writeReports(analysisContext, results)
+        if (streamingReportWriters) {
+            endStreamingReports(streamingReportWriters, results)
+        }
+        else {
+            writeReports(analysisContext, results)
+        }
 
         def resultsMessage = 'CodeNarc completed: ' + countsText + " ${elapsedTime}ms"
         println resultsMessage
         results
     }
 
+    /**
+     * Analyze the files with the specified paths again, once <code>execute()</code> has been called, because they
+     * have been created, modified or deleted. The results for each file are replaced (or removed, if the file no
+     * longer exists or no longer matches) within the Results, and then the reports are written again.
+     * The sourceAnalyzer must be a FilesystemSourceAnalyzer.
+     * @param results - the Results returned by <code>execute()</code>; updated in place
+     * @param paths - the paths of the changed files (or deleted directories), relative to the base directory
+     */
+    @SuppressWarnings('Println')
+    void reanalyzeFiles(Results results, Collection<String> paths) {
+        assert ruleSet, 'execute() must be called before reanalyzeFiles()'
+        assert sourceAnalyzer instanceof FilesystemSourceAnalyzer, 'The sourceAnalyzer must be a FilesystemSourceAnalyzer'
+
+        def startTime = System.currentTimeMillis()
+        DirectoryResults baseDirectoryResults = results.findResultsForPath('')
+        for (String path in paths) {
+            FileResults fileResults = sourceAnalyzer.analyzeFile(path, ruleSet)
+            if (fileResults) {
+                applyPluginsProcessViolationsForFile(fileResults)
+                if (shouldReleaseSourceCode()) {
+                    fileResults.releaseSourceCode()
+                }
+                baseDirectoryResults.replaceFileResults(fileResults)
+            }
+            else {
+                baseDirectoryResults.removeResults(path)
+            }
+        }
+        sourceAnalyzer.analysisCache?.save()
+
+        String countsText = buildCountsText(results)
+        writeReports(analysisContext, results)
+        def elapsedTime = System.currentTimeMillis() - startTime
+        println "CodeNarc re-analyzed ${paths.size()} file(s): " + countsText + " ${elapsedTime}ms"
+    }
+
     void registerPlugin(CodeNarcPlugin plugin) {
         assert plugin
         this.plugins << plugin
@@ -122,7 +253,9 @@ class CodeNarcRunner {
     // Helper methods
 
     private void initializeRuleRegistry() {
-        new RuleRegistryInitializer().initializeRuleRegistry()
+        if (ruleSetCache == null || RuleRegistryHolder.ruleRegistry == null) {
+            new RuleRegistryInitializer().initializeRuleRegistry()
+        }
     }
 
     private void initializePlugins() {
@@ -131,9 +264,15 @@ class CodeNarcRunner {
         this.plugins.each { plugin -> plugin.initialize() }
     }
 
+    // The cached RuleSet has already been processed by the plugins and configured, since that modifies its rules
     private RuleSet buildRuleSet() {
-        RuleSet initialRuleSet = createInitialRuleSet()
-        List<Rule> rules = applyPluginsProcessRules(initialRuleSet)
+        return ruleSetCache == null ?
+            createConfiguredRuleSet() :
+            ruleSetCache.computeIfAbsent(ruleSetCacheKey()) { key -> createConfiguredRuleSet() }
+    }
+
+    private RuleSet createConfiguredRuleSet() {
+        List<Rule> rules = applyPluginsProcessRules(createInitialRuleSet())
         RuleSet ruleSet = new ListRuleSet(rules)
         ruleSetConfigurer.configure(ruleSet, propertiesFilename)
         return ruleSet
@@ -145,12 +284,12 @@ class CodeNarcRunner {
         return rules
     }
 
-    private void applyPluginsProcessViolationsForAllFiles(Results results) {
+    private void applyPluginsProcessViolationsForAllFiles(Results results, Set<FileResults> processedFiles) {
         if (plugins) {
-            if (results.isFile()) {
+            if (results.isFile() && !processedFiles.contains(results)) {
                 applyPluginsProcessViolationsForFile(results)
             }
-            results.children.each { childResults -> applyPluginsProcessViolationsForAllFiles(childResults) }
+            results.children.each { childResults -> applyPluginsProcessViolationsForAllFiles(childResults, processedFiles) }
         }
     }
 
@@ -187,6 +326,22 @@ class CodeNarcRunner {
         newRuleSet
     }
 
+    // The rules are shared by each run with the same key, so include the properties file and the plugins, which
+    // configure and process them
+    private String ruleSetCacheKey() {
+        def key = new StringBuilder()
+        def paths = ruleSetString ? [] : ruleSetFiles.tokenize(',')*.trim()
+        paths << (propertiesFilename ?: System.getProperty(PropertiesFileRuleSetConfigurer.PROPERTIES_FILE_SYSPROP))
+        key << (ruleSetString ?: '') << '\n'
+        key << plugins.collect { plugin -> plugin.class.name }.join(',') << '\n'
+        paths.each { path -> key << path << '@' << fileLastModified(path) << '\n' }
+        key.toString()
+    }
+
+    private static long fileLastModified(String path) {
+        path?.startsWith(FILE_PREFIX) ? new File(path - FILE_PREFIX).lastModified() : 0
+    }
+
     private void writeReports(AnalysisContext analysisContext, Results results) {
         this.plugins.each { plugin -> plugin.processReports(reportWriters) }
 
@@ -195,6 +350,64 @@ class CodeNarcRunner {
         }
     }
 
+    private boolean shouldStreamReports() {
+        streamReports && sourceAnalyzer instanceof AbstractSourceAnalyzer && reportWriters.any { it instanceof StreamingReportWriter }
+    }
+
+    private boolean shouldReleaseSourceCode() {
+        lowMemory && sourceAnalyzer instanceof AbstractSourceAnalyzer
+    }
+
+    private List<StreamingReportWriter> beginStreamingReports() {
+        this.plugins.each { plugin -> plugin.processReports(reportWriters) }
+
+        List<StreamingReportWriter> streamingReportWriters = reportWriters.findAll { it instanceof StreamingReportWriter }
+        streamingReportWriters.each { reportWriter -> reportWriter.begin(analysisContext) }
+        streamingReportWriters
+    }
+
+    private boolean shouldFailFast() {
+        failFastThresholds && sourceAnalyzer instanceof AbstractSourceAnalyzer
+    }
+
+    // Apply the plugins to a file as soon as it has been analyzed, count its violations (if failing fast), pass it
+    // to the streaming reports (if any), and then release its SourceCode (if lowMemory)
+    private void processAnalyzedFile(FileResults fileResults, List<StreamingReportWriter> streamingReportWriters) {
+        applyPluginsProcessViolationsForFile(fileResults)
+        if (shouldFailFast()) {
+            failFastThresholds.recordViolations(fileResults.violations)
+        }
+        streamingReportWriters.each { reportWriter -> reportWriter.fileCompleted(fileResults) }
+        if (lowMemory) {
+            fileResults.releaseSourceCode()
+        }
+    }
+
+    // The plugins have already processed the reportWriters
+    private void endStreamingReports(List<StreamingReportWriter> streamingReportWriters, Results results) {
+        reportWriters.each { reportWriter ->
+            if (reportWriter in streamingReportWriters) {
+                reportWriter.end(results)
+            }
+            else {
+                reportWriter.writeReport(analysisContext, results)
+            }
+        }
+    }
+
+    private void logAnalysisTimings() {
+        if (analysisContext.analysisTimings) {
+            LOG.info(analysisContext.analysisTimings.formatSummary().join('\n'))
+        }
+    }
+
+    private void logTruncation() {
+        if (shouldFailFast() && failFastThresholds.exceeded) {
+            analysisContext.truncatedMessage = failFastThresholds.truncatedMessage
+            LOG.warn(analysisContext.truncatedMessage)
+        }
+    }
+
     private void initializeStandardPlugins() {
         registerPluginsForClassNames(STANDARD_PLUGIN_CLASSES)
     }
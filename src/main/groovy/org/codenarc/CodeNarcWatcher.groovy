@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW
+
+import org.codenarc.results.Results
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.nio.file.ClosedWatchServiceException
+import java.nio.file.FileSystems
+import java.nio.file.FileVisitResult
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.nio.file.SimpleFileVisitor
+import java.nio.file.WatchEvent
+import java.nio.file.WatchKey
+import java.nio.file.WatchService
+import java.nio.file.attribute.BasicFileAttributes
+import java.util.concurrent.TimeUnit
+
+/**
+ * Watches the source directory tree, once CodeNarc has analyzed it, and re-analyzes the files that are created,
+ * modified or deleted, using <code>CodeNarcRunner.reanalyzeFiles()</code>. That updates the Results in place
+ * and writes the configured reports again.
+ * <p/>
+ * The changes are debounced: after the first change, the watcher waits until there have been no further changes for
+ * <code>debounceMillis</code>, so that an editor saving several files (or saving a file in several steps)
+ * triggers a single re-analysis. New subdirectories are watched as they are created. If the WatchService reports
+ * that events have been lost, then the whole directory tree is analyzed again.
+ */
+@SuppressWarnings('Println')
+class CodeNarcWatcher {
+
+    static final long DEFAULT_DEBOUNCE_MILLIS = 300
+
+    private static final Logger LOG = LoggerFactory.getLogger(CodeNarcWatcher)
+
+    final CodeNarcRunner codeNarcRunner
+    final Path baseDirectory
+
+    /**
+     * The number of milliseconds without further changes to wait for, before re-analyzing the changed files
+     */
+    long debounceMillis = DEFAULT_DEBOUNCE_MILLIS
+
+    /**
+     * The current Results; updated after each re-analysis
+     */
+    Results results
+
+    private final WatchService watchService
+    private final Map<WatchKey, Path> watchedDirectories = [:]
+
+    /**
+     * Start watching the directory tree
+     * @param codeNarcRunner - the CodeNarcRunner, whose <code>execute()</code> has returned the results
+     * @param baseDirectory - the base directory of the (FilesystemSourceAnalyzer of the) CodeNarcRunner
+     * @param results - the results from <code>codeNarcRunner.execute()</code>
+     */
+    CodeNarcWatcher(CodeNarcRunner codeNarcRunner, String baseDirectory, Results results) {
+        this.codeNarcRunner = codeNarcRunner
+        this.baseDirectory = Paths.get(baseDirectory).toAbsolutePath().normalize()
+        this.results = results
+        this.watchService = FileSystems.default.newWatchService()
+        registerDirectoryTree(this.baseDirectory)
+    }
+
+    /**
+     * Re-analyze the changed files, until stop() is called
+     */
+    void watch() {
+        try {
+            while (true) {
+                processChanges(awaitChanges())
+            }
+        }
+        catch (ClosedWatchServiceException e) {
+            LOG.info('Stopped watching for changes')
+        }
+    }
+
+    /**
+     * Stop watching for changes
+     */
+    void stop() {
+        watchService.close()
+    }
+
+    /**
+     * Wait for changes, and then until there have been no more changes for debounceMillis
+     * @return the paths of the changed files and directories, relative to the baseDirectory, in order; or null if
+     *      events have been lost, so that the whole directory tree must be analyzed
+     */
+    protected Set<String> awaitChanges() {
+        Set<String> changedPaths = new LinkedHashSet<>()
+        boolean overflow = processEvents(watchService.take(), changedPaths)
+        WatchKey watchKey
+        while ((watchKey = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+            overflow |= processEvents(watchKey, changedPaths)
+        }
+        overflow ? null : changedPaths
+    }
+
+    protected void processChanges(Set<String> changedPaths) {
+        if (changedPaths == null) {
+            println 'CodeNarc: file system events were lost; analyzing all files again'
+            results = codeNarcRunner.execute()
+        }
+        else if (changedPaths) {
+            codeNarcRunner.reanalyzeFiles(results, changedPaths)
+        }
+    }
+
+    // Add the paths changed by the events for the WatchKey; return true if any events have been lost
+    private boolean processEvents(WatchKey watchKey, Set<String> changedPaths) {
+        Path directory = watchedDirectories[watchKey]
+        boolean overflow = false
+        List<WatchEvent> events = directory ? watchKey.pollEvents() : []
+        for (WatchEvent event in events) {
+            if (event.kind() == OVERFLOW) {
+                overflow = true
+                continue
+            }
+            Path path = directory.resolve((Path) event.context())
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                // Files may have been added to the new directory before it is watched
+                registerDirectoryTree(path).each { file -> changedPaths << relativePath(file) }
+            }
+            else {
+                changedPaths << relativePath(path)
+            }
+        }
+        if (!watchKey.reset()) {
+            watchedDirectories.remove(watchKey)
+        }
+        overflow
+    }
+
+    // Watch the directory and its subdirectories; return the files within them
+    private List<Path> registerDirectoryTree(Path directory) {
+        List<Path> files = []
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                WatchKey watchKey = dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE)
+                watchedDirectories[watchKey] = dir
+                FileVisitResult.CONTINUE
+            }
+
+            @Override
+            FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                files << file
+                FileVisitResult.CONTINUE
+            }
+        })
+        files
+    }
+
+    private String relativePath(Path path) {
+        baseDirectory.relativize(path).toString().replace('\\', '/')
+    }
+}
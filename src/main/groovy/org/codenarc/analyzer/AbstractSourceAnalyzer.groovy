@@ -15,13 +15,26 @@
  */
 package org.codenarc.analyzer
 
+import org.codenarc.results.FileResults
+import org.codenarc.rule.FusedAstVisitor
 import org.codenarc.rule.Rule
+import org.codenarc.rule.RuleApplicability
+import org.codenarc.rule.SequentialWithinFile
 import org.codenarc.rule.Violation
 import org.codenarc.ruleset.RuleSet
+import org.codenarc.source.AbstractSourceCode
 import org.codenarc.source.CustomCompilerPhaseSourceDecorator
 import org.codenarc.source.SourceCode
+import org.codenarc.source.SourceLoader
 
+import java.util.concurrent.Callable
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinTask
+import java.util.concurrent.Future
+import java.util.concurrent.RecursiveAction
+import java.util.function.Consumer
+import java.util.function.Function
 
 /**
  * Common functionality for SourceAnalyzers.
@@ -29,37 +42,527 @@ import java.util.concurrent.ConcurrentHashMap
 @SuppressWarnings(['AbstractClassWithoutAbstractMethod', 'Println'])
 abstract class AbstractSourceAnalyzer implements SourceAnalyzer {
 
+    // The total processing time, in milliseconds, of each rule applied on its own; that of the rules applied together by
+    // a FusedAstVisitor is only recorded in the analysisTimings
     protected Map<Rule, Long> ruleProcessingTimes = new ConcurrentHashMap<>()
 
+    /**
+     * The factory for the AnalysisScheduler that schedules the analysis of the individual source files.
+     * Its settings (scheduler type, number of threads, queue size and timeout) are optional; by default
+     * each subclass analyzes the files sequentially, or in parallel for the specified number of <code>threads</code>.
+     */
+    AnalysisSchedulerFactory schedulerFactory = new AnalysisSchedulerFactory()
+
+    /**
+     * The policy that determines the order in which source files are submitted to the scheduler, and
+     * which small files are batched into a single task.
+     */
+    FileSchedulingPolicy schedulingPolicy = new FileSchedulingPolicy()
+
+    /**
+     * If positive, then the rules for each source file with at least this many lines are split into groups that are
+     * applied concurrently, so that a single very large file does not set the critical path of the analysis. The rule
+     * groups run as ForkJoin tasks: within the ForkJoinPool of the analysis, if any, or else the common pool.
+     * Rules annotated with <code>@SequentialWithinFile</code> are applied beforehand, on the analyzing thread.
+     * Zero (the default) disables this.
+     */
+    int parallelRulesMinLines = 0
+
+    /**
+     * The number of rule groups for a file that exceeds <code>parallelRulesMinLines</code>. Zero (the default) means
+     * the number of available processors.
+     */
+    int parallelRuleGroups = 0
+
+    /**
+     * If true, then the AbstractAstVisitorRules for each source file (and compiler phase) are applied by a
+     * FusedAstVisitor, which walks the AST of each class once for all of those rules, rather than once per rule.
+     * The processing time of those rules is then recorded in the <code>analysisTimings</code> in total, as for a single
+     * rule named "FusedAstVisitor", and not in the processing times of the individual rules.
+     * Rules are still applied individually within the <code>ruleTimeoutMillis</code>, if set. Defaults to false.
+     */
+    boolean fusedAstVisitors = false
+
+    /**
+     * The optional on-disk cache of the violations for each source file. If set, then the violations for a
+     * source file (and RuleSet) that are found in the cache are reused, rather than parsing and analyzing the
+     * file again. The cache is saved once the analysis has completed.
+     */
+    AnalysisCache analysisCache
+
+    /**
+     * The optional listener that is notified of the results for each source file as soon as that file, and each
+     * file scheduled before it, has been analyzed; e.g. to write the reports incrementally. The listener is called
+     * serially, in the order in which the files are scheduled, and not for files that could not be analyzed.
+     */
+    Consumer<FileResults> fileResultsListener
+
+    /**
+     * If true, then the AST for each source file, and for each custom compiler phase required by its rules,
+     * is released as soon as the rules have been applied to that file, rather than once the SourceCode itself
+     * is no longer referenced. See also <code>FileResults.releaseSourceCode()</code>.
+     */
+    boolean lowMemory = false
+
+    /**
+     * If positive, the time budget (in milliseconds) for parsing each source file (for each compiler phase required
+     * by its rules). A file that is not parsed within its budget is abandoned, and recorded as an analysis error.
+     * Zero (the default) means no limit. See <code>AnalysisWatchdog</code>.
+     */
+    long parseTimeoutMillis = 0
+
+    /**
+     * If positive, the time budget (in milliseconds) for applying a single rule to a source file. A rule that exceeds
+     * its budget is abandoned for that file; its violations for that file are discarded, and the timeout is logged.
+     * The rules for each file are then applied in turn, whatever the <code>parallelRulesMinLines</code>.
+     * Zero (the default) means no limit. See <code>AnalysisWatchdog</code>.
+     */
+    long ruleTimeoutMillis = 0
+
+    /**
+     * The optional record of the slowest files and rules, and of any parse or rule timeouts, for the log and reports
+     */
+    AnalysisTimings analysisTimings
+
+    /**
+     * The optional fail-fast thresholds. Once any of their maximums has been exceeded, each source file that has not
+     * yet been analyzed is skipped, so the outstanding analysis tasks complete immediately, and the results include
+     * only the files analyzed so far. The violations are not counted by the analyzer itself, since the plugins may
+     * still remove some of them; see <code>CodeNarcRunner.failFastThresholds</code>.
+     */
+    ViolationThresholds failFastThresholds
+
+    /**
+     * If set, then only the source files that belong to this shard are analyzed (and included in the results),
+     * as determined by their paths relative to the base directory. See <code>AnalysisShard</code>.
+     */
+    AnalysisShard shard
+
+    /**
+     * The name of the charset used to read the source files that do not start with a byte order mark (BOM).
+     * If not set (the default), then each such file is read as UTF-8 if it is valid UTF-8, and otherwise using
+     * the platform default charset. See <code>SourceLoader</code>.
+     */
+    String encoding
+
+    private AnalysisWatchdog watchdog
+    private volatile RuleApplicability ruleApplicability
+    private SourceLoader sourceLoader
+    private String sourceLoaderEncoding
+    private final Set<SourceCode> sourcesWithTimeouts = ConcurrentHashMap.newKeySet()
+
+    /**
+     * @return the SourceLoader used to read the source files, according to the encoding
+     */
+    protected synchronized SourceLoader getSourceLoader() {
+        if (sourceLoader == null || sourceLoaderEncoding != encoding) {
+            sourceLoader = SourceLoader.forEncoding(encoding)
+            sourceLoaderEncoding = encoding
+        }
+        sourceLoader
+    }
+
+    /**
+     * @return the number of threads used to analyze the source files; zero means the default for this analyzer
+     */
+    int getThreads() {
+        schedulerFactory.threads
+    }
+
+    /**
+     * Set the number of threads used to analyze the source files. A shortcut for <code>schedulerFactory.threads</code>.
+     */
+    void setThreads(int threads) {
+        schedulerFactory.threads = threads
+    }
+
+    /**
+     * @param path - the path of the source file, relative to the base directory
+     * @return true if the source file is to be analyzed, according to the shard (if any)
+     */
+    protected boolean isInShard(String path) {
+        shard == null || shard.contains(path)
+    }
+
     protected List<Violation> collectViolations(SourceCode sourceCode, RuleSet ruleSet) {
-        def allViolations = []
+        if (analysisCache) {
+            boolean rulesApplied = false
+            def violations = analysisCache.getViolations(sourceCode, ruleSet) { ->
+                rulesApplied = true
+                applyRules(sourceCode, ruleSet)
+            }
+            // The cached violations may be from a run that did not compile the source code
+            if (!rulesApplied && compilationRequired) {
+                compile(sourceCode)
+            }
+            // Do not reuse the violations if any rule was abandoned, since they are incomplete; nor if the source
+            // code failed to compile, so that a cache hit always means that it compiled (if it needed to)
+            if (sourcesWithTimeouts.remove(sourceCode) || isCompilationFailed(sourceCode)) {
+                analysisCache.removeViolations(sourceCode)
+            }
+            return violations
+        }
+        applyRules(sourceCode, ruleSet)
+    }
+
+    /**
+     * Unlike <code>SourceCode.isValid()</code>, this does not compile the source code; so it is only true if any of
+     * the rules applied to the source code required its AST (e.g. not if its violations were reused from the cache)
+     * @return true if the source code was compiled while collecting its violations, and the compilation failed
+     */
+    protected boolean isCompilationFailed(SourceCode sourceCode) {
+        sourceCode instanceof AbstractSourceCode && sourceCode.compilationFailed
+    }
+
+    /**
+     * Subclasses can override this to compile each source code even if none of the rules applied to it requires
+     * its AST, so that <code>isCompilationFailed()</code> is always known, e.g. to report syntax errors
+     * @return true if each source code is to be compiled, whatever rules are applied to it
+     */
+    protected boolean isCompilationRequired() {
+        false
+    }
+
+    private void compile(SourceCode sourceCode) {
+        sourceCode.ast
+        if (lowMemory) {
+            releaseAsts([sourceCode])
+        }
+    }
+
+    protected List<Violation> applyRules(SourceCode sourceCode, RuleSet ruleSet) {
         def suppressionService = sourceCode.suppressionAnalyzer
+        def currentWatchdog = getWatchdog()
+        def applicability = getRuleApplicability(ruleSet.rules)
+        BitSet applicableRules = applicability.applicableRules(sourceCode)
+        def plan = RuleExecutionPlan.forSource(sourceCode, applicability.rules, applicableRules)
+        // Parse the AST up front if any rule requires it, so that whether the compilation failed is always recorded
+        if (plan.parseRequired || compilationRequired) {
+            if (currentWatchdog) {
+                currentWatchdog.parse(sourceCode.path, [sourceCode], analysisTimings)
+            }
+            else {
+                sourceCode.ast
+            }
+        }
 
-        def validRules = ruleSet.rules.findAll { !suppressionService.isRuleSuppressed(it) }
-        def sourceAfterPhase = [(SourceCode.DEFAULT_COMPILER_PHASE): sourceCode].withDefault { phase ->
-            new CustomCompilerPhaseSourceDecorator(sourceCode, phase)
+        // Applying a rule that does not apply to the source code does nothing, so skip those rules
+        List<Rule> validRules = []
+        for (int index = applicableRules.nextSetBit(0); index >= 0; index = applicableRules.nextSetBit(index + 1)) {
+            def rule = applicability.rules[index]
+            if (!suppressionService.isRuleSuppressed(rule)) {
+                validRules << rule
+            }
+        }
+        // The source for each later phase continues the compilation of the source for the latest earlier phase. But
+        // a rule abandoned after the ruleTimeoutMillis may still be reading the AST for its phase, so then compile the
+        // source code separately for each later phase, rather than continuing (and so transforming) that AST.
+        boolean continueCompilation = !(currentWatchdog?.ruleTimeoutMillis > 0)
+        TreeMap<Integer, SourceCode> sourceForPhase = new TreeMap<>([(SourceCode.DEFAULT_COMPILER_PHASE): sourceCode])
+        def sourceAfterPhase = sourceForPhase.withDefault { int phase ->
+            def continuedSource = continueCompilation ? sourceForPhase.lowerEntry(phase)?.value : null
+            new CustomCompilerPhaseSourceDecorator(sourceCode, phase, continuedSource)
         }
 
-        for (Rule rule: validRules) {
-            measureRuleProcessingTime(rule) {
-                def sourceAfterRequiredPhase = sourceAfterPhase[rule.compilerPhase]
-                def violations = rule.applyTo(sourceAfterRequiredPhase)
-                violations.removeAll { suppressionService.isViolationSuppressed(it) }
-                allViolations.addAll(violations)
+        // Apply the rules for each compiler phase in turn, in increasing order of phase, since the AST for each later
+        // phase may be produced by continuing to compile (and so transforming) the AST for the earlier phases
+        Map<Integer, List<Integer>> ruleIndexesByPhase = new TreeMap<>()
+        validRules.eachWithIndex { rule, index -> ruleIndexesByPhase.computeIfAbsent(rule.compilerPhase) { [] } << index }
+        List<List<Violation>> violationsByRule = [null] * validRules.size()
+        ruleIndexesByPhase.each { phase, ruleIndexes ->
+            List<Rule> phaseRules = validRules[ruleIndexes]
+            def phaseViolations = applyRulesForPhase(currentWatchdog, sourceCode, phaseRules, sourceAfterPhase, applicability)
+            ruleIndexes.eachWithIndex { ruleIndex, index -> violationsByRule[ruleIndex] = phaseViolations[index] }
+        }
+        sourceAfterPhase.values().each { source ->
+            if (source instanceof AbstractSourceCode) {
+                source.releaseCompilationUnit()
             }
         }
 
+        if (lowMemory) {
+            releaseAsts(sourceAfterPhase.values())
+        }
+
+        // Merge in the original rule order, so that the results are the same however the rules were applied
+        List<Violation> allViolations = violationsByRule.flatten()
         allViolations.sort { it.lineNumber }
         allViolations
     }
 
+    // Apply the rules, which all have the same compiler phase; return the violations for each rule, in the order of rules.
+    // The applicability is the RuleApplicability for all of the rules of the RuleSet.
+    protected List<List<Violation>> applyRulesForPhase(AnalysisWatchdog currentWatchdog, SourceCode sourceCode,
+            List<Rule> rules, Map<Integer, SourceCode> sourceAfterPhase, RuleApplicability applicability) {
+        if (currentWatchdog) {
+            return applyRulesWithinTimeouts(currentWatchdog, sourceCode, rules, sourceAfterPhase)
+        }
+        shouldApplyRulesConcurrently(sourceCode, rules) ?
+            applyRulesConcurrently(rules, sourceAfterPhase, applicability) :
+            applyRulesInTurn(rules, sourceAfterPhase, applicability)
+    }
+
+    // Apply the rules, which all have the same compiler phase, on this thread; return the violations for each rule,
+    // in the order of rules. If fusedAstVisitors, then apply the rules that support it together, with a FusedAstVisitor.
+    protected List<List<Violation>> applyRulesInTurn(List<Rule> rules, Map<Integer, SourceCode> sourceAfterPhase,
+            RuleApplicability applicability) {
+        List<Integer> fusedRuleIndexes = []
+        if (fusedAstVisitors) {
+            rules.eachWithIndex { rule, index ->
+                if (FusedAstVisitor.isFusible(rule)) {
+                    fusedRuleIndexes << index
+                }
+            }
+        }
+        if (fusedRuleIndexes.size() < 2) {
+            return rules.collect { rule -> applyRule(rule, sourceAfterPhase) }
+        }
+
+        List<List<Violation>> violationsByRule = [null] * rules.size()
+        def fusedViolations = applyFusedRules(rules[fusedRuleIndexes], sourceAfterPhase, applicability)
+        fusedRuleIndexes.eachWithIndex { ruleIndex, index -> violationsByRule[ruleIndex] = fusedViolations[index] }
+        rules.eachWithIndex { rule, index ->
+            if (violationsByRule[index] == null) {
+                violationsByRule[index] = applyRule(rule, sourceAfterPhase)
+            }
+        }
+        violationsByRule
+    }
+
+    // Apply the rules, which all have the same compiler phase, with a single FusedAstVisitor; return the violations
+    // for each rule, in the order of rules. Their processing time is recorded in total, as "FusedAstVisitor".
+    protected List<List<Violation>> applyFusedRules(List<Rule> rules, Map<Integer, SourceCode> sourceAfterPhase,
+            RuleApplicability applicability) {
+        def sourceAfterRequiredPhase = sourceAfterPhase[rules[0].compilerPhase]
+        def suppressionService = sourceAfterRequiredPhase.suppressionAnalyzer
+        long startTime = System.nanoTime()
+        List<List<Violation>> violationsByRule = new FusedAstVisitor(rules, applicability).applyTo(sourceAfterRequiredPhase)
+        violationsByRule.each { violations -> violations.removeAll { suppressionService.isViolationSuppressed(it) } }
+        analysisTimings?.recordRule(sourceAfterRequiredPhase.path, FusedAstVisitor.simpleName, System.nanoTime() - startTime)
+        violationsByRule
+    }
+
+    protected List<List<Violation>> applyRulesWithinTimeouts(AnalysisWatchdog currentWatchdog, SourceCode sourceCode,
+            List<Rule> rules, Map<Integer, SourceCode> sourceAfterPhase) {
+        def customPhases = rules*.compilerPhase.unique() - SourceCode.DEFAULT_COMPILER_PHASE
+        currentWatchdog.parse(sourceCode.path, customPhases.collect { phase -> sourceAfterPhase[phase] }, analysisTimings)
+
+        def violationsByRule = currentWatchdog.applyRules(sourceCode.path, rules,
+            { Rule rule -> applyRule(rule, sourceAfterPhase) } as Function<Rule, List<Violation>>, analysisTimings)
+        if (violationsByRule.contains(null)) {
+            sourcesWithTimeouts << sourceCode
+            violationsByRule = violationsByRule.collect { violations -> violations ?: [] }
+        }
+        violationsByRule
+    }
+
+    /**
+     * @return the AnalysisWatchdog that applies the parseTimeoutMillis and ruleTimeoutMillis; null if neither is set
+     */
+    protected synchronized AnalysisWatchdog getWatchdog() {
+        if (parseTimeoutMillis <= 0 && ruleTimeoutMillis <= 0) {
+            return null
+        }
+        if (watchdog == null || watchdog.parseTimeoutMillis != parseTimeoutMillis || watchdog.ruleTimeoutMillis != ruleTimeoutMillis) {
+            watchdog = new AnalysisWatchdog(parseTimeoutMillis, ruleTimeoutMillis)
+        }
+        watchdog
+    }
+
+    /**
+     * @param rules - the rules of the RuleSet being applied
+     * @return the RuleApplicability for the rules, which is reused for each source file for as long as the rules,
+     * and their file and class name filters, are unchanged
+     */
+    protected RuleApplicability getRuleApplicability(List<Rule> rules) {
+        def current = ruleApplicability
+        if (current == null || !current.isCurrent(rules)) {
+            current = RuleApplicability.forRules(rules)
+            ruleApplicability = current
+        }
+        current
+    }
+
+    protected void releaseAsts(Collection<SourceCode> sources) {
+        for (SourceCode source in sources) {
+            if (source instanceof AbstractSourceCode) {
+                source.releaseAst()
+            }
+        }
+    }
+
+    protected boolean shouldApplyRulesConcurrently(SourceCode sourceCode, List<Rule> rules) {
+        parallelRulesMinLines > 0 && rules.size() > 1 && sourceCode.lines.size() >= parallelRulesMinLines
+    }
+
+    // Apply the rules in groups, each as a ForkJoin task; return the violations for each rule, in the order of rules
+    protected List<List<Violation>> applyRulesConcurrently(List<Rule> rules, Map<Integer, SourceCode> sourceAfterPhase,
+            RuleApplicability applicability) {
+        // Parse the AST for each required compiler phase up front, so that the rules only ever read the shared ASTs
+        Map<Integer, SourceCode> sources = rules*.compilerPhase.unique().collectEntries { phase ->
+            [(phase): sourceAfterPhase[phase]]
+        }
+        rules.findAll { rule -> RuleExecutionPlan.requiresAst(rule) }*.compilerPhase.unique().each { phase ->
+            sources[phase].ast
+        }
+        List<List<Violation>> violationsByRule = [null] * rules.size()
+        List<Integer> concurrentRuleIndexes = []
+        rules.eachWithIndex { rule, index ->
+            if (rule.class.isAnnotationPresent(SequentialWithinFile)) {
+                violationsByRule[index] = applyRule(rule, sources)
+            }
+            else {
+                concurrentRuleIndexes << index
+            }
+        }
+
+        int numGroups = parallelRuleGroups ?: Runtime.runtime.availableProcessors()
+        List<RuleGroupTask> tasks = concurrentRuleIndexes.groupBy { index -> index % numGroups }.values().collect { indexes ->
+            new RuleGroupTask(this, rules, indexes, sources, applicability, violationsByRule)
+        }
+        ForkJoinTask.invokeAll(tasks)
+        violationsByRule
+    }
+
+    protected List<Violation> applyRule(Rule rule, Map<Integer, SourceCode> sourceAfterPhase) {
+        List<Violation> violations = []
+        measureRuleProcessingTime(rule) {
+            def sourceAfterRequiredPhase = sourceAfterPhase[rule.compilerPhase]
+            def suppressionService = sourceAfterRequiredPhase.suppressionAnalyzer
+            long startTime = System.nanoTime()
+            violations = rule.applyTo(sourceAfterRequiredPhase)
+            violations.removeAll { suppressionService.isViolationSuppressed(it) }
+            analysisTimings?.recordRule(sourceAfterRequiredPhase.path, rule.name, System.nanoTime() - startTime)
+        }
+        violations
+    }
+
+    /**
+     * @return a new AnalysisScheduler for a single analysis run, as configured by the schedulerFactory
+     */
+    protected AnalysisScheduler createScheduler() {
+        schedulerFactory.createScheduler(getDefaultSchedulerType(), getDefaultThreads())
+    }
+
+    /**
+     * @return the scheduler type used if none is configured and more than one thread is used
+     */
+    protected String getDefaultSchedulerType() {
+        AnalysisSchedulerFactory.FIXED
+    }
+
+    /**
+     * @return the number of threads used if none is configured
+     */
+    protected int getDefaultThreads() {
+        1
+    }
+
+    /**
+     * Submit the task to the scheduler. If the task has already completed (e.g. it was executed on the
+     * calling thread) and it failed, then throw its exception now, rather than continue submitting tasks.
+     */
+    protected <T> Future<T> submitTask(AnalysisScheduler scheduler, Callable<T> task) {
+        def future = scheduler.submit(task)
+        if (future.done) {
+            getTaskResult(future)
+        }
+        future
+    }
+
+    /**
+     * Submit the tasks to analyze the files, ordered and batched according to the schedulingPolicy.
+     * Once the scheduler has completed, call <code>getFileResults()</code> to get the results for each file.
+     * @param files - the files to analyze
+     * @param scheduler - the AnalysisScheduler
+     * @param analyzeFile - analyzes a single file, returning its FileResults (or null)
+     */
+    protected void scheduleFiles(List<ScheduledFile> files, AnalysisScheduler scheduler, Function<ScheduledFile, FileResults> analyzeFile) {
+        def analyzeUnlessFailed = failFastThresholds ? skippingOnceExceeded(analyzeFile) : analyzeFile
+        def analyzeAndNotify = fileResultsListener ? notifyingInOrder(files, analyzeUnlessFailed) : analyzeUnlessFailed
+        schedulingPolicy.planBatches(files, scheduler.concurrent).each { batch ->
+            Callable<List<FileResults>> task = { -> analyzeBatch(batch, analyzeAndNotify) } as Callable<List<FileResults>>
+            def future = submitTask(scheduler, task)
+            batch.eachWithIndex { file, index ->
+                file.batchFuture = future
+                file.batchIndex = index
+            }
+        }
+    }
+
+    // Wrap analyzeFile to skip each file (with null results) once the failFastThresholds have been exceeded
+    private Function<ScheduledFile, FileResults> skippingOnceExceeded(Function<ScheduledFile, FileResults> analyzeFile) {
+        def thresholds = failFastThresholds
+        return { ScheduledFile file ->
+            if (thresholds.exceeded) {
+                file.skipped = true
+                thresholds.recordSkippedFile()
+                return null
+            }
+            analyzeFile.apply(file)
+        } as Function<ScheduledFile, FileResults>
+    }
+
+    // Wrap analyzeFile to pass the results for each file to the fileResultsListener, in the order of the files
+    private Function<ScheduledFile, FileResults> notifyingInOrder(List<ScheduledFile> files, Function<ScheduledFile, FileResults> analyzeFile) {
+        Map<ScheduledFile, Integer> fileIndexes = new IdentityHashMap<>()
+        files.eachWithIndex { file, index -> fileIndexes[file] = index }
+        def sequencer = new FileResultsSequencer(files.size(), fileResultsListener)
+        return { ScheduledFile file ->
+            def fileResults = analyzeFile.apply(file)
+            sequencer.completed(fileIndexes[file], fileResults)
+            fileResults
+        } as Function<ScheduledFile, FileResults>
+    }
+
+    /**
+     * Wait for the scheduler to complete, then save the file costs recorded by the schedulingPolicy and the
+     * analysisCache (if configured)
+     */
+    protected void awaitCompletion(AnalysisScheduler scheduler) {
+        scheduler.awaitCompletion()
+        schedulingPolicy.saveCostHistory()
+        analysisCache?.save()
+    }
+
+    /**
+     * Return the results for the file submitted by <code>scheduleFiles()</code>, rethrowing any AnalyzerException
+     */
+    protected static FileResults getFileResults(ScheduledFile file) {
+        getTaskResult(file.batchFuture)[file.batchIndex]
+    }
+
+    /**
+     * Return the result of the completed task, rethrowing any AnalyzerException thrown by the task
+     */
+    protected static <T> T getTaskResult(Future<T> future) {
+        try {
+            return future.get()
+        }
+        catch (ExecutionException e) {
+            throw e.cause instanceof AnalyzerException ? e.cause : new AnalyzerException(e.cause)
+        }
+    }
+
+    protected List<FileResults> analyzeBatch(List<ScheduledFile> batch, Function<ScheduledFile, FileResults> analyzeFile) {
+        batch.collect { file ->
+            long startTime = System.nanoTime()
+            def fileResults = analyzeFile.apply(file)
+            long elapsedNanos = System.nanoTime() - startTime
+            if (!file.skipped) {
+                schedulingPolicy.recordCost(file, elapsedNanos)
+                analysisTimings?.recordFile(file.sourceFile.path, elapsedNanos)
+            }
+            fileResults
+        }
+    }
+
     protected void measureRuleProcessingTime(Rule rule, Closure closure) {
         long startTime = System.nanoTime()
         closure(rule)
         long endTime = System.nanoTime()
         long elapsedMillis = (endTime - startTime) / 1_000_000L
-        long oldValue = ruleProcessingTimes.getOrDefault(rule, 0L)
-        ruleProcessingTimes[rule] = oldValue + elapsedMillis
+        ruleProcessingTimes.merge(rule, elapsedMillis, Long::sum)
     }
 
     protected void printRuleProcessingTimes() {
@@ -71,4 +574,62 @@ abstract class AbstractSourceAnalyzer implements SourceAnalyzer {
         }
     }
 
+    /**
+     * Passes the results for each file to the listener in order, holding back the results of any file that
+     * completes before the files ahead of it
+     */
+    private static class FileResultsSequencer {
+        private final Consumer<FileResults> listener
+        private final FileResults[] completedResults
+        private final boolean[] isCompleted
+        private int nextIndex
+
+        FileResultsSequencer(int numberOfFiles, Consumer<FileResults> listener) {
+            this.listener = listener
+            this.completedResults = new FileResults[numberOfFiles]
+            this.isCompleted = new boolean[numberOfFiles]
+        }
+
+        synchronized void completed(int index, FileResults fileResults) {
+            completedResults[index] = fileResults
+            isCompleted[index] = true
+            while (nextIndex < isCompleted.length && isCompleted[nextIndex]) {
+                def nextResults = completedResults[nextIndex]
+                completedResults[nextIndex++] = null
+                if (nextResults) {
+                    listener.accept(nextResults)
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a group of the rules for a single source file, storing the violations for each rule at its index
+     */
+    private static class RuleGroupTask extends RecursiveAction {
+        private final AbstractSourceAnalyzer analyzer
+        private final List<Rule> rules
+        private final List<Integer> ruleIndexes
+        private final Map<Integer, SourceCode> sourceAfterPhase
+        private final RuleApplicability applicability
+        private final List<List<Violation>> violationsByRule
+
+        RuleGroupTask(AbstractSourceAnalyzer analyzer, List<Rule> rules, List<Integer> ruleIndexes,
+                Map<Integer, SourceCode> sourceAfterPhase, RuleApplicability applicability,
+                List<List<Violation>> violationsByRule) {
+            this.analyzer = analyzer
+            this.rules = rules
+            this.ruleIndexes = ruleIndexes
+            this.sourceAfterPhase = sourceAfterPhase
+            this.applicability = applicability
+            this.violationsByRule = violationsByRule
+        }
+
+        @Override
+        protected void compute() {
+            def groupViolations = analyzer.applyRulesInTurn(rules[ruleIndexes], sourceAfterPhase, applicability)
+            ruleIndexes.eachWithIndex { ruleIndex, index -> violationsByRule[ruleIndex] = groupViolations[index] }
+        }
+    }
+
 }
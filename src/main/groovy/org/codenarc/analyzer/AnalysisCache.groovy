@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.rule.Rule
+import org.codenarc.rule.Violation
+import org.codenarc.ruleset.RuleSet
+import org.codenarc.source.SourceCode
+import org.codenarc.util.CodeNarcVersion
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.security.MessageDigest
+import java.util.concurrent.atomic.AtomicLong
+import java.util.function.Supplier
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * An on-disk cache of the violations for each source file, so that files that have not changed since a previous
+ * run need not be parsed or analyzed again.
+ * <p/>
+ * Each entry is keyed by a hash of the path and the text of the source file. The cache as a whole is only valid
+ * for a single RuleSet fingerprint: a hash of the CodeNarc version and of the class and (simple) property values of
+ * each rule, in order. This covers the properties set by <code>PropertiesFileRuleSetConfigurer</code>, as well as
+ * those set within the ruleset files. If the fingerprint has changed since the cache was written, then all of its
+ * entries are discarded. Note that a change to a custom rule class that does not change its properties is not
+ * detected.
+ * <p/>
+ * The cache holds at most <code>maxEntries</code> files; the least recently used entries are evicted first.
+ * The cache file is a gzipped binary file, in which each violation refers to its rule by its index within the
+ * RuleSet. It is read on first use and written by <code>save()</code>, which also logs the hit and miss counts.
+ * <p/>
+ * This class is thread-safe.
+ */
+class AnalysisCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 10000
+
+    private static final Logger LOG = LoggerFactory.getLogger(AnalysisCache)
+    private static final int MAGIC = 0x434E4143
+    private static final int FORMAT_VERSION = 1
+    private static final int NULL_LINE_NUMBER = Integer.MIN_VALUE
+    private static final int NULL_STRING = -1
+    private static final String HASH_ALGORITHM = 'SHA-256'
+    private static final List<Class> FINGERPRINT_PROPERTY_TYPES = [String, Boolean, Integer, Long, Short, Byte,
+        Character, BigDecimal, BigInteger, Boolean.TYPE, Integer.TYPE, Long.TYPE, Short.TYPE, Byte.TYPE, Character.TYPE]
+
+    /**
+     * The path of the cache file. Must not be null or empty.
+     */
+    final String cacheFile
+
+    /**
+     * The maximum number of source files held in the cache
+     */
+    final int maxEntries
+
+    private final AtomicLong hits = new AtomicLong()
+    private final AtomicLong misses = new AtomicLong()
+    private final Map<String, List<CachedViolation>> entries
+    private RuleSet ruleSet
+    private List<Rule> rules
+    private Map<Rule, Integer> ruleIndexes
+    private String ruleSetFingerprint
+
+    AnalysisCache(String cacheFile, int maxEntries = DEFAULT_MAX_ENTRIES) {
+        assert cacheFile
+        assert maxEntries > 0
+        this.cacheFile = cacheFile
+        this.maxEntries = maxEntries
+        this.entries = new LinkedHashMap<String, List<CachedViolation>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<CachedViolation>> eldest) {
+                size() > maxEntries
+            }
+        }
+    }
+
+    /**
+     * Return the violations for the source code, from the cache if present; otherwise get them from
+     * <code>collectViolations</code> and add them to the cache.
+     * @param sourceCode - the SourceCode being analyzed
+     * @param ruleSet - the RuleSet applied to the source code; the same RuleSet for every file of an analysis run
+     * @param collectViolations - applies the RuleSet to the source code, returning the violations
+     * @return the List of violations for the source code
+     */
+    List<Violation> getViolations(SourceCode sourceCode, RuleSet ruleSet, Supplier<List<Violation>> collectViolations) {
+        initialize(ruleSet)
+        String key = sourceKey(sourceCode)
+        List<CachedViolation> cachedViolations = getEntry(key)
+        if (cachedViolations != null) {
+            hits.incrementAndGet()
+            return cachedViolations*.toViolation(rules)
+        }
+
+        misses.incrementAndGet()
+        List<Violation> violations = collectViolations.get()
+        cacheViolations(key, violations)
+        violations
+    }
+
+    /**
+     * Remove the violations for the source code from the cache, e.g. because they are incomplete
+     * @param sourceCode - the SourceCode
+     */
+    synchronized void removeViolations(SourceCode sourceCode) {
+        entries.remove(sourceKey(sourceCode))
+    }
+
+    /**
+     * @return the number of files whose violations were found in the cache
+     */
+    long getHits() {
+        hits.get()
+    }
+
+    /**
+     * @return the number of files that were analyzed because they were not in the cache
+     */
+    long getMisses() {
+        misses.get()
+    }
+
+    /**
+     * Write the cache to the cacheFile, if it has been used since it was created, and log the hit and miss counts
+     */
+    synchronized void save() {
+        if (ruleSetFingerprint == null) {
+            return
+        }
+        LOG.info("Analysis cache [$cacheFile]: hits=$hits, misses=$misses, entries=${entries.size()}")
+        def file = new File(cacheFile)
+        def tempFile = new File(cacheFile + '.tmp')
+        try {
+            tempFile.withOutputStream { outputStream -> writeCache(outputStream) }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING)
+        }
+        catch (IOException e) {
+            LOG.warn("Unable to write analysis cache [$cacheFile]: $e")
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // Internal Helper Methods
+    //--------------------------------------------------------------------------
+
+    private synchronized void initialize(RuleSet ruleSet) {
+        if (this.ruleSet.is(ruleSet)) {
+            return
+        }
+        this.ruleSet = ruleSet
+        this.rules = new ArrayList<>(ruleSet.rules)
+        this.ruleIndexes = new IdentityHashMap<>()
+        rules.eachWithIndex { rule, index -> ruleIndexes[rule] = index }
+
+        String fingerprint = computeFingerprint(rules)
+        if (ruleSetFingerprint == null) {
+            loadCache(fingerprint)
+        }
+        else if (fingerprint != ruleSetFingerprint) {
+            entries.clear()
+        }
+        ruleSetFingerprint = fingerprint
+    }
+
+    private synchronized List<CachedViolation> getEntry(String key) {
+        entries[key]
+    }
+
+    private synchronized void cacheViolations(String key, List<Violation> violations) {
+        // Only cache the violations if each refers to one of the rules in the RuleSet
+        if (violations.every { violation -> ruleIndexes.containsKey(violation.rule) }) {
+            entries[key] = violations.collect { violation -> new CachedViolation(ruleIndexes[violation.rule], violation) }
+        }
+    }
+
+    private static String sourceKey(SourceCode sourceCode) {
+        def digest = MessageDigest.getInstance(HASH_ALGORITHM)
+        digest.update((sourceCode.path ?: '').getBytes(StandardCharsets.UTF_8))
+        digest.update((byte) 0)
+        digest.update(sourceCode.text.getBytes(StandardCharsets.UTF_8))
+        digest.digest().encodeBase64().toString()
+    }
+
+    private static String computeFingerprint(List<Rule> rules) {
+        def digest = MessageDigest.getInstance(HASH_ALGORITHM)
+        def update = { String text -> digest.update((text + '\n').getBytes(StandardCharsets.UTF_8)) }
+        update(CodeNarcVersion.version)
+        update(FORMAT_VERSION as String)
+        rules.each { rule ->
+            update(rule.class.name)
+            fingerprintProperties(rule).each { name, value -> update("$name=$value") }
+        }
+        digest.digest().encodeHex().toString()
+    }
+
+    // Return the sorted names and values of the properties of the rule that have a simple type (e.g. String or int)
+    @SuppressWarnings('CatchException')
+    private static Map<String, Object> fingerprintProperties(Rule rule) {
+        Map<String, Object> properties = new TreeMap<>()
+        rule.metaClass.properties.each { MetaProperty metaProperty ->
+            if (isFingerprintPropertyType(metaProperty.type)) {
+                try {
+                    properties[metaProperty.name] = metaProperty.getProperty(rule)
+                }
+                catch (Exception e) {
+                    LOG.debug("Unable to read rule property [${rule.name}.${metaProperty.name}]: $e")
+                }
+            }
+        }
+        properties
+    }
+
+    private static boolean isFingerprintPropertyType(Class type) {
+        type in FINGERPRINT_PROPERTY_TYPES || type.isEnum()
+    }
+
+    private void loadCache(String fingerprint) {
+        def file = new File(cacheFile)
+        if (!file.exists()) {
+            return
+        }
+        try {
+            file.withInputStream { inputStream -> readCache(inputStream, fingerprint) }
+        }
+        catch (IOException e) {
+            LOG.warn("Unable to read analysis cache [$cacheFile]: $e")
+            entries.clear()
+        }
+    }
+
+    private void readCache(InputStream inputStream, String fingerprint) {
+        def input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(inputStream)))
+        if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+            LOG.info("Ignoring analysis cache [$cacheFile]; unrecognized format")
+            return
+        }
+        if (input.readUTF() != fingerprint) {
+            LOG.info("Ignoring analysis cache [$cacheFile]; the ruleset or CodeNarc version has changed")
+            return
+        }
+        int numEntries = input.readInt()
+        numEntries.times {
+            String key = readString(input)
+            int numViolations = input.readInt()
+            List<CachedViolation> violations = (0..<numViolations).collect { CachedViolation.read(input) }
+            entries[key] = violations
+        }
+    }
+
+    private void writeCache(OutputStream outputStream) {
+        def gzipOutputStream = new GZIPOutputStream(outputStream)
+        def output = new DataOutputStream(new BufferedOutputStream(gzipOutputStream))
+        output.writeInt(MAGIC)
+        output.writeInt(FORMAT_VERSION)
+        output.writeUTF(ruleSetFingerprint)
+        output.writeInt(entries.size())
+        // Least recently used first, so that the eviction order is preserved when read back in
+        entries.each { key, violations ->
+            writeString(output, key)
+            output.writeInt(violations.size())
+            violations.each { violation -> violation.write(output) }
+        }
+        output.flush()
+        gzipOutputStream.finish()
+    }
+
+    private static String readString(DataInputStream input) {
+        int length = input.readInt()
+        if (length == NULL_STRING) {
+            return null
+        }
+        byte[] bytes = new byte[length]
+        input.readFully(bytes)
+        new String(bytes, StandardCharsets.UTF_8)
+    }
+
+    private static void writeString(DataOutputStream output, String string) {
+        if (string == null) {
+            output.writeInt(NULL_STRING)
+            return
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8)
+        output.writeInt(bytes.length)
+        output.write(bytes)
+    }
+
+    /**
+     * A cached Violation, which refers to its Rule by its index within the RuleSet
+     */
+    private static class CachedViolation {
+        final int ruleIndex
+        final Integer lineNumber
+        final String sourceLine
+        final String message
+
+        CachedViolation(int ruleIndex, Integer lineNumber, String sourceLine, String message) {
+            this.ruleIndex = ruleIndex
+            this.lineNumber = lineNumber
+            this.sourceLine = sourceLine
+            this.message = message
+        }
+
+        CachedViolation(int ruleIndex, Violation violation) {
+            this(ruleIndex, violation.lineNumber, violation.sourceLine, violation.message)
+        }
+
+        Violation toViolation(List<Rule> rules) {
+            new Violation(rule: rules[ruleIndex], lineNumber: lineNumber, sourceLine: sourceLine, message: message)
+        }
+
+        static CachedViolation read(DataInputStream input) {
+            int ruleIndex = input.readInt()
+            int lineNumber = input.readInt()
+            String sourceLine = readString(input)
+            String message = readString(input)
+            new CachedViolation(ruleIndex, lineNumber == NULL_LINE_NUMBER ? null : lineNumber, sourceLine, message)
+        }
+
+        void write(DataOutputStream output) {
+            output.writeInt(ruleIndex)
+            output.writeInt(lineNumber == null ? NULL_LINE_NUMBER : lineNumber)
+            writeString(output, sourceLine)
+            writeString(output, message)
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Future
+
+/**
+ * Schedules the analysis tasks (typically one per source file) for a SourceAnalyzer.
+ * <p/>
+ * An AnalysisScheduler is used for a single analysis run: submit all tasks, then call
+ * <code>awaitCompletion()</code>, and always call <code>shutdownNow()</code> when finished.
+ */
+interface AnalysisScheduler {
+
+    /**
+     * Submit the task for execution. Depending on the implementation, the task may be executed
+     * on the calling thread before this method returns. Any exception thrown by the task is
+     * reported through the returned Future. This method may block if too many tasks are pending.
+     * @param task - the task to execute; must not be null
+     * @return the Future for the result of the task
+     */
+    <T> Future<T> submit(Callable<T> task)
+
+    /**
+     * Wait for all submitted tasks to complete. No more tasks may be submitted afterward.
+     * @throws AnalyzerException if the tasks do not complete within the configured timeout
+     */
+    void awaitCompletion()
+
+    /**
+     * Cancel any outstanding tasks and release all threads. Safe to call more than once.
+     */
+    void shutdownNow()
+
+    /**
+     * @return true if submitted tasks may execute concurrently (and so the order of submission affects the elapsed time)
+     */
+    boolean isConcurrent()
+}
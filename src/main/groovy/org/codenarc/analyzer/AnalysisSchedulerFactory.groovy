@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ForkJoinWorkerThread
+
+/**
+ * Factory for the AnalysisScheduler used by a SourceAnalyzer. Its properties can be configured
+ * from the command-line, the Ant Task or the CodeNarcRunner.
+ * <p/>
+ * The supported scheduler types are:
+ * <ul>
+ *   <li>"sequential" - Analyze each file on the calling thread</li>
+ *   <li>"fixed" - Use a fixed-size pool of platform threads</li>
+ *   <li>"forkjoin" - Use a work-stealing ForkJoinPool</li>
+ *   <li>"virtual" - Use a new virtual thread for each file. That can overlap file reads on slow (e.g. network)
+ *      filesystems. Requires Java 21 or later; otherwise falls back to "fixed".</li>
+ * </ul>
+ */
+class AnalysisSchedulerFactory {
+
+    static final String SEQUENTIAL = 'sequential'
+    static final String FIXED = 'fixed'
+    static final String FORK_JOIN = 'forkjoin'
+    static final String VIRTUAL = 'virtual'
+    static final List<String> TYPES = [SEQUENTIAL, FIXED, FORK_JOIN, VIRTUAL].asImmutable()
+    static final long DEFAULT_TIMEOUT_SECONDS = 60 * 60
+
+    private static final Logger LOG = LoggerFactory.getLogger(AnalysisSchedulerFactory)
+
+    /**
+     * The scheduler type: one of "sequential", "fixed", "forkjoin" or "virtual". If null, then use "sequential"
+     * if the (effective) number of threads is one, otherwise the default type for the SourceAnalyzer.
+     */
+    String type
+
+    /**
+     * The number of threads (the pool size). For "virtual", this is the maximum number of files analyzed concurrently.
+     * If zero, then use the default for the SourceAnalyzer (for "virtual": no maximum).
+     */
+    int threads = 0
+
+    /**
+     * The maximum number of submitted files waiting for a thread. If zero, then there is no maximum.
+     */
+    int queueSize = 0
+
+    /**
+     * The maximum number of seconds to wait for the analysis of all files to complete.
+     */
+    long timeoutSeconds = DEFAULT_TIMEOUT_SECONDS
+
+    /**
+     * Create a new AnalysisScheduler for a single analysis run
+     * @param defaultType - the scheduler type to use if <code>type</code> is not set and the number of threads is more than one
+     * @param defaultThreads - the number of threads to use if <code>threads</code> is not set
+     * @return a new AnalysisScheduler
+     */
+    AnalysisScheduler createScheduler(String defaultType, int defaultThreads) {
+        int numThreads = threads > 0 ? threads : Math.max(defaultThreads, 1)
+        String schedulerType = type ?: (numThreads > 1 ? defaultType : SEQUENTIAL)
+        assert schedulerType in TYPES, "Invalid scheduler type [$schedulerType]; must be one of $TYPES"
+        assert timeoutSeconds > 0, 'The timeoutSeconds must be positive'
+
+        switch (schedulerType) {
+            case SEQUENTIAL: return new SequentialAnalysisScheduler()
+            case FIXED: return createExecutorScheduler(Executors.newFixedThreadPool(numThreads), maxPendingTasks(numThreads))
+            case FORK_JOIN: return createExecutorScheduler(newForkJoinPool(numThreads), maxPendingTasks(numThreads))
+            default: return createVirtualThreadScheduler(numThreads)
+        }
+    }
+
+    @Override
+    String toString() {
+        "AnalysisSchedulerFactory(type=$type, threads=$threads, queueSize=$queueSize, timeoutSeconds=$timeoutSeconds)"
+    }
+
+    //--------------------------------------------------------------------------
+    // Internal Helper Methods
+    //--------------------------------------------------------------------------
+
+    private AnalysisScheduler createExecutorScheduler(ExecutorService executorService, int maxPendingTasks) {
+        new ExecutorServiceAnalysisScheduler(executorService, maxPendingTasks, timeoutSeconds)
+    }
+
+    private int maxPendingTasks(int poolSize) {
+        queueSize > 0 ? poolSize + queueSize : 0
+    }
+
+    private AnalysisScheduler createVirtualThreadScheduler(int numThreads) {
+        ExecutorService executorService = newVirtualThreadPerTaskExecutor()
+        if (executorService == null) {
+            LOG.warn('Virtual threads are not supported by this JVM; using a fixed thread pool instead')
+            return createExecutorScheduler(Executors.newFixedThreadPool(numThreads), maxPendingTasks(numThreads))
+        }
+        // Each pending task has its own (virtual) thread, so the maximum pending tasks also limits concurrency
+        int maxPendingTasks = threads > 0 ? threads + queueSize : queueSize
+        return createExecutorScheduler(executorService, maxPendingTasks)
+    }
+
+    // Look up reflectively, since CodeNarc must still run on Java versions without virtual threads
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        def factoryMethod = Executors.methods.find { method -> method.name == 'newVirtualThreadPerTaskExecutor' && !method.parameterCount }
+        return factoryMethod ? (ExecutorService) factoryMethod.invoke(null) : null
+    }
+
+    // The default ForkJoinPool worker threads do not inherit the context ClassLoader (e.g., as set by CodeNarcTask)
+    private static ForkJoinPool newForkJoinPool(int parallelism) {
+        ClassLoader contextClassLoader = Thread.currentThread().contextClassLoader
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = { ForkJoinPool pool ->
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool)
+            thread.contextClassLoader = contextClassLoader
+            return thread
+        } as ForkJoinPool.ForkJoinWorkerThreadFactory
+        return new ForkJoinPool(parallelism, threadFactory, null, false)
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import java.nio.charset.StandardCharsets
+import java.util.zip.CRC32
+
+/**
+ * One of a number of disjoint slices (shards) of the source files to analyze, e.g. so that each of several
+ * machines analyzes a different slice of a very large code base. Each file is assigned to a shard by a stable
+ * hash of its normalized path (relative to the base directory), so the partition is the same on every machine.
+ * <p/>
+ * Each shard writes its results as a JSON report; see <code>MergedReportsSourceAnalyzer</code> to merge them.
+ */
+class AnalysisShard {
+
+    private static final String SEP = '/'
+
+    /**
+     * The number of this shard, from 1 to <code>count</code>
+     */
+    final int index
+
+    /**
+     * The total number of shards
+     */
+    final int count
+
+    AnalysisShard(int index, int count) {
+        assert count > 0, 'The shard count must be positive'
+        assert index >= 1 && index <= count, "The shard index must be between 1 and $count"
+        this.index = index
+        this.count = count
+    }
+
+    /**
+     * Parse a shard specification of the form "i/n", e.g. "2/5" for the second of five shards
+     */
+    static AnalysisShard parse(String shardSpec) {
+        def matcher = shardSpec =~ /(\d+)\/(\d+)/
+        assert matcher.matches(), "Invalid shard: [$shardSpec]; expected i/n, e.g. 1/4"
+        new AnalysisShard(matcher.group(1) as int, matcher.group(2) as int)
+    }
+
+    /**
+     * @param path - the path of the source file, relative to the base directory
+     * @return true if the source file belongs to this shard
+     */
+    boolean contains(String path) {
+        def crc = new CRC32()
+        crc.update(normalize(path).getBytes(StandardCharsets.UTF_8))
+        (crc.value % count) + 1 == index
+    }
+
+    @Override
+    String toString() {
+        "$index/$count"
+    }
+
+    private static String normalize(String path) {
+        def normalizedPath = path.replace('\\', SEP)
+        while (normalizedPath.startsWith('./') || normalizedPath.startsWith(SEP)) {
+            normalizedPath = normalizedPath.startsWith(SEP) ? normalizedPath.substring(1) : normalizedPath.substring(2)
+        }
+        normalizedPath
+    }
+}
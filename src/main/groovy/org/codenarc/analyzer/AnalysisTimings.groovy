@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Records the slowest source files, and the slowest applications of a single rule to a source file, during an
+ * analysis, together with any parse or rule timeouts. Safe for use by concurrent analysis threads.
+ */
+class AnalysisTimings {
+
+    static final int DEFAULT_SIZE = 10
+
+    /**
+     * The number of slowest files, and of slowest rules, retained
+     */
+    final int size
+
+    private final TopTimings slowestFiles
+    private final TopTimings slowestRules
+    private final List<Timing> timeouts = Collections.synchronizedList([])
+
+    /**
+     * @param size - the number of slowest files, and of slowest rules, to retain
+     */
+    AnalysisTimings(int size = DEFAULT_SIZE) {
+        assert size > 0
+        this.size = size
+        slowestFiles = new TopTimings(size)
+        slowestRules = new TopTimings(size)
+    }
+
+    void recordFile(String path, long elapsedNanos) {
+        slowestFiles.add(path, null, elapsedNanos)
+    }
+
+    void recordRule(String path, String ruleName, long elapsedNanos) {
+        slowestRules.add(path, ruleName, elapsedNanos)
+    }
+
+    /**
+     * Record that parsing a source file, or applying a rule to it, was abandoned because it exceeded its time budget
+     * @param path - the path of the source file
+     * @param ruleName - the name of the rule; null if the source file could not be parsed in time
+     * @param timeoutMillis - the time budget, in milliseconds
+     */
+    void recordTimeout(String path, String ruleName, long timeoutMillis) {
+        timeouts << new Timing(path, ruleName, TimeUnit.MILLISECONDS.toNanos(timeoutMillis))
+    }
+
+    /**
+     * @return the slowest source files, slowest first
+     */
+    List<Timing> getSlowestFiles() {
+        slowestFiles.sorted()
+    }
+
+    /**
+     * @return the slowest applications of a single rule to a source file, slowest first
+     */
+    List<Timing> getSlowestRules() {
+        slowestRules.sorted()
+    }
+
+    /**
+     * @return the timeouts, in the order in which they occurred; the elapsed time of each is its time budget
+     */
+    List<Timing> getTimeouts() {
+        synchronized (timeouts) {
+            new ArrayList<>(timeouts)
+        }
+    }
+
+    /**
+     * @return the lines of a summary of the timeouts, slowest files and slowest rules, for the log and the reports
+     */
+    List<String> formatSummary() {
+        List<String> lines = []
+        def timeoutsCopy = getTimeouts()
+        if (timeoutsCopy) {
+            lines << 'Analysis timeouts:'
+            timeoutsCopy.each { timing -> lines << "    ${timing.ruleName ? 'Rule=' + timing.ruleName : 'Parse'} File=${timing.path} Timeout=${timing.elapsedMillis}ms".toString() }
+        }
+        lines << 'Slowest files:'
+        getSlowestFiles().each { timing -> lines << "    ${timing.elapsedMillis}ms File=${timing.path}".toString() }
+        lines << 'Slowest rules:'
+        getSlowestRules().each { timing -> lines << "    ${timing.elapsedMillis}ms Rule=${timing.ruleName} File=${timing.path}".toString() }
+        lines
+    }
+
+    /**
+     * The elapsed time for a source file, or for a single rule applied to a source file
+     */
+    static class Timing {
+        final String path
+        final String ruleName
+        final long elapsedNanos
+
+        Timing(String path, String ruleName, long elapsedNanos) {
+            this.path = path
+            this.ruleName = ruleName
+            this.elapsedNanos = elapsedNanos
+        }
+
+        long getElapsedMillis() {
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+        }
+
+        @Override
+        String toString() {
+            "Timing[path=$path; ruleName=$ruleName; elapsedNanos=$elapsedNanos]"
+        }
+    }
+
+    /**
+     * Retains the slowest timings, checking against the fastest retained timing before taking the lock
+     */
+    private static class TopTimings {
+        private final int size
+        private final Queue<Timing> queue = new PriorityQueue<>(Comparator.comparingLong { Timing timing -> timing.elapsedNanos })
+        private volatile long minRetainedNanos = -1
+
+        TopTimings(int size) {
+            this.size = size
+        }
+
+        void add(String path, String ruleName, long elapsedNanos) {
+            if (elapsedNanos <= minRetainedNanos) {
+                return
+            }
+            synchronized (queue) {
+                queue.add(new Timing(path, ruleName, elapsedNanos))
+                if (queue.size() > size) {
+                    queue.poll()
+                }
+                if (queue.size() == size) {
+                    minRetainedNanos = queue.peek().elapsedNanos
+                }
+            }
+        }
+
+        List<Timing> sorted() {
+            synchronized (queue) {
+                new ArrayList<>(queue).sort { Timing a, Timing b -> b.elapsedNanos <=> a.elapsedNanos }
+            }
+        }
+    }
+}
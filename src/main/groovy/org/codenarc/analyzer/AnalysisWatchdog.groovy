@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.rule.Rule
+import org.codenarc.rule.Violation
+import org.codenarc.source.SourceCode
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Function
+
+/**
+ * Applies time budgets to parsing a source file and to applying a single rule to a source file, so that a single
+ * pathological file (or rule) cannot stall an analysis thread indefinitely.
+ * <p/>
+ * The steps for a source file are run in turn on a (daemon) watchdog thread, while the analysis thread waits for
+ * each to complete within its budget. If a step exceeds its budget, then the watchdog thread is interrupted and
+ * abandoned; any remaining steps are run on another watchdog thread. A step that does not respond to the interrupt
+ * (e.g. a regular expression with catastrophic backtracking) continues in the background until it completes, but
+ * its result is ignored.
+ */
+class AnalysisWatchdog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AnalysisWatchdog)
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger()
+
+    /**
+     * The time budget for parsing a source file (for each compiler phase), in milliseconds; zero for no limit
+     */
+    final long parseTimeoutMillis
+
+    /**
+     * The time budget for applying a single rule to a source file, in milliseconds; zero for no limit
+     */
+    final long ruleTimeoutMillis
+
+    private final ExecutorService executor = Executors.newCachedThreadPool({ Runnable runnable ->
+        def thread = new Thread(runnable, 'CodeNarc-watchdog-' + THREAD_COUNT.incrementAndGet())
+        thread.daemon = true
+        thread
+    } as ThreadFactory)
+
+    AnalysisWatchdog(long parseTimeoutMillis, long ruleTimeoutMillis) {
+        this.parseTimeoutMillis = parseTimeoutMillis
+        this.ruleTimeoutMillis = ruleTimeoutMillis
+    }
+
+    /**
+     * Parse the AST for each of the sources (e.g. for each compiler phase) of a single source file
+     * @param path - the path of the source file
+     * @param sources - the sources to parse
+     * @param analysisTimings - records any timeout; may be null
+     * @throws AnalysisTimeoutException if parsing any of the sources exceeds the parseTimeoutMillis
+     */
+    void parse(String path, Collection<SourceCode> sources, AnalysisTimings analysisTimings) {
+        List<Callable> steps = sources.collect { source -> { -> source.ast } as Callable }
+        if (runSteps(steps, parseTimeoutMillis)) {
+            analysisTimings?.recordTimeout(path, null, parseTimeoutMillis)
+            throw new AnalysisTimeoutException("Parsing [$path] did not complete within ${parseTimeoutMillis}ms")
+        }
+    }
+
+    /**
+     * Apply each of the rules to a single source file, abandoning each rule that exceeds the ruleTimeoutMillis
+     * @param path - the path of the source file
+     * @param rules - the rules to apply
+     * @param applyRule - applies a single rule, returning its violations
+     * @param analysisTimings - records any timeouts; may be null
+     * @return the violations for each rule, in the order of rules; null for each abandoned rule
+     */
+    List<List<Violation>> applyRules(String path, List<Rule> rules, Function<Rule, List<Violation>> applyRule,
+            AnalysisTimings analysisTimings) {
+        List<Callable> steps = rules.collect { rule -> { -> applyRule.apply(rule) } as Callable }
+        List<List<Violation>> violationsByRule = []
+        def timedOutIndexes = runSteps(steps, ruleTimeoutMillis, violationsByRule)
+        for (int index in timedOutIndexes) {
+            def ruleName = rules[index].name
+            LOG.warn("Rule $ruleName did not complete within ${ruleTimeoutMillis}ms for [$path]; it has been abandoned for that file")
+            analysisTimings?.recordTimeout(path, ruleName, ruleTimeoutMillis)
+            violationsByRule[index] = null
+        }
+        violationsByRule
+    }
+
+    /**
+     * Run the steps in turn, each within the timeout, storing the result of each (or null) in the results list
+     * @return the indexes of the steps that timed out
+     */
+    protected List<Integer> runSteps(List<Callable> steps, long timeoutMillis, List results = []) {
+        Object[] stepResults = new Object[steps.size()]
+        List<Integer> timedOutIndexes = []
+        int nextIndex = 0
+        while (nextIndex < steps.size()) {
+            def stepRun = new StepRun(steps, nextIndex, stepResults)
+            def future = executor.submit(stepRun)
+            int timedOutIndex = awaitSteps(stepRun, future, TimeUnit.MILLISECONDS.toNanos(timeoutMillis))
+            if (timedOutIndex < 0) {
+                break
+            }
+            timedOutIndexes << timedOutIndex
+            nextIndex = timedOutIndex + 1
+        }
+        results.addAll(stepResults as List)
+        timedOutIndexes
+    }
+
+    // Wait for the steps to complete; return the index of the step that timed out, or -1 if they all completed
+    private static int awaitSteps(StepRun stepRun, Future future, long timeoutNanos) {
+        while (true) {
+            def progress = stepRun.progress
+            long remainingNanos = timeoutNanos ? progress.startNanos + timeoutNanos - System.nanoTime() : Long.MAX_VALUE
+            try {
+                future.get(Math.max(remainingNanos, 0L), TimeUnit.NANOSECONDS)
+                return -1
+            }
+            catch (TimeoutException ignored) {
+                if (stepRun.progress.is(progress)) {
+                    stepRun.abandoned = true
+                    future.cancel(true)
+                    return progress.index
+                }
+            }
+            catch (ExecutionException e) {
+                throw e.cause
+            }
+        }
+    }
+
+    /**
+     * The step currently being run, and when it started
+     */
+    private static class StepProgress {
+        final int index
+        final long startNanos
+
+        StepProgress(int index) {
+            this.index = index
+            this.startNanos = System.nanoTime()
+        }
+    }
+
+    /**
+     * Runs the steps in turn, starting at the specified index, until they complete or it is abandoned
+     */
+    private static class StepRun implements Runnable {
+        private final List<Callable> steps
+        private final int firstIndex
+        private final Object[] results
+        volatile StepProgress progress
+        volatile boolean abandoned
+
+        StepRun(List<Callable> steps, int firstIndex, Object[] results) {
+            this.steps = steps
+            this.firstIndex = firstIndex
+            this.results = results
+            this.progress = new StepProgress(firstIndex)
+        }
+
+        @Override
+        void run() {
+            for (int index = firstIndex; index < steps.size() && !abandoned; index++) {
+                if (index > firstIndex) {
+                    progress = new StepProgress(index)
+                }
+                def result = steps[index].call()
+                if (!abandoned) {
+                    results[index] = result
+                }
+            }
+        }
+    }
+}
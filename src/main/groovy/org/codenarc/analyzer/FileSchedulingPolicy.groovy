@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * Determines the order in which source files are submitted to a concurrent AnalysisScheduler, and
+ * which files are grouped (batched) into a single task. This shortens the "tail" of a parallel run,
+ * where a single thread is still analyzing a very large file while the others sit idle.
+ * <ul>
+ *   <li>If <code>largestFirst</code> is true, then the most costly files are submitted first. The cost of
+ *      each file is the analysis time recorded for it in the <code>costHistoryFile</code> (if any) by a
+ *      previous run, or else its size, scaled by the average time per byte of the files with a recorded cost.</li>
+ *   <li>Files smaller than <code>smallFileSize</code> bytes are batched, up to <code>maxBatchSize</code>
+ *      files per task, to reduce the per-task overhead for many tiny files (e.g. Jenkinsfiles and small scripts).</li>
+ * </ul>
+ * For a sequential scheduler, each file is its own task, in the original order.
+ * <p/>
+ * The resulting analysis results are the same, whatever the policy.
+ */
+class FileSchedulingPolicy {
+
+    static final long DEFAULT_SMALL_FILE_SIZE = 2048
+    static final int DEFAULT_MAX_BATCH_SIZE = 32
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileSchedulingPolicy)
+
+    /**
+     * Whether to submit the most costly (largest) files first when analyzing concurrently. Defaults to true.
+     */
+    boolean largestFirst = true
+
+    /**
+     * Files smaller than this number of bytes are batched into a single task. Zero disables batching.
+     */
+    long smallFileSize = DEFAULT_SMALL_FILE_SIZE
+
+    /**
+     * The maximum number of (small) files in a single task
+     */
+    int maxBatchSize = DEFAULT_MAX_BATCH_SIZE
+
+    /**
+     * The optional path of a properties file in which the analysis time (in microseconds) of each file is
+     * recorded, keyed by its path. If set, then it is read to estimate the cost of each file, and updated
+     * at the end of each analysis run.
+     */
+    String costHistoryFile
+
+    private Map<String, Long> costHistory
+
+    /**
+     * Group the files into the tasks (batches) to be submitted, in order of submission
+     * @param files - the files to be analyzed
+     * @param concurrent - true if the tasks may be executed concurrently
+     * @return the list of batches; each batch contains one or more of the files
+     */
+    List<List<ScheduledFile>> planBatches(List<ScheduledFile> files, boolean concurrent) {
+        if (!concurrent) {
+            return files.collect { file -> [file] }
+        }
+
+        estimateCosts(files)
+        List<ScheduledFile> orderedFiles = largestFirst ? files.sort(false) { f1, f2 -> f2.cost <=> f1.cost } : files
+
+        List<List<ScheduledFile>> batches = []
+        List<ScheduledFile> smallFiles = []
+        orderedFiles.each { file ->
+            if (file.size < smallFileSize) {
+                smallFiles << file
+                if (smallFiles.size() >= maxBatchSize) {
+                    batches << smallFiles
+                    smallFiles = []
+                }
+            }
+            else {
+                batches << [file]
+            }
+        }
+        if (smallFiles) {
+            batches << smallFiles
+        }
+        batches
+    }
+
+    /**
+     * Record the time taken to analyze the file, if a costHistoryFile is configured. Thread-safe.
+     */
+    void recordCost(ScheduledFile file, long elapsedNanos) {
+        if (costHistoryFile) {
+            getCostHistory()[file.path] = TimeUnit.NANOSECONDS.toMicros(elapsedNanos)
+        }
+    }
+
+    /**
+     * Write the recorded costs to the costHistoryFile, if configured
+     */
+    void saveCostHistory() {
+        if (!costHistoryFile) {
+            return
+        }
+        def properties = new Properties()
+        getCostHistory().each { path, cost -> properties.setProperty(path, cost as String) }
+        try {
+            new File(costHistoryFile).withOutputStream { outputStream -> properties.store(outputStream, 'CodeNarc file analysis times (microseconds)') }
+        }
+        catch (IOException e) {
+            LOG.warn("Unable to write file cost history [$costHistoryFile]: $e")
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // Internal Helper Methods
+    //--------------------------------------------------------------------------
+
+    private void estimateCosts(List<ScheduledFile> files) {
+        Map<String, Long> history = costHistoryFile ? getCostHistory() : [:]
+        long knownSize = 0
+        long knownCost = 0
+        files.each { file ->
+            Long recordedCost = history[file.path]
+            if (recordedCost != null) {
+                knownSize += file.size
+                knownCost += recordedCost
+            }
+        }
+        BigDecimal costPerByte = knownSize && knownCost ? knownCost / knownSize : 1
+        files.each { file ->
+            Long recordedCost = history[file.path]
+            file.cost = recordedCost != null ? recordedCost : (file.size * costPerByte).longValue()
+        }
+    }
+
+    private synchronized Map<String, Long> getCostHistory() {
+        if (costHistory == null) {
+            costHistory = new ConcurrentHashMap<>(loadCostHistory())
+        }
+        costHistory
+    }
+
+    private Map<String, Long> loadCostHistory() {
+        def file = new File(costHistoryFile)
+        if (!file.exists()) {
+            return [:]
+        }
+        def properties = new Properties()
+        try {
+            file.withInputStream { inputStream -> properties.load(inputStream) }
+        }
+        catch (IOException e) {
+            LOG.warn("Unable to read file cost history [$costHistoryFile]: $e")
+        }
+        Map<String, Long> costs = [:]
+        properties.stringPropertyNames().each { path ->
+            String cost = properties.getProperty(path)
+            if (cost.isLong()) {
+                costs[path] = cost as long
+            }
+        }
+        costs
+    }
+}
@@ -19,7 +19,6 @@ import org.codenarc.results.DirectoryResults
 import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 import org.codenarc.ruleset.RuleSet
-import org.codenarc.source.SourceFile
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 
@@ -51,37 +50,28 @@ class FilesSourceAnalyzer extends AbstractSourceAnalyzer {
 
     /**
      * Analyze the source with the input list of files using the specified RuleSet and return the report results.
+     * The files are analyzed using the AnalysisScheduler from the <code>schedulerFactory</code>. If more than one
+     * thread is configured, then the files are parsed and analyzed concurrently, using a fixed thread pool by default,
+     * and submitted in the order (and batches) determined by the <code>schedulingPolicy</code>.
+     * The results are merged into the directory tree only once all files have been analyzed, in the order of
+     * <code>sourceFiles</code>.
      * @param ruleset - the RuleSet to apply to each of the (applicable) files in the source directories
      * @return the results from applying the RuleSet to all of the files in the source directories
      */
-    @SuppressWarnings(['CatchThrowable'])
     @Override
     Results analyze(RuleSet ruleSet) {
         assert baseDirectory
         assert ruleSet
-        DirectoryResults baseDirResults = new DirectoryResults('')
+        Map<String, File> files = resolveSourceFiles()
+
+        List<FileResults> allFileResults = processFiles(files, ruleSet)
 
         // Get all results from unique named files
-        for (String sourceFilePath in sourceFiles) {
-            File file = new File(sourceFilePath)
-            String relativePath = sourceFilePath
-            if (!file.exists()) {
-                file = new File(baseDirectory + SEP + sourceFilePath)
-                if (!file.exists()) {
-                    LOG.error("Unable to find input file: $sourceFilePath")
-                    throw new AnalyzerException("Unable to find input file: $sourceFilePath")
-                }
-            }
-            try  {
-                FileResults fileResults = processFile(file, relativePath, ruleSet)
+        DirectoryResults baseDirResults = new DirectoryResults('')
+        allFileResults.each { fileResults ->
+            if (fileResults) {
                 baseDirResults.addFileResultRecursive(fileResults)
             }
-            catch (Throwable t) {
-                LOG.warn("Error processing file: '" + sourceFilePath + "'; " + t)
-                if (failOnError) {
-                    throw new AnalyzerException("Error analyzing source file: $sourceFilePath; $t")
-                }
-            }
         }
 
         // Convert file results into directory results
@@ -95,11 +85,54 @@ class FilesSourceAnalyzer extends AbstractSourceAnalyzer {
         [baseDirectory]
     }
 
+    // Map each source file path to its File, relative to the base directory if necessary
+    private Map<String, File> resolveSourceFiles() {
+        Map<String, File> files = [:]
+        for (String sourceFilePath in sourceFiles.findAll { path -> isInShard(path) }) {
+            File file = new File(sourceFilePath)
+            if (!file.exists()) {
+                file = new File(baseDirectory + SEP + sourceFilePath)
+                if (!file.exists()) {
+                    LOG.error("Unable to find input file: $sourceFilePath")
+                    throw new AnalyzerException("Unable to find input file: $sourceFilePath")
+                }
+            }
+            files[sourceFilePath] = file
+        }
+        files
+    }
+
+    private List<FileResults> processFiles(Map<String, File> files, RuleSet ruleSet) {
+        def scheduler = createScheduler()
+        try {
+            List<ScheduledFile> scheduledFiles = files.collect { sourceFilePath, file -> new ScheduledFile(sourceFilePath, file, getSourceLoader()) }
+            scheduleFiles(scheduledFiles, scheduler) { ScheduledFile file -> processFileSafely(file, ruleSet) }
+            awaitCompletion(scheduler)
+            return scheduledFiles.collect { file -> getFileResults(file) }
+        }
+        finally {
+            scheduler.shutdownNow()
+        }
+    }
+
+    @SuppressWarnings(['CatchThrowable'])
+    private FileResults processFileSafely(ScheduledFile file, RuleSet ruleSet) {
+        try {
+            return processFile(file, ruleSet)
+        }
+        catch (Throwable t) {
+            LOG.warn("Error processing file: '" + file.path + "'; " + t)
+            if (failOnError) {
+                throw new AnalyzerException("Error analyzing source file: ${file.path}; $t")
+            }
+        }
+        return null
+    }
+
     // Get violations for a single file
-    private FileResults processFile(File file, String relativePath, RuleSet ruleSet) {
-        def sourceFile = new SourceFile(file)
-        List allViolations = collectViolations(sourceFile, ruleSet)
-        def fileResults = new FileResults(relativePath, allViolations, sourceFile)
+    private FileResults processFile(ScheduledFile file, RuleSet ruleSet) {
+        List allViolations = collectViolations(file.sourceFile, ruleSet)
+        def fileResults = new FileResults(file.path, allViolations, file.sourceFile)
         fileResults
     }
 }
@@ -20,7 +20,6 @@ import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 import org.codenarc.ruleset.RuleSet
 import org.codenarc.source.SourceCode
-import org.codenarc.source.SourceFile
 import org.codenarc.util.PathUtil
 import org.codenarc.util.WildcardPattern
 import org.slf4j.Logger
@@ -75,6 +74,10 @@ class FilesystemSourceAnalyzer extends AbstractSourceAnalyzer {
 
     /**
      * Analyze the source with the configured directory tree(s) using the specified RuleSet and return the report results.
+     * The files are analyzed using the AnalysisScheduler from the <code>schedulerFactory</code>. If more than one thread
+     * is configured, then a <code>ForkJoinPool</code> is used by default, and the files are submitted in the order (and
+     * batches) determined by the <code>schedulingPolicy</code>. In all cases, the resulting DirectoryResults
+     * tree is identical to that produced by a sequential run.
      * @param ruleset - the RuleSet to apply to each of the (applicable) files in the source directories
      * @return the results from applying the RuleSet to all of the files in the source directories
      */
@@ -87,52 +90,110 @@ class FilesystemSourceAnalyzer extends AbstractSourceAnalyzer {
 
         initializeWildcardPatterns()
         def reportResults = new DirectoryResults()
-        def dirResults = processDirectory('', ruleSet)
-        reportResults.addChild(dirResults)
+        def scheduler = createScheduler()
+        try {
+            List<ScheduledFile> files = []
+            def scheduledDirectory = findFiles(files)
+            scheduleFiles(files, scheduler) { ScheduledFile file -> processFile(file, ruleSet) }
+            awaitCompletion(scheduler)
+            reportResults.addChild(buildDirectoryResults(scheduledDirectory))
+        }
+        finally {
+            scheduler.shutdownNow()
+        }
         reportResults
     }
 
+    /**
+     * Analyze a single file within the baseDirectory, e.g. because it has been modified since the last analysis
+     * @param path - the path of the file, relative to the baseDirectory, using '/' separators
+     * @param ruleSet - the RuleSet to apply to the file
+     * @return the results for the file, or null if it does not exist, does not match the <code>includes</code> and
+     *      <code>excludes</code>, or could not be analyzed
+     */
+    FileResults analyzeFile(String path, RuleSet ruleSet) {
+        assert baseDirectory
+        assert ruleSet
+        initializeWildcardPatterns()
+        def file = new File(baseDirectory, path)
+        def scheduledFile = new ScheduledFile(path, file, getSourceLoader())
+        if (!file.file || !matches(scheduledFile.sourceFile)) {
+            return null
+        }
+        processFile(scheduledFile, ruleSet)
+    }
+
     @Override
     List getSourceDirectories() {
         [baseDirectory]
     }
 
-    @SuppressWarnings(['CatchThrowable', 'NestedBlockDepth'])
-    private DirectoryResults processDirectory(String dir, RuleSet ruleSet) {
-        def dirResults = new DirectoryResults(dir)
+    @Override
+    protected String getDefaultSchedulerType() {
+        AnalysisSchedulerFactory.FORK_JOIN
+    }
+
+    /**
+     * Find the files to analyze, adding each to <code>files</code>, and return the directory tree of those files,
+     * in the order in which they are to appear in the results. By default, walk the whole baseDirectory tree.
+     */
+    protected ScheduledDirectory findFiles(List<ScheduledFile> files) {
+        walkDirectory('', files)
+    }
+
+    // Walk the directory tree, collecting the matching files; keep the original (eachFile) order for the results
+    protected ScheduledDirectory walkDirectory(String dir, List<ScheduledFile> files) {
+        def scheduledDirectory = new ScheduledDirectory(dir)
         def dirFile = new File(baseDirectory, dir)
         dirFile.eachFile { file ->
             def dirPrefix = dir ? dir + SEP : dir
             def filePath = dirPrefix + file.name
             if (file.directory) {
-                def subdirResults = processDirectory(filePath, ruleSet)
+                scheduledDirectory.children << walkDirectory(filePath, files)
+            }
+            else {
+                def scheduledFile = new ScheduledFile(filePath, file, getSourceLoader())
+                if (isInShard(filePath) && matches(scheduledFile.sourceFile)) {
+                    scheduledDirectory.children << scheduledFile
+                    files << scheduledFile
+                }
+            }
+        }
+        scheduledDirectory
+    }
+
+    protected DirectoryResults buildDirectoryResults(ScheduledDirectory scheduledDirectory) {
+        def dirResults = new DirectoryResults(scheduledDirectory.path)
+        scheduledDirectory.children.each { child ->
+            if (child instanceof ScheduledDirectory) {
+                def subdirResults = buildDirectoryResults(child)
                 // If any of the descendent directories have matching files, then include in final results
                 if (subdirResults.getTotalNumberOfFiles(true)) {
                     dirResults.addChild(subdirResults)
                 }
             }
             else {
-                try {
-                    processFile(filePath, dirResults, ruleSet)
-                } catch (Throwable t) {
-                    LOG.warn("Error processing file: '" + filePath + "'; " + t)
-                    if (failOnError) {
-                        throw new AnalyzerException("Error analyzing source file: $filePath; $t")
-                    }
+                def fileResults = getFileResults((ScheduledFile) child)
+                if (fileResults) {
+                    dirResults.addChild(fileResults)
                 }
             }
         }
         dirResults
     }
 
-    private void processFile(String filePath, DirectoryResults dirResults, RuleSet ruleSet) {
-        def file = new File(baseDirectory, filePath)
-        def sourceFile = new SourceFile(file)
-        if (matches(sourceFile)) {
-            List allViolations = collectViolations(sourceFile, ruleSet)
-            def fileResults = new FileResults(filePath, allViolations, sourceFile)
-            dirResults.addChild(fileResults)
+    @SuppressWarnings('CatchThrowable')
+    protected FileResults processFile(ScheduledFile file, RuleSet ruleSet) {
+        try {
+            List allViolations = collectViolations(file.sourceFile, ruleSet)
+            return new FileResults(file.path, allViolations, file.sourceFile)
+        } catch (Throwable t) {
+            LOG.warn("Error processing file: '" + file.path + "'; " + t)
+            if (failOnError) {
+                throw new AnalyzerException("Error analyzing source file: ${file.path}; $t")
+            }
         }
+        return null
     }
 
     protected boolean matches(SourceCode sourceFile) {
@@ -148,4 +209,17 @@ class FilesystemSourceAnalyzer extends AbstractSourceAnalyzer {
         includesPattern = new WildcardPattern(includes)
         excludesPattern = new WildcardPattern(excludes, false)  // do not match by default
     }
+
+    /**
+     * A directory whose files have been submitted for analysis. Each child is either a ScheduledDirectory
+     * or a ScheduledFile.
+     */
+    protected static class ScheduledDirectory {
+        final String path
+        final List children = []
+
+        ScheduledDirectory(String path) {
+            this.path = path
+        }
+    }
 }
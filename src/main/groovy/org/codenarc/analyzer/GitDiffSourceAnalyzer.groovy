@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+/**
+ * SourceAnalyzer implementation that analyzes only the files under the base directory that have been added or
+ * modified relative to a git revision (<code>gitDiffBase</code>), as listed by running
+ * <code>git diff --name-only</code> within the base directory. Deleted files are ignored. The <code>includes</code>
+ * and <code>excludes</code> patterns are still applied to the changed files.
+ * <p/>
+ * The directory tree is not walked, and the results (including the summary counts) contain only the analyzed
+ * files, with the same paths as reported by FilesystemSourceAnalyzer. So the results can still be filtered by
+ * the baseline (BaselineResultsPlugin), or by other plugins.
+ */
+class GitDiffSourceAnalyzer extends FilesystemSourceAnalyzer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GitDiffSourceAnalyzer)
+    private static final String SEP = '/'
+
+    /**
+     * The git revision (e.g. a commit, branch or tag) with which the working tree is compared to find the changed
+     * files. Must not be null or empty.
+     */
+    String gitDiffBase
+
+    /**
+     * The git executable. Defaults to 'git', found on the PATH.
+     */
+    String gitCommand = 'git'
+
+    @Override
+    protected ScheduledDirectory findFiles(List<ScheduledFile> files) {
+        assert gitDiffBase
+        def rootDirectory = new ScheduledDirectory('')
+        Map<String, ScheduledDirectory> directories = ['': rootDirectory]
+        List<String> changedPaths = getChangedFilePaths().sort()
+        changedPaths.each { path ->
+            def file = new File(baseDirectory, path)
+            def scheduledFile = new ScheduledFile(path, file, getSourceLoader())
+            if (file.file && isInShard(path) && matches(scheduledFile.sourceFile)) {
+                getScheduledDirectory(parentPath(path), directories).children << scheduledFile
+                files << scheduledFile
+            }
+        }
+        LOG.info("Analyzing ${files.size()} of ${changedPaths.size()} files changed since [$gitDiffBase]")
+        rootDirectory
+    }
+
+    /**
+     * Run <code>git diff</code> within the baseDirectory, and return the paths of the added, copied, modified
+     * and renamed files, relative to the baseDirectory
+     */
+    protected List<String> getChangedFilePaths() {
+        List<String> command = [gitCommand, 'diff', '--name-only', '--relative', '--diff-filter=ACMR', '-z', gitDiffBase, '--']
+        def process = command.execute(null as List, new File(baseDirectory))
+        def output = new ByteArrayOutputStream()
+        def errors = new ByteArrayOutputStream()
+        process.waitForProcessOutput(output, errors)
+        if (process.exitValue() != 0) {
+            throw new AnalyzerException("Unable to list the files changed since [$gitDiffBase]: ${errors.toString().trim()}")
+        }
+        parseChangedFilePaths(output.toString('UTF-8'))
+    }
+
+    /**
+     * Parse the NUL-separated output of <code>git diff --name-only -z</code>
+     */
+    protected static List<String> parseChangedFilePaths(String output) {
+        output.split('\0').findAll { path -> path } as List<String>
+    }
+
+    // Return the ScheduledDirectory for the path, creating it (and any parent directories) if necessary
+    protected static ScheduledDirectory getScheduledDirectory(String path, Map<String, ScheduledDirectory> directories) {
+        def directory = directories[path]
+        if (directory == null) {
+            directory = new ScheduledDirectory(path)
+            getScheduledDirectory(parentPath(path), directories).children << directory
+            directories[path] = directory
+        }
+        directory
+    }
+
+    protected static String parentPath(String path) {
+        int index = path.lastIndexOf(SEP)
+        index < 0 ? '' : path.substring(0, index)
+    }
+}
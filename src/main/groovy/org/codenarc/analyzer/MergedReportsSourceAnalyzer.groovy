@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.report.BinaryResultsParser
+import org.codenarc.report.JsonReportParser
+import org.codenarc.report.ParsedReport
+import org.codenarc.results.DirectoryResults
+import org.codenarc.results.FileResults
+import org.codenarc.results.Results
+import org.codenarc.ruleset.RuleSet
+
+/**
+ * SourceAnalyzer implementation that, rather than analyzing any source files, reads and merges the JSON reports or
+ * binary results files (see <code>BinaryResultsReportWriter</code>) written by earlier analyses, e.g. by each shard of
+ * a sharded analysis (see <code>AnalysisShard</code>), so that the usual reports can then be written for the complete
+ * results without analyzing the source files again. The violations reference the rules within the RuleSet with the same names.
+ * <p/>
+ * The results for the files are merged into a single directory tree, ordered by path. The reports must be for
+ * disjoint sets of files; if two reports include the same file, an AnalyzerException is thrown.
+ */
+class MergedReportsSourceAnalyzer implements SourceAnalyzer {
+
+    /**
+     * The paths of the JSON report or binary results files to merge. Must not be empty.
+     */
+    List<String> reportFiles
+
+    private final List<String> sourceDirectories = []
+    private final JsonReportParser jsonParser = new JsonReportParser()
+    private final BinaryResultsParser binaryParser = new BinaryResultsParser()
+
+    @Override
+    Results analyze(RuleSet ruleSet) {
+        assert reportFiles
+        assert ruleSet
+
+        def rulesByName = ruleSet.rules.collectEntries { rule -> [(rule.name): rule] }
+        Map<String, FileResults> fileResultsByPath = new TreeMap<>()
+        sourceDirectories.clear()
+        for (String reportFile in reportFiles) {
+            def report = parseReport(reportFile, rulesByName)
+            addFileResults(fileResultsByPath, report.fileResults, reportFile)
+            sourceDirectories.addAll(report.sourceDirectories - sourceDirectories)
+        }
+
+        def baseDirResults = new DirectoryResults('')
+        fileResultsByPath.values().each { fileResults -> baseDirResults.addFileResultRecursive(fileResults) }
+        def reportResults = new DirectoryResults()
+        reportResults.addChild(baseDirResults)
+        reportResults
+    }
+
+    @Override
+    List getSourceDirectories() {
+        sourceDirectories
+    }
+
+    private ParsedReport parseReport(String reportFile, Map rulesByName) {
+        def inputStream = new BufferedInputStream(new FileInputStream(reportFile))
+        if (BinaryResultsParser.isBinaryResults(inputStream)) {
+            return binaryParser.parseBinaryResults(inputStream, rulesByName)
+        }
+        jsonParser.parseJsonReport(new InputStreamReader(inputStream, 'UTF-8'), rulesByName)
+    }
+
+    private void addFileResults(Map<String, FileResults> fileResultsByPath, List<FileResults> fileResultsList, String reportFile) {
+        fileResultsList.each { fileResults ->
+            if (fileResultsByPath.putIfAbsent(fileResults.path, fileResults) != null) {
+                throw new AnalyzerException("The results for file [${fileResults.path}] are in more than one report; $reportFile")
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.rule.Rule
+import org.codenarc.rule.RuleApplicability
+import org.codenarc.rule.RuleCapability
+import org.codenarc.source.SourceCode
+
+/**
+ * The work needed to apply a list of rules to a single source file, as determined by the
+ * <code>requiredCapabilities</code> of the rules that apply to that file. (An AbstractRule that is disabled,
+ * not ready, or whose file criteria do not match the file, does nothing, so it requires nothing.)
+ * <p/>
+ * If no rule requires the AST, then the source code is only compiled if it could contain a @SuppressWarnings
+ * annotation, since the rules and violations suppressed by that are determined from the AST. So if the rules are
+ * all text-based (e.g. LineLength, TrailingWhitespace, IllegalRegex), then most files are not compiled at all.
+ */
+class RuleExecutionPlan {
+
+    /**
+     * The union of the capabilities required by the rules that apply to the source file
+     */
+    final Set<RuleCapability> requiredCapabilities
+
+    private final SourceCode sourceCode
+
+    /**
+     * Plan the application of the rules to the source code
+     * @param sourceCode - the SourceCode
+     * @param rules - the rules to apply to the source code
+     */
+    static RuleExecutionPlan forSource(SourceCode sourceCode, List<Rule> rules) {
+        forSource(sourceCode, rules, RuleApplicability.forRules(rules).applicableRules(sourceCode))
+    }
+
+    /**
+     * Plan the application of the rules to the source code
+     * @param sourceCode - the SourceCode
+     * @param rules - the rules to apply to the source code
+     * @param applicableRules - the indexes of the rules that apply to the source code, as determined by
+     *      <code>RuleApplicability.applicableRules(sourceCode)</code>
+     */
+    static RuleExecutionPlan forSource(SourceCode sourceCode, List<Rule> rules, BitSet applicableRules) {
+        Set<RuleCapability> capabilities = EnumSet.noneOf(RuleCapability)
+        for (int index = applicableRules.nextSetBit(0); index >= 0; index = applicableRules.nextSetBit(index + 1)) {
+            capabilities.addAll(rules[index].requiredCapabilities)
+        }
+        new RuleExecutionPlan(sourceCode, capabilities)
+    }
+
+    /**
+     * @return true if the rule requires the AST (or the AstNodeIndex built from it)
+     */
+    static boolean requiresAst(Rule rule) {
+        includesAst(rule.requiredCapabilities)
+    }
+
+    private static boolean includesAst(Set<RuleCapability> capabilities) {
+        RuleCapability.AST in capabilities || RuleCapability.AST_NODE_INDEX in capabilities
+    }
+
+    private RuleExecutionPlan(SourceCode sourceCode, Set<RuleCapability> requiredCapabilities) {
+        this.sourceCode = sourceCode
+        this.requiredCapabilities = requiredCapabilities.asImmutable()
+    }
+
+    /**
+     * @return true if any of the rules requires the AST (or the AstNodeIndex built from it)
+     */
+    boolean isAstRequired() {
+        includesAst(requiredCapabilities)
+    }
+
+    /**
+     * @return true if the source code must be compiled: because a rule requires the AST, or to determine the
+     * rules and violations suppressed by its SuppressWarnings annotations
+     */
+    boolean isParseRequired() {
+        isAstRequired() || sourceCode.suppressionAnalyzer.mayContainSuppressions()
+    }
+
+}
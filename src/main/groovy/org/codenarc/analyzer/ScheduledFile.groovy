@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.results.FileResults
+import org.codenarc.source.SourceFile
+import org.codenarc.source.SourceLoader
+
+import java.util.concurrent.Future
+
+/**
+ * A source file to be analyzed, along with its size and estimated analysis cost. Once submitted
+ * to an AnalysisScheduler (possibly batched with other files), it also holds the Future for its results.
+ */
+class ScheduledFile {
+
+    /**
+     * The path of the file, as reported in the results (and used as the key for its recorded cost)
+     */
+    final String path
+
+    final SourceFile sourceFile
+
+    /**
+     * The size of the file, in bytes
+     */
+    final long size
+
+    /**
+     * The estimated analysis cost; see FileSchedulingPolicy
+     */
+    protected long cost
+
+    protected Future<List<FileResults>> batchFuture
+    protected int batchIndex
+
+    /**
+     * True if the file was not analyzed because the fail-fast thresholds had already been exceeded
+     */
+    protected volatile boolean skipped
+
+    ScheduledFile(String path, File file, SourceLoader sourceLoader = SourceLoader.DEFAULT) {
+        this.path = path
+        this.sourceFile = new SourceFile(file, sourceLoader)
+        this.size = file.length()
+    }
+
+    @Override
+    String toString() {
+        "ScheduledFile[path=$path, size=$size, cost=$cost]"
+    }
+}
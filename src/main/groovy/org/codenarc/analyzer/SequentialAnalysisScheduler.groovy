@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Future
+import java.util.concurrent.FutureTask
+
+/**
+ * AnalysisScheduler implementation that executes each task immediately on the calling thread.
+ */
+class SequentialAnalysisScheduler implements AnalysisScheduler {
+
+    @Override
+    <T> Future<T> submit(Callable<T> task) {
+        def future = new FutureTask<T>(task)
+        future.run()
+        return future
+    }
+
+    @Override
+    void awaitCompletion() {
+        // Nothing to do; all tasks have already completed
+    }
+
+    @Override
+    void shutdownNow() {
+        // Nothing to do
+    }
+
+    @Override
+    boolean isConcurrent() {
+        false
+    }
+}
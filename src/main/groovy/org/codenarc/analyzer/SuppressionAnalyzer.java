@@ -21,6 +21,7 @@ public class SuppressionAnalyzer {
     private static final String ALL = "all";
     private static final String CODE_NARC = "CodeNarc";
     private static final ClassNode SUPPRESS_WARNINGS = ClassHelper.make(SuppressWarnings.class);
+    private static final String SUPPRESS_WARNINGS_NAME = "SuppressWarnings";
 
     private final SourceCode source;
     private boolean initialized = false;
@@ -91,7 +92,9 @@ public class SuppressionAnalyzer {
     private void init() {
         synchronized (initializationLock) {
             if (!initialized) {
-                ModuleNode ast = source.getAst();
+                // Only parse the AST if the source could contain a @SuppressWarnings annotation, so that the
+                // source code is not compiled just for this if none of the rules applied to it need the AST
+                ModuleNode ast = mayContainSuppressions() ? source.getAst() : null;
                 if (ast != null) {
                     // These rule names are suppressed for the entire AST
                     suppressedRuleNames.addAll(getSuppressedRuleNames(ast.getPackage()));
@@ -112,6 +115,15 @@ public class SuppressionAnalyzer {
         }
     }
 
+    /**
+     * @return false only if the source text cannot contain a @SuppressWarnings annotation (with or without the
+     * java.lang package), or an import of it under an alias
+     */
+    public boolean mayContainSuppressions() {
+        String text = source.getText();
+        return text == null || text.contains(SUPPRESS_WARNINGS_NAME);
+    }
+
     private Map<String, BitSet> getSuppressionsByLineNumber(ModuleNode ast) {
 
         final Map<String, BitSet> result = new HashMap<String, BitSet>();
@@ -243,7 +255,7 @@ public class SuppressionAnalyzer {
                 ClassNode classNode = n.getClassNode();
                 if (classNode != null) {
                     String name = classNode.getName();
-                    if ("SuppressWarnings".equals(name)) {
+                    if (SUPPRESS_WARNINGS_NAME.equals(name)) {
                         result.add(n);
                     } else if ("java.lang.SuppressWarnings".equals(name)) {
                         result.add(n);
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.rule.Violation
+
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicIntegerArray
+
+/**
+ * The maximum number of violations allowed for each priority, for a fail-fast analysis: the violations for each
+ * source file are counted as that file completes, and once any maximum is exceeded, the analysis of the remaining
+ * files is abandoned and the results are truncated. Safe for use by concurrent analysis threads.
+ */
+class ViolationThresholds {
+
+    final int maxPriority1Violations
+    final int maxPriority2Violations
+    final int maxPriority3Violations
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(3)
+    private final AtomicInteger skippedFiles = new AtomicInteger()
+    private volatile String exceededMessage
+
+    ViolationThresholds(int maxPriority1Violations, int maxPriority2Violations, int maxPriority3Violations) {
+        this.maxPriority1Violations = maxPriority1Violations
+        this.maxPriority2Violations = maxPriority2Violations
+        this.maxPriority3Violations = maxPriority3Violations
+    }
+
+    /**
+     * Add the violations for a completed source file to the counts
+     * @param violations - the violations for the source file; may be null or empty
+     * @return true if any maximum has now been exceeded (by these or previous violations)
+     */
+    boolean recordViolations(Collection<Violation> violations) {
+        for (Violation violation in violations) {
+            int priority = violation.rule.priority
+            if (priority in 1..3) {
+                int count = counts.incrementAndGet(priority - 1)
+                int max = getMaxViolations(priority)
+                if (count > max && exceededMessage == null) {
+                    exceededMessage = "p${priority} violations exceed maximum of $max"
+                }
+            }
+        }
+        isExceeded()
+    }
+
+    /**
+     * Record that a source file was not analyzed because a maximum had already been exceeded
+     */
+    void recordSkippedFile() {
+        skippedFiles.incrementAndGet()
+    }
+
+    boolean isExceeded() {
+        exceededMessage != null
+    }
+
+    int getNumberOfViolationsWithPriority(int priority) {
+        counts.get(priority - 1)
+    }
+
+    int getNumberOfSkippedFiles() {
+        skippedFiles.get()
+    }
+
+    /**
+     * @return a description of why the results are truncated, e.g. for the reports; null if no maximum was exceeded
+     */
+    String getTruncatedMessage() {
+        exceededMessage ? "Analysis truncated: $exceededMessage; ${numberOfSkippedFiles} file(s) not analyzed" : null
+    }
+
+    private int getMaxViolations(int priority) {
+        [maxPriority1Violations, maxPriority2Violations, maxPriority3Violations][priority - 1]
+    }
+}
@@ -23,8 +23,14 @@ import org.apache.tools.ant.types.FileSet
 import org.apache.tools.ant.types.Path
 import org.apache.tools.ant.types.Reference
 import org.codenarc.CodeNarcRunner
+import org.codenarc.analyzer.AnalysisCache
+import org.codenarc.analyzer.AnalysisSchedulerFactory
+import org.codenarc.analyzer.AnalysisShard
+import org.codenarc.analyzer.AnalysisTimings
+import org.codenarc.analyzer.FileSchedulingPolicy
 import org.codenarc.analyzer.AnalyzerException
 import org.codenarc.analyzer.SourceAnalyzer
+import org.codenarc.analyzer.ViolationThresholds
 import org.codenarc.plugin.baseline.BaselineResultsPlugin
 import org.codenarc.report.ReportWriterFactory
 import org.codenarc.results.Results
@@ -45,7 +51,9 @@ import org.slf4j.LoggerFactory
  * The <code>maxPriority1Violations</code> property specifies the maximum number of priority 1
  * violations allowed before failing the build (throwing a BuildException). Likewise,
  * <code>maxPriority2Violations</code> and <code>maxPriority3Violations</code> specify the
- * thresholds for violations of priority 2 and 3.
+ * thresholds for violations of priority 2 and 3. If the <code>failFast</code> property is true, then the analysis
+ * is abandoned as soon as any of those thresholds is exceeded, and the reports are written for the partial results,
+ * marked as truncated.
  * <p>
  * The <code>failOnError</code> property indicates whether to terminate and fail the task if any errors
  * occur parsing source files (true), or just log the errors (false). It defaults to false.
@@ -60,6 +68,28 @@ import org.slf4j.LoggerFactory
  * <code>value</code> attributes.
  * <p>
  * The <code>plugins</code> optional property is the list of CodeNarcPlugin class names to register, separated by commas.
+ * <p>
+ * The optional <code>scheduler</code>, <code>threads</code>, <code>queueSize</code> and <code>analysisTimeoutSeconds</code>
+ * properties configure how the source files are scheduled for analysis. See <code>AnalysisSchedulerFactory</code>.
+ * The optional <code>largestFirst</code>, <code>smallFileSize</code> and <code>costHistoryFile</code> properties configure
+ * the order in which the files are submitted, and which are batched together. See <code>FileSchedulingPolicy</code>.
+ * If the optional <code>parallelRulesMinLines</code> property is set, then the rules for each file with at least that
+ * many lines are applied concurrently. See <code>AbstractSourceAnalyzer</code>.
+ * If the optional <code>fusedAstVisitors</code> property is true, then the AST visitor rules for each file are applied
+ * with a single walk of each class. See <code>FusedAstVisitor</code>.
+ * If the optional <code>parseTimeoutMillis</code> or <code>ruleTimeoutMillis</code> property is set, then parsing each
+ * file, or applying a single rule to a file, is abandoned if it exceeds that time budget. See <code>AnalysisWatchdog</code>.
+ * The timeouts and the slowest files and rules (<code>slowestCount</code>) are then logged and listed in the text reports.
+ * If the optional <code>cacheFile</code> property is set, then the violations for each file are cached in that file, and
+ * reused by later runs for files that have not changed. See <code>AnalysisCache</code>.
+ * If the optional <code>streamReports</code> property is true, then the results for each file are passed to the
+ * text, xml, json, sarif and gitlab reports as soon as it has been analyzed. See <code>StreamingReportWriter</code>.
+ * If the optional <code>lowMemory</code> property is true, then the AST and text of each file are released once it has
+ * been analyzed, and only its path, violations and source lines are retained. See <code>CodeNarcRunner</code>.
+ * If the optional <code>shard</code> property is set ("i/n"), then only that slice of the files is analyzed.
+ * See <code>AnalysisShard</code>.
+ * The optional <code>encoding</code> property is the charset used to read the source files that have no byte order
+ * mark. See <code>SourceLoader</code>.
  *
  * @see <a href="http://ant.apache.org/manual/index.html">Apache Ant Manual</a>
  *
@@ -90,6 +120,11 @@ class CodeNarcTask extends Task {
     int maxPriority2Violations = Integer.MAX_VALUE
     int maxPriority3Violations = Integer.MAX_VALUE
 
+    /**
+     * Whether to abandon the analysis as soon as any of the maxPriorityNViolations thresholds is exceeded
+     */
+    boolean failFast = false
+
     /**
      * Classpath used when compiling analysed classes.
      */
@@ -100,6 +135,98 @@ class CodeNarcTask extends Task {
      */
     boolean failOnError = false
 
+    /**
+     * The scheduler type used to analyze the source files: "sequential", "fixed", "forkjoin" or "virtual".
+     * Defaults to a fixed thread pool.
+     */
+    String scheduler
+
+    /**
+     * The number of threads used to analyze the source files. Defaults to one fewer than the number of available processors.
+     */
+    int threads = 0
+
+    /**
+     * The maximum number of source files waiting to be analyzed. Defaults to no maximum.
+     */
+    int queueSize = 0
+
+    /**
+     * The maximum number of seconds to wait for the analysis of all source files to complete. Defaults to one hour.
+     */
+    long analysisTimeoutSeconds = AnalysisSchedulerFactory.DEFAULT_TIMEOUT_SECONDS
+
+    /**
+     * Whether to submit the largest (most costly) files first when analyzing in parallel. Defaults to true.
+     */
+    boolean largestFirst = true
+
+    /**
+     * Files smaller than this number of bytes are batched into a single task when analyzing in parallel.
+     */
+    long smallFileSize = FileSchedulingPolicy.DEFAULT_SMALL_FILE_SIZE
+
+    /**
+     * The optional file in which to record the analysis time of each source file, used to order later runs.
+     */
+    String costHistoryFile
+
+    /**
+     * If positive, then apply the rules concurrently for each source file with at least this many lines
+     */
+    int parallelRulesMinLines = 0
+
+    /**
+     * If true, then apply the AST visitor rules for each source file with a single walk of each class
+     */
+    boolean fusedAstVisitors = false
+
+    /**
+     * The time budget for parsing each source file, in milliseconds; zero for no limit
+     */
+    long parseTimeoutMillis = 0
+
+    /**
+     * The time budget for applying a single rule to a source file, in milliseconds; zero for no limit
+     */
+    long ruleTimeoutMillis = 0
+
+    /**
+     * The number of slowest files and rules to list; zero for the default
+     */
+    int slowestCount = 0
+
+    /**
+     * The optional file in which to cache the violations for each source file
+     */
+    String cacheFile
+
+    /**
+     * The maximum number of source files held in the cacheFile
+     */
+    int cacheMaxEntries = AnalysisCache.DEFAULT_MAX_ENTRIES
+
+    /**
+     * Whether to pass the results for each file to the (streaming) reports as soon as it has been analyzed
+     */
+    boolean streamReports = false
+
+    /**
+     * Whether to release the AST and text of each source file once it has been analyzed
+     */
+    boolean lowMemory = false
+
+    /**
+     * If set, then only analyze the files within this shard, in the form "i/n"; e.g. "2/4" for the second of four
+     */
+    String shard
+
+    /**
+     * The name of the charset used to read the source files that have no byte order mark; if not set, then UTF-8
+     * is used for each file that is valid UTF-8, and otherwise the platform default charset
+     */
+    String encoding
+
     protected List reportWriters = []
     protected List fileSets = []
     protected RuleSet ruleSet
@@ -131,6 +258,12 @@ class CodeNarcTask extends Task {
         codeNarcRunner.ruleSetFiles = ruleSetFiles
         codeNarcRunner.reportWriters = reportWriters
         codeNarcRunner.sourceAnalyzer = sourceAnalyzer
+        codeNarcRunner.streamReports = streamReports
+        codeNarcRunner.lowMemory = lowMemory
+        if (failFast) {
+            codeNarcRunner.failFastThresholds = new ViolationThresholds(maxPriority1Violations, maxPriority2Violations,
+                maxPriority3Violations)
+        }
 
         if (plugins) {
             codeNarcRunner.registerPluginsForClassNames(plugins)
@@ -173,6 +306,24 @@ class CodeNarcTask extends Task {
     protected SourceAnalyzer createSourceAnalyzer() {
         def sourceAnalyzer = new AntFileSetSourceAnalyzer(getProject(), fileSets)
         sourceAnalyzer.failOnError = failOnError
+        sourceAnalyzer.schedulerFactory = new AnalysisSchedulerFactory(type:scheduler, threads:threads,
+                queueSize:queueSize, timeoutSeconds:analysisTimeoutSeconds)
+        sourceAnalyzer.schedulingPolicy = new FileSchedulingPolicy(largestFirst:largestFirst, smallFileSize:smallFileSize,
+                costHistoryFile:costHistoryFile)
+        sourceAnalyzer.parallelRulesMinLines = parallelRulesMinLines
+        sourceAnalyzer.fusedAstVisitors = fusedAstVisitors
+        sourceAnalyzer.parseTimeoutMillis = parseTimeoutMillis
+        sourceAnalyzer.ruleTimeoutMillis = ruleTimeoutMillis
+        if (slowestCount > 0 || parseTimeoutMillis > 0 || ruleTimeoutMillis > 0) {
+            sourceAnalyzer.analysisTimings = new AnalysisTimings(slowestCount ?: AnalysisTimings.DEFAULT_SIZE)
+        }
+        if (cacheFile) {
+            sourceAnalyzer.analysisCache = new AnalysisCache(cacheFile, cacheMaxEntries)
+        }
+        if (shard) {
+            sourceAnalyzer.shard = AnalysisShard.parse(shard)
+        }
+        sourceAnalyzer.encoding = encoding
         return sourceAnalyzer
     }
 
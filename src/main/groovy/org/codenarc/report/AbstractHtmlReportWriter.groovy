@@ -115,6 +115,14 @@ abstract class AbstractHtmlReportWriter extends AbstractReportWriter {
         }
     }
 
+    protected Closure buildTruncatedMessage(AnalysisContext analysisContext) {
+        return {
+            if (analysisContext.truncatedMessage) {
+                div(class: 'truncated', analysisContext.truncatedMessage)
+            }
+        }
+    }
+
     protected Closure buildLogo() {
         return {
             img(class: 'logo', src: LOGO_FILE, alt: 'CodeNarc', align: 'right')
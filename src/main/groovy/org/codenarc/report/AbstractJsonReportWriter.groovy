@@ -17,15 +17,34 @@ package org.codenarc.report
 
 import groovy.json.JsonOutput
 import org.codenarc.AnalysisContext
+import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 
+import java.util.regex.Pattern
+
 /**
  * Abstract superclass for JSON ReportWriter classes.
+ * <p/>
+ * By default, a streamed report is written directly to the output: the elements for each file (see
+ * <code>buildFileElements()</code>) are written to the single list within the report (see
+ * <code>buildStreamableJsonStructure()</code>) as soon as the file has been analyzed.
  */
-abstract class AbstractJsonReportWriter extends AbstractReportWriter {
+abstract class AbstractJsonReportWriter extends AbstractReportWriter implements StreamingReportWriter {
+
+    private static final String INDENT = '    '
+    private static final String PLACEHOLDER_PREFIX = '\u0000CodeNarc:'
+    private static final String QUOTED_PLACEHOLDER_PREFIX = JsonOutput.toJson(PLACEHOLDER_PREFIX)[0..-2]
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(QUOTED_PLACEHOLDER_PREFIX) + /(\d+)"/)
 
     Boolean writeAsSingleLine = false
 
+    private final List<FileResults> placeholderFiles = []
+    private final Set<String> streamedPaths = []
+    private Writer streamWriter
+    private String streamIndent
+    private String streamSuffix
+    private int numberOfStreamedElements
+
     @Override
     void writeReport(Writer writer, AnalysisContext analysisContext, Results results) {
         assert analysisContext
@@ -34,24 +53,57 @@ abstract class AbstractJsonReportWriter extends AbstractReportWriter {
         initializeResourceBundle()
 
         def rootObject = buildJsonStructure(analysisContext, results)
-
-        /*
-           Append JSON to writer
-           - isWriteAsSingleLine == true: writes result in a stdout single line
-           - isWriteAsSingleLine == false: pretty print it for easier reading
-         */
-        def json = JsonOutput.toJson(rootObject)
-        if (!isWriteAsSingleLine()) {
-            json = JsonOutput.prettyPrint(json)
-        }
+        def json = toJsonText(rootObject)
 
         if (isWriteToStandardOut()) {
             def printWriter = new PrintWriter(writer)
-            printWriter.println(json)
+            writeJsonText(printWriter, json)
+            printWriter.println()
             printWriter.flush()
         } else {
-            writer << json
+            writeJsonText(writer, json)
+        }
+    }
+
+    @Override
+    void begin(AnalysisContext analysisContext) {
+        initializeResourceBundle()
+        def json = toJsonText(buildStreamableJsonStructure(analysisContext, PLACEHOLDER_PREFIX + 0))
+        int placeholderIndex = json.indexOf(QUOTED_PLACEHOLDER_PREFIX + '0"')
+        streamIndent = getIndentOfLine(json, placeholderIndex)
+        streamSuffix = json.substring(json.indexOf('"', placeholderIndex + 1) + 1)
+        numberOfStreamedElements = 0
+        streamedPaths.clear()
+        streamWriter = openReportWriter()
+        streamWriter.write(json.substring(0, placeholderIndex) + '[')
+    }
+
+    @Override
+    void fileCompleted(FileResults results) {
+        streamedPaths << results.path
+        writeStreamedElements(results)
+        streamWriter.flush()
+    }
+
+    @Override
+    void end(Results results) {
+        // Include any files that were not streamed, e.g. because the SourceAnalyzer does not support streaming
+        for (FileResults fileResults in getFileResults(results)) {
+            if (!streamedPaths.contains(fileResults.path)) {
+                writeStreamedElements(fileResults)
+            }
+        }
+        if (!isWriteAsSingleLine()) {
+            def elementIndent = streamIndent + INDENT
+            streamWriter.write((numberOfStreamedElements ? '' : '\n' + elementIndent) + '\n' + streamIndent)
+        }
+        streamWriter.write(']' + streamSuffix)
+        if (isWriteToStandardOut()) {
+            streamWriter.write(System.lineSeparator())
         }
+        closeReportWriter(streamWriter)
+        streamWriter = null
+        streamedPaths.clear()
     }
 
     boolean isWriteAsSingleLine() {
@@ -60,4 +112,86 @@ abstract class AbstractJsonReportWriter extends AbstractReportWriter {
 
     protected abstract Object buildJsonStructure(AnalysisContext analysisContext, Results results)
 
+    /**
+     * Return the structure of a report that can be streamed directly to the output, with the specified
+     * value in place of the list of the elements for all of the files. Subclasses that support this must
+     * override this method and <code>buildFileElements()</code>.
+     */
+    @SuppressWarnings('UnusedMethodParameter')
+    protected Object buildStreamableJsonStructure(AnalysisContext analysisContext, Object fileElements) {
+        throw new UnsupportedOperationException("${getClass().simpleName} cannot be streamed directly")
+    }
+
+    /**
+     * Return the list of the elements for a single file, for a report that can be streamed directly to the output
+     */
+    @SuppressWarnings('UnusedMethodParameter')
+    protected List buildFileElements(FileResults results) {
+        throw new UnsupportedOperationException("${getClass().simpleName} cannot be streamed directly")
+    }
+
+    protected List buildAllFileElements(Results results) {
+        getFileResults(results).collectMany { fileResults -> buildFileElements(fileResults) }
+    }
+
+    /**
+     * Return a placeholder for the element for the file that has been spooled, to be included in the JSON
+     * structure; it is replaced by the spooled element when the report is written
+     */
+    protected String getSpooledFileElementPlaceholder(FileResults results) {
+        placeholderFiles << results
+        PLACEHOLDER_PREFIX + (placeholderFiles.size() - 1)
+    }
+
+    protected String toJsonText(Object structure) {
+        /*
+           - isWriteAsSingleLine == true: writes result in a stdout single line
+           - isWriteAsSingleLine == false: pretty print it for easier reading
+         */
+        def json = JsonOutput.toJson(structure)
+        isWriteAsSingleLine() ? json : JsonOutput.prettyPrint(json)
+    }
+
+    // Format the (single line) JSON as it would appear within the whole report, starting at the specified indent
+    protected String formatJsonElement(String json, String indent) {
+        isWriteAsSingleLine() ? json : JsonOutput.prettyPrint(json).replace('\n', '\n' + indent)
+    }
+
+    // Write the JSON text, replacing any placeholders with the spooled elements
+    private void writeJsonText(Writer writer, String json) {
+        def matcher = PLACEHOLDER_PATTERN.matcher(json)
+        int start = 0
+        while (placeholderFiles && matcher.find()) {
+            writer.write(json, start, matcher.start() - start)
+            def fileResults = placeholderFiles[matcher.group(1) as int]
+            writer.write(formatJsonElement(getSpooledFileSection(fileResults), getIndentOfLine(json, matcher.start())))
+            start = matcher.end()
+        }
+        writer.write(json, start, json.length() - start)
+        placeholderFiles.clear()
+    }
+
+    private void writeStreamedElements(FileResults results) {
+        def elementIndent = streamIndent + INDENT
+        for (Object element in buildFileElements(results)) {
+            if (!isWriteAsSingleLine()) {
+                streamWriter.write((numberOfStreamedElements ? ',\n' : '\n') + elementIndent)
+            }
+            else if (numberOfStreamedElements) {
+                streamWriter.write(',')
+            }
+            streamWriter.write(formatJsonElement(JsonOutput.toJson(element), elementIndent))
+            numberOfStreamedElements++
+        }
+    }
+
+    private static String getIndentOfLine(String text, int index) {
+        int lineStart = text.lastIndexOf('\n', index) + 1
+        int indentEnd = lineStart
+        while (text.charAt(indentEnd) == ' ' as char) {
+            indentEnd++
+        }
+        text.substring(lineStart, indentEnd)
+    }
+
 }
@@ -49,6 +49,8 @@ abstract class AbstractReportWriter implements ReportWriter {
     protected String customMessagesBundleName = CUSTOM_MESSAGES_BUNDLE
     protected ResourceBundle resourceBundle
     private ResourceBundle customMessagesResourceBundle
+    private AnalysisContext streamingAnalysisContext
+    private ReportSectionSpool sectionSpool
     private final TemplateEngine templateEngine = new SimpleTemplateEngine()
 
     // Allow tests to override this
@@ -84,13 +86,73 @@ abstract class AbstractReportWriter implements ReportWriter {
     }
 
     private void writeReportToFile(AnalysisContext analysisContext, Results results) {
+        def outputFile = createOutputFile()
+        outputFile.withWriter { writer ->
+            writeReport(writer, analysisContext, results)
+        }
+        LOG.info("Report file [$outputFile.path] created.")
+    }
+
+    protected File createOutputFile() {
         def outputFilename = outputFile ?: getProperty('defaultOutputFile')
         def outputFile = new File(outputFilename)
         outputFile.getParentFile()?.mkdirs()
-        outputFile.withWriter { writer ->
-            writeReport(writer, analysisContext, results)
+        outputFile
+    }
+
+    /**
+     * Open the Writer for a report that is written incrementally: standard output, or else the output file.
+     * Call <code>closeReportWriter()</code> once the report is complete.
+     */
+    protected Writer openReportWriter() {
+        isWriteToStandardOut() ? new OutputStreamWriter(System.out) : createOutputFile().newWriter()
+    }
+
+    protected void closeReportWriter(Writer writer) {
+        if (isWriteToStandardOut()) {
+            writer.flush()
+        }
+        else {
+            writer.close()
+            LOG.info("Report file [${createOutputFile().path}] created.")
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // Support for a StreamingReportWriter that writes the section for each file to a ReportSectionSpool,
+    // and then writes the whole report once the analysis has completed
+    //--------------------------------------------------------------------------
+
+    protected void beginSpooling(AnalysisContext analysisContext) {
+        initializeResourceBundle()
+        streamingAnalysisContext = analysisContext
+        sectionSpool = new ReportSectionSpool()
+    }
+
+    protected void spoolFileSection(FileResults results, String section) {
+        sectionSpool.putSection(results.path, section)
+    }
+
+    protected boolean isFileSectionSpooled(FileResults results) {
+        sectionSpool?.hasSection(results.path)
+    }
+
+    /**
+     * @return the spooled section for the file, or null if there is none (e.g. because the report is not streamed)
+     */
+    protected String getSpooledFileSection(FileResults results) {
+        sectionSpool?.getSection(results.path)
+    }
+
+    protected void endSpooling(Results results) {
+        try {
+            writeReport(streamingAnalysisContext, results)
+        }
+        finally {
+            sectionSpool.close()
+            sectionSpool = null
+            streamingAnalysisContext = null
         }
-        LOG.info("Report file [$outputFilename] created.")
     }
 
     protected void initializeDefaultResourceBundle() {
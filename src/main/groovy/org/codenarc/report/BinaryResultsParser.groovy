@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import org.codenarc.results.FileResults
+import org.codenarc.rule.Rule
+import org.codenarc.rule.Violation
+
+import java.nio.charset.StandardCharsets
+import java.util.zip.InflaterInputStream
+
+/**
+ * Parser for the binary results written by BinaryResultsReportWriter, e.g. to write other reports for the results
+ * of an earlier analysis, or to merge the results written by each shard of a sharded analysis.
+ */
+class BinaryResultsParser {
+
+    /**
+     * @return true if the InputStream, which must support mark and reset, starts with the binary results signature
+     */
+    static boolean isBinaryResults(InputStream inputStream) {
+        byte[] signature = BinaryResultsReportWriter.SIGNATURE
+        inputStream.mark(signature.length)
+        byte[] bytes = new byte[signature.length]
+        int length = inputStream.read(bytes)
+        inputStream.reset()
+        length == signature.length && Arrays.equals(bytes, signature)
+    }
+
+    /**
+     * Parse the binary results
+     * @param inputStream - the InputStream for the binary results; closed once the results have been read
+     * @param rulesByName - the rules referenced by the violations, by name. A violation of any other rule,
+     *      or with a different priority, references a new rule with the name and priority from the results.
+     * @return the parsed results
+     */
+    ParsedReport parseBinaryResults(InputStream inputStream, Map<String, Rule> rulesByName) {
+        assert inputStream
+        inputStream.withStream { input ->
+            def bufferedInput = new BufferedInputStream(input)
+            assert isBinaryResults(bufferedInput), 'Not a CodeNarc binary results file'
+            bufferedInput.skip(BinaryResultsReportWriter.SIGNATURE.length)
+            int version = bufferedInput.read()
+            assert version == BinaryResultsReportWriter.VERSION, "Unsupported CodeNarc binary results version [$version]"
+            parseContent(new DataInputStream(new BufferedInputStream(new InflaterInputStream(bufferedInput))), new ReportedRules(rulesByName))
+        }
+    }
+
+    private ParsedReport parseContent(DataInputStream input, ReportedRules reportedRules) {
+        List<String> strings = readStrings(input)
+        List<String> sourceDirectories = readColumn(input, readNumber(input)).collect { index -> strings[index] }
+        int numberOfFiles = readNumber(input)
+        List<Integer> pathIndexes = readColumn(input, numberOfFiles)
+        List<Integer> violationCounts = readColumn(input, numberOfFiles)
+
+        int numberOfViolations = violationCounts.sum(0) as int
+        List<Integer> ruleNameIndexes = readColumn(input, numberOfViolations)
+        List<Integer> priorities = readColumn(input, numberOfViolations)
+        List<Integer> lineNumbers = readColumn(input, numberOfViolations)
+        List<Integer> sourceLineIndexes = readColumn(input, numberOfViolations)
+        List<Integer> messageIndexes = readColumn(input, numberOfViolations)
+
+        List<Violation> violations = (0..<numberOfViolations).collect { i ->
+            new Violation(
+                rule:reportedRules.getRule(strings[ruleNameIndexes[i]], priorities[i]),
+                lineNumber:lineNumbers[i] ? lineNumbers[i] - 1 : null,
+                sourceLine:sourceLineIndexes[i] ? strings[sourceLineIndexes[i] - 1] : null,
+                message:messageIndexes[i] ? strings[messageIndexes[i] - 1] : null)
+        }
+
+        int start = 0
+        List<FileResults> fileResults = (0..<numberOfFiles).collect { i ->
+            def fileViolations = new ArrayList<Violation>(violations.subList(start, start + violationCounts[i]))
+            start += violationCounts[i]
+            new FileResults(strings[pathIndexes[i]], fileViolations)
+        }
+        new ParsedReport(sourceDirectories:sourceDirectories, fileResults:fileResults)
+    }
+
+    private static List<String> readStrings(DataInputStream input) {
+        int count = readNumber(input)
+        (0..<count).collect {
+            byte[] bytes = new byte[readNumber(input)]
+            input.readFully(bytes)
+            new String(bytes, StandardCharsets.UTF_8)
+        }
+    }
+
+    private static List<Integer> readColumn(DataInputStream input, int count) {
+        (0..<count).collect { readNumber(input) }
+    }
+
+    private static int readNumber(DataInputStream input) {
+        int value = 0
+        int shift = 0
+        int b = input.readUnsignedByte()
+        while (b >= 0x80) {
+            value |= (b & 0x7F) << shift
+            shift += 7
+            b = input.readUnsignedByte()
+        }
+        value | (b << shift)
+    }
+}
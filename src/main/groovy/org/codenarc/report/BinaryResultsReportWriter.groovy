@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import org.codenarc.AnalysisContext
+import org.codenarc.results.FileResults
+import org.codenarc.results.Results
+import org.codenarc.rule.Violation
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.nio.charset.StandardCharsets
+import java.util.zip.DeflaterOutputStream
+
+/**
+ * ReportWriter that writes the results in a compact binary format, so that they can be archived, and any other
+ * reports written for them later without analyzing the source files again (see BinaryResultsParser, and the
+ * -loadResults command-line option).
+ * <p/>
+ * The file starts with the "CNR" signature and the format version, followed by the deflated content:
+ * <ul>
+ *   <li>the string table: every distinct path, rule name, source line and message, each stored once</li>
+ *   <li>the source directories, as string table indexes</li>
+ *   <li>the files: the column of path indexes, then the column of the number of violations for each file</li>
+ *   <li>the violations for all of the files, in order, stored column by column: the rule name indexes, the
+ *      priorities, the line numbers, the source line indexes and then the message indexes</li>
+ * </ul>
+ * All numbers are written as unsigned variable-length integers; nullable values are stored plus one, with zero for null.
+ */
+class BinaryResultsReportWriter extends AbstractReportWriter {
+
+    protected static final byte[] SIGNATURE = 'CNR'.getBytes(StandardCharsets.US_ASCII)
+    protected static final int VERSION = 1
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryResultsReportWriter)
+
+    String defaultOutputFile = 'CodeNarcResults.cnr'
+
+    @Override
+    void writeReport(AnalysisContext analysisContext, Results results) {
+        assert analysisContext
+        assert results
+
+        if (isWriteToStandardOut()) {
+            writeResults(System.out, analysisContext, results)
+            System.out.flush()
+            return
+        }
+        def outputFile = createOutputFile()
+        outputFile.withOutputStream { outputStream -> writeResults(outputStream, analysisContext, results) }
+        LOG.info("Report file [$outputFile.path] created.")
+    }
+
+    @Override
+    void writeReport(Writer writer, AnalysisContext analysisContext, Results results) {
+        throw new UnsupportedOperationException('The binary results cannot be written to a Writer')
+    }
+
+    /**
+     * Write the results in the binary format to the OutputStream, which is left open
+     */
+    void writeResults(OutputStream outputStream, AnalysisContext analysisContext, Results results) {
+        List<FileResults> files = getFileResults(results)
+        List<List<Violation>> violationsByFile = files*.violations
+        List<Violation> violations = violationsByFile.collectMany { fileViolations -> fileViolations }
+        def strings = new StringTable()
+        List<Integer> sourceDirectoryIndexes = analysisContext.sourceDirectories.collect { dir -> strings.indexOf(dir) }
+        List<Integer> pathIndexes = files.collect { fileResults -> strings.indexOf(fileResults.path) }
+        List<Integer> ruleNameIndexes = violations.collect { violation -> strings.indexOf(violation.rule.name) }
+        List<Integer> sourceLineIndexes = violations.collect { violation -> strings.indexOfNullable(violation.sourceLine) }
+        List<Integer> messageIndexes = violations.collect { violation -> strings.indexOfNullable(violation.message) }
+
+        outputStream.write(SIGNATURE)
+        outputStream.write(VERSION)
+        def deflater = new DeflaterOutputStream(outputStream)
+        def out = new DataOutputStream(new BufferedOutputStream(deflater))
+        strings.write(out)
+        writeColumn(out, sourceDirectoryIndexes)
+        writeColumn(out, pathIndexes)
+        violationsByFile.each { fileViolations -> writeNumber(out, fileViolations.size()) }
+        ruleNameIndexes.each { index -> writeNumber(out, index) }
+        violations.each { violation -> writeNumber(out, violation.rule.priority) }
+        violations.each { violation -> writeNumber(out, violation.lineNumber == null ? 0 : violation.lineNumber + 1) }
+        sourceLineIndexes.each { index -> writeNumber(out, index) }
+        messageIndexes.each { index -> writeNumber(out, index) }
+        out.flush()
+        deflater.finish()
+    }
+
+    private static void writeColumn(DataOutputStream out, List<Integer> values) {
+        writeNumber(out, values.size())
+        values.each { value -> writeNumber(out, value) }
+    }
+
+    protected static void writeNumber(DataOutputStream out, int value) {
+        int remaining = value
+        while ((remaining >>> 7) != 0) {
+            out.write((remaining & 0x7F) | 0x80)
+            remaining >>>= 7
+        }
+        out.write(remaining)
+    }
+
+    /**
+     * The distinct strings, in the order first referenced
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = [:]
+
+        int indexOf(String string) {
+            indexes.computeIfAbsent(string) { key -> indexes.size() }
+        }
+
+        int indexOfNullable(String string) {
+            string == null ? 0 : indexOf(string) + 1
+        }
+
+        void write(DataOutputStream out) {
+            writeNumber(out, indexes.size())
+            indexes.keySet().each { string ->
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8)
+                writeNumber(out, bytes.length)
+                out.write(bytes)
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.codenarc.report
 
+import org.codenarc.analyzer.AnalysisTimings
 import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 
@@ -41,6 +42,16 @@ class CompactTextReportWriter extends TextReportWriter {
         // do nothing; no summary
     }
 
+    @Override
+    protected void writeTruncatedMessage(Writer writer, String truncatedMessage) {
+        // do nothing; no truncated message
+    }
+
+    @Override
+    protected void writeAnalysisTimings(Writer writer, AnalysisTimings analysisTimings) {
+        // do nothing; no analysis timings
+    }
+
     @Override
     protected void writeFooter(Writer writer) {
         // do nothing; no footer
@@ -18,6 +18,7 @@
 package org.codenarc.report
 
 import org.codenarc.AnalysisContext
+import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 
 /**
@@ -39,29 +40,36 @@ class GitlabCodeQualityReportWriter extends AbstractJsonReportWriter {
     @Override
     Object buildJsonStructure(AnalysisContext analysisContext, Results results) {
         // generate report from results
-        def fileResults = getFileResults(results)
+        return buildAllFileElements(results)
+    }
+
+    @Override
+    protected Object buildStreamableJsonStructure(AnalysisContext analysisContext, Object fileElements) {
+        return fileElements
+    }
+
+    @Override
+    protected List buildFileElements(FileResults fileResult) {
         def resultsObj = []
-        fileResults.each { fileResult ->
-            fileResult.getViolations().each { violation ->
-                resultsObj << [
-                    description: violation.message,
-                    check_name: violation.rule.name,
-                    // generate fingerprint from the source line
-                    // This uses the hash of the line with leading and
-                    // trailing whitespace trimmed. Trimming first ensures
-                    // that even when indenting the line differently, it
-                    // will still be recognized.
-                    // Fallback to hash of 'filepath:lineNumber:rule' if no source line.
-                    fingerprint: (violation.sourceLine?.trim() ?: "${fileResult.getPath()}:${violation.lineNumber}:${violation.rule.name}").digest('SHA-1'),
-                    severity: PRIORITY_TO_SEVERITY_MAPPING[violation.rule.priority],
-                    location: [
-                        path: fileResult.getPath(),
-                        lines: [
-                            begin: violation.lineNumber,
-                        ]
+        fileResult.getViolations().each { violation ->
+            resultsObj << [
+                description: violation.message,
+                check_name: violation.rule.name,
+                // generate fingerprint from the source line
+                // This uses the hash of the line with leading and
+                // trailing whitespace trimmed. Trimming first ensures
+                // that even when indenting the line differently, it
+                // will still be recognized.
+                // Fallback to hash of 'filepath:lineNumber:rule' if no source line.
+                fingerprint: (violation.sourceLine?.trim() ?: "${fileResult.getPath()}:${violation.lineNumber}:${violation.rule.name}").digest('SHA-1'),
+                severity: PRIORITY_TO_SEVERITY_MAPPING[violation.rule.priority],
+                location: [
+                    path: fileResult.getPath(),
+                    lines: [
+                        begin: violation.lineNumber,
                     ]
                 ]
-            }
+            ]
         }
         return resultsObj
     }
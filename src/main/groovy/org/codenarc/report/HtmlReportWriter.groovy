@@ -66,6 +66,7 @@ class HtmlReportWriter extends AbstractHtmlReportWriter {
                 out << buildLogo()
                 h1(getResourceBundleString('htmlReport.titlePrefix'))
                 out << buildReportMetadata()
+                out << buildTruncatedMessage(analysisContext)
                 out << buildSummaryByPackage(results)
 
                 out << buildAllPackageSections(results)
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import groovy.json.JsonSlurper
+import org.codenarc.results.FileResults
+import org.codenarc.rule.Rule
+import org.codenarc.rule.Violation
+
+/**
+ * Parser for the JsonReportWriter report, e.g. to merge the reports written by each shard of a sharded analysis.
+ * The report lists every file that was analyzed, with all of its violations, whatever their priority.
+ */
+class JsonReportParser {
+
+    private static final String SEP = '/'
+
+    /**
+     * Parse the JSON report
+     * @param reader - the Reader for the report text; closed once the report has been read
+     * @param rulesByName - the rules referenced by the violations, by name. A violation of any other rule,
+     *      or with a different priority, references a new rule with the name and priority from the report.
+     * @return the parsed report
+     */
+    ParsedReport parseJsonReport(Reader reader, Map<String, Rule> rulesByName) {
+        assert reader
+        def json = reader.withReader { input -> new JsonSlurper().parse(input) }
+        assert json instanceof Map && json.packages instanceof List, 'Not a CodeNarc JSON report'
+
+        def reportedRules = new ReportedRules(rulesByName)
+        def fileResults = json.packages.collectMany { pkg ->
+            pkg.files.collect { file ->
+                def violations = file.violations.collect { v -> buildViolation(v, reportedRules) }
+                new FileResults(filePath(pkg.path, file.name), violations)
+            }
+        }
+        new ParsedReport(sourceDirectories:json.project?.sourceDirectories ?: [], fileResults:fileResults)
+    }
+
+    private static String filePath(String packagePath, String fileName) {
+        packagePath ? packagePath + SEP + fileName : fileName
+    }
+
+    private static Violation buildViolation(Map v, ReportedRules reportedRules) {
+        def rule = reportedRules.getRule(v.ruleName, v.priority as int)
+        new Violation(rule:rule, lineNumber:v.lineNumber as Integer, sourceLine:v.sourceLine, message:v.message)
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.codenarc.report
 
+import groovy.json.JsonOutput
 import org.codenarc.AnalysisContext
 import org.codenarc.results.FileResults
 import org.codenarc.results.Results
@@ -25,6 +26,9 @@ import org.codenarc.util.PathUtil
 
 /**
  * ReportWriter that generates an JSON report.
+ *
+ * When streamed, the element for each file is written to a temporary file as soon as the file has been analyzed,
+ * and the report itself is written once the analysis has completed, since it starts with the summary.
  */
 class JsonReportWriter extends AbstractJsonReportWriter {
 
@@ -43,6 +47,21 @@ class JsonReportWriter extends AbstractJsonReportWriter {
         ]
     }
 
+    @Override
+    void begin(AnalysisContext analysisContext) {
+        beginSpooling(analysisContext)
+    }
+
+    @Override
+    void fileCompleted(FileResults results) {
+        spoolFileSection(results, JsonOutput.toJson(buildFileElement(results)))
+    }
+
+    @Override
+    void end(Results results) {
+        endSpooling(results)
+    }
+
     //--------------------------------------------------------------------------
     // Internal Helper Methods
     //--------------------------------------------------------------------------
@@ -74,7 +93,7 @@ class JsonReportWriter extends AbstractJsonReportWriter {
             packageItem.files = []
             results.children.each { child ->
                 if (child.isFile()) {
-                    packageItem.files << buildFileElement(child)
+                    packageItem.files << buildFileSection(child)
                 }
             }
             packages << packageItem
@@ -107,6 +126,10 @@ class JsonReportWriter extends AbstractJsonReportWriter {
         results.path == null
     }
 
+    protected Object buildFileSection(FileResults results) {
+        isFileSectionSpooled(results) ? getSpooledFileElementPlaceholder(results) : buildFileElement(results)
+    }
+
     protected Map buildFileElement(FileResults results) {
         def violations = []
         results.violations.each { violation ->
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import java.nio.charset.StandardCharsets
+
+/**
+ * Holds the formatted report sections for individual source files in a temporary file, rather than in memory,
+ * from the time that each file is analyzed until the whole report can be written.
+ */
+class ReportSectionSpool implements Closeable {
+
+    private final File file
+    private final Map<String, long[]> sectionLocations = [:]
+    private OutputStream outputStream
+    private RandomAccessFile inputFile
+    private long length
+
+    ReportSectionSpool() {
+        file = File.createTempFile('codenarc-report', '.spool')
+        file.deleteOnExit()
+        outputStream = new BufferedOutputStream(new FileOutputStream(file))
+    }
+
+    /**
+     * Add the section with the specified key (e.g. the path of the source file), replacing any previous section
+     * with that key. All sections must be added before the first call to <code>getSection()</code>.
+     */
+    void putSection(String key, String section) {
+        assert outputStream, 'The sections cannot be added once they have been read'
+        byte[] bytes = section.getBytes(StandardCharsets.UTF_8)
+        outputStream.write(bytes)
+        sectionLocations[key] = [length, bytes.length] as long[]
+        length += bytes.length
+    }
+
+    boolean hasSection(String key) {
+        sectionLocations.containsKey(key)
+    }
+
+    /**
+     * @return the section with the specified key, or null if there is none
+     */
+    String getSection(String key) {
+        long[] location = sectionLocations[key]
+        if (location == null) {
+            return null
+        }
+        if (outputStream) {
+            outputStream.close()
+            outputStream = null
+            inputFile = new RandomAccessFile(file, 'r')
+        }
+        byte[] bytes = new byte[(int) location[1]]
+        inputFile.seek(location[0])
+        inputFile.readFully(bytes)
+        new String(bytes, StandardCharsets.UTF_8)
+    }
+
+    /**
+     * Close and delete the temporary file
+     */
+    @Override
+    void close() {
+        outputStream?.close()
+        inputFile?.close()
+        file.delete()
+    }
+
+}
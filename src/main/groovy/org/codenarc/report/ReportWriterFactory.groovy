@@ -21,7 +21,7 @@ import org.codenarc.util.PropertyUtil
  * Factory for ReportWriter objects based on the report type (name).
  * <p>
  * The passed in <code>type</code> can either be one of the predefined type names: "html", "xml", "console",
- * "ide", "inlineXml", or else it can specify the fully-qualified class name of a class (accessible on the
+ * "ide", "inlineXml", "binary", or else it can specify the fully-qualified class name of a class (accessible on the
  * classpath) that implements the <code>org.codenarc.report.ReportWriter</code> interface.
  *
  * @author Chris Mair
@@ -44,6 +44,7 @@ class ReportWriterFactory {
             case 'compact': def w = new CompactTextReportWriter(); w.writeToStandardOut = true; return w
             case 'gitlab': return new GitlabCodeQualityReportWriter()
             case 'sarif': return new SarifReportWriter()
+            case 'binary': return new BinaryResultsReportWriter()
         }
 
         def reportClass = getClass().classLoader.loadClass(type)
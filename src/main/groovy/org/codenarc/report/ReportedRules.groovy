@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import org.codenarc.rule.AbstractRule
+import org.codenarc.rule.Rule
+import org.codenarc.rule.Violation
+import org.codenarc.source.SourceCode
+
+/**
+ * Resolves the rules referenced by the violations read from a report or results file. A violation references the
+ * rule with the same name, if its priority matches; otherwise it references a rule that is known only by the name
+ * and priority recorded in the report (one per distinct name and priority).
+ */
+class ReportedRules {
+
+    private final Map<String, Rule> rulesByName
+    private final Map<String, Rule> reportedRules = [:]
+
+    /**
+     * @param rulesByName - the rules referenced by the violations, by name
+     */
+    ReportedRules(Map<String, Rule> rulesByName) {
+        this.rulesByName = rulesByName ?: [:]
+    }
+
+    Rule getRule(String name, int priority) {
+        def rule = rulesByName[name]
+        if (rule?.priority == priority) {
+            return rule
+        }
+        reportedRules.computeIfAbsent(name + ':' + priority) { key -> new ReportedRule(name:name, priority:priority) }
+    }
+
+    /**
+     * A rule that is known only by its name and priority, as recorded in the report
+     */
+    private static class ReportedRule extends AbstractRule {
+        String name
+        int priority
+
+        @Override
+        void applyTo(SourceCode sourceCode, List<Violation> violations) {
+            throw new UnsupportedOperationException("The rule $name is known only from a report")
+        }
+    }
+}
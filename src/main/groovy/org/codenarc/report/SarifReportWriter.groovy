@@ -16,6 +16,7 @@
 package org.codenarc.report
 
 import org.codenarc.AnalysisContext
+import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 import org.codenarc.rule.Rule
 import org.codenarc.rule.Violation
@@ -37,8 +38,12 @@ class SarifReportWriter extends AbstractJsonReportWriter {
 
     @Override
     Object buildJsonStructure(AnalysisContext analysisContext, Results results) {
+        return buildStreamableJsonStructure(analysisContext, buildAllFileElements(results))
+    }
+
+    @Override
+    protected Object buildStreamableJsonStructure(AnalysisContext analysisContext, Object sarifResults) {
         def toolRules = buildToolRules(analysisContext)
-        def sarifResults = buildSarifResults(results)
         return [
             '$schema': 'https://json.schemastore.org/sarif-2.1.0.json',
             version: '2.1.0',
@@ -77,29 +82,27 @@ class SarifReportWriter extends AbstractJsonReportWriter {
         }
     }
 
-    private List<Map> buildSarifResults(Results results) {
-        def fileResults = getFileResults(results)
+    @Override
+    protected List buildFileElements(FileResults fileResult) {
         def sarifResults = []
-        fileResults.each { fileResult ->
-            fileResult.violations.each { violation ->
-                sarifResults << [
-                    ruleId: violation.rule.name,
-                    level: PRIORITY_TO_LEVEL_MAPPING[violation.rule.priority],
-                    message: [
-                        text: violation.message ?: getDescriptionForRule(violation.rule)
-                    ],
-                    locations: [
-                        [
-                            physicalLocation: [
-                                artifactLocation: [
-                                    uri: fileResult.path
-                                ],
-                                region: buildRegion(violation)
-                            ]
+        fileResult.violations.each { violation ->
+            sarifResults << [
+                ruleId: violation.rule.name,
+                level: PRIORITY_TO_LEVEL_MAPPING[violation.rule.priority],
+                message: [
+                    text: violation.message ?: getDescriptionForRule(violation.rule)
+                ],
+                locations: [
+                    [
+                        physicalLocation: [
+                            artifactLocation: [
+                                uri: fileResult.path
+                            ],
+                            region: buildRegion(violation)
                         ]
                     ]
                 ]
-            }
+            ]
         }
         return sarifResults
     }
@@ -79,6 +79,7 @@ class SortableHtmlReportWriter extends AbstractHtmlReportWriter {
                 out << buildLogo()
                 h1(getResourceBundleString('htmlReport.titlePrefix'))
                 out << buildReportMetadata()
+                out << buildTruncatedMessage(analysisContext)
                 out << buildSummary(results)
 
                 out << buildAllViolationsSection(results)
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import org.codenarc.AnalysisContext
+import org.codenarc.results.FileResults
+import org.codenarc.results.Results
+
+/**
+ * A ReportWriter that can also write its report incrementally, while the analysis is still running.
+ * <p/>
+ * <code>begin()</code> is called before the analysis starts, then <code>fileCompleted()</code> for the results of
+ * each source file as soon as it (and each file scheduled before it) has been analyzed, and finally
+ * <code>end()</code> once the analysis has completed. The calls to <code>fileCompleted()</code> are serial, though
+ * not necessarily on the same thread. Once <code>end()</code> returns, the report is identical to the report
+ * written by <code>writeReport()</code> for the same results.
+ */
+interface StreamingReportWriter extends ReportWriter {
+
+    /**
+     * Start writing a report, before the analysis starts
+     * @param analysisContext - the AnalysisContext containing the analysis configuration information
+     */
+    void begin(AnalysisContext analysisContext)
+
+    /**
+     * Write the results for a single source file, once it has been analyzed
+     * @param results - the results for the file; its violations are final
+     */
+    void fileCompleted(FileResults results)
+
+    /**
+     * Finish writing the report, once the analysis has completed
+     * @param results - the analysis results; they include the results already passed to
+     *      <code>fileCompleted()</code>, and provide the summary totals for the report
+     */
+    void end(Results results)
+
+}
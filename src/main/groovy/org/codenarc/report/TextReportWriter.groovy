@@ -16,6 +16,7 @@
 package org.codenarc.report
 
 import org.codenarc.AnalysisContext
+import org.codenarc.analyzer.AnalysisTimings
 import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 import org.codenarc.rule.Violation
@@ -28,9 +29,16 @@ import org.codenarc.rule.Violation
  * only priority 1 and 2 violations (and omitting violations with priority 3). The
  * maxPriority property defaults to 3.
  *
+ * When streamed, the section for each file is written to a temporary file as soon as the file has been analyzed,
+ * and the report itself is written once the analysis has completed, since it starts with the summary.
+ *
+ * If the AnalysisContext includes the analysisTimings, then the report ends with the analysis timeouts and the
+ * slowest files and rules. If the analysis was truncated by a fail-fast threshold, the summary is followed by
+ * the reason.
+ *
  * @author Chris Mair
  */
-class TextReportWriter extends AbstractReportWriter {
+class TextReportWriter extends AbstractReportWriter implements StreamingReportWriter {
 
     String title
     String defaultOutputFile = 'CodeNarcReport.txt'
@@ -42,11 +50,32 @@ class TextReportWriter extends AbstractReportWriter {
         def printWriter = new PrintWriter(writer)
         writeTitle(printWriter)
         writeSummary(printWriter, results)
+        writeTruncatedMessage(printWriter, analysisContext?.truncatedMessage)
         writePackageViolations(printWriter, results)
+        writeAnalysisTimings(printWriter, analysisContext?.analysisTimings)
         writeFooter(printWriter)
         printWriter.flush()
     }
 
+    @Override
+    void begin(AnalysisContext analysisContext) {
+        beginSpooling(analysisContext)
+    }
+
+    @Override
+    void fileCompleted(FileResults results) {
+        def stringWriter = new StringWriter()
+        def printWriter = new PrintWriter(stringWriter)
+        writeFileViolations(printWriter, results)
+        printWriter.flush()
+        spoolFileSection(results, stringWriter.toString())
+    }
+
+    @Override
+    void end(Results results) {
+        endSpooling(results)
+    }
+
     protected void writeTitle(Writer writer) {
         def titleString = 'CodeNarc Report' + (title ? ': ' + title : '') + ' - ' + getFormattedTimestamp()
         writer.println(titleString)
@@ -62,10 +91,16 @@ class TextReportWriter extends AbstractReportWriter {
         writer.println(summary)
     }
 
+    protected void writeTruncatedMessage(Writer writer, String truncatedMessage) {
+        if (truncatedMessage) {
+            writer.println(truncatedMessage)
+        }
+    }
+
     protected void writePackageViolations(Writer writer, Results results) {
         results.children.each { child ->
             if (child.isFile()) {
-                writeFileViolations(writer, child)
+                writeFileSection(writer, child)
             }
             else {
                 writePackageViolations(writer, child)
@@ -73,6 +108,16 @@ class TextReportWriter extends AbstractReportWriter {
         }
     }
 
+    protected void writeFileSection(Writer writer, FileResults results) {
+        def spooledSection = getSpooledFileSection(results)
+        if (spooledSection == null) {
+            writeFileViolations(writer, results)
+        }
+        else {
+            writer.print(spooledSection)
+        }
+    }
+
     protected void writeFileViolations(Writer writer, FileResults results) {
         if (results.violations.find { v -> v.rule.priority <= maxPriority }) {
             writer.println()
@@ -97,6 +142,13 @@ class TextReportWriter extends AbstractReportWriter {
         return "Line=${violation.lineNumber}"
     }
 
+    protected void writeAnalysisTimings(Writer writer, AnalysisTimings analysisTimings) {
+        if (analysisTimings) {
+            writer.println()
+            analysisTimings.formatSummary().each { line -> writer.println(line) }
+        }
+    }
+
     protected void writeFooter(Writer writer) {
         writer.println()
         writer.println("[CodeNarc ($CODENARC_URL) v" + getCodeNarcVersion() + ']')
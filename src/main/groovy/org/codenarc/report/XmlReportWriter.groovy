@@ -24,8 +24,11 @@ import org.codenarc.util.PathUtil
 
 /**
  * ReportWriter that generates an XML report.
+ *
+ * When streamed, the File element for each file is written to a temporary file as soon as the file has been analyzed,
+ * and the report itself is written once the analysis has completed, since each Package element starts with its totals.
  */
-class XmlReportWriter extends AbstractReportWriter {
+class XmlReportWriter extends AbstractReportWriter implements StreamingReportWriter {
 
     String title
     String defaultOutputFile = 'CodeNarcXmlReport.xml'
@@ -49,6 +52,26 @@ class XmlReportWriter extends AbstractReportWriter {
         writer << xml
     }
 
+    @Override
+    void begin(AnalysisContext analysisContext) {
+        beginSpooling(analysisContext)
+    }
+
+    @Override
+    void fileCompleted(FileResults results) {
+        if (!results.violations.isEmpty()) {
+            def xml = new StreamingMarkupBuilder().bind {
+                out << buildFileElement(results)
+            }
+            spoolFileSection(results, xml.toString())
+        }
+    }
+
+    @Override
+    void end(Results results) {
+        endSpooling(results)
+    }
+
     //--------------------------------------------------------------------------
     // Internal Helper Methods
     //--------------------------------------------------------------------------
@@ -80,7 +103,7 @@ class XmlReportWriter extends AbstractReportWriter {
                 results.children.findAll { child ->
                     child.isFile() && !child.violations.isEmpty()
                 }.each { child ->
-                    out << buildFileElement(child)
+                    out << buildFileSection(child)
                 }
             }
             results.children.each { child ->
@@ -109,6 +132,11 @@ class XmlReportWriter extends AbstractReportWriter {
         results.path == null
     }
 
+    protected Closure buildFileSection(FileResults results) {
+        def spooledSection = getSpooledFileSection(results)
+        return spooledSection == null ? buildFileElement(results) : { mkp.yieldUnescaped(spooledSection) }
+    }
+
     protected Closure buildFileElement(FileResults results) {
         return {
             def name = PathUtil.getName(results.path)
@@ -82,6 +82,47 @@ class DirectoryResults implements Results {
         }
     }
 
+    /**
+     * Replace the results for the file with the same path (within this directory or its descendents) with the
+     * specified FileResults, keeping its position. If there are no such results, then add the FileResults, as for
+     * <code>addFileResultRecursive()</code>.
+     */
+    void replaceFileResults(FileResults fileResults) {
+        if (!replaceChild(fileResults)) {
+            addFileResultRecursive(fileResults)
+        }
+    }
+
+    /**
+     * Remove the results (for a file or directory) with the specified path within this directory or its
+     * descendents. Any descendent directory results left without files are also removed.
+     * @param path - the path of the file or directory
+     * @return true if any results were removed
+     */
+    boolean removeResults(String path) {
+        boolean removed = children.removeAll { child -> child.path == path }
+        Iterator<Results> iterator = children.iterator()
+        while (iterator.hasNext()) {
+            def child = iterator.next()
+            if (!child.isFile() && child.removeResults(path)) {
+                removed = true
+                if (child.getTotalNumberOfFiles(true) == 0) {
+                    iterator.remove()
+                }
+            }
+        }
+        removed
+    }
+
+    protected boolean replaceChild(FileResults fileResults) {
+        int index = children.findIndexOf { child -> child.path == fileResults.path }
+        if (index >= 0) {
+            children[index] = fileResults
+            return true
+        }
+        children.any { child -> !child.isFile() && child.replaceChild(fileResults) }
+    }
+
     /**
      * Make sure that all necessary DirectoryResults for a given path are existing
      * Ex: Create directory results for dir1 , then dir1/subdir1, then /dir1/subdir1/sub-subdir1 ...
@@ -17,6 +17,7 @@ package org.codenarc.results
 
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
+import org.codenarc.source.SourceLines
 
 /**
  * Represents the results of applying a set of rules against a single sourcefile
@@ -28,7 +29,7 @@ class FileResults implements Results {
 
     private final String path
     private final List<Violation> violations
-    private final SourceCode sourceCode
+    private SourceCode sourceCode
 
     FileResults(String path, List<Violation> violations) {
         this(path, violations, null)
@@ -73,6 +74,16 @@ class FileResults implements Results {
         new ArrayList(violations)
     }
 
+    /**
+     * Replace the SourceCode for these results with a SourceLines, which retains only its name, path and lines,
+     * so that its full text and AST can be garbage collected. Does nothing if there is no SourceCode.
+     */
+    void releaseSourceCode() {
+        if (sourceCode && !(sourceCode instanceof SourceLines)) {
+            sourceCode = new SourceLines(sourceCode)
+        }
+    }
+
     /** Not intended for general use */
     List getRawViolations() {
         return violations
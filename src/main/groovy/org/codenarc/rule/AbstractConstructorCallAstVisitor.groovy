@@ -15,14 +15,22 @@
  */
 package org.codenarc.rule
 
+import org.codehaus.groovy.ast.ASTNode
 import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 
 /**
- * Abstract superclass for AST Visitor classes that deal with constructor calls
+ * Abstract superclass for AST Visitor classes that deal with constructor calls. Visits only the constructor
+ * calls, from the AstNodeIndex.
  *
  * @author Chris Mair
  */
-abstract class AbstractConstructorCallAstVisitor<R extends Rule> extends AbstractAstVisitor<R> {
+abstract class AbstractConstructorCallAstVisitor<R extends Rule> extends AbstractAstNodeIndexVisitor<R> {
+
+    @Override
+    protected Set<Class<? extends ASTNode>> getVisitedNodeTypes() {
+        [ConstructorCallExpression] as Set
+    }
+
     /**
      * Subclasses must implement to return true if the visited constructor call causes a rule violation
      */
@@ -40,6 +48,5 @@ abstract class AbstractConstructorCallAstVisitor<R extends Rule> extends Abstrac
                 addViolation(constructorCall, "Violation in class $currentClassName. The type $constructorCall.type.name can be instantiated with a literal")
             }
         }
-        super.visitConstructorCallExpression(constructorCall)
     }
 }
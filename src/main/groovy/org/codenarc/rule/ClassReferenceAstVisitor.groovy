@@ -31,6 +31,7 @@ import org.codehaus.groovy.ast.expr.*
  *
  * @author Chris Mair
  */
+@SupportsFusedTraversal
 class ClassReferenceAstVisitor extends AbstractAstVisitor<AbstractAstVisitorRule> {
 
     private final WildcardPattern classNamePattern
@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.MethodNode
  * AstVisitor that checks for references to fields outside of constructors
  */
 @InheritConstructors
+@ControlsOwnTraversal
 class ConstructorsSkippingFieldReferenceAstVisitor extends FieldReferenceAstVisitor {
 
     private final Deque<ASTNode> methodContextStack = [] as Queue
@@ -17,6 +17,7 @@ package org.codenarc.rule.basic
 
 import org.codehaus.groovy.ast.stmt.AssertStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that checks for assert statements within a finally block.
@@ -30,6 +31,7 @@ class AssertWithinFinallyBlockRule extends AbstractAstVisitorRule {
     Class astVisitorClass = AssertWithinFinallyBlockAstVisitor
 }
 
+@SupportsFusedTraversal
 class AssertWithinFinallyBlockAstVisitor extends AbstractFinallyAstVisitor<AssertWithinFinallyBlockRule> {
 
     @Override
@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codehaus.groovy.ast.stmt.WhileStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * An assignment operator (=) was used in a conditional test. This is usually a typo, and the comparison operator (==) was intended.
@@ -36,6 +37,7 @@ class AssignmentInConditionalRule extends AbstractAstVisitorRule {
     Class astVisitorClass = AssignmentInConditionalAstVisitor
 }
 
+@SupportsFusedTraversal
 class AssignmentInConditionalAstVisitor extends AbstractAstVisitor<AssignmentInConditionalRule> {
     @Override
     void visitIfElse(IfStatement node) {
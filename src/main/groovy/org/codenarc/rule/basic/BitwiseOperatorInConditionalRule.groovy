@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codehaus.groovy.ast.stmt.WhileStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -36,6 +37,7 @@ class BitwiseOperatorInConditionalRule extends AbstractAstVisitorRule {
     Class astVisitorClass = BitwiseOperatorInConditionalAstVisitor
 }
 
+@SupportsFusedTraversal
 class BitwiseOperatorInConditionalAstVisitor extends AbstractAstVisitor<BitwiseOperatorInConditionalRule> {
 
     private void addViolationBitwiseConditional(Expression expression) {
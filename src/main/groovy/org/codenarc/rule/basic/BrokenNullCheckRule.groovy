@@ -19,6 +19,7 @@ import static org.codenarc.util.AstUtil.isNull
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codehaus.groovy.ast.expr.*
 
 /**
@@ -35,6 +36,7 @@ class BrokenNullCheckRule extends AbstractAstVisitorRule {
     Class astVisitorClass = BrokenNullCheckAstVisitor
 }
 
+@SupportsFusedTraversal
 class BrokenNullCheckAstVisitor extends AbstractAstVisitor<BrokenNullCheckRule> {
 
     @Override
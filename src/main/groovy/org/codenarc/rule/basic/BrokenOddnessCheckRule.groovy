@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.expr.BinaryExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -32,6 +33,7 @@ class BrokenOddnessCheckRule extends AbstractAstVisitorRule {
     Class astVisitorClass = BrokenOddnessCheckAstVisitor
 }
 
+@SupportsFusedTraversal
 class BrokenOddnessCheckAstVisitor extends AbstractAstVisitor<BrokenOddnessCheckRule> {
 
     @Override
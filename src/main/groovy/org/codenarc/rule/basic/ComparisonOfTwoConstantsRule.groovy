@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.Expression
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -41,6 +42,7 @@ class ComparisonOfTwoConstantsRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ComparisonOfTwoConstantsAstVisitor
 }
 
+@SupportsFusedTraversal
 class ComparisonOfTwoConstantsAstVisitor extends AbstractAstVisitor<ComparisonOfTwoConstantsRule> {
 
     @Override
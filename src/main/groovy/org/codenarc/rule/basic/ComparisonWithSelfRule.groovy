@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -40,6 +41,7 @@ class ComparisonWithSelfRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ComparisonWithSelfAstVisitor
 }
 
+@SupportsFusedTraversal
 class ComparisonWithSelfAstVisitor extends AbstractAstVisitor<ComparisonWithSelfRule> {
 
     @Override
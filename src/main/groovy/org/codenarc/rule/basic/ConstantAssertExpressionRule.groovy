@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.AssertStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -46,6 +47,7 @@ class ConstantAssertExpressionRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConstantAssertExpressionAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConstantAssertExpressionAstVisitor extends AbstractAstVisitor<ConstantAssertExpressionRule> {
 
     @Override
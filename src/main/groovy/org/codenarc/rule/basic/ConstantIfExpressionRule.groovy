@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -44,6 +45,7 @@ class ConstantIfExpressionRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConstantIfExpressionAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConstantIfExpressionAstVisitor extends AbstractAstVisitor<ConstantIfExpressionRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.expr.TernaryExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -55,6 +56,7 @@ class ConstantTernaryExpressionRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConstantTernaryExpressionAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConstantTernaryExpressionAstVisitor extends AbstractAstVisitor<ConstantTernaryExpressionRule> {
 
     @Override
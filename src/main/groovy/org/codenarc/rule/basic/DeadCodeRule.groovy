@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.expr.TernaryExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codehaus.groovy.ast.stmt.*
 
 /**
@@ -31,6 +32,7 @@ class DeadCodeRule extends AbstractAstVisitorRule {
     Class astVisitorClass = DeadCodeAstVisitor
 }
 
+@SupportsFusedTraversal
 class DeadCodeAstVisitor extends AbstractAstVisitor<DeadCodeRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.expr.NotExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.GroovyVersion
 
 /**
@@ -32,6 +33,7 @@ class DoubleNegativeRule extends AbstractAstVisitorRule {
     Class astVisitorClass = DoubleNegativeAstVisitor
 }
 
+@SupportsFusedTraversal
 class DoubleNegativeAstVisitor extends AbstractAstVisitor<DoubleNegativeRule> {
 
     @Override
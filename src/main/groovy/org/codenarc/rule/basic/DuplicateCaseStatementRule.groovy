@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.stmt.CaseStatement
 import org.codehaus.groovy.ast.stmt.SwitchStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that checks for duplicate case statements in a switch block, such as two
@@ -33,6 +34,7 @@ class DuplicateCaseStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = DuplicateCaseStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class DuplicateCaseStatementAstVisitor extends AbstractAstVisitor<DuplicateCaseStatementRule> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codehaus.groovy.ast.expr.MapExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * A map literal is created with duplicated key. The map entry will be overwritten.
@@ -31,6 +32,7 @@ class DuplicateMapKeyRule extends AbstractAstVisitorRule {
     Class astVisitorClass = DuplicateMapKeyAstVisitor
 }
 
+@SupportsFusedTraversal
 class DuplicateMapKeyAstVisitor extends AbstractAstVisitor<DuplicateMapKeyRule> {
     @Override
     void visitMapExpression(MapExpression expression) {
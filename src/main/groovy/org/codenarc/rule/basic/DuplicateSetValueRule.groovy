@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.Expression
 import org.codehaus.groovy.ast.expr.ListExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * A Set literal is created with duplicate constant value. A set cannot contain two elements with the same value.
@@ -33,6 +34,7 @@ class DuplicateSetValueRule extends AbstractAstVisitorRule {
     Class astVisitorClass = DuplicateSetValueAstVisitor
 }
 
+@SupportsFusedTraversal
 class DuplicateSetValueAstVisitor extends AbstractAstVisitor<DuplicateSetValueRule> {
     @Override
     void visitCastExpression(CastExpression expression) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.CatchStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -32,6 +33,7 @@ class EmptyCatchBlockRule extends AbstractAstVisitorRule {
     String ignoreRegex = 'ignore|ignored'
 }
 
+@SupportsFusedTraversal
 class EmptyCatchBlockAstVisitor extends AbstractAstVisitor<EmptyCatchBlockRule> {
     @Override
     void visitCatchStatement(CatchStatement catchStatement) {
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.ast.InnerClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 import java.lang.reflect.Modifier
 
@@ -36,6 +37,7 @@ class EmptyClassRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptyClassAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptyClassAstVisitor extends AbstractAstVisitor<EmptyClassRule> {
     @Override
     protected void visitClassEx(ClassNode classNode) {
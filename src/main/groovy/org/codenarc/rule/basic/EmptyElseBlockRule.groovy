@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class EmptyElseBlockRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptyElseBlockAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptyElseBlockAstVisitor extends AbstractAstVisitor<EmptyElseBlockRule> {
     @Override
     void visitIfElse(IfStatement ifStatement) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.TryCatchStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class EmptyFinallyBlockRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptyFinallyBlockAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptyFinallyBlockAstVisitor extends AbstractAstVisitor<EmptyFinallyBlockRule> {
     @Override
     void visitTryCatchFinally(TryCatchStatement tryCatchStatement) {
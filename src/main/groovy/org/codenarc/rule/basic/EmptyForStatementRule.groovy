@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.ForStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class EmptyForStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptyForStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptyForStatementAstVisitor extends AbstractAstVisitor<EmptyForStatementRule> {
     @Override
     void visitForLoop(ForStatement forStatement) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class EmptyIfStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptyIfStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptyIfStatementAstVisitor extends AbstractAstVisitor<EmptyIfStatementRule> {
     @Override
     void visitIfElse(IfStatement ifStatement) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class EmptyInstanceInitializerRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptyInstanceInitializerAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptyInstanceInitializerAstVisitor extends AbstractAstVisitor<EmptyInstanceInitializerRule> {
     @Override
     protected void visitObjectInitializerStatements(ClassNode node) {
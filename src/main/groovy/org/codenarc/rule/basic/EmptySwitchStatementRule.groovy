@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.SwitchStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that checks for empty switch statements
@@ -30,6 +31,7 @@ class EmptySwitchStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptySwitchStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptySwitchStatementAstVisitor extends AbstractAstVisitor<EmptySwitchStatementRule> {
     @Override
     void visitSwitch(SwitchStatement switchStatement) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.SynchronizedStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class EmptySynchronizedStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptySynchronizedStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptySynchronizedStatementAstVisitor extends AbstractAstVisitor<EmptySynchronizedStatementRule> {
     @Override
     void visitSynchronizedStatement(SynchronizedStatement synchronizedStatement) {
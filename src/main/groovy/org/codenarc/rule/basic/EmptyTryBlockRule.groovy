@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.TryCatchStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -32,6 +33,7 @@ class EmptyTryBlockRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptyTryBlockAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptyTryBlockAstVisitor extends AbstractAstVisitor<EmptyTryBlockRule> {
     @Override
     void visitTryCatchFinally(TryCatchStatement tryCatchStatement) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.stmt.WhileStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class EmptyWhileStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EmptyWhileStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class EmptyWhileStatementAstVisitor extends AbstractAstVisitor<EmptyWhileStatementRule> {
     @Override
     void visitWhileLoop(WhileStatement whileStatement) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.basic
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that checks that if either the <code>boolean equals(Object)</code> or
@@ -32,6 +33,7 @@ class EqualsAndHashCodeRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EqualsAndHashCodeAstVisitor
 }
 
+@SupportsFusedTraversal
 class EqualsAndHashCodeAstVisitor extends AbstractAstVisitor<EqualsAndHashCodeRule> {
 
     @Override
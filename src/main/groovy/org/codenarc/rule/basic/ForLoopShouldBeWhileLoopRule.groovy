@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.ast.stmt.ForStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -35,6 +36,7 @@ class ForLoopShouldBeWhileLoopRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ForLoopShouldBeWhileLoopAstVisitor
 }
 
+@SupportsFusedTraversal
 class ForLoopShouldBeWhileLoopAstVisitor extends AbstractAstVisitor<ForLoopShouldBeWhileLoopRule> {
 
     @Override
@@ -17,6 +17,7 @@ package org.codenarc.rule.basic
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codehaus.groovy.ast.expr.*
 
@@ -31,6 +32,7 @@ class HardCodedWindowsFileSeparatorRule extends AbstractAstVisitorRule {
     Class astVisitorClass = HardCodedWindowsFileSeparatorAstVisitor
 }
 
+@SupportsFusedTraversal
 class HardCodedWindowsFileSeparatorAstVisitor extends AbstractAstVisitor<HardCodedWindowsFileSeparatorRule> {
 
     @Override
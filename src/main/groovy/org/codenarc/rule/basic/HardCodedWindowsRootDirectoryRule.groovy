@@ -17,6 +17,7 @@ package org.codenarc.rule.basic
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codehaus.groovy.ast.expr.*
 
@@ -31,6 +32,7 @@ class HardCodedWindowsRootDirectoryRule extends AbstractAstVisitorRule {
     Class astVisitorClass = HardcodedWindowsRootDirectoryAstVisitor
 }
 
+@SupportsFusedTraversal
 class HardcodedWindowsRootDirectoryAstVisitor extends AbstractAstVisitor<HardCodedWindowsRootDirectoryRule> {
     @Override
     void visitConstructorCallExpression(ConstructorCallExpression call) {
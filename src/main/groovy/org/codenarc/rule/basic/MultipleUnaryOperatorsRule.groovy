@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.expr.UnaryMinusExpression
 import org.codehaus.groovy.ast.expr.UnaryPlusExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.GroovyVersion
 
 /**
@@ -36,6 +37,7 @@ class MultipleUnaryOperatorsRule extends AbstractAstVisitorRule {
     Class astVisitorClass = MultipleUnaryOperatorsAstVisitor
 }
 
+@SupportsFusedTraversal
 class MultipleUnaryOperatorsAstVisitor extends AbstractAstVisitor<MultipleUnaryOperatorsRule> {
 
     private static final Map UNARY_OPERATORS = [
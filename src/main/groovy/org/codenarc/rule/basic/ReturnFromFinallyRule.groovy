@@ -17,6 +17,7 @@ package org.codenarc.rule.basic
 
 import org.codehaus.groovy.ast.stmt.ReturnStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that checks for a return from within a finally block
@@ -29,6 +30,7 @@ class ReturnFromFinallyBlockRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ReturnFromFinallyBlockAstVisitor
 }
 
+@SupportsFusedTraversal
 class ReturnFromFinallyBlockAstVisitor extends AbstractFinallyAstVisitor<ReturnFromFinallyBlockRule> {
     @Override
     void visitReturnStatement(ReturnStatement returnStatement) {
@@ -17,6 +17,7 @@ package org.codenarc.rule.basic
 
 import org.codehaus.groovy.ast.stmt.ThrowStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that checks for throwing an exception from within a finally block
@@ -29,6 +30,7 @@ class ThrowExceptionFromFinallyBlockRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ThrowExceptionFromFinallyBlockAstVisitor
 }
 
+@SupportsFusedTraversal
 class ThrowExceptionFromFinallyBlockAstVisitor extends AbstractFinallyAstVisitor<ThrowExceptionFromFinallyBlockRule> {
     @Override
     void visitThrowStatement(ThrowStatement throwStatement) {
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.stmt.EmptyStatement
 import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -37,6 +38,7 @@ class ElseBlockBracesRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ElseBlockBracesAstVisitor
 }
 
+@SupportsFusedTraversal
 class ElseBlockBracesAstVisitor extends AbstractAstVisitor<ElseBlockBracesRule> {
     @Override
     void visitIfElse(IfStatement ifStatement) {
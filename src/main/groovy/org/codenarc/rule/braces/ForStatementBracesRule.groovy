@@ -18,6 +18,7 @@ package org.codenarc.rule.braces
 import org.codehaus.groovy.ast.stmt.ForStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class ForStatementBracesRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ForStatementBracesAstVisitor
 }
 
+@SupportsFusedTraversal
 class ForStatementBracesAstVisitor extends AbstractAstVisitor<ForStatementBracesRule> {
     @Override
     void visitForLoop(ForStatement forStatement) {
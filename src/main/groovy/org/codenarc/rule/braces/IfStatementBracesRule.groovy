@@ -18,6 +18,7 @@ package org.codenarc.rule.braces
 import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class IfStatementBracesRule extends AbstractAstVisitorRule {
     Class astVisitorClass = IfStatementBracesAstVisitor
 }
 
+@SupportsFusedTraversal
 class IfStatementBracesAstVisitor extends AbstractAstVisitor<IfStatementBracesRule> {
     @Override
     void visitIfElse(IfStatement ifStatement) {
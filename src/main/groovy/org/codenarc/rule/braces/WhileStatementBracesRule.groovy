@@ -18,6 +18,7 @@ package org.codenarc.rule.braces
 import org.codehaus.groovy.ast.stmt.WhileStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class WhileStatementBracesRule extends AbstractAstVisitorRule {
     Class astVisitorClass = WhileStatementBracesAstVisitor
 }
 
+@SupportsFusedTraversal
 class WhileStatementBracesAstVisitor extends AbstractAstVisitor<WhileStatementBracesRule> {
     @Override
     void visitWhileLoop(WhileStatement whileStatement) {
@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.stmt.LoopingStatement
 import org.codehaus.groovy.ast.stmt.WhileStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -36,6 +37,7 @@ class BusyWaitRule extends AbstractAstVisitorRule {
     Class astVisitorClass = BusyWaitAstVisitor
 }
 
+@SupportsFusedTraversal
 class BusyWaitAstVisitor extends AbstractAstVisitor<BusyWaitRule> {
     @Override
     void visitWhileLoop(WhileStatement node) {
@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codehaus.groovy.ast.stmt.SynchronizedStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -37,6 +38,7 @@ class DoubleCheckedLockingRule extends AbstractAstVisitorRule {
     Class astVisitorClass = DoubleCheckedLockingAstVisitor
 }
 
+@SupportsFusedTraversal
 class DoubleCheckedLockingAstVisitor extends AbstractAstVisitor<DoubleCheckedLockingRule> {
     @Override
     void visitIfElse(IfStatement node) {
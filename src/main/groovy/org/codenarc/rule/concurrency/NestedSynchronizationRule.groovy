@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codehaus.groovy.ast.stmt.SynchronizedStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.rule.Violation
 
 /**
@@ -33,6 +34,7 @@ class NestedSynchronizationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = NestedSynchronizationAstVisitor
 }
 
+@ControlsOwnTraversal
 class NestedSynchronizationAstVisitor extends AbstractAstVisitor<NestedSynchronizationRule> {
 
     private int visitCount = 0
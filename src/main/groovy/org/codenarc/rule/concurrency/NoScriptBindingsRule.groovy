@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -37,6 +38,7 @@ class NoScriptBindingsRule extends AbstractAstVisitorRule {
     Class astVisitorClass = NoScriptBindingsAstVisitor
 }
 
+@ControlsOwnTraversal
 class NoScriptBindingsAstVisitor extends AbstractAstVisitor<NoScriptBindingsRule> {
 
     private final Stack variableNamesByBlockScope = [] as Stack
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.ast.stmt.SynchronizedStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -34,6 +35,7 @@ class SynchronizedOnBoxedPrimitiveRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SynchronizedOnBoxedPrimitiveAstVisitor
 }
 
+@SupportsFusedTraversal
 class SynchronizedOnBoxedPrimitiveAstVisitor extends AbstractAstVisitor<SynchronizedOnBoxedPrimitiveRule> {
 
     @Override
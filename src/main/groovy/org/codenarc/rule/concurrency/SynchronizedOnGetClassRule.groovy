@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.stmt.SynchronizedStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -33,6 +34,7 @@ class SynchronizedOnGetClassRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SynchronizedOnGetClassAstVisitor
 }
 
+@SupportsFusedTraversal
 class SynchronizedOnGetClassAstVisitor extends AbstractAstVisitor<SynchronizedOnGetClassRule> {
 
     @Override
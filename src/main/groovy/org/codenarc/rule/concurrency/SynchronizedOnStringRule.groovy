@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.ast.stmt.SynchronizedStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -32,6 +33,7 @@ class SynchronizedOnStringRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SynchronizedOnStringAstVisitor
 }
 
+@SupportsFusedTraversal
 class SynchronizedOnStringAstVisitor extends AbstractAstVisitor<SynchronizedOnStringRule> {
 
     @Override
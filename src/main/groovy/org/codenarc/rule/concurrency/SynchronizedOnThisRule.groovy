@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.ast.stmt.SynchronizedStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Synchronized On This Rule - This rule reports uses of the synchronized blocks where
@@ -35,6 +36,7 @@ class SynchronizedOnThisRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SynchronizedOnThisAstVisitor
 }
 
+@SupportsFusedTraversal
 class SynchronizedOnThisAstVisitor extends AbstractAstVisitor<SynchronizedOnThisRule> {
 
     @Override
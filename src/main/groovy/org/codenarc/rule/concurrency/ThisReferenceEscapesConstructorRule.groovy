@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.expr.TupleExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Reports constructors passing the 'this' reference to other methods.
@@ -40,6 +41,7 @@ class ThisReferenceEscapesConstructorRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ThisReferenceEscapesConstructorAstVisitor
 }
 
+@ControlsOwnTraversal
 class ThisReferenceEscapesConstructorAstVisitor extends AbstractAstVisitor<ThisReferenceEscapesConstructorRule> {
 
     private boolean withinConstructor = false
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -32,6 +33,7 @@ class ThreadGroupRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ThreadGroupAstVisitor
 }
 
+@SupportsFusedTraversal
 class ThreadGroupAstVisitor extends AbstractAstVisitor<ThreadGroupRule> {
     @Override
     void visitConstructorCallExpression(ConstructorCallExpression call) {
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.stmt.WhileStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -35,6 +36,7 @@ class WaitOutsideOfWhileLoopRule extends AbstractAstVisitorRule {
     Class astVisitorClass = WaitOutsideOfWhileLoopAstVisitor
 }
 
+@ControlsOwnTraversal
 class WaitOutsideOfWhileLoopAstVisitor extends AbstractAstVisitor<WaitOutsideOfWhileLoopRule> {
 
     private boolean withinWhileLoop = false
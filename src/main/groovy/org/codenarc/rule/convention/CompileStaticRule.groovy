@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.ast.InnerClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Enforces classes are annotated either with one of the CompileStatic, GrailsCompileStatic or CompileDynamic
@@ -34,6 +35,7 @@ class CompileStaticRule extends AbstractAstVisitorRule {
     Class astVisitorClass = CompileStaticlVisitor
 }
 
+@SupportsFusedTraversal
 class CompileStaticlVisitor extends AbstractAstVisitor<CompileStaticRule> {
 
     private static final String GRAILS_COMPILE_STATIC = 'GrailsCompileStatic'
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.expr.NotExpression
 import org.codehaus.groovy.ast.expr.TernaryExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codenarc.util.GroovyVersion
 
@@ -41,6 +42,7 @@ class ConfusingTernaryRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConfusingTernaryAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConfusingTernaryAstVisitor extends AbstractAstVisitor<ConfusingTernaryRule> {
     @Override
     void visitTernaryExpression(TernaryExpression expression) {
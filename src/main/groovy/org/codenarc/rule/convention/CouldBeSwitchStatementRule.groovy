@@ -27,6 +27,7 @@ import org.codehaus.groovy.syntax.Token
 import org.codehaus.groovy.syntax.Types
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Checks for multiple if statements that could be converted to a switch
@@ -41,6 +42,7 @@ class CouldBeSwitchStatementRule extends AbstractAstVisitorRule {
     String errorMessage = 'Code could use switch statement'
 }
 
+@ControlsOwnTraversal
 class CouldBeSwitchStatementAstVisitor extends AbstractAstVisitor<CouldBeSwitchStatementRule> {
 
     private BinaryExpression prev = null
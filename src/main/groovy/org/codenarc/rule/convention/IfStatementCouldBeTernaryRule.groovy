@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codehaus.groovy.ast.stmt.ReturnStatement
 import org.codehaus.groovy.ast.ASTNode
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codehaus.groovy.ast.expr.GStringExpression
 
@@ -44,6 +45,7 @@ class IfStatementCouldBeTernaryRule extends AbstractAstVisitorRule {
     boolean checkLastStatementImplicitElse = true
 }
 
+@SupportsFusedTraversal
 class IfStatementCouldBeTernaryAstVisitor extends AbstractAstVisitor<IfStatementCouldBeTernaryRule> {
 
     @Override
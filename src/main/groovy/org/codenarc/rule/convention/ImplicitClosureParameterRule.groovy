@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.rule.Rule
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
@@ -36,6 +37,7 @@ class ImplicitClosureParameterRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ImplicitClosureParameterAstVisitor
 }
 
+@ControlsOwnTraversal
 class ImplicitClosureParameterAstVisitor extends AbstractAstVisitor<ImplicitClosureParameterRule> {
     private final ImplicitClosureParameterCodeVisitor closureCodeVisitor = new ImplicitClosureParameterCodeVisitor()
 
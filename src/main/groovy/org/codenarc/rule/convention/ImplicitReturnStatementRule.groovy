@@ -28,6 +28,7 @@ import org.codehaus.groovy.ast.stmt.TryCatchStatement
 import org.codehaus.groovy.ast.stmt.WhileStatement
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for methods that are missing an explicit return statement.
@@ -42,6 +43,7 @@ class ImplicitReturnStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ImplicitReturnStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class ImplicitReturnStatementAstVisitor extends AbstractAstVisitor<ImplicitReturnStatementRule> {
 
     @Override
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codehaus.groovy.syntax.Types
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * An inverted condition is one where a constant expression is used on the left hand side of the equals comparision.
@@ -36,6 +37,7 @@ class InvertedConditionRule extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class InvertedConditionAstVisitor extends AbstractAstVisitor<InvertedConditionRule> {
 
     @Override
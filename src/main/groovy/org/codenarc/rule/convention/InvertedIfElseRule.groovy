@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codehaus.groovy.ast.stmt.Statement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * An inverted if-else statement is one in which there is a single if statement with a single else branch and the
@@ -36,6 +37,7 @@ class InvertedIfElseRule extends AbstractAstVisitorRule {
     Class astVisitorClass = InvertedIfElseAstVisitor
 }
 
+@ControlsOwnTraversal
 class InvertedIfElseAstVisitor extends AbstractAstVisitor<InvertedIfElseRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.convention
 import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * In Java and Groovy, you can specify long literals with the L or l character, for instance 55L or
@@ -32,6 +33,7 @@ class LongLiteralWithLowerCaseLRule extends AbstractAstVisitorRule {
     Class astVisitorClass = LongLiteralWithLowerCaseLAstVisitor
 }
 
+@SupportsFusedTraversal
 class LongLiteralWithLowerCaseLAstVisitor extends AbstractAstVisitor<LongLiteralWithLowerCaseLRule> {
     @Override
     void visitConstantExpression(ConstantExpression expression) {
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.MethodNode
 import org.codehaus.groovy.ast.Parameter
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -36,6 +37,7 @@ class MethodParameterTypeRequired extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class MethodParameterTypeRequiredAstVisitor extends AbstractAstVisitor<MethodParameterTypeRequired> {
     @Override
     protected void visitConstructorOrMethod(MethodNode node, boolean isConstructor) {
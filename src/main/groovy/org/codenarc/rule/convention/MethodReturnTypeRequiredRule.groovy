@@ -18,6 +18,7 @@ package org.codenarc.rule.convention
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -34,6 +35,7 @@ class MethodReturnTypeRequiredRule extends AbstractAstVisitorRule {
     String ignoreMethodNames = ''
 }
 
+@SupportsFusedTraversal
 class MethodReturnTypeRequiredAstVisitor extends AbstractAstVisitor<MethodReturnTypeRequiredRule> {
 
     @Override
@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.expr.DeclarationExpression
 import org.codehaus.groovy.ast.expr.TupleExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 import java.util.regex.Pattern
 
@@ -54,6 +55,7 @@ class NoDefRule extends AbstractAstVisitorRule {
     }
 }
 
+@ControlsOwnTraversal
 class NoDefAstVisitor extends AbstractAstVisitor<NoDefRule> {
 
     private static final Pattern CONTAINS_WHITESPACE_PATTERN = ~/.*\s+.*/
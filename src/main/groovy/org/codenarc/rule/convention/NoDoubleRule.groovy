@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.Parameter
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for use of the double or Double types, in fields, variables, method parameters and method return types.
@@ -35,6 +36,7 @@ class NoDoubleRule extends AbstractAstVisitorRule {
     Class astVisitorClass = NoDoubleAstVisitor
 }
 
+@SupportsFusedTraversal
 class NoDoubleAstVisitor extends AbstractAstVisitor<NoDoubleRule> {
 
     private static final List FLOAT_TYPE_NAMES = ['double', 'Double', 'java.lang.Double']
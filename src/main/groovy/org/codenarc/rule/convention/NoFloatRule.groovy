@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.Parameter
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for use of the float or Float types, in fields, variables, method parameters and method return types.
@@ -35,6 +36,7 @@ class NoFloatRule extends AbstractAstVisitorRule {
     Class astVisitorClass = NoFloatAstVisitor
 }
 
+@SupportsFusedTraversal
 class NoFloatAstVisitor extends AbstractAstVisitor<NoFloatRule> {
 
     private static final List FLOAT_TYPE_NAMES = ['float', 'Float', 'java.lang.Float']
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -37,6 +38,7 @@ class NoJavaUtilDateRule extends AbstractAstVisitorRule {
     Class astVisitorClass = NoJavaUtilDateAstVisitor
 }
 
+@SupportsFusedTraversal
 class NoJavaUtilDateAstVisitor extends AbstractAstVisitor<NoJavaUtilDateRule> {
 
     protected static final String VIOLATION_MESSAGE = 'Do not use java.util.Date. Prefer the classes in the java.time.* packages.'
@@ -16,6 +16,7 @@
 package org.codenarc.rule.convention
 
 import org.codenarc.rule.AbstractRule
+import org.codenarc.rule.RuleCapability
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 
@@ -30,6 +31,11 @@ class NoTabCharacterRule extends AbstractRule {
     int priority = 3
     String tabCharacter = '\t'
 
+    @Override
+    Set<RuleCapability> getRequiredCapabilities() {
+        EnumSet.of(RuleCapability.TEXT)
+    }
+
     @Override
     void applyTo(SourceCode sourceCode, List<Violation> violations) {
         def index = sourceCode.getText().indexOf(tabCharacter)
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Checks for a method or closure parameter being reassigned to a new value within the body of the
@@ -34,6 +35,7 @@ class ParameterReassignmentRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ParameterReassignmentAstVisitor
 }
 
+@ControlsOwnTraversal
 class ParameterReassignmentAstVisitor extends AbstractAstVisitor<ParameterReassignmentRule> {
 
     private List currentMethodParameterNames
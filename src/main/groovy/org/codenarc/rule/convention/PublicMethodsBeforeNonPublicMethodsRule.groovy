@@ -18,6 +18,7 @@ package org.codenarc.rule.convention
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -38,6 +39,7 @@ class PublicMethodsBeforeNonPublicMethodsRule extends AbstractAstVisitorRule {
     String ignoreMethodNames
 }
 
+@SupportsFusedTraversal
 class PublicMethodsBeforeNonPublicMethodsAstVisitor extends AbstractAstVisitor<PublicMethodsBeforeNonPublicMethodsRule> {
 
     private boolean hasDeclaredNonPublicMethod = false
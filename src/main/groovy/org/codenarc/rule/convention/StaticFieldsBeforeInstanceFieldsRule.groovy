@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.ast.FieldNode
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Enforce that all static fields are above all instance fields within a class
@@ -32,6 +33,7 @@ class StaticFieldsBeforeInstanceFieldsRule extends AbstractAstVisitorRule {
     Class astVisitorClass = StaticFieldsBeforeInstanceFieldsAstVisitor
 }
 
+@SupportsFusedTraversal
 class StaticFieldsBeforeInstanceFieldsAstVisitor extends AbstractAstVisitor<StaticFieldsBeforeInstanceFieldsRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.convention
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -41,6 +42,7 @@ class StaticMethodsBeforeInstanceMethodsRule extends AbstractAstVisitorRule {
     String ignoreMethodNames
 }
 
+@SupportsFusedTraversal
 class StaticMethodsBeforeInstanceMethodsAstVisitor extends AbstractAstVisitor<StaticMethodsBeforeInstanceMethodsRule> {
 
     private static enum Visibility {
@@ -17,6 +17,7 @@ package org.codenarc.rule.convention
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codehaus.groovy.ast.expr.*
 
 /**
@@ -32,6 +33,7 @@ class TernaryCouldBeElvisRule extends AbstractAstVisitorRule {
     Class astVisitorClass = TernaryCouldBeElvisAstVisitor
 }
 
+@SupportsFusedTraversal
 class TernaryCouldBeElvisAstVisitor extends AbstractAstVisitor<TernaryCouldBeElvisRule> {
 
     @Override
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.MapExpression
 import org.codehaus.groovy.ast.expr.NamedArgumentListExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codenarc.util.SourceCodeUtil
 
@@ -44,6 +45,7 @@ class TrailingCommaRule extends AbstractAstVisitorRule {
     boolean ignoreSingleElementMap = true
 }
 
+@SupportsFusedTraversal
 class TrailingCommaAstVisitor extends AbstractAstVisitor<TrailingCommaRule> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.DeclarationExpression
 import org.codehaus.groovy.ast.expr.Expression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codenarc.util.WildcardPattern
 
@@ -35,6 +36,7 @@ class VariableTypeRequiredRule extends AbstractAstVisitorRule {
     String ignoreVariableNames
 }
 
+@SupportsFusedTraversal
 class VariableTypeRequiredAstVisitor extends AbstractAstVisitor<VariableTypeRequiredRule> {
 
     @Override
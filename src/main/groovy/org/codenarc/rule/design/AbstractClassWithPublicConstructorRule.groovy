@@ -18,6 +18,7 @@ package org.codenarc.rule.design
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 import java.lang.reflect.Modifier
 
@@ -32,6 +33,7 @@ class AbstractClassWithPublicConstructorRule extends AbstractAstVisitorRule {
     Class astVisitorClass = AbstractClassWithPublicConstructorAstVisitor
 }
 
+@SupportsFusedTraversal
 class AbstractClassWithPublicConstructorAstVisitor extends AbstractAstVisitor<AbstractClassWithPublicConstructorRule> {
 
     @Override
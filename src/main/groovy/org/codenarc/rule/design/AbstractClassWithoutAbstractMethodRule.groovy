@@ -18,6 +18,7 @@ package org.codenarc.rule.design
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractEnhanceableAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 import java.lang.reflect.Modifier
 
@@ -34,6 +35,7 @@ class AbstractClassWithoutAbstractMethodRule extends AbstractEnhanceableAstVisit
     Class astVisitorClass = AbstractClassWithoutAbstractMethodAstVisitor
 }
 
+@SupportsFusedTraversal
 class AbstractClassWithoutAbstractMethodAstVisitor extends AbstractAstVisitor<AbstractClassWithoutAbstractMethodRule> {
     @Override protected void visitClassEx(ClassNode node) {
         if (!node.isInterface() && Modifier.isAbstract(node.modifiers) && !skipSuperClass(node)) {
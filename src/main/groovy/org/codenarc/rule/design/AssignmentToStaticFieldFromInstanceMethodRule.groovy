@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.expr.DeclarationExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for assignment to a static field from an instance method.
@@ -35,6 +36,7 @@ class AssignmentToStaticFieldFromInstanceMethodRule extends AbstractAstVisitorRu
     Class astVisitorClass = AssignmentToStaticFieldFromInstanceMethodAstVisitor
 }
 
+@SupportsFusedTraversal
 class AssignmentToStaticFieldFromInstanceMethodAstVisitor extends AbstractAstVisitor<AssignmentToStaticFieldFromInstanceMethodRule> {
 
     private Collection<String> fieldNames
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.Parameter
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -35,6 +36,7 @@ class CloneWithoutCloneableRule extends AbstractAstVisitorRule {
     int compilerPhase = Phases.SEMANTIC_ANALYSIS
 }
 
+@SupportsFusedTraversal
 class CloneWithoutCloneableAstVisitor extends AbstractAstVisitor<CloneWithoutCloneableRule> {
 
     @Override
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.ast.Parameter
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * A class that implements Cloneable should define a clone() method.
@@ -33,6 +34,7 @@ class CloneableWithoutCloneRule extends AbstractAstVisitorRule {
     Class astVisitorClass = CloneableWithoutCloneAstVisitor
 }
 
+@SupportsFusedTraversal
 class CloneableWithoutCloneAstVisitor extends AbstractAstVisitor<CloneableWithoutCloneRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.design
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * An interface should be used only to model a behaviour of a class: using an interface as a container of constants is a poor usage pattern.
@@ -30,6 +31,7 @@ class ConstantsOnlyInterfaceRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConstantsOnlyInterfaceAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConstantsOnlyInterfaceAstVisitor extends AbstractAstVisitor<ConstantsOnlyInterfaceRule> {
     @Override
     protected void visitClassEx(ClassNode node) {
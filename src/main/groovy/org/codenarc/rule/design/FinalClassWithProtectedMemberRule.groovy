@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.FieldNode
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 import java.lang.reflect.Modifier
@@ -36,6 +37,7 @@ class FinalClassWithProtectedMemberRule extends AbstractAstVisitorRule {
     Class astVisitorClass = FinalClassWithProtectedMemberAstVisitor
 }
 
+@SupportsFusedTraversal
 class FinalClassWithProtectedMemberAstVisitor extends AbstractAstVisitor<FinalClassWithProtectedMemberRule> {
     @Override
     void visitConstructorOrMethod(MethodNode node, boolean isConstructor) {
@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codehaus.groovy.ast.expr.DeclarationExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -64,6 +65,7 @@ class ImplementationAsTypeRule extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class ImplementationAsTypeAstVisitor extends AbstractAstVisitor<ImplementationAsTypeRule> {
 
     private static final List TYPES = [
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.ast.expr.BinaryExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -35,6 +36,7 @@ class InstanceofRule extends AbstractAstVisitorRule {
     Class astVisitorClass = InstanceofAstVisitor
 }
 
+@SupportsFusedTraversal
 class InstanceofAstVisitor extends AbstractAstVisitor<InstanceofRule> {
 
     private WildcardPattern wildcardPattern
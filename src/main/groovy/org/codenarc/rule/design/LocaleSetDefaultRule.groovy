@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.expr.PropertyExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -34,6 +35,7 @@ class LocaleSetDefaultRule extends AbstractAstVisitorRule {
     Class astVisitorClass = LocaleSetDefaultAstVisitor
 }
 
+@SupportsFusedTraversal
 class LocaleSetDefaultAstVisitor extends AbstractAstVisitor<LocaleSetDefaultRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.design
 import org.codehaus.groovy.ast.stmt.ForStatement
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Reports classes with nested for loops.
@@ -31,6 +32,7 @@ class NestedForLoopRule extends AbstractAstVisitorRule {
     Class astVisitorClass = NestedForLoopAstVisitor
 }
 
+@ControlsOwnTraversal
 class NestedForLoopAstVisitor extends AbstractAstVisitor<NestedForLoopRule> {
 
     private final Stack forStatementsStack = [] as Stack
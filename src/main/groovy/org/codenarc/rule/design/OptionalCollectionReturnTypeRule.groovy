@@ -18,6 +18,7 @@ package org.codenarc.rule.design
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Do not declare a method return type of Optional<List> (or Collection, ArrayList, Set, Map, HashMap, etc.). Return an empty collection instead.
@@ -31,6 +32,7 @@ class OptionalCollectionReturnTypeRule extends AbstractAstVisitorRule {
     Class astVisitorClass = OptionalCollectionReturnTypeAstVisitor
 }
 
+@SupportsFusedTraversal
 class OptionalCollectionReturnTypeAstVisitor extends AbstractAstVisitor<OptionalCollectionReturnTypeRule> {
 
     private static final List<String> COLLECTION_TYPE_NAMES = [
@@ -18,6 +18,7 @@ package org.codenarc.rule.design
 import org.codehaus.groovy.ast.FieldNode
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Do not use an Optional as a field type.
@@ -31,6 +32,7 @@ class OptionalFieldRule extends AbstractAstVisitorRule {
     Class astVisitorClass = OptionalFieldAstVisitor
 }
 
+@SupportsFusedTraversal
 class OptionalFieldAstVisitor extends AbstractAstVisitor<OptionalFieldRule> {
 
     @Override
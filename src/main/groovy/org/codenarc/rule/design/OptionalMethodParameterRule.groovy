@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.MethodNode
 import org.codehaus.groovy.ast.Parameter
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Do not use an Optional as a parameter type for method or constructor.
@@ -33,6 +34,7 @@ class OptionalMethodParameterRule extends AbstractAstVisitorRule {
     Class astVisitorClass = OptionalMethodParameterAstVisitor
 }
 
+@SupportsFusedTraversal
 class OptionalMethodParameterAstVisitor extends AbstractAstVisitor<OptionalMethodParameterRule> {
 
     @Override
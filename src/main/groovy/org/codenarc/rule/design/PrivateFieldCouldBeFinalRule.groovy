@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.expr.*
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractSharedAstVisitorRule
 import org.codenarc.rule.AstVisitor
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 import org.codenarc.util.AstUtil
@@ -67,6 +68,7 @@ class PrivateFieldCouldBeFinalRule extends AbstractSharedAstVisitorRule {
     }
 }
 
+@ControlsOwnTraversal
 class PrivateFieldCouldBeFinalAstVisitor extends AbstractAstVisitor<PrivateFieldCouldBeFinalRule> {
 
     private final Collection<FieldNode> initializedFields = []
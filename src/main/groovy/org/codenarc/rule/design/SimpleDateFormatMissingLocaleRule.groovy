@@ -18,6 +18,7 @@ package org.codenarc.rule.design
 import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -34,6 +35,7 @@ class SimpleDateFormatMissingLocaleRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SimpleDateFormatMissingLocaleAstVisitor
 }
 
+@SupportsFusedTraversal
 class SimpleDateFormatMissingLocaleAstVisitor extends AbstractAstVisitor<SimpleDateFormatMissingLocaleRule> {
     @Override
     void visitConstructorCallExpression(ConstructorCallExpression call) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.design
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * There is no benefit in creating a stateless Singleton. Make a new instance with the new keyword instead.
@@ -31,6 +32,7 @@ class StatelessSingletonRule extends AbstractAstVisitorRule {
     String instanceRegex = 'instance|_instance'
 }
 
+@SupportsFusedTraversal
 class StatelessSingletonAstVisitor extends AbstractAstVisitor<StatelessSingletonRule> {
 
     @Override
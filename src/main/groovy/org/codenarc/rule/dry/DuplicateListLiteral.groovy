@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.AnnotatedNode
 import org.codehaus.groovy.ast.expr.ListExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -34,6 +35,7 @@ class DuplicateListLiteralRule extends AbstractAstVisitorRule {
     Class astVisitorClass = DuplicateListLiteralAstVisitor
 }
 
+@SupportsFusedTraversal
 class DuplicateListLiteralAstVisitor extends AbstractAstVisitor<DuplicateListLiteralRule> {
 
     private final Collection<Map> listLiterals = []
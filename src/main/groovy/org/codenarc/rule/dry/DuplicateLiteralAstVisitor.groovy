@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.FieldNode
 import org.codehaus.groovy.ast.expr.*
 import org.codehaus.groovy.ast.stmt.ReturnStatement
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Abstract superclass for rule AstVisitor classes that detect duplicate literal constants
@@ -29,6 +30,7 @@ import org.codenarc.rule.AbstractAstVisitor
  * @author Chris Mair
  * @author Nicolas Vuillamy
   */
+@SupportsFusedTraversal
 class DuplicateLiteralAstVisitor extends AbstractAstVisitor {
 
     List<String> constants = []
@@ -18,6 +18,7 @@ package org.codenarc.rule.dry
 import org.codehaus.groovy.ast.expr.MapExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -33,6 +34,7 @@ class DuplicateMapLiteralRule extends AbstractAstVisitorRule {
     Class astVisitorClass = DuplicateMapLiteralAstVisitor
 }
 
+@SupportsFusedTraversal
 class DuplicateMapLiteralAstVisitor extends AbstractAstVisitor<DuplicateMapLiteralRule> {
 
     private final Collection<Map> mapLiterals = []
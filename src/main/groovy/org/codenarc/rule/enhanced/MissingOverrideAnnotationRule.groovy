@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.Parameter
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for methods that override a method in a super class or implement a method in an interface but are not annotated with @Override.
@@ -36,6 +37,7 @@ class MissingOverrideAnnotationRule extends AbstractAstVisitorRule {
     int compilerPhase = Phases.SEMANTIC_ANALYSIS
 }
 
+@SupportsFusedTraversal
 class MissingOverrideAnnotationAstVisitor extends AbstractAstVisitor<MissingOverrideAnnotationRule> {
 
     private static final ClassNode OVERRIDE = ClassHelper.make(Override)
@@ -17,6 +17,7 @@ package org.codenarc.rule.exceptions
 
 import org.codehaus.groovy.ast.stmt.CatchStatement
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * AstVisitor implementation that checks for catching an exception type specified in the constructor
@@ -25,6 +26,7 @@ import org.codenarc.rule.AbstractAstVisitor
  *
  * @author Chris Mair
   */
+@SupportsFusedTraversal
 class CommonCatchAstVisitor extends AbstractAstVisitor  {
 
     private final String exceptionClassNameWithoutPackage
@@ -18,6 +18,7 @@ package org.codenarc.rule.exceptions
 import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codehaus.groovy.ast.stmt.ThrowStatement
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * AstVisitor implementation that checks for throwing one of the exception type names specified in the constructor
@@ -26,6 +27,7 @@ import org.codenarc.rule.AbstractAstVisitor
  *
  * @author Chris Mair
   */
+@SupportsFusedTraversal
 class CommonThrowAstVisitor extends AbstractAstVisitor  {
 
     private final List exceptionTypeNames
@@ -18,6 +18,7 @@ package org.codenarc.rule.exceptions
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class ConfusingClassNamedExceptionRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConfusingClassNamedExceptionAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConfusingClassNamedExceptionAstVisitor extends AbstractAstVisitor<ConfusingClassNamedExceptionRule> {
 
     @Override
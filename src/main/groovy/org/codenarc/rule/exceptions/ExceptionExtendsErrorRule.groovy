@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ClassHelper
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Errors are system exceptions. Do not extend them.
@@ -33,6 +34,7 @@ class ExceptionExtendsErrorRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ExceptionExtendsErrorAstVisitor
 }
 
+@SupportsFusedTraversal
 class ExceptionExtendsErrorAstVisitor extends AbstractAstVisitor<ExceptionExtendsErrorRule> {
 
     private final ClassNode errorClassNode = ClassHelper.make(Error)
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ClassHelper
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for classes that extend Throwable. Custom exception classes should subclass Exception or one of its descendants.
@@ -32,6 +33,7 @@ class ExceptionExtendsThrowableRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ExceptionExtendsThrowableAstVisitor
 }
 
+@SupportsFusedTraversal
 class ExceptionExtendsThrowableAstVisitor extends AbstractAstVisitor<ExceptionExtendsThrowableRule> {
 
     private final ClassNode throwableClassNode = ClassHelper.make(Throwable)
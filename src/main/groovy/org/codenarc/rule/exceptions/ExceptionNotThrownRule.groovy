@@ -17,6 +17,7 @@ package org.codenarc.rule.exceptions
 
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codehaus.groovy.ast.stmt.CatchStatement
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codehaus.groovy.ast.expr.ConstructorCallExpression
@@ -35,6 +36,7 @@ class ExceptionNotThrownRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ExceptionNotThrownAstVisitor
 }
 
+@SupportsFusedTraversal
 class ExceptionNotThrownAstVisitor extends AbstractAstVisitor<ExceptionNotThrownRule> {
 
     @Override
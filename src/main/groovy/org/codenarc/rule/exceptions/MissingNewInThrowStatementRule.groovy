@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.ast.stmt.ThrowStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * A common Groovy mistake when throwing exceptions is to forget the new keyword. For instance, "throw RuntimeException()"
@@ -35,6 +36,7 @@ class MissingNewInThrowStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = MissingNewInThrowStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class MissingNewInThrowStatementAstVisitor extends AbstractAstVisitor<MissingNewInThrowStatementRule> {
     @Override
     void visitThrowStatement(ThrowStatement statement) {
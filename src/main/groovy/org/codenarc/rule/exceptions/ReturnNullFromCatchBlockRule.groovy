@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.stmt.ReturnStatement
 import org.codehaus.groovy.ast.stmt.Statement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -37,6 +38,7 @@ class ReturnNullFromCatchBlockRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ReturnNullFromCatchBlockAstVisitor
 }
 
+@SupportsFusedTraversal
 class ReturnNullFromCatchBlockAstVisitor extends AbstractAstVisitor<ReturnNullFromCatchBlockRule> {
 
     @Override
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.stmt.CatchStatement
 import org.codehaus.groovy.ast.stmt.ThrowStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Detects code that catches java.lang.ThreadDeath without re-throwing it. If ThreadDeath is caught by a method, it is important that it be rethrown so that the thread actually dies.
@@ -34,6 +35,7 @@ class SwallowThreadDeathRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SwallowThreadDeathAstVisitor
 }
 
+@ControlsOwnTraversal
 class SwallowThreadDeathAstVisitor extends AbstractAstVisitor<SwallowThreadDeathRule> {
 
     private boolean withinCatchThreadDeath = false
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ASTNode
 import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.ast.expr.GStringExpression
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.rule.Rule
 
 /**
@@ -26,6 +27,7 @@ import org.codenarc.rule.Rule
  *
  * @author Chris Mair
  */
+@ControlsOwnTraversal
 abstract class AbstractSpaceAroundBraceAstVisitor<R extends Rule> extends AbstractAstVisitor<R> {
 
     private final Stack<GStringExpression> gStringExpressionsStack = [] as Stack
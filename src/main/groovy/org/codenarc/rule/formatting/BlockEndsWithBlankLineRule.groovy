@@ -25,6 +25,7 @@ import org.codehaus.groovy.ast.stmt.SwitchStatement
 import org.codehaus.groovy.ast.stmt.TryCatchStatement
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 
 /**
@@ -40,6 +41,7 @@ class BlockEndsWithBlankLineRule extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class BlockEndsWithBlankLineAstVisitor extends AbstractAstVisitor<BlockEndsWithBlankLineRule> {
     @Override
     void visitBlockStatement(BlockStatement block) {
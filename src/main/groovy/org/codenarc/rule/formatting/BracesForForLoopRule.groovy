@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ClosureListExpression
 import org.codehaus.groovy.ast.stmt.ForStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -36,6 +37,7 @@ class BracesForForLoopRule extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class BracesForForLoopAstVisitor extends AbstractAstVisitor<BracesForForLoopRule> {
 
     @Override
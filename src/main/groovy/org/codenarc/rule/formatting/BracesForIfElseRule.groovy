@@ -18,6 +18,7 @@ package org.codenarc.rule.formatting
 import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -59,6 +60,7 @@ class BracesForIfElseRule extends AbstractAstVisitorRule {
 
 }
 
+@ControlsOwnTraversal
 class BracesForIfElseAstVisitor extends AbstractAstVisitor<BracesForIfElseRule> {
 
     @Override
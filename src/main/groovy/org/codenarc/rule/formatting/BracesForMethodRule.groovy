@@ -18,6 +18,7 @@ package org.codenarc.rule.formatting
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks the location of the opening brace ({) for constructors and methods. By default, requires them on the same line, but the sameLine property can be set to false to override this.
@@ -35,6 +36,7 @@ class BracesForMethodRule extends AbstractAstVisitorRule {
     boolean allowBraceOnNextLineForMultilineDeclarations = false
 }
 
+@SupportsFusedTraversal
 class BracesForMethodAstVisitor extends AbstractAstVisitor<BracesForMethodRule> {
 
     @Override
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.stmt.CatchStatement
 import org.codehaus.groovy.ast.stmt.TryCatchStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks the location of the opening brace ({) for try statements, the location
@@ -54,6 +55,7 @@ class BracesForTryCatchFinallyRule extends AbstractAstVisitorRule {
     Boolean finallyOnSameLineAsOpeningBrace
 }
 
+@SupportsFusedTraversal
 class BracesForTryCatchFinallyAstVisitor extends AbstractAstVisitor<BracesForTryCatchFinallyRule> {
 
     @Override
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.ASTNode
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 import org.codenarc.util.AstUtil
 
@@ -57,6 +58,7 @@ class ClassEndsWithBlankLineRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ClassEndsWithBlankLineAstVisitor
 }
 
+@SupportsFusedTraversal
 class ClassEndsWithBlankLineAstVisitor extends AbstractAstVisitor<ClassEndsWithBlankLineRule> {
 
     private static final int PENULTIMATE_LINE_OFFSET = 2
@@ -19,6 +19,7 @@ import groovy.transform.Memoized
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 import org.codenarc.util.AstUtil
 
@@ -57,6 +58,7 @@ class ClassStartsWithBlankLineRule extends AbstractAstVisitorRule {
     boolean blankLineRequired = true
 }
 
+@SupportsFusedTraversal
 class ClassStartsWithBlankLineAstVisitor extends AbstractAstVisitor<ClassStartsWithBlankLineRule> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for closure logic on first line (after ->) for a multi-line closure
@@ -32,6 +33,7 @@ class ClosureStatementOnOpeningLineOfMultipleLineClosureRule extends AbstractAst
     Class astVisitorClass = ClosureStatementOnOpeningLineOfMultipleLineClosureAstVisitor
 }
 
+@SupportsFusedTraversal
 class ClosureStatementOnOpeningLineOfMultipleLineClosureAstVisitor extends AbstractAstVisitor<ClosureStatementOnOpeningLineOfMultipleLineClosureRule> {
 
     @Override
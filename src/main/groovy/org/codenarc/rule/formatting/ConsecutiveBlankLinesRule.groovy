@@ -16,6 +16,7 @@
 package org.codenarc.rule.formatting
 
 import org.codenarc.rule.AbstractRule
+import org.codenarc.rule.RuleCapability
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 
@@ -29,6 +30,11 @@ class ConsecutiveBlankLinesRule extends AbstractRule {
     String name = 'ConsecutiveBlankLines'
     int priority = 3
 
+    @Override
+    Set<RuleCapability> getRequiredCapabilities() {
+        EnumSet.of(RuleCapability.LINES)
+    }
+
     /**
      * Apply the rule to the given source, writing violations to the given list.
      *
@@ -16,6 +16,7 @@
 package org.codenarc.rule.formatting
 
 import org.codenarc.rule.AbstractRule
+import org.codenarc.rule.RuleCapability
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 
@@ -29,6 +30,11 @@ class FileEndsWithoutNewlineRule extends AbstractRule {
     String name = 'FileEndsWithoutNewline'
     int priority = 3
 
+    @Override
+    Set<RuleCapability> getRequiredCapabilities() {
+        EnumSet.of(RuleCapability.TEXT, RuleCapability.LINES)
+    }
+
     /**
      * Apply the rule to the given source, writing violations to the given list.
      * @param sourceCode The source to check
@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.stmt.Statement
 import org.codehaus.groovy.ast.stmt.SwitchStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 import org.codenarc.util.AstUtil
@@ -54,6 +55,7 @@ class IndentationRule extends AbstractAstVisitorRule {
     }
 }
 
+@ControlsOwnTraversal
 class IndentationAstVisitor extends AbstractAstVisitor<IndentationRule> {
 
     // Limitations:
@@ -16,6 +16,7 @@
 package org.codenarc.rule.formatting
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.RuleCapability
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 
@@ -37,6 +38,11 @@ class LineLengthRule extends AbstractAstVisitorRule {
     boolean ignorePackageStatements = true // import statements can be longer than the max line length
     String ignoreLineRegex
 
+    @Override
+    Set<RuleCapability> getRequiredCapabilities() {
+        EnumSet.of(RuleCapability.LINES)
+    }
+
     @Override
     void applyTo(SourceCode sourceCode, List<Violation> violations) {
         int lineNumber = 0
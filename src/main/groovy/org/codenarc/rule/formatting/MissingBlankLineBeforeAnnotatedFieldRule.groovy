@@ -18,6 +18,7 @@ package org.codenarc.rule.formatting
 import org.codehaus.groovy.ast.FieldNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -30,6 +31,7 @@ class MissingBlankLineBeforeAnnotatedFieldRule extends AbstractAstVisitorRule {
     Class astVisitorClass = MissingBlankLineBeforeAnnotatedFieldRuleAstVisitor
 }
 
+@SupportsFusedTraversal
 class MissingBlankLineBeforeAnnotatedFieldRuleAstVisitor extends AbstractAstVisitor<MissingBlankLineBeforeAnnotatedFieldRule> {
 
     @Override
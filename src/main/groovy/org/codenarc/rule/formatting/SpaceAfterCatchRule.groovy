@@ -16,6 +16,7 @@
 package org.codenarc.rule.formatting
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codehaus.groovy.ast.stmt.CatchStatement
 
 /**
@@ -30,6 +31,7 @@ class SpaceAfterCatchRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterElseAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterElseAstVisitor extends AbstractSingleSpaceAfterKeywordAstVisitor<SpaceAfterCatchRule> {
 
     @Override
@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.MethodNode
 import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Check that there is at least one space (blank) or whitespace after each closing brace ("}").
@@ -45,6 +46,7 @@ class SpaceAfterClosingBraceRule extends AbstractAstVisitorRule {
     boolean checkClosureMapEntryValue = true
 }
 
+@ControlsOwnTraversal
 class SpaceAfterClosingBraceAstVisitor extends AbstractSpaceAroundBraceAstVisitor<SpaceAfterClosingBraceRule> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.MethodNode
 import org.codehaus.groovy.ast.expr.*
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.SourceCodeUtil
 
 /**
@@ -39,6 +40,7 @@ class SpaceAfterCommaRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterCommaAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterCommaAstVisitor extends AbstractAstVisitor<SpaceAfterCommaRule> {
 
     private static final char COMMA = ','
@@ -16,6 +16,7 @@
 package org.codenarc.rule.formatting
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codehaus.groovy.ast.stmt.ForStatement
 
 /**
@@ -30,6 +31,7 @@ class SpaceAfterForRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterForAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterForAstVisitor extends AbstractSingleSpaceAfterKeywordAstVisitor<SpaceAfterForRule> {
 
     @Override
@@ -17,6 +17,7 @@ package org.codenarc.rule.formatting
 
 import org.codehaus.groovy.ast.stmt.IfStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Check that there is exactly one space (blank) after the if keyword and before the opening parenthesis.
@@ -30,6 +31,7 @@ class SpaceAfterIfRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterIfAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterIfAstVisitor extends AbstractSingleSpaceAfterKeywordAstVisitor<SpaceAfterIfRule> {
 
     @Override
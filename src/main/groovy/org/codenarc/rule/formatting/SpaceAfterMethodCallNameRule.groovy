@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 
 import java.util.regex.Pattern
@@ -34,6 +35,7 @@ class SpaceAfterMethodCallNameRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterMethodCallNameRuleAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterMethodCallNameRuleAstVisitor extends AbstractAstVisitor<SpaceAfterMethodCallNameRule> {
 
     @Override
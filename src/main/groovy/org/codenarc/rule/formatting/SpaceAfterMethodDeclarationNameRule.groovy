@@ -18,6 +18,7 @@ package org.codenarc.rule.formatting
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Check whether method declarations do not contain unnecessary whitespace between method name and the opening
@@ -30,6 +31,7 @@ class SpaceAfterMethodDeclarationNameRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterMethodDeclarationNameRuleAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterMethodDeclarationNameRuleAstVisitor extends AbstractAstVisitor<SpaceAfterMethodDeclarationNameRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.formatting
 import org.codehaus.groovy.ast.expr.NotExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Check that there are no whitespace characters directly after the not (!) operator.
@@ -29,6 +30,7 @@ class SpaceAfterNotOperatorRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterNotOperatorRuleAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterNotOperatorRuleAstVisitor extends AbstractAstVisitor<SpaceAfterNotOperatorRule> {
 
     @Override
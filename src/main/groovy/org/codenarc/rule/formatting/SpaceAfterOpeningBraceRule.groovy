@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codehaus.groovy.ast.expr.MapEntryExpression
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Check that there is at least one space (blank) or whitespace after each opening brace ("{").
@@ -39,6 +40,7 @@ class SpaceAfterOpeningBraceRule extends AbstractAstVisitorRule {
     boolean ignoreEmptyBlock = false
 }
 
+@ControlsOwnTraversal
 class SpaceAfterOpeningBraceAstVisitor extends AbstractSpaceAroundBraceAstVisitor<SpaceAfterOpeningBraceRule> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
 
 import org.codehaus.groovy.ast.stmt.BlockStatement
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codehaus.groovy.ast.stmt.ForStatement
 import org.codehaus.groovy.ast.expr.ClosureListExpression
@@ -37,6 +38,7 @@ class SpaceAfterSemicolonRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterSemicolonAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterSemicolonAstVisitor extends AbstractAstVisitor<SpaceAfterSemicolonRule> {
     @Override
     void visitBlockStatement(BlockStatement block) {
@@ -16,6 +16,7 @@
 package org.codenarc.rule.formatting
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codehaus.groovy.ast.stmt.SwitchStatement
 
 /**
@@ -30,6 +31,7 @@ class SpaceAfterSwitchRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterSwitchAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterSwitchAstVisitor extends AbstractSingleSpaceAfterKeywordAstVisitor<SpaceAfterSwitchRule> {
 
     @Override
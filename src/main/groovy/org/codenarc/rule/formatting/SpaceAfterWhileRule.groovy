@@ -17,6 +17,7 @@ package org.codenarc.rule.formatting
 
 import org.codehaus.groovy.ast.stmt.WhileStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Check that there is exactly one space (blank) after the while keyword and before the opening parenthesis.
@@ -30,6 +31,7 @@ class SpaceAfterWhileRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAfterWhileAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAfterWhileAstVisitor extends AbstractSingleSpaceAfterKeywordAstVisitor<SpaceAfterWhileRule> {
 
     @Override
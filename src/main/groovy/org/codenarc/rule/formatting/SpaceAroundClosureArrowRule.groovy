@@ -18,6 +18,7 @@ package org.codenarc.rule.formatting
 import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks that there is whitespace around the closure arrow (->) symbol
@@ -30,6 +31,7 @@ class SpaceAroundClosureArrowRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAroundClosureArrowAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAroundClosureArrowAstVisitor extends AbstractAstVisitor<SpaceAroundClosureArrowRule> {
 
     @Override
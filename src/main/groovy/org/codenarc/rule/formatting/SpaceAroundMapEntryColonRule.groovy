@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.MapEntryExpression
 import org.codehaus.groovy.ast.expr.SpreadMapExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Check for configured formatting of whitespace around colons for literal Map entries
@@ -34,6 +35,7 @@ class SpaceAroundMapEntryColonRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAroundMapEntryColonAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceAroundMapEntryColonAstVisitor extends AbstractAstVisitor<SpaceAroundMapEntryColonRule> {
 
     @Override
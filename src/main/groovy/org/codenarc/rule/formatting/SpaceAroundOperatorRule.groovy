@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.Parameter
 import org.codehaus.groovy.ast.expr.*
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -41,6 +42,7 @@ class SpaceAroundOperatorRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceAroundOperatorAstVisitor
 }
 
+@ControlsOwnTraversal
 class SpaceAroundOperatorAstVisitor extends AbstractAstVisitor<SpaceAroundOperatorRule> {
 
     private static final String QUOTE = '"'
@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codehaus.groovy.ast.expr.MapEntryExpression
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Check that there is at least one space (blank) or whitespace before each closing brace ("}").
@@ -39,6 +40,7 @@ class SpaceBeforeClosingBraceRule extends AbstractAstVisitorRule {
     boolean ignoreEmptyBlock = false
 }
 
+@ControlsOwnTraversal
 class SpaceBeforeClosingBraceAstVisitor extends AbstractSpaceAroundBraceAstVisitor<SpaceBeforeClosingBraceRule> {
 
     @Override
@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.expr.MapEntryExpression
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codehaus.groovy.ast.stmt.SwitchStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Check that there is at least one space (blank) or whitespace before each opening brace ("{").
@@ -42,6 +43,7 @@ class SpaceBeforeOpeningBraceRule extends AbstractAstVisitorRule {
     boolean checkClosureMapEntryValue = true
 }
 
+@ControlsOwnTraversal
 class SpaceBeforeOpeningBraceAstVisitor extends AbstractSpaceAroundBraceAstVisitor<SpaceBeforeOpeningBraceRule> {
 
     @Override
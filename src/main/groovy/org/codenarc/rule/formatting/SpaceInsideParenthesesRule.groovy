@@ -18,6 +18,7 @@ package org.codenarc.rule.formatting
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 
 /**
@@ -32,6 +33,7 @@ class SpaceInsideParenthesesRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpaceInsideParenthesesAstVisitor
 }
 
+@SupportsFusedTraversal
 class SpaceInsideParenthesesAstVisitor extends AbstractAstVisitor<SpaceInsideParenthesesRule> {
 
     private static final String MESSAGE_SPACE_AFTER_OPENING_PARENTHESIS = 'The opening parenthesis is followed by whitespace'
@@ -16,6 +16,7 @@
 package org.codenarc.rule.formatting
 
 import org.codenarc.rule.AbstractRule
+import org.codenarc.rule.RuleCapability
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 
@@ -30,6 +31,11 @@ class TrailingWhitespaceRule extends AbstractRule {
     String name = 'TrailingWhitespace'
     int priority = 3
 
+    @Override
+    Set<RuleCapability> getRequiredCapabilities() {
+        EnumSet.of(RuleCapability.LINES)
+    }
+
     @Override
     void applyTo(SourceCode sourceCode, List<Violation> violations) {
         sourceCode.lines.eachWithIndex { line, index ->
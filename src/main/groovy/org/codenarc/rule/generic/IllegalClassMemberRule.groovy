@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.MethodNode
 import org.codehaus.groovy.ast.PropertyNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -93,6 +94,7 @@ class IllegalClassMemberRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class IllegalClassMemberAstVisitor extends AbstractAstVisitor<IllegalClassMemberRule> {
 
     @Override
@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.MethodNode
 import org.codehaus.groovy.ast.ModuleNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.ImportUtil
 import org.codenarc.util.WildcardPattern
 import org.codehaus.groovy.ast.expr.*
@@ -50,6 +51,7 @@ class IllegalPackageReferenceRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class IllegalPackageReferenceAstVisitor extends AbstractAstVisitor<IllegalPackageReferenceRule> {
 
     private WildcardPattern wildcard
@@ -16,6 +16,7 @@
 package org.codenarc.rule.generic
 
 import org.codenarc.rule.AbstractRule
+import org.codenarc.rule.RuleCapability
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 
@@ -40,6 +41,11 @@ class IllegalStringRule extends AbstractRule {
         string
     }
 
+    @Override
+    Set<RuleCapability> getRequiredCapabilities() {
+        EnumSet.of(RuleCapability.TEXT)
+    }
+
     @Override
     void applyTo(SourceCode sourceCode, List<Violation> violations) {
         def index = sourceCode.getText().indexOf(string)
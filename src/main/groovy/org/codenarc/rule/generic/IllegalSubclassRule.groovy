@@ -18,6 +18,7 @@ package org.codenarc.rule.generic
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -38,6 +39,7 @@ class IllegalSubclassRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class IllegalSubclassAstVisitor extends AbstractAstVisitor<IllegalSubclassRule> {
 
     @Override
@@ -16,6 +16,7 @@
 package org.codenarc.rule.generic
 
 import org.codenarc.rule.AbstractRule
+import org.codenarc.rule.RuleCapability
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 
@@ -39,6 +40,11 @@ class RequiredRegexRule extends AbstractRule {
         regex
     }
 
+    @Override
+    Set<RuleCapability> getRequiredCapabilities() {
+        EnumSet.of(RuleCapability.TEXT)
+    }
+
     @Override
     void applyTo(SourceCode sourceCode, List<Violation> violations) {
         if (!(sourceCode.getText() =~ regex)) {
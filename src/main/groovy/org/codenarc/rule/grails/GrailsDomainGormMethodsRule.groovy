@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Database operation should be performed by Data Services instead of calling GORM static and instance methods.
@@ -100,6 +101,7 @@ class GrailsDomainGormMethodsRule extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class GrailsDomainGormMethodsAstVisitor extends AbstractAstVisitor<GrailsDomainGormMethodsRule> {
 
     @Override
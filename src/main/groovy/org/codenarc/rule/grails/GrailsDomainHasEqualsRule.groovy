@@ -21,6 +21,7 @@ import static org.codenarc.util.AstUtil.isMethodNode
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks that Grails domain classes redefine equals().
@@ -36,6 +37,7 @@ class GrailsDomainHasEqualsRule extends AbstractAstVisitorRule {
     String applyToFilesMatching = GrailsUtil.DOMAIN_FILES
 }
 
+@SupportsFusedTraversal
 class GrailsDomainHasEqualsAstVisitor extends AbstractAstVisitor<GrailsDomainHasEqualsRule> {
     @Override
     void visitClassComplete(ClassNode classNode) {
@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.expr.ListExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Forbids usage of SQL reserved keywords as class or field names in Grails domain classes.
@@ -100,6 +101,7 @@ class GrailsDomainReservedSqlKeywordNameRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class GrailsDomainReservedSqlKeywordNameAstVisitor extends AbstractAstVisitor<GrailsDomainReservedSqlKeywordNameRule> {
 
     private final Set<String> reservedSqlKeywords
@@ -17,6 +17,7 @@ package org.codenarc.rule.grails
 
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codehaus.groovy.ast.FieldNode
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 
@@ -33,6 +34,7 @@ class GrailsDuplicateConstraintRule extends AbstractAstVisitorRule {
     String applyToFilesMatching = GrailsUtil.DOMAIN_FILES
 }
 
+@ControlsOwnTraversal
 class GrailsDuplicateConstraintAstVisitor extends AbstractAstVisitor<GrailsDuplicateConstraintRule> {
 
     private final Set<String> constraintNames = []
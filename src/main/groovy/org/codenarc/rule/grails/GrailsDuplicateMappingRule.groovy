@@ -17,6 +17,7 @@ package org.codenarc.rule.grails
 
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.FieldNode
 
@@ -33,6 +34,7 @@ class GrailsDuplicateMappingRule extends AbstractAstVisitorRule {
     String applyToFilesMatching = GrailsUtil.DOMAIN_FILES
 }
 
+@ControlsOwnTraversal
 class GrailsDuplicateMappingAstVisitor extends AbstractAstVisitor<GrailsDuplicateMappingRule> {
 
     private final Set<String> mappingNames = []
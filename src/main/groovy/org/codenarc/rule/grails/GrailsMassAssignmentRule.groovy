@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.BinaryExpression
 import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codehaus.groovy.ast.expr.PropertyExpression
 import org.codehaus.groovy.ast.expr.AttributeExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
@@ -35,6 +36,7 @@ class GrailsMassAssignmentRule extends AbstractAstVisitorRule {
     Class astVisitorClass = GrailsMassAssignmentAstVisitor
 }
 
+@SupportsFusedTraversal
 class GrailsMassAssignmentAstVisitor extends AbstractAstVisitor<GrailsMassAssignmentRule> {
 
     @Override
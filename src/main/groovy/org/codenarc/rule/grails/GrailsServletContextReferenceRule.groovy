@@ -18,6 +18,7 @@ package org.codenarc.rule.grails
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that checks for references to the servletContext object from within Grails controller and
@@ -47,6 +48,7 @@ class GrailsServletContextReferenceRule extends AbstractAstVisitorRule {
     String applyToFilesMatching = GrailsUtil.CONTROLLERS_AND_TAGLIB_FILES
 }
 
+@SupportsFusedTraversal
 class GrailsServletContextReferenceAstVisitor extends AbstractAstVisitor<GrailsServletContextReferenceRule> {
     @Override
     void visitVariableExpression(VariableExpression expression) {
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -36,6 +37,7 @@ class AssignCollectionSortRule extends AbstractAstVisitorRule {
     Class astVisitorClass = AssignCollectionSortAstVisitor
 }
 
+@SupportsFusedTraversal
 class AssignCollectionSortAstVisitor extends AbstractAstVisitor<AssignCollectionSortRule> {
     @Override
     void visitDeclarationExpression(DeclarationExpression expression) {
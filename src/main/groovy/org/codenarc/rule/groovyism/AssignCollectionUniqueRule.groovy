@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -41,6 +42,7 @@ class AssignCollectionUniqueRule extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class AssignCollectionUniqueAstVisitor extends AbstractAstVisitor<AssignCollectionUniqueRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.groovyism
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -35,6 +36,7 @@ class CollectAllIsDeprecatedRule extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class CollectAllIsDeprecatedAstVisitor extends AbstractAstVisitor<CollectAllIsDeprecatedRule> {
     @Override
     void visitMethodCallExpression(MethodCallExpression call) {
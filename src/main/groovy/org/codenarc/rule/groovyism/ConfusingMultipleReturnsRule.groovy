@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.DeclarationExpression
 import org.codehaus.groovy.ast.expr.EmptyExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Multiple return values can be used to set several variables at once. To use multiple return values, the left hand
@@ -35,6 +36,7 @@ class ConfusingMultipleReturnsRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConfusingMultipleReturnsAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConfusingMultipleReturnsAstVisitor extends AbstractAstVisitor<ConfusingMultipleReturnsRule> {
 
     Set<DeclarationExpression> declarations = [] as Set
@@ -18,6 +18,7 @@ package org.codenarc.rule.groovyism
 import org.codehaus.groovy.ast.expr.MapEntryExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -33,6 +34,7 @@ class GStringAsMapKeyRule extends AbstractAstVisitorRule {
     Class astVisitorClass = GStringAsMapKeyAstVisitor
 }
 
+@SupportsFusedTraversal
 class GStringAsMapKeyAstVisitor extends AbstractAstVisitor<GStringAsMapKeyRule> {
 
     @Override
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.AnnotationNode
 import org.codehaus.groovy.ast.expr.*
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 import java.util.regex.Matcher
 
@@ -34,6 +35,7 @@ class GStringExpressionWithinStringRule extends AbstractAstVisitorRule {
     Class astVisitorClass = GStringExpressionWithinStringAstVisitor
 }
 
+@ControlsOwnTraversal
 class GStringExpressionWithinStringAstVisitor extends AbstractAstVisitor<GStringExpressionWithinStringRule> {
 
     private static final String GSTRING_EXPRESSION_REGEX = /\$\{.*\}/
@@ -25,6 +25,7 @@ import org.codehaus.groovy.ast.stmt.ExpressionStatement
 import org.codehaus.groovy.ast.stmt.ReturnStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -42,6 +43,7 @@ class GetterMethodCouldBePropertyRule extends AbstractAstVisitorRule {
     Class astVisitorClass = GetterMethodCouldBePropertyAstVisitor
 }
 
+@SupportsFusedTraversal
 class GetterMethodCouldBePropertyAstVisitor extends AbstractAstVisitor<GetterMethodCouldBePropertyRule> {
 
     private static final String CONSTANT_NAME_REGEX = /[A-Z].*/
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.ast.ModuleNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * The groovy.lang.Immutable annotation has been deprecated and replaced by groovy.transform.Immutable. Do not use the
@@ -33,6 +34,7 @@ class GroovyLangImmutableRule extends AbstractAstVisitorRule {
     Class astVisitorClass = GroovyLangImmutableAstVisitor
 }
 
+@SupportsFusedTraversal
 class GroovyLangImmutableAstVisitor extends AbstractAstVisitor<GroovyLangImmutableRule> {
     boolean groovyTransformIsStarImported = false
     boolean groovyTransformIsImported = false
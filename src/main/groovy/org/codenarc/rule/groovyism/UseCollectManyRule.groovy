@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.Expression
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -36,6 +37,7 @@ class UseCollectManyRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UseCollectManyAstVisitor
 }
 
+@SupportsFusedTraversal
 class UseCollectManyAstVisitor extends AbstractAstVisitor<UseCollectManyRule> {
     @Override
     void visitMethodCallExpression(MethodCallExpression call) {
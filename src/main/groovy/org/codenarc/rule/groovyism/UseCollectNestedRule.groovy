@@ -27,6 +27,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -45,6 +46,7 @@ class UseCollectNestedRule extends AbstractAstVisitorRule {
 
 }
 
+@ControlsOwnTraversal
 class UseCollectNestedAstVisitor extends AbstractAstVisitor<UseCollectNestedRule> {
 
     private static final Logger LOG = LoggerFactory.getLogger(UseCollectNestedAstVisitor)
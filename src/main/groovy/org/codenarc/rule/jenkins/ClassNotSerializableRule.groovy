@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -35,6 +36,7 @@ class ClassNotSerializableRule extends AbstractAstVisitorRule {
     String applyToFileNames = 'Jenkinsfile'
 }
 
+@SupportsFusedTraversal
 class ClassNotSerializableAstVisitor extends AbstractAstVisitor<ClassNotSerializableRule> {
     @Override
     protected void visitClassEx(ClassNode classNode) {
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.expr.Expression
 import org.codehaus.groovy.ast.expr.GStringExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Closures are CPS transformed in Jenkins and will cause an error at runtime when used in GStrings. Typically, they can be replaced by variable interpolation
@@ -34,6 +35,7 @@ class ClosureInGStringRule extends AbstractAstVisitorRule {
     String applyToFileNames = 'Jenkinsfile'
 }
 
+@SupportsFusedTraversal
 class ClosureInGStringAstVisitor extends AbstractAstVisitor<ClosureInGStringRule> {
 
     @Override
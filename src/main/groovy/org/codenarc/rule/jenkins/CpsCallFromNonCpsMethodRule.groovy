@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * CPS transformed methods may not be called from non CPS transformed methods in Jenkins
@@ -41,6 +42,7 @@ class CpsCallFromNonCpsMethodRule extends AbstractAstVisitorRule {
     List<String> cpsPackages = []
 }
 
+@ControlsOwnTraversal
 class CpsCallFromNonCpsMethodAstVisitor extends AbstractAstVisitor<CpsCallFromNonCpsMethodRule> {
 
     private final static List<String> PIPELINE_STEP_CPS_EXCEPTIONS = ['echo', 'properties', 'getContext']
@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.stmt.ForStatement
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.serialization.SerializationUtil
 
 /**
@@ -40,6 +41,7 @@ class ExpressionInCpsMethodNotSerializableRule extends AbstractAstVisitorRule {
     String applyToFileNames = 'Jenkinsfile'
 }
 
+@SupportsFusedTraversal
 class ExpressionInCpsMethodNotSerializableAstVisitor extends AbstractAstVisitor<ExpressionInCpsMethodNotSerializableRule> {
 
     @Override
@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -38,6 +39,7 @@ class ForbiddenCallInCpsMethodRule extends AbstractAstVisitorRule {
     String applyToFileNames = 'Jenkinsfile'
 }
 
+@SupportsFusedTraversal
 class ForbiddenCallInCpsMethodAstVisitor extends AbstractAstVisitor<ForbiddenCallInCpsMethodRule> {
     protected List<Map> forbiddenMethods = [
         [type: 'java.lang.Iterable', name: 'sort', parameters: ['groovy.lang.Closure']],
@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.expr.StaticMethodCallExpression
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -41,6 +42,7 @@ class JUnitAssertEqualsConstantActualValueRule extends AbstractAstVisitorRule {
     int compilerPhase = Phases.SEMANTIC_ANALYSIS
 }
 
+@SupportsFusedTraversal
 class JUnitAssertEqualsConstantActualValueAstVisitor extends AbstractAstVisitor<JUnitAssertEqualsConstantActualValueRule> {
 
     private static final String ASSERT_EQUALS = 'assertEquals'
@@ -18,6 +18,7 @@ package org.codenarc.rule.junit
 import org.codehaus.groovy.ast.PropertyNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -35,6 +36,7 @@ class JUnitPublicPropertyRule extends AbstractAstVisitorRule {
     String ignorePropertyNames
 }
 
+@SupportsFusedTraversal
 class JUnitPublicPropertyAstVisitor extends AbstractAstVisitor<JUnitPublicPropertyRule> {
 
     @Override
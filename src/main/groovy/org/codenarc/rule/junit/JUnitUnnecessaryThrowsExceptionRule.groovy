@@ -18,6 +18,7 @@ package org.codenarc.rule.junit
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
 import org.codehaus.groovy.ast.MethodNode
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -36,6 +37,7 @@ class JUnitUnnecessaryThrowsExceptionRule extends AbstractAstVisitorRule {
     String applyToClassNames = DEFAULT_TEST_CLASS_NAMES
 }
 
+@SupportsFusedTraversal
 class JUnitUnnecessaryThrowsExceptionAstVisitor extends AbstractAstVisitor<JUnitUnnecessaryThrowsExceptionRule> {
 
     private static final List JUNIT4_ANNOTATIONS = ['Test', 'Before', 'BeforeClass', 'AfterClass', 'After', 'Ignore']
@@ -30,6 +30,7 @@ import org.codehaus.groovy.ast.stmt.WhileStatement
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * Spock treats all expressions on the first level of a then or expect block as an implicit assertion. However,
@@ -50,6 +51,7 @@ class SpockMissingAssertRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SpockMissingAssertAstVisitor
 }
 
+@ControlsOwnTraversal
 class SpockMissingAssertAstVisitor extends AbstractAstVisitor<SpockMissingAssertRule> {
 
     private String currentLabel = null
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.stmt.AssertStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -38,6 +39,7 @@ class UseAssertTrueInsteadOfAssertEqualsRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UseAssertTrueInsteadOfAssertEqualsAstVisitor
 }
 
+@SupportsFusedTraversal
 class UseAssertTrueInsteadOfAssertEqualsAstVisitor extends AbstractAstVisitor<UseAssertTrueInsteadOfAssertEqualsRule> {
 
     @Override
@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.stmt.CatchStatement
 import org.codehaus.groovy.ast.stmt.ExpressionStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -37,6 +38,7 @@ class LoggingSwallowsStacktraceRule extends AbstractAstVisitorRule {
     Class astVisitorClass = LoggingSwallowsStacktraceAstVisitor
 }
 
+@SupportsFusedTraversal
 class LoggingSwallowsStacktraceAstVisitor extends AbstractAstVisitor<LoggingSwallowsStacktraceRule> {
     Map<ClassNode, List<String>> classNodeToLoggerNames = [:]
 
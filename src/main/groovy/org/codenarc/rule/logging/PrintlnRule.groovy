@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.MethodNode
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -36,6 +37,7 @@ class PrintlnRule extends AbstractAstVisitorRule {
     Class astVisitorClass = PrintlnAstVisitor
 }
 
+@SupportsFusedTraversal
 class PrintlnAstVisitor extends AbstractAstVisitor<PrintlnRule> {
 
     boolean printlnMethodDefined = false
@@ -17,6 +17,7 @@ package org.codenarc.rule.naming
 
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that verifies that the name of an abstract class matches a regular expression specified in
@@ -41,6 +42,7 @@ class AbstractClassNameRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class AbstractClassNameAstVisitor extends AbstractTypeNameAstVisitor<AbstractClassNameRule> {
     @Override
     protected boolean shouldVisit(ClassNode classNode) {
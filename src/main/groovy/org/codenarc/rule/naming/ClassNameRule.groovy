@@ -17,6 +17,7 @@ package org.codenarc.rule.naming
 
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that verifies that the name of a class matches a regular expression. By default it checks that the
@@ -44,6 +45,7 @@ class ClassNameRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class ClassNameAstVisitor extends AbstractTypeNameAstVisitor<ClassNameRule> {
     @Override
     protected boolean shouldVisit(ClassNode classNode) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.naming
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for any class that has an identical name to its superclass, other than the package. This can be very confusing.
@@ -31,6 +32,7 @@ class ClassNameSameAsSuperclassRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ClassNameSameAsSuperclassAstVisitor
 }
 
+@SupportsFusedTraversal
 class ClassNameSameAsSuperclassAstVisitor extends AbstractAstVisitor<ClassNameSameAsSuperclassRule> {
 
     @Override
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.MethodNode
 import org.codehaus.groovy.ast.Parameter
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -35,6 +36,7 @@ class ConfusingMethodNameRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConfusingMethodNameAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConfusingMethodNameAstVisitor extends AbstractAstVisitor<ConfusingMethodNameRule> {
 
     @Override
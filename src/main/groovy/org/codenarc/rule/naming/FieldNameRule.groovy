@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.FieldNode
 import org.codehaus.groovy.ast.PropertyNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 import java.lang.reflect.Modifier
@@ -79,6 +80,7 @@ class FieldNameRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class FieldNameAstVisitor extends AbstractAstVisitor<FieldNameRule> {
 
     private final Set propertyNames = []
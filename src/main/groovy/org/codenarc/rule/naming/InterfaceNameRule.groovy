@@ -17,6 +17,7 @@ package org.codenarc.rule.naming
 
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Rule that verifies that the name of an interface matches a regular expression specified in
@@ -39,6 +40,7 @@ class InterfaceNameRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class InterfaceNameAstVisitor extends AbstractTypeNameAstVisitor<InterfaceNameRule> {
     @Override
     protected boolean shouldVisit(ClassNode classNode) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.naming
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for any interface that has an identical name to its super-interface, other than the package. This can be very confusing.
@@ -31,6 +32,7 @@ class InterfaceNameSameAsSuperInterfaceRule extends AbstractAstVisitorRule {
     Class astVisitorClass = InterfaceNameSameAsSuperInterfaceAstVisitor
 }
 
+@SupportsFusedTraversal
 class InterfaceNameSameAsSuperInterfaceAstVisitor extends AbstractAstVisitor<InterfaceNameSameAsSuperInterfaceRule> {
 
     @Override
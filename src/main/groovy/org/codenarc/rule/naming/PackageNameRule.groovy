@@ -18,6 +18,7 @@ package org.codenarc.rule.naming
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 
 /**
@@ -41,6 +42,7 @@ class PackageNameRule extends AbstractAstVisitorRule {
     boolean packageNameRequired = false
 }
 
+@SupportsFusedTraversal
 class PackageNameAstVisitor extends AbstractAstVisitor<PackageNameRule> {
     @Override
     void visitClassEx(ClassNode classNode) {
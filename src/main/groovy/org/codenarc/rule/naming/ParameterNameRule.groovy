@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.Parameter
 import org.codehaus.groovy.ast.expr.ClosureExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 /**
@@ -51,6 +52,7 @@ class ParameterNameRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class ParameterNameAstVisitor extends AbstractAstVisitor<ParameterNameRule> {
 
     @Override
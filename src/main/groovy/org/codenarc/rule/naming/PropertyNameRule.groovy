@@ -18,6 +18,7 @@ package org.codenarc.rule.naming
 import org.codehaus.groovy.ast.PropertyNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.WildcardPattern
 
 import java.lang.reflect.Modifier
@@ -74,6 +75,7 @@ class PropertyNameRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class PropertyNameAstVisitor extends AbstractAstVisitor<PropertyNameRule> {
 
     @Override
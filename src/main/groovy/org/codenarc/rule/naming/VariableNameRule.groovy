@@ -18,6 +18,7 @@ package org.codenarc.rule.naming
 import org.codehaus.groovy.ast.expr.DeclarationExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codenarc.util.WildcardPattern
 
@@ -48,6 +49,7 @@ class VariableNameRule extends AbstractAstVisitorRule {
     Class astVisitorClass = VariableNameAstVisitor
 }
 
+@SupportsFusedTraversal
 class VariableNameAstVisitor extends AbstractAstVisitor<VariableNameRule> {
 
     @Override
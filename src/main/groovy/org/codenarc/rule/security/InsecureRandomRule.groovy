@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -39,6 +40,7 @@ class InsecureRandomRule extends AbstractAstVisitorRule {
     String doNotApplyToFilesMatching = DEFAULT_TEST_FILES
 }
 
+@SupportsFusedTraversal
 class InsecureRandomAstVisitor extends AbstractAstVisitor<InsecureRandomRule> {
     @Override
     void visitConstructorCallExpression(ConstructorCallExpression call) {
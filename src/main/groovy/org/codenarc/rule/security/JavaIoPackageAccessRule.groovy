@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.PropertyExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -35,6 +36,7 @@ class JavaIoPackageAccessRule extends AbstractAstVisitorRule {
     String doNotApplyToFilesMatching = DEFAULT_TEST_FILES
 }
 
+@SupportsFusedTraversal
 class JavaIoPackageAccessAstVisitor extends AbstractAstVisitor<JavaIoPackageAccessRule> {
     @Override
     void visitConstructorCallExpression(ConstructorCallExpression call) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.security
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 import java.lang.reflect.Modifier
@@ -41,6 +42,7 @@ class NonFinalSubclassOfSensitiveInterfaceRule extends AbstractAstVisitorRule {
     Class astVisitorClass = NonFinalSubclassOfSensitiveInterfaceAstVisitor
 }
 
+@SupportsFusedTraversal
 class NonFinalSubclassOfSensitiveInterfaceAstVisitor extends AbstractAstVisitor<NonFinalSubclassOfSensitiveInterfaceRule> {
     @Override
     protected void visitClassEx(ClassNode node) {
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.MapExpression
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Reports incomplete interface implementations created by map-to-interface coercions.
@@ -41,6 +42,7 @@ class UnsafeImplementationAsMapRule extends AbstractAstVisitorRule {
     String doNotApplyToFilesMatching = DEFAULT_TEST_FILES
 }
 
+@SupportsFusedTraversal
 class UnsafeImplementationAsMapAstVisitor extends AbstractAstVisitor<UnsafeImplementationAsMapRule> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.FieldNode
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 import java.lang.reflect.Modifier
 
@@ -35,6 +36,7 @@ class EnumCustomSerializationIgnoredRule extends AbstractAstVisitorRule {
     Class astVisitorClass = EnumCustomSerializationIgnoredAstVisitor
 }
 
+@SupportsFusedTraversal
 class EnumCustomSerializationIgnoredAstVisitor extends AbstractAstVisitor<EnumCustomSerializationIgnoredRule> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.FieldNode
 import org.codehaus.groovy.control.Phases
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -34,6 +35,7 @@ class NonSerializableFieldInSerializableClass extends AbstractAstVisitorRule {
     int compilerPhase = Phases.SEMANTIC_ANALYSIS
 }
 
+@SupportsFusedTraversal
 class NonSerializableFieldInSerializableClassVisitor extends AbstractAstVisitor<NonSerializableFieldInSerializableClass> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.FieldNode
 import org.codehaus.groovy.ast.PropertyNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 import java.lang.reflect.Modifier
 
@@ -33,6 +34,7 @@ class SerialVersionUIDRule extends AbstractAstVisitorRule {
     Class astVisitorClass = SerialVersionUIDAstVisitor
 }
 
+@SupportsFusedTraversal
 class SerialVersionUIDAstVisitor extends AbstractAstVisitor<SerialVersionUIDRule> {
 
     private final static String SERIAL_ID = 'serialVersionUID'
@@ -18,6 +18,7 @@ package org.codenarc.rule.serialization
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -31,6 +32,7 @@ class SerializableClassMustDefineSerialVersionUIDRule extends AbstractAstVisitor
     Class astVisitorClass = SerializableClassMustDefineSerialVersionUIDAstVisitor
 }
 
+@SupportsFusedTraversal
 class SerializableClassMustDefineSerialVersionUIDAstVisitor extends AbstractAstVisitor<SerializableClassMustDefineSerialVersionUIDRule> {
     @Override
     protected void visitClassEx(ClassNode node) {
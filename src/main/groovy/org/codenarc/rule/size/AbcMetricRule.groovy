@@ -16,6 +16,7 @@
 package org.codenarc.rule.size
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.gmetrics.metric.Metric
 import org.gmetrics.metric.abc.AbcMetric
 
@@ -63,6 +64,7 @@ class AbcMetricRule extends AbstractAstVisitorRule {
     String ignoreMethodNames
 }
 
+@SupportsFusedTraversal
 class AbcMetricAstVisitor extends AbstractMethodMetricAstVisitor<AbcMetricRule> {
 
     final String metricShortDescription = 'ABC score'
@@ -18,6 +18,7 @@ package org.codenarc.rule.size
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 
 /**
@@ -37,6 +38,7 @@ class ClassSizeRule extends AbstractAstVisitorRule {
     int maxLines = 1000
 }
 
+@SupportsFusedTraversal
 class ClassSizeAstVisitor extends AbstractAstVisitor<ClassSizeRule> {
     @Override
     void visitClassEx(ClassNode classNode) {
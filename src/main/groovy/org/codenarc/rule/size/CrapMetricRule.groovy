@@ -15,6 +15,7 @@
  */
 package org.codenarc.rule.size
 
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.io.ResourceFactory
 import org.gmetrics.metric.Metric
 import org.slf4j.Logger
@@ -137,6 +138,7 @@ class CrapMetricRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class CrapMetricAstVisitor extends AbstractMethodMetricAstVisitor<CrapMetricRule> {
 
     final String metricShortDescription = 'CRAP score'
@@ -16,6 +16,7 @@
 package org.codenarc.rule.size
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.gmetrics.metric.Metric
 import org.gmetrics.metric.cyclomatic.CyclomaticComplexityMetric
 
@@ -61,6 +62,7 @@ class CyclomaticComplexityRule extends AbstractAstVisitorRule {
     String ignoreMethodNames
 }
 
+@SupportsFusedTraversal
 class CyclomaticComplexityAstVisitor extends AbstractMethodMetricAstVisitor<CyclomaticComplexityRule> {
 
     final String metricShortDescription = 'cyclomatic complexity'
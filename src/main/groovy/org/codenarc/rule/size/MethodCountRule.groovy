@@ -18,6 +18,7 @@ package org.codenarc.rule.size
 import org.codehaus.groovy.ast.ClassNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * A class with too many methods is probably a good suspect for refactoring, in order to reduce its complexity and find
@@ -33,6 +34,7 @@ class MethodCountRule extends AbstractAstVisitorRule {
     int maxMethods = 30
 }
 
+@SupportsFusedTraversal
 class MethodCountAstVisitor extends AbstractAstVisitor<MethodCountRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.size
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 import org.codenarc.util.WildcardPattern
 
@@ -43,6 +44,7 @@ class MethodSizeRule extends AbstractAstVisitorRule {
     String ignoreMethodNames
 }
 
+@SupportsFusedTraversal
 class MethodSizeAstVisitor extends AbstractAstVisitor<MethodSizeRule> {
     @Override
     void visitConstructorOrMethod(MethodNode methodNode, boolean isConstructor) {
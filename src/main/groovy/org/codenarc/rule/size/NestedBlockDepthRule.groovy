@@ -22,6 +22,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.stmt.*
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -44,6 +45,7 @@ class NestedBlockDepthRule extends AbstractAstVisitorRule {
     Class astVisitorClass = NestedBlockDepthAstVisitor
 }
 
+@ControlsOwnTraversal
 class NestedBlockDepthAstVisitor extends AbstractAstVisitor<NestedBlockDepthRule> {
 
     private final Set blocksToProcess = []
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ConstructorNode
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks if the number of parameters in method/constructor exceeds the number of parameters
@@ -44,6 +45,7 @@ class ParameterCountRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class ParameterCountAstVisitor extends AbstractAstVisitor<ParameterCountRule> {
     private static final Set<String> OVERRIDE_ANNOTATIONS = [Override.name, Override.simpleName]
 
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.BinaryExpression
 import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -32,6 +33,7 @@ class AddEmptyStringRule extends AbstractAstVisitorRule {
     Class astVisitorClass = AddEmptyStringAstVisitor
 }
 
+@SupportsFusedTraversal
 class AddEmptyStringAstVisitor extends AbstractAstVisitor<AddEmptyStringRule> {
     @Override
     void visitBinaryExpression(BinaryExpression expression) {
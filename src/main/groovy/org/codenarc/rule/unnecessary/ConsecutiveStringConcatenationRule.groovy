@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.Expression
 import org.codehaus.groovy.ast.expr.GStringExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -34,6 +35,7 @@ class ConsecutiveStringConcatenationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = ConsecutiveStringConcatenationAstVisitor
 }
 
+@SupportsFusedTraversal
 class ConsecutiveStringConcatenationAstVisitor extends AbstractAstVisitor<ConsecutiveStringConcatenationRule> {
 
     private static final List PRIMITIVE_TYPES = [Byte.TYPE,
@@ -16,6 +16,7 @@
 package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * It is unnecessary to instantiate BigDecimal objects. Instead just use the decimal literal or the 'G' identifier to force the type, such as 123.45 or 123.45G.
@@ -28,6 +29,7 @@ class UnnecessaryBigDecimalInstantiationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryBigDecimalInstantiationAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryBigDecimalInstantiationAstVisitor extends UnnecessaryInstantiationAstVisitor<UnnecessaryBigDecimalInstantiationRule> {
 
     UnnecessaryBigDecimalInstantiationAstVisitor() {
@@ -16,6 +16,7 @@
 package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * It is unnecessary to instantiate BigInteger objects. Instead just use the literal with the 'G' identifier to force the type, such as 8G or 42G.
@@ -28,6 +29,7 @@ class UnnecessaryBigIntegerInstantiationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryBigIntegerInstantiationAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryBigIntegerInstantiationAstVisitor extends UnnecessaryInstantiationAstVisitor<UnnecessaryBigIntegerInstantiationRule> {
 
     UnnecessaryBigIntegerInstantiationAstVisitor() {
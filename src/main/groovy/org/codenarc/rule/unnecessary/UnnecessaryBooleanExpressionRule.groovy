@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.BinaryExpression
 import org.codehaus.groovy.ast.expr.NotExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -56,6 +57,7 @@ class UnnecessaryBooleanExpressionRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryBooleanExpressionAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryBooleanExpressionAstVisitor extends AbstractAstVisitor<UnnecessaryBooleanExpressionRule> {
 
     private static final List BOOLEAN_LOGIC_OPERATIONS = ['&&', '||']
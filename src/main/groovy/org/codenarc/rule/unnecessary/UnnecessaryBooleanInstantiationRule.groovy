@@ -15,6 +15,7 @@
  */
 package org.codenarc.rule.unnecessary
 
+import org.codehaus.groovy.ast.ASTNode
 import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codehaus.groovy.ast.expr.MethodCallExpression
@@ -41,6 +42,11 @@ class UnnecessaryBooleanInstantiationAstVisitor extends AbstractConstructorCallA
 
     private static final String NEW_BOOLEAN = /new +(java\.lang\.)?Boolean\(/
 
+    @Override
+    protected Set<Class<? extends ASTNode>> getVisitedNodeTypes() {
+        [ConstructorCallExpression, MethodCallExpression] as Set
+    }
+
     @Override
     protected boolean isConstructorCallAViolation(ConstructorCallExpression constructorCall) {
         constructorCall.text =~ NEW_BOOLEAN
@@ -57,7 +63,6 @@ class UnnecessaryBooleanInstantiationAstVisitor extends AbstractConstructorCallA
                         "Call to $methodCall.text is unnecessary and can probably be replaced with simply ${args[0].value}")
             }
         }
-        super.visitMethodCallExpression(methodCall)
     }
 
     @Override
@@ -17,6 +17,7 @@ package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codehaus.groovy.ast.expr.*
 
@@ -34,6 +35,7 @@ class UnnecessaryCallForLastElementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryCallForLastElementAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryCallForLastElementAstVisitor extends AbstractAstVisitor<UnnecessaryCallForLastElementRule> {
     @Override
     void visitMethodCallExpression(MethodCallExpression call) {
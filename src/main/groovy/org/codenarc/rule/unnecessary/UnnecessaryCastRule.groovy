@@ -18,6 +18,7 @@ package org.codenarc.rule.unnecessary
 import org.codehaus.groovy.ast.expr.CastExpression
 import org.codenarc.rule.AbstractAstVisitorRule
 import org.codenarc.rule.AbstractAstVisitor
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for unnecessary cast operations
@@ -31,6 +32,7 @@ class UnnecessaryCastRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryCastAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryCastAstVisitor extends AbstractAstVisitor<UnnecessaryCastRule> {
 
     // Map of Cast type -> Cast expression type (both as Strings)
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.stmt.ThrowStatement
 import org.codehaus.groovy.ast.stmt.TryCatchStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -36,6 +37,7 @@ class UnnecessaryCatchBlockRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryCatchBlockAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryCatchBlockAstVisitor extends AbstractAstVisitor<UnnecessaryCatchBlockRule> {
     @Override
     void visitTryCatchFinally(TryCatchStatement statement) {
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codehaus.groovy.ast.stmt.ExpressionStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 import java.lang.reflect.Modifier
@@ -42,6 +43,7 @@ class UnnecessaryConstructorRule extends AbstractAstVisitorRule {
     boolean ignoreAnnotations = false
 }
 
+@SupportsFusedTraversal
 class UnnecessaryConstructorAstVisitor extends AbstractAstVisitor<UnnecessaryConstructorRule> {
 
     @Override
@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.ClassHelper
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -33,6 +34,7 @@ class UnnecessaryDefInMethodDeclarationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryDefInMethodDeclarationAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryDefInMethodDeclarationAstVisitor extends AbstractAstVisitor<UnnecessaryDefInMethodDeclarationRule> {
 
     private static final List PATTERNS_OF_DISTRACTING_DECLARATION_PARTS = [
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.ast.stmt.ExpressionStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -35,6 +36,7 @@ class UnnecessaryDefInVariableDeclarationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryDefInVariableDeclarationAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryDefInVariableDeclarationAstVisitor extends AbstractAstVisitor<UnnecessaryDefInVariableDeclarationRule> {
 
     @Override
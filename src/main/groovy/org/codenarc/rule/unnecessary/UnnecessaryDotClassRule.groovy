@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codehaus.groovy.ast.expr.PropertyExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -33,6 +34,7 @@ class UnnecessaryDotClassRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryDotClassAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryDotClassAstVisitor extends AbstractAstVisitor<UnnecessaryDotClassRule> {
 
     @Override
@@ -16,6 +16,7 @@
 package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * It is unnecessary to instantiate Double objects. Instead just use the double literal or the 'D' identifier to force the type, such as 123.45d or 0.42d.
@@ -28,6 +29,7 @@ class UnnecessaryDoubleInstantiationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryDoubleInstantiationAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryDoubleInstantiationAstVisitor extends UnnecessaryInstantiationAstVisitor<UnnecessaryDoubleInstantiationRule> {
 
     UnnecessaryDoubleInstantiationAstVisitor() {
@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.stmt.ReturnStatement
 import org.codehaus.groovy.ast.stmt.Statement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * When an if statement block ends with a return statement the else is unnecessary
@@ -33,6 +34,7 @@ class UnnecessaryElseStatementRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryElseStatementAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryElseStatementAstVisitor extends AbstractAstVisitor<UnnecessaryElseStatementRule> {
 
     @Override
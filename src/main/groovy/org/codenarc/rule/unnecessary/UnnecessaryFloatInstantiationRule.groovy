@@ -16,6 +16,7 @@
 package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * It is unnecessary to instantiate Float objects. Instead just use the float literal with the 'F' identifier to force the type, such as 123.45F or 0.42f.
@@ -28,6 +29,7 @@ class UnnecessaryFloatInstantiationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryFloatInstantiationAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryFloatInstantiationAstVisitor extends UnnecessaryInstantiationAstVisitor<UnnecessaryFloatInstantiationRule> {
 
     UnnecessaryFloatInstantiationAstVisitor() {
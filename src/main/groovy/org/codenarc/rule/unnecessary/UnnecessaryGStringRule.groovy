@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codehaus.groovy.ast.expr.GStringExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 
 /**
  * String objects should be created with single quotes, and GString objects created with double quotes. Creating normal String objects with double quotes is confusing to readers.
@@ -32,6 +33,7 @@ class UnnecessaryGStringRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryGStringAstVisitor
 }
 
+@ControlsOwnTraversal
 class UnnecessaryGStringAstVisitor extends AbstractAstVisitor<UnnecessaryGStringRule> {
     @Override
     void visitConstantExpression(ConstantExpression expression) {
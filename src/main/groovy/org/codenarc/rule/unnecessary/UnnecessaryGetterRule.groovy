@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codenarc.util.WildcardPattern
 
@@ -47,6 +48,7 @@ class UnnecessaryGetterRule extends AbstractAstVisitorRule {
 
 }
 
+@SupportsFusedTraversal
 class UnnecessaryGetterAstVisitor extends AbstractAstVisitor<UnnecessaryGetterRule> {
 
     @Override
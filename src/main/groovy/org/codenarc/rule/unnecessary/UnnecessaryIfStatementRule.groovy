@@ -17,6 +17,7 @@ package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.util.AstUtil
 import org.codehaus.groovy.ast.stmt.*
 
@@ -74,6 +75,7 @@ class UnnecessaryIfStatementRule extends AbstractAstVisitorRule {
     boolean checkLastStatementImplicitElse = true
 }
 
+@ControlsOwnTraversal
 class UnnecessaryIfStatementAstVisitor extends AbstractAstVisitor<UnnecessaryIfStatementRule> {
 
     @Override
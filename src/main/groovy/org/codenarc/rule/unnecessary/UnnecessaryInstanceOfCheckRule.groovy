@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.expr.BinaryExpression
 import org.codehaus.groovy.ast.expr.NotExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codenarc.util.GroovyVersion
 
@@ -34,6 +35,7 @@ class UnnecessaryInstanceOfCheckRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryInstanceOfCheckAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryInstanceOfCheckAstVisitor extends AbstractAstVisitor<UnnecessaryInstanceOfCheckRule> {
     @Override
     void visitBinaryExpression(BinaryExpression expression) {
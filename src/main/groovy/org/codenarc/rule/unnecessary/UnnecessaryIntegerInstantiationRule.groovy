@@ -16,6 +16,7 @@
 package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * It is unnecessary to instantiate Integer objects. Instead just use the literal with the 'I' identifier to force the type, such as 8I or 42i.
@@ -28,6 +29,7 @@ class UnnecessaryIntegerInstantiationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryIntegerInstantiationAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryIntegerInstantiationAstVisitor extends UnnecessaryInstantiationAstVisitor<UnnecessaryIntegerInstantiationRule> {
 
     UnnecessaryIntegerInstantiationAstVisitor() {
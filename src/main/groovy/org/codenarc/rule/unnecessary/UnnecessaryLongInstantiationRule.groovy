@@ -16,6 +16,7 @@
 package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * It is unnecessary to instantiate Long objects. Instead just use the literal with the 'L' identifier to force the type, such as 8L or 42L.
@@ -28,6 +29,7 @@ class UnnecessaryLongInstantiationRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryLongInstantiationAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryLongInstantiationAstVisitor extends UnnecessaryInstantiationAstVisitor<UnnecessaryLongInstantiationRule> {
 
     UnnecessaryLongInstantiationAstVisitor() {
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.expr.ConstantExpression
 import org.codehaus.groovy.ast.expr.Expression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -33,6 +34,7 @@ class UnnecessaryModOneRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryModOneAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryModOneAstVisitor extends AbstractAstVisitor<UnnecessaryModOneRule> {
     @Override
     void visitBinaryExpression(BinaryExpression expression) {
@@ -18,6 +18,7 @@ package org.codenarc.rule.unnecessary
 import org.codehaus.groovy.ast.expr.BinaryExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -32,6 +33,7 @@ class UnnecessaryNullCheckBeforeInstanceOfRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryNullCheckBeforeInstanceOfAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryNullCheckBeforeInstanceOfAstVisitor extends AbstractAstVisitor<UnnecessaryNullCheckBeforeInstanceOfRule> {
     @Override
     void visitBinaryExpression(BinaryExpression exp) {
@@ -17,6 +17,7 @@ package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codehaus.groovy.ast.expr.*
 
@@ -32,6 +33,7 @@ class UnnecessaryNullCheckRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryNullCheckAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryNullCheckAstVisitor extends AbstractAstVisitor<UnnecessaryNullCheckRule> {
 
     @SuppressWarnings('NestedBlockDepth')
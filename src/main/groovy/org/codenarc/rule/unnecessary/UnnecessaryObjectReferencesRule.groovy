@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.stmt.ExpressionStatement
 import org.codehaus.groovy.ast.stmt.Statement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Violations are triggered when an excessive set of consecutive statements all reference the same variable. This can be made more readable by using a with or identity block.
@@ -37,6 +38,7 @@ class UnnecessaryObjectReferencesRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryObjectReferencesAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryObjectReferencesAstVisitor extends AbstractAstVisitor<UnnecessaryObjectReferencesRule> {
 
     private final Map runCollector = [variable: null, count: 0, clear: { this.variable = null; this.count = 0 }]
@@ -30,6 +30,7 @@ import org.codehaus.groovy.ast.expr.PropertyExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.ImportUtil
 
 /**
@@ -44,6 +45,7 @@ class UnnecessaryPackageReferenceRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryPackageReferenceAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryPackageReferenceAstVisitor extends AbstractAstVisitor<UnnecessaryPackageReferenceRule> {
 
     private static final List IGNORE_SUPERCLASS_NAMES = ['java.lang.Object', 'java.lang.Enum', 'groovy.lang.Script']
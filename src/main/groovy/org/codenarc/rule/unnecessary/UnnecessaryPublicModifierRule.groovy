@@ -18,6 +18,7 @@ package org.codenarc.rule.unnecessary
 import org.codehaus.groovy.ast.*
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 import java.util.regex.Pattern
 
@@ -34,6 +35,7 @@ class UnnecessaryPublicModifierRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryPublicModifierAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryPublicModifierAstVisitor extends AbstractAstVisitor<UnnecessaryPublicModifierRule> {
 
     private static final String REQUIRED_WHITESPACE = '\\s+'
@@ -23,6 +23,7 @@ import org.codehaus.groovy.ast.stmt.ReturnStatement
 import org.codehaus.groovy.ast.stmt.Statement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * In Groovy, the return keyword is often optional. If a statement is the last line in a method or closure then you do not need to have the return keyword.
@@ -35,6 +36,7 @@ class UnnecessaryReturnKeywordRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryReturnKeywordAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryReturnKeywordAstVisitor extends AbstractAstVisitor<UnnecessaryReturnKeywordRule> {
 
     @Override
@@ -24,6 +24,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.expr.PropertyExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Check for safe navigation operator (?.) applied to constants and literals, or "this" or
@@ -38,6 +39,7 @@ class UnnecessarySafeNavigationOperatorRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessarySafeNavigationOperatorAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessarySafeNavigationOperatorAstVisitor extends AbstractAstVisitor<UnnecessarySafeNavigationOperatorRule> {
 
     @Override
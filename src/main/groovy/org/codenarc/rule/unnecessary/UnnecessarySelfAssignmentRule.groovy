@@ -21,6 +21,7 @@ import org.codehaus.groovy.ast.expr.PropertyExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -34,6 +35,7 @@ class UnnecessarySelfAssignmentRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessarySelfAssignmentAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessarySelfAssignmentAstVisitor extends AbstractAstVisitor<UnnecessarySelfAssignmentRule> {
     @Override
     void visitBinaryExpression(BinaryExpression expression) {
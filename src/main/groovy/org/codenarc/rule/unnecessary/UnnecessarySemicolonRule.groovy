@@ -19,6 +19,7 @@ import org.codehaus.groovy.ast.*
 import org.codehaus.groovy.ast.stmt.Statement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 import org.codenarc.util.ImportUtil
@@ -81,6 +82,7 @@ class UnnecessarySemicolonRule extends AbstractAstVisitorRule {
     }
 }
 
+@SupportsFusedTraversal
 class UnnecessarySemicolonAstVisitor extends AbstractAstVisitor<UnnecessarySemicolonRule> {
 
     @Override
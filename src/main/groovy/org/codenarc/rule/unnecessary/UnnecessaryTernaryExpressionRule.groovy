@@ -17,6 +17,7 @@ package org.codenarc.rule.unnecessary
 
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 import org.codehaus.groovy.ast.expr.*
 
@@ -51,6 +52,7 @@ class UnnecessaryTernaryExpressionRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnnecessaryTernaryExpressionAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnnecessaryTernaryExpressionAstVisitor extends AbstractAstVisitor<UnnecessaryTernaryExpressionRule> {
 
     private static final List BOOLEAN_COMPARISON_OPERATIONS = ['<', '>', '>=', '<=', '==', '!=', '==~']
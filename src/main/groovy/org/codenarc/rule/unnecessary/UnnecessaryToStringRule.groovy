@@ -25,6 +25,7 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 /**
@@ -45,6 +46,7 @@ class UnnecessaryToStringRule extends AbstractAstVisitorRule {
     boolean checkAssignments = true
 }
 
+@SupportsFusedTraversal
 class UnnecessaryToStringAstVisitor extends AbstractAstVisitor<UnnecessaryToStringRule> {
 
     private static final String TO_STRING = 'toString'
@@ -18,6 +18,7 @@ package org.codenarc.rule.unused
 import org.codehaus.groovy.ast.expr.ArrayExpression
 import org.codehaus.groovy.ast.stmt.ExpressionStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for array allocations that are not assigned or used (i.e., it is ignored).
@@ -32,6 +33,7 @@ class UnusedArrayRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnusedArrayAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnusedArrayAstVisitor extends AbstractLastStatementInBlockAstVisitor<UnusedArrayRule> {
 
     @Override
@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.InnerClassNode
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 import org.codenarc.util.AstUtil
 
 import java.lang.reflect.Modifier
@@ -39,6 +40,7 @@ class UnusedMethodParameterRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnusedMethodParameterAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnusedMethodParameterAstVisitor extends AbstractAstVisitor<UnusedMethodParameterRule> {
 
     @Override
@@ -18,6 +18,7 @@ package org.codenarc.rule.unused
 import org.codehaus.groovy.ast.expr.ConstructorCallExpression
 import org.codehaus.groovy.ast.stmt.ExpressionStatement
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 /**
  * Checks for object constructions that are not assigned or used (i.e., ignored).
@@ -35,6 +36,7 @@ class UnusedObjectRule extends AbstractAstVisitorRule {
     String doNotApplyToFilesMatching = DEFAULT_TEST_FILES
 }
 
+@SupportsFusedTraversal
 class UnusedObjectAstVisitor extends AbstractLastStatementInBlockAstVisitor<UnusedObjectRule> {
 
     @Override
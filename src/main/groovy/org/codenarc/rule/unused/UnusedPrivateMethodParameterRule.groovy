@@ -20,6 +20,7 @@ import org.codehaus.groovy.ast.InnerClassNode
 import org.codehaus.groovy.ast.MethodNode
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.SupportsFusedTraversal
 
 import java.lang.reflect.Modifier
 
@@ -37,6 +38,7 @@ class UnusedPrivateMethodParameterRule extends AbstractAstVisitorRule {
     Class astVisitorClass = UnusedPrivateMethodParameterAstVisitor
 }
 
+@SupportsFusedTraversal
 class UnusedPrivateMethodParameterAstVisitor extends AbstractAstVisitor<UnusedPrivateMethodParameterRule> {
 
     @Override
@@ -25,6 +25,7 @@ import org.codehaus.groovy.ast.expr.VariableExpression
 import org.codehaus.groovy.ast.stmt.BlockStatement
 import org.codenarc.rule.AbstractAstVisitor
 import org.codenarc.rule.AbstractAstVisitorRule
+import org.codenarc.rule.ControlsOwnTraversal
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
 import org.codenarc.util.AstUtil
@@ -74,6 +75,7 @@ class UnusedVariableRule extends AbstractAstVisitorRule {
 
 }
 
+@ControlsOwnTraversal
 class UnusedVariableAstVisitor extends AbstractAstVisitor<UnusedVariableRule> {
 
     private final Stack variablesByBlockScope = [] as Stack
@@ -43,7 +43,7 @@ import org.codenarc.util.io.ResourceFactory
 class PropertiesFileRuleSetConfigurer implements RuleSetConfigurer {
 
     private static final Logger LOG = LoggerFactory.getLogger(PropertiesFileRuleSetConfigurer)
-    private static final String PROPERTIES_FILE_SYSPROP = 'codenarc.properties.file'
+    public static final String PROPERTIES_FILE_SYSPROP = 'codenarc.properties.file'
 
     private final ResourceFactory resourceFactory = new DefaultResourceFactory()
     protected String defaultPropertiesFilename = 'codenarc.properties'
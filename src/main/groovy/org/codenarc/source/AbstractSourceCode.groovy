@@ -15,7 +15,6 @@
  */
 package org.codenarc.source
 
-import groovy.grape.GrabAnnotationTransformation
 import org.codehaus.groovy.control.Phases
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
@@ -25,7 +24,6 @@ import org.codehaus.groovy.ast.expr.MethodCallExpression
 import org.codehaus.groovy.control.CompilationFailedException
 import org.codehaus.groovy.control.CompilationUnit
 import org.codehaus.groovy.control.SourceUnit
-import org.codehaus.groovy.transform.ASTTransformation
 import org.codenarc.analyzer.SuppressionAnalyzer
 
 /**
@@ -40,10 +38,12 @@ abstract class AbstractSourceCode implements SourceCode {
     static final Logger LOG = LoggerFactory.getLogger(AbstractSourceCode)
     static final String SEPARATOR_PROP = 'file.separator'
     private ModuleNode ast
-    private List lines
+    private LineOffsets lineOffsets
     private boolean astParsed = false
+    private volatile boolean compilationFailed = false
+    private CompilationUnit compilationUnit
     private final Object initLock = new Object()
-    private Map<ClassNode, List<MethodCallExpression>> methodCallExpressions
+    private AstNodeIndex astNodeIndex
     SuppressionAnalyzer suppressionAnalyzer
 
     /**
@@ -54,15 +54,23 @@ abstract class AbstractSourceCode implements SourceCode {
         this.suppressionAnalyzer = suppressionAnalyzer
     }
 
+    /**
+     * @return the start and end offsets of each line of the source code, built from its text when first requested
+     */
+    @Override
+    LineOffsets getLineOffsets() {
+        if (lineOffsets == null) {
+            lineOffsets = new LineOffsets(getText())
+        }
+        return lineOffsets
+    }
+
     /**
      * @return the List of lines of the source code (with line terminators removed)
      */
     @Override
     List getLines() {
-        if (lines == null) {
-            lines = new StringReader(getText()).readLines()
-        }
-        return lines
+        getLineOffsets().lines
     }
 
     /**
@@ -90,33 +98,112 @@ abstract class AbstractSourceCode implements SourceCode {
     private void init() {
         synchronized (initLock) {
             if (!astParsed) {
-                SourceUnit unit = SourceUnit.create('None', getText())
-                GroovyClassLoader transformLoader = new GroovyClassLoader(getClass().classLoader)
-                CompilationUnit compUnit = new CompilationUnit(null, null, null, transformLoader)
-                compUnit.addSource(unit)
-                try {
-                    removeGrabTransformation(compUnit)
-                    compUnit.compile(getAstCompilerPhase())
-                    ast = unit.getAST()
-                }
-                catch (CompilationFailedException e) {
-                    logCompilationError(e)
-                }
-                catch (NoClassDefFoundError e) {
-                    logCompilationError(e)
-                    LOG.info("Most likely, a lib containing $e.message is missing from CodeNarc's runtime classpath.")
-                }
-
-                methodCallExpressions = new ExpressionCollector().getMethodCalls(ast)
-
+                ast = compileAst()
                 astParsed = true
+                compilationFailed |= ast == null
             }
         }
     }
 
-    private void logCompilationError(Throwable e) {
-        if (getAstCompilerPhase() != DEFAULT_COMPILER_PHASE) {
-            LOG.warn("WARNING: Compilation error for non-default compiler phase (${Phases.getDescription(getAstCompilerPhase())}). Consider removing \"enhanced\" rules from your ruleset.")
+    /**
+     * Compile the source code up to the compiler phase for this source code, keeping the CompilationUnit so that
+     * the compilation can later be continued; see <code>continueCompilation()</code>
+     * @return the AST; or null if the compilation failed
+     */
+    protected ModuleNode compileAst() {
+        compilationUnit = compileUnit()
+        astOf(compilationUnit)
+    }
+
+    /**
+     * Compile the source code up to the compiler phase for this source code
+     * @return the CompilationUnit; or null if the compilation failed
+     */
+    protected CompilationUnit compileUnit() {
+        compile(getAstCompilerPhase())
+    }
+
+    /**
+     * Continue compiling this source code, using the same CompilationUnit, up to the specified later compiler phase.
+     * The later phases transform the AST in place, so this source code hands it over, along with the CompilationUnit:
+     * it no longer holds that AST (or the AstNodeIndex built from it), and parses its AST again for its own phase if
+     * that is subsequently requested. The AST must not still be in use (e.g. by the rules for the earlier phase).
+     * If the CompilationUnit has been released, then compile the source code separately instead.
+     * @param phase - the compiler phase (as in {@link org.codehaus.groovy.control.Phases})
+     * @return the CompilationUnit, compiled up to the specified phase; or null if the compilation failed
+     */
+    CompilationUnit continueCompilation(int phase) {
+        synchronized (initLock) {
+            init()
+            if (ast == null) {
+                return null
+            }
+            if (compilationUnit == null) {
+                return compile(phase)
+            }
+            CompilationUnit compUnit = compilationUnit
+            ast = null
+            astNodeIndex = null
+            compilationUnit = null
+            astParsed = false
+            // If the compilation fails, then the partly transformed AST is discarded
+            compileWithinPhase(compUnit, phase) ? compUnit : null
+        }
+    }
+
+    /**
+     * Release the CompilationUnit, once the compilation is not to be continued any further, so that it can be
+     * garbage collected. The AST remains available.
+     */
+    void releaseCompilationUnit() {
+        synchronized (initLock) {
+            compilationUnit = null
+        }
+    }
+
+    // Compile the source code in a new CompilationUnit; return null if the compilation failed
+    private CompilationUnit compile(int phase) {
+        def parserContext = ParserContext.forCurrentThread()
+        CompilationUnit compUnit = parserContext.createCompilationUnit()
+        compUnit.addSource(parserContext.createSourceUnit(getText()))
+        compileWithinPhase(compUnit, phase) ? compUnit : null
+    }
+
+    private static ModuleNode astOf(CompilationUnit compUnit) {
+        compUnit == null ? null : compUnit.iterator().next().getAST()
+    }
+
+    private boolean compileWithinPhase(CompilationUnit compUnit, int phase) {
+        try {
+            compUnit.compile(phase)
+            return true
+        }
+        catch (CompilationFailedException e) {
+            logCompilationError(e, phase)
+        }
+        catch (NoClassDefFoundError e) {
+            logCompilationError(e, phase)
+            LOG.info("Most likely, a lib containing $e.message is missing from CodeNarc's runtime classpath.")
+        }
+        false
+    }
+
+    /**
+     * Release the AST (and the AstNodeIndex built from it), e.g. once the rules have been applied to
+     * this source code, so that it can be garbage collected. The AST is parsed again if it is subsequently requested.
+     */
+    void releaseAst() {
+        synchronized (initLock) {
+            ast = null
+            astNodeIndex = null
+            compilationUnit = null
+            astParsed = false
+        }
+    }
+
+    private void logCompilationError(Throwable e, int phase) {
+        if (phase != DEFAULT_COMPILER_PHASE) {
+            LOG.warn("WARNING: Compilation error for non-default compiler phase (${Phases.getDescription(phase)}). Consider removing \"enhanced\" rules from your ruleset.")
         }
         LOG.warn("Compilation failed for [${this}]; ${e}.")
     }
@@ -130,23 +217,25 @@ abstract class AbstractSourceCode implements SourceCode {
         DEFAULT_COMPILER_PHASE
     }
 
+    /**
+     * The AstNodeIndex is built from the AST when first requested, since only some rules use it
+     */
     @Override
-    Map<ClassNode, List<MethodCallExpression>> getMethodCallExpressions() {
-        init()
-        methodCallExpressions.asImmutable()
-    }
-
-    private void removeGrabTransformation(CompilationUnit compUnit) {
-        compUnit.phaseOperations?.each { List xforms ->
-            xforms?.removeAll { entry ->
-                entry.getClass().declaredFields.any {
-                    it.name == 'val$instance' &&
-                            it.type == ASTTransformation
-                } && entry.val$instance instanceof GrabAnnotationTransformation
+    AstNodeIndex getAstNodeIndex() {
+        synchronized (initLock) {
+            init()
+            if (astNodeIndex == null) {
+                astNodeIndex = new AstNodeIndex(ast)
             }
+            astNodeIndex
         }
     }
 
+    @Override
+    Map<ClassNode, List<MethodCallExpression>> getMethodCallExpressions() {
+        getAstNodeIndex().methodCallExpressions
+    }
+
     /**
      * Return the line index for the line containing the character at the specified index within the source code.
      * @param charIndex - the index of the character within the source code (zero-based)
@@ -154,20 +243,28 @@ abstract class AbstractSourceCode implements SourceCode {
      */
     @Override
     int getLineNumberForCharacterIndex(int charIndex) {
-        int lineCount = 1
-        def source = getText()
-        if (charIndex >= source.size() || charIndex < 0) {
-            return -1
-        }
-        if (charIndex > 0) {
-            (charIndex - 1..0).each { index ->
-                def ch = source[index]
-                if (ch == '\n') {
-                    lineCount++
-                }
-            }
-        }
-        lineCount
+        getLineOffsets().getLineNumber(charIndex)
+    }
+
+    /**
+     * Return the column index for the character at the specified index within the source code.
+     * @param charIndex - the index of the character within the source code (zero-based)
+     * @return the column number (one-based) of the specified character within its line; Return -1 if charIndex is not valid.
+     */
+    @Override
+    int getColumnNumberForCharacterIndex(int charIndex) {
+        getLineOffsets().getColumnNumber(charIndex)
+    }
+
+    /**
+     * Return the index within the source code of the character at the specified line and column.
+     * @param lineNumber - the line number (one-based)
+     * @param columnNumber - the column number (one-based); may be that of the line terminator, or just past the end of the line
+     * @return the index of the character within the source code (zero-based); Return -1 if the line or column is not valid.
+     */
+    @Override
+    int getCharacterIndexForLineAndColumn(int lineNumber, int columnNumber) {
+        getLineOffsets().getOffset(lineNumber, columnNumber)
     }
 
     /**
@@ -179,6 +276,14 @@ abstract class AbstractSourceCode implements SourceCode {
         return getAst()
     }
 
+    /**
+     * Unlike <code>isValid()</code>, this does not compile the source code; nor is it reset by <code>releaseAst()</code>
+     * @return true if the source code has been compiled, and the compilation failed
+     */
+    boolean isCompilationFailed() {
+        compilationFailed
+    }
+
     /**
      * Return the normalized value of the specified path. Convert file separator chars to standard '/'.
      * @param path - the path to normalize
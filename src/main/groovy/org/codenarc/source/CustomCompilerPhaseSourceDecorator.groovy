@@ -15,6 +15,7 @@
  */
 package org.codenarc.source
 
+import org.codehaus.groovy.control.CompilationUnit
 import org.codehaus.groovy.control.Phases
 import org.codenarc.analyzer.SuppressionAnalyzer
 
@@ -23,6 +24,13 @@ import org.codenarc.analyzer.SuppressionAnalyzer
  * so that it meets the user's compilerPhase requirements.
  *
  * Ensures that the compiler phase is before classes are output to disk.
+ * <p/>
+ * If a <code>continuedSource</code> is specified, and the compiler phase is later than that of the continued source,
+ * then the AST is produced by continuing the compilation of the continued source (e.g. the decorated source, or the
+ * source for an earlier phase), rather than by compiling the source text again from scratch. The continued source
+ * hands over its AST, which is transformed in place, and parses its AST again if that is subsequently requested; so
+ * the AST of the continued source must no longer be in use (e.g. by the rules for the earlier phase) once the AST for
+ * this source has been requested.
  *
  * @author Artur Gajowy
  */
@@ -30,12 +38,22 @@ class CustomCompilerPhaseSourceDecorator extends AbstractSourceCode {
 
     private final SourceCode delegate
     private final int compilerPhase
+    private final SourceCode continuedSource
 
-    CustomCompilerPhaseSourceDecorator(SourceCode delegate, int compilerPhase) {
+    CustomCompilerPhaseSourceDecorator(SourceCode delegate, int compilerPhase, SourceCode continuedSource = null) {
         assert delegate
         this.delegate = delegate
         assert compilerPhase < Phases.OUTPUT
         this.compilerPhase = compilerPhase
+        this.continuedSource = continuedSource
+    }
+
+    @Override
+    protected CompilationUnit compileUnit() {
+        if (continuedSource instanceof AbstractSourceCode && compilerPhase > continuedSource.astCompilerPhase) {
+            return ((AbstractSourceCode) continuedSource).continueCompilation(compilerPhase)
+        }
+        super.compileUnit()
     }
 
     @Override
@@ -58,6 +76,16 @@ class CustomCompilerPhaseSourceDecorator extends AbstractSourceCode {
         delegate.text
     }
 
+    @Override
+    LineOffsets getLineOffsets() {
+        delegate.lineOffsets
+    }
+
+    @Override
+    List getLines() {
+        delegate.lines
+    }
+
     @Override
     SuppressionAnalyzer getSuppressionAnalyzer() {
         delegate.suppressionAnalyzer
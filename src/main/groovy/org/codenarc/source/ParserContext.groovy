@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source
+
+import groovy.grape.GrabAnnotationTransformation
+import org.codehaus.groovy.control.CompilationUnit
+import org.codehaus.groovy.control.CompilerConfiguration
+import org.codehaus.groovy.control.ErrorCollector
+import org.codehaus.groovy.control.SourceUnit
+
+/**
+ * The reusable context for parsing (compiling) source code into an AST: the CompilerConfiguration and the class
+ * loaders for each CompilationUnit. Creating these for each file is relatively expensive compared with parsing a
+ * small file, so a single ParserContext is kept for, and confined to, each thread; see <code>forCurrentThread()</code>.
+ * <p/>
+ * The CompilerConfiguration disables the @Grab global AST transformation, so that parsing never tries to
+ * download dependencies. Since the source code is never compiled as far as loading any classes, the class loaders
+ * do not accumulate any classes across files.
+ */
+class ParserContext {
+
+    static final CompilerConfiguration COMPILER_CONFIGURATION = createCompilerConfiguration()
+
+    private static final String SOURCE_NAME = 'None'
+    private static final ThreadLocal<ParserContext> CONTEXTS = new ThreadLocal<>()
+
+    /**
+     * The parent class loader for the classLoader: the context class loader of the thread (e.g., as set by
+     * CodeNarcTask for its classpath) when this was created
+     */
+    final ClassLoader parentClassLoader
+
+    /**
+     * The class loader used to resolve the classes referenced by the source code
+     */
+    final GroovyClassLoader classLoader
+
+    /**
+     * The class loader used to load the AST transformations
+     */
+    final GroovyClassLoader transformLoader
+
+    /**
+     * Return the ParserContext for the current thread; create a new one if the thread has none, or if its context
+     * class loader has changed since it was created.
+     */
+    static ParserContext forCurrentThread() {
+        ClassLoader contextClassLoader = Thread.currentThread().contextClassLoader
+        def parserContext = CONTEXTS.get()
+        if (parserContext == null || !parserContext.parentClassLoader.is(contextClassLoader)) {
+            parserContext = new ParserContext(contextClassLoader)
+            CONTEXTS.set(parserContext)
+        }
+        parserContext
+    }
+
+    ParserContext(ClassLoader parentClassLoader) {
+        this.parentClassLoader = parentClassLoader
+        this.classLoader = new GroovyClassLoader(parentClassLoader, COMPILER_CONFIGURATION)
+        this.transformLoader = new GroovyClassLoader(ParserContext.classLoader, COMPILER_CONFIGURATION)
+    }
+
+    /**
+     * @return a new CompilationUnit, using the classLoader and transformLoader
+     */
+    CompilationUnit createCompilationUnit() {
+        new CompilationUnit(COMPILER_CONFIGURATION, null, classLoader, transformLoader)
+    }
+
+    /**
+     * @return a new SourceUnit for the source text, to be added to a CompilationUnit
+     */
+    SourceUnit createSourceUnit(String text) {
+        new SourceUnit(SOURCE_NAME, text, COMPILER_CONFIGURATION, classLoader, new ErrorCollector(COMPILER_CONFIGURATION))
+    }
+
+    private static CompilerConfiguration createCompilerConfiguration() {
+        def configuration = new CompilerConfiguration()
+        configuration.tolerance = 1
+        configuration.disabledGlobalASTTransformations = [GrabAnnotationTransformation.name] as Set
+        configuration
+    }
+}
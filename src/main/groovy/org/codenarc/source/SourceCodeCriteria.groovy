@@ -15,7 +15,7 @@
  */
 package org.codenarc.source
 
-import org.codenarc.util.WildcardPattern
+import org.codenarc.rule.RuleApplicability
 
 /**
  * Represents the set of criteria used to filter source code (files). Provides an API
@@ -65,27 +65,8 @@ class SourceCodeCriteria {
      * @return true only if all of the (specified, i.e. non-null) criteria match the SourceCode
      */
     boolean matches(SourceCode sourceCode) {
-        boolean apply = (applyToFilesMatching) ? sourceCode.path ==~ applyToFilesMatching : true
-
-        if (apply && doNotApplyToFilesMatching) {
-            apply = !(sourceCode.path ==~ doNotApplyToFilesMatching)
-        }
-
-        if (apply && applyToFileNames) {
-            def target = includesPath(applyToFileNames) ? sourceCode.path : sourceCode.name
-            apply = new WildcardPattern(applyToFileNames).matches(target)
-        }
-
-        if (apply && doNotApplyToFileNames) {
-            def target = includesPath(doNotApplyToFileNames) ? sourceCode.path : sourceCode.name
-            apply = !new WildcardPattern(doNotApplyToFileNames).matches(target)
-        }
-
-        apply
-    }
-
-    private boolean includesPath(String value) {
-        value.contains('/')
+        RuleApplicability.matchesFileFilters(applyToFilesMatching, doNotApplyToFilesMatching, applyToFileNames,
+            doNotApplyToFileNames, sourceCode)
     }
 
 }
@@ -27,16 +27,20 @@ class SourceFile extends AbstractSourceCode {
 
     private final File file
     private final String path
-    private String text
+    private final SourceLoader sourceLoader
+    private LineOffsets lineOffsets
 
     /**
      * Construct a new instance for the file at the specified path
      * @param path - the path of the file; must not be null or empty
+     * @param sourceLoader - the SourceLoader used to read the file; defaults to SourceLoader.DEFAULT
      */
-    SourceFile(File file) {
+    SourceFile(File file, SourceLoader sourceLoader = SourceLoader.DEFAULT) {
         assert file
+        assert sourceLoader
         this.file = file
         this.path = normalizePath(file.path)
+        this.sourceLoader = sourceLoader
         this.suppressionAnalyzer = new SuppressionAnalyzer(this)
     }
 
@@ -61,10 +65,18 @@ class SourceFile extends AbstractSourceCode {
      */
     @Override
     String getText() {
-        if (text == null) {
-            text = file.text
+        getLineOffsets().text
+    }
+
+    /**
+     * @return the start and end offsets of each line of the source code, built while the file is read
+     */
+    @Override
+    LineOffsets getLineOffsets() {
+        if (lineOffsets == null) {
+            lineOffsets = sourceLoader.load(file)
         }
-        text
+        lineOffsets
     }
 
     @Override
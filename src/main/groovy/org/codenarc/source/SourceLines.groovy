@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source
+
+import org.codenarc.analyzer.SuppressionAnalyzer
+
+/**
+ * A SourceCode that retains only the name, path and lines of another SourceCode, so that its full text and AST
+ * can be garbage collected once it has been analyzed. The text is rebuilt from the lines (joined by newlines),
+ * and the AST is parsed again from that text, only if requested.
+ */
+class SourceLines extends AbstractSourceCode {
+
+    private final String name
+    private final String path
+    private final List<String> lines
+
+    /**
+     * Construct a new instance retaining the name, path and lines of the specified SourceCode
+     * @param sourceCode - the SourceCode; must not be null
+     */
+    SourceLines(SourceCode sourceCode) {
+        assert sourceCode
+        this.name = sourceCode.name
+        this.path = sourceCode.path
+        // Copy the lines, since they may be served from (and so retain) the full text
+        this.lines = new ArrayList<String>(sourceCode.lines).asImmutable()
+        this.suppressionAnalyzer = new SuppressionAnalyzer(this)
+    }
+
+    @Override
+    String getName() {
+        name
+    }
+
+    @Override
+    String getPath() {
+        path
+    }
+
+    @Override
+    List getLines() {
+        lines
+    }
+
+    /**
+     * @return the text of the source code, rebuilt from its lines
+     */
+    @Override
+    String getText() {
+        lines.join('\n')
+    }
+
+    @Override
+    String toString() {
+        "SourceLines[$path]"
+    }
+
+}
@@ -61,7 +61,7 @@ class SourceCodeUtil {
         if (endLine < startLine || (endLine == startLine && endColumn < startColumn)) {
             throw new IllegalArgumentException('End line/column has to be after start line/column')
         }
-        def nodeLines = source.lines[(startLine - 1)..(endLine - 1)] as ArrayList
+        def nodeLines = new ArrayList<String>(source.lines.subList(startLine - 1, endLine))
         if (nodeLines.size() > 1) {
             nodeLines[0] = startColumn - 1 == nodeLines.first().size() ? '' : nodeLines.first()[(startColumn - 1)..-1]
             nodeLines[-1] = nodeLines.last()[0..(endColumn - 2)]
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * Thin command-line client for a running {@link CodeNarcDaemon}. The command-line arguments are the same as for
+ * {@link CodeNarc}; they are sent to the daemon, which runs the analysis. The output of the analysis is written
+ * to standard out, and the client exits with the same exit code as <code>CodeNarc</code> would.
+ * <p/>
+ * The daemon is found through its daemon file (by default ".codenarc-daemon" in the current directory), which can be
+ * specified by an optional first argument of the form <code>-daemonFile=FILENAME</code>. If there is no daemon file,
+ * or it is for a different directory, or the daemon cannot be reached, then CodeNarc is run within this process.
+ * <p/>
+ * This class deliberately uses only the JDK, so that it starts quickly. It also defines the protocol:
+ * <ul>
+ *   <li>The request: the protocol version (int), the token from the daemon file, the current directory, and the
+ *      number of arguments (int) followed by each argument. Each string is written as a length-prefixed UTF-8 string.</li>
+ *   <li>The response: a sequence of frames, each starting with its type (byte). An OUTPUT_FRAME has a length-prefixed
+ *      chunk of UTF-8 output. The final EXIT_FRAME has the exit code (int).</li>
+ * </ul>
+ */
+public class CodeNarcDaemonClient {
+
+    public static final String DEFAULT_DAEMON_FILE = ".codenarc-daemon";
+    public static final String DAEMON_FILE_ARG = "-daemonFile=";
+    public static final String PORT_PROPERTY = "port";
+    public static final String TOKEN_PROPERTY = "token";
+    public static final String DIRECTORY_PROPERTY = "directory";
+    public static final int PROTOCOL_VERSION = 1;
+    public static final int OUTPUT_FRAME = 1;
+    public static final int EXIT_FRAME = 2;
+
+    private CodeNarcDaemonClient() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String daemonFile = DEFAULT_DAEMON_FILE;
+        String[] codeNarcArgs = args;
+        if (args.length > 0 && args[0].startsWith(DAEMON_FILE_ARG)) {
+            daemonFile = args[0].substring(DAEMON_FILE_ARG.length());
+            codeNarcArgs = new String[args.length - 1];
+            System.arraycopy(args, 1, codeNarcArgs, 0, codeNarcArgs.length);
+        }
+
+        Integer exitCode = runWithDaemon(new File(daemonFile), codeNarcArgs, System.out);
+        if (exitCode == null) {
+            CodeNarc.main(codeNarcArgs);
+            exitCode = 0;
+        }
+        System.out.flush();
+        System.exit(exitCode);
+    }
+
+    /**
+     * Send the arguments to the daemon described by the daemon file, copying its output to <code>out</code>
+     * @return the exit code, or null if the daemon is not running for the current directory
+     */
+    public static Integer runWithDaemon(File daemonFile, String[] args, OutputStream out) throws IOException {
+        if (!daemonFile.isFile()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = new FileInputStream(daemonFile)) {
+            properties.load(inputStream);
+        }
+        String directory = currentDirectory();
+        if (!directory.equals(properties.getProperty(DIRECTORY_PROPERTY))) {
+            return null;
+        }
+
+        Socket socket;
+        try {
+            socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(properties.getProperty(PORT_PROPERTY)));
+        }
+        catch (IOException | NumberFormatException e) {
+            return null;
+        }
+        try {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            output.writeInt(PROTOCOL_VERSION);
+            writeString(output, properties.getProperty(TOKEN_PROPERTY, ""));
+            writeString(output, directory);
+            output.writeInt(args.length);
+            for (String arg : args) {
+                writeString(output, arg);
+            }
+            output.flush();
+            return readResponse(new DataInputStream(new BufferedInputStream(socket.getInputStream())), out);
+        }
+        finally {
+            socket.close();
+        }
+    }
+
+    public static String currentDirectory() throws IOException {
+        return new File(".").getCanonicalPath();
+    }
+
+    public static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static int readResponse(DataInputStream input, OutputStream out) throws IOException {
+        while (true) {
+            int frameType = input.readByte();
+            if (frameType == EXIT_FRAME) {
+                return input.readInt();
+            }
+            if (frameType != OUTPUT_FRAME) {
+                throw new IOException("Invalid response from the CodeNarc daemon; frame type " + frameType);
+            }
+            byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            out.write(bytes);
+        }
+    }
+}
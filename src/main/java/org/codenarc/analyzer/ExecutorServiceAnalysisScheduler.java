@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AnalysisScheduler implementation that executes tasks using an ExecutorService, such as a fixed
+ * thread pool, a ForkJoinPool or a virtual-thread-per-task executor.
+ * <p/>
+ * If <code>maxPendingTasks</code> is positive, then <code>submit()</code> blocks while that many
+ * submitted tasks have not yet completed. That bounds the number of queued tasks (and, for a
+ * virtual-thread-per-task executor, the number of concurrent threads).
+ * <p/>
+ * This class is implemented in Java so that <code>ExecutorService.submit(Callable)</code> is selected statically;
+ * a Groovy Closure is also a Runnable, so dynamic dispatch could select <code>submit(Runnable)</code> instead.
+ */
+public class ExecutorServiceAnalysisScheduler implements AnalysisScheduler {
+
+    private final ExecutorService executorService;
+    private final Semaphore pendingTaskPermits;
+    private final long timeoutSeconds;
+
+    /**
+     * Construct a new instance
+     * @param executorService - the ExecutorService that executes the tasks; must not be null
+     * @param maxPendingTasks - the maximum number of submitted tasks not yet completed; zero or less means unbounded
+     * @param timeoutSeconds - the maximum number of seconds to wait for all tasks to complete
+     */
+    public ExecutorServiceAnalysisScheduler(ExecutorService executorService, int maxPendingTasks, long timeoutSeconds) {
+        if (executorService == null) {
+            throw new IllegalArgumentException("Null: executorService");
+        }
+        this.executorService = executorService;
+        this.pendingTaskPermits = maxPendingTasks > 0 ? new Semaphore(maxPendingTasks) : null;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) {
+        if (pendingTaskPermits == null) {
+            return executorService.submit(task);
+        }
+
+        acquirePermit();
+        Callable<T> releasingTask = new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                try {
+                    return task.call();
+                } finally {
+                    pendingTaskPermits.release();
+                }
+            }
+        };
+        try {
+            return executorService.submit(releasingTask);
+        } catch (RejectedExecutionException e) {
+            pendingTaskPermits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void awaitCompletion() {
+        executorService.shutdown();
+        boolean completed;
+        try {
+            completed = executorService.awaitTermination(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AnalyzerException("Interrupted while waiting for the analysis to complete");
+        }
+        if (!completed) {
+            executorService.shutdownNow();
+            throw new AnalyzerException("Analysis did not complete within " + timeoutSeconds + " seconds");
+        }
+    }
+
+    @Override
+    public void shutdownNow() {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorServiceAnalysisScheduler[" + executorService + "]";
+    }
+
+    private void acquirePermit() {
+        try {
+            pendingTaskPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AnalyzerException("Interrupted while waiting to submit an analysis task");
+        }
+    }
+}
@@ -19,7 +19,9 @@ import org.apache.tools.ant.DirectoryScanner;
 import org.apache.tools.ant.Project;
 import org.apache.tools.ant.types.FileSet;
 import org.codenarc.analyzer.AbstractSourceAnalyzer;
+import org.codenarc.analyzer.AnalysisScheduler;
 import org.codenarc.analyzer.AnalyzerException;
+import org.codenarc.analyzer.ScheduledFile;
 import org.codenarc.results.DirectoryResults;
 import org.codenarc.results.FileResults;
 import org.codenarc.results.Results;
@@ -32,9 +34,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.*;
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * SourceAnalyzer implementation that gets source files from one or more Ant FileSets.
@@ -44,7 +47,6 @@ import java.util.concurrent.atomic.AtomicLong;
 public class AntFileSetSourceAnalyzer extends AbstractSourceAnalyzer {
 
     private static final Logger LOG = LoggerFactory.getLogger(AntFileSetSourceAnalyzer.class);
-    private static final int POOL_TIMEOUT_SECONDS = 60 * 60;
 
     /**
      * Whether to throw an exception if errors occur parsing source files (true), or just log the errors (false)
@@ -95,6 +97,9 @@ public class AntFileSetSourceAnalyzer extends AbstractSourceAnalyzer {
 
     /**
      * Analyze all source code using the specified RuleSet and return the report results.
+     * Unless otherwise configured by the schedulerFactory, the files are analyzed using a
+     * fixed thread pool with one fewer thread than the number of available processors, and the files are
+     * submitted in the order (and batches) determined by the schedulingPolicy.
      *
      * @param ruleSet - the RuleSet to apply to each source component; must not be null.
      * @return the results from applying the RuleSet to all of the source
@@ -103,17 +108,18 @@ public class AntFileSetSourceAnalyzer extends AbstractSourceAnalyzer {
         long startTime = System.currentTimeMillis();
         DirectoryResults reportResults = new DirectoryResults();
 
-        int numThreads = Runtime.getRuntime().availableProcessors() - 1;
-        numThreads = numThreads > 0 ? numThreads : 1;
-
-        ExecutorService pool = Executors.newFixedThreadPool(numThreads);
-
-        for (FileSet fileSet : fileSets) {
-            processFileSet(fileSet, ruleSet, pool);
+        AnalysisScheduler scheduler = createScheduler();
+        try {
+            List<ScheduledFile> files = new ArrayList<ScheduledFile>();
+            for (FileSet fileSet : fileSets) {
+                collectFiles(fileSet, files);
+            }
+            scheduleFiles(files, scheduler, buildTask(ruleSet));
+            awaitCompletion(scheduler);
+        } finally {
+            scheduler.shutdownNow();
         }
 
-        waitForThreadsToComplete(pool);
-
         if (failOnError && sourceFileErrors.get() > 0L) {
             throw new AnalyzerException("Errors analyzing " + sourceFileErrors.get() + " source files");
         }
@@ -123,19 +129,6 @@ public class AntFileSetSourceAnalyzer extends AbstractSourceAnalyzer {
         return reportResults;
     }
 
-    private void waitForThreadsToComplete(ExecutorService pool) {
-        pool.shutdown();
-
-        try {
-            boolean completed = pool.awaitTermination(POOL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-            if (!completed) {
-                throw new IllegalStateException("Thread Pool terminated before completion");
-            }
-        } catch (InterruptedException e) {
-            throw new IllegalStateException("Thread Pool interrupted before completion");
-        }
-    }
-
     public List getSourceDirectories() {
         String baseDir = project.getBaseDir().getAbsolutePath();
 
@@ -148,11 +141,25 @@ public class AntFileSetSourceAnalyzer extends AbstractSourceAnalyzer {
         return result;
     }
 
+    /**
+     * With failOnError, each source file is compiled, even if no rule requires its AST, so that syntax errors fail the task
+     */
+    @Override
+    protected boolean isCompilationRequired() {
+        return failOnError;
+    }
+
+    @Override
+    protected int getDefaultThreads() {
+        int numThreads = Runtime.getRuntime().availableProcessors() - 1;
+        return numThreads > 0 ? numThreads : 1;
+    }
+
     //--------------------------------------------------------------------------
     // Internal Helper Methods
     //--------------------------------------------------------------------------
 
-    private void processFileSet(FileSet fileSet, RuleSet ruleSet, ExecutorService pool) {
+    private void collectFiles(FileSet fileSet, List<ScheduledFile> files) {
         DirectoryScanner dirScanner = fileSet.getDirectoryScanner(project);
         File baseDir = fileSet.getDir(project);
         String[] includedFiles = dirScanner.getIncludedFiles();
@@ -163,35 +170,39 @@ public class AntFileSetSourceAnalyzer extends AbstractSourceAnalyzer {
         }
 
         for (String filePath : includedFiles) {
-            Runnable task = buildTask(baseDir, filePath, ruleSet);
-            pool.submit(task);
+            if (isInShard(filePath)) {
+                files.add(new ScheduledFile(filePath, new File(baseDir, filePath), getSourceLoader()));
+            }
         }
     }
 
-    private Runnable buildTask(final File baseDir, final String filePath, final RuleSet ruleSet) {
-        return new Runnable() {
-            public void run() {
+    private Function<ScheduledFile, FileResults> buildTask(final RuleSet ruleSet) {
+        return new Function<ScheduledFile, FileResults>() {
+            public FileResults apply(ScheduledFile file) {
                 try {
-                    processFile(baseDir, filePath, ruleSet);
+                    return processFile(file, ruleSet);
                 } catch (Throwable t) {
-                    LOG.warn("Error processing file: '" + filePath + "'; " + t);
+                    LOG.warn("Error processing file: '" + file.getPath() + "'; " + t);
                     sourceFileErrors.incrementAndGet();
                 }
+                return null;
             }
         };
     }
 
-    private void processFile(File baseDir, String filePath, RuleSet ruleSet) {
-        File file = new File(baseDir, filePath);
-        SourceFile sourceFile = new SourceFile(file);
+    private FileResults processFile(ScheduledFile file, RuleSet ruleSet) {
+        String filePath = file.getPath();
+        SourceFile sourceFile = file.getSourceFile();
         List<Violation> allViolations = collectViolations(sourceFile, ruleSet);
-        if (!sourceFile.isValid()) {
+        // The source file was compiled (if at all) while applying the rules, so it is never compiled again here
+        if (isCompilationFailed(sourceFile)) {
             sourceFileErrors.incrementAndGet();
         }
         FileResults fileResults = new FileResults(PathUtil.normalizePath(filePath), allViolations, sourceFile);
         String parentPath = PathUtil.getParentPath(filePath);
         String safeParentPath = parentPath != null ? parentPath : "";
         addToResultsMap(safeParentPath, fileResults);
+        return fileResults;
     }
 
     private void addToResultsMap(String parentPath, FileResults results) {
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule;
+
+import org.codehaus.groovy.ast.ASTNode;
+import org.codehaus.groovy.ast.AnnotationNode;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.ast.MethodNode;
+import org.codenarc.source.AstNodeIndex;
+
+import java.util.Set;
+
+/**
+ * Abstract superclass for AST Visitors that only need to visit the nodes of a few types within each class.
+ * Rather than walking the entire class, it visits just the nodes of the <code>visitedNodeTypes</code> from
+ * the {@link AstNodeIndex} of the source code, in the order in which they occur. Each node is dispatched to the
+ * usual visit method for its type (e.g. <code>visitConstructorCallExpression()</code>, or
+ * <code>visitAnnotation()</code> for an AnnotationNode). <br/>
+ * <br/>
+ * The nested nodes of the visited types are visited from the index too, so when you override those visit methods
+ * there is no need to invoke the super method (doing so walks the children of the node). Only the
+ * <code>visitClassEx()</code> and <code>visitClassComplete()</code> hooks are invoked; not
+ * <code>visitMethodEx()</code> or <code>visitMethodComplete()</code>. Use <code>getCurrentMethodNode()</code>
+ * to get the method containing the visited node.
+ */
+public abstract class AbstractAstNodeIndexVisitor<R extends Rule> extends AbstractAstVisitor<R> {
+
+    private MethodNode currentMethodNode;
+
+    /**
+     * @return the types of node to visit; each must be one of {@link AstNodeIndex#INDEXED_NODE_TYPES}
+     */
+    protected abstract Set<Class<? extends ASTNode>> getVisitedNodeTypes();
+
+    @Override
+    protected void visitClassContents(ClassNode node) {
+        Set<Class<? extends ASTNode>> visitedNodeTypes = getVisitedNodeTypes();
+        if (!AstNodeIndex.INDEXED_NODE_TYPES.containsAll(visitedNodeTypes)) {
+            throw new IllegalStateException("CodeNarc developer error. The visitedNodeTypes must be indexed: " + visitedNodeTypes);
+        }
+        for (AstNodeIndex.Entry entry : getSourceCode().getAstNodeIndex().getEntries(node)) {
+            if (visitedNodeTypes.contains(entry.getNodeType())) {
+                currentMethodNode = entry.getMethodNode();
+                ASTNode astNode = entry.getNode();
+                if (astNode instanceof AnnotationNode) {
+                    visitAnnotation((AnnotationNode) astNode);
+                } else {
+                    astNode.visit(this);
+                }
+            }
+        }
+        currentMethodNode = null;
+    }
+
+    /**
+     * @return the MethodNode (or ConstructorNode) containing the node being visited; or null if it is not within a method
+     */
+    protected MethodNode getCurrentMethodNode() {
+        return currentMethodNode;
+    }
+}
@@ -16,6 +16,9 @@
 package org.codenarc.rule;
 
 import org.codehaus.groovy.ast.*;
+import org.codehaus.groovy.ast.expr.*;
+import org.codehaus.groovy.ast.stmt.*;
+import org.codehaus.groovy.classgen.BytecodeExpression;
 import org.codehaus.groovy.control.SourceUnit;
 import org.codenarc.source.SourceCode;
 import org.codenarc.util.AstUtil;
@@ -27,6 +30,13 @@ import java.util.Set;
 
 /**
  * Abstract superclass for Groovy AST Visitors used with Rules
+ * <p/>
+ * The visitor for a rule whose class is annotated with {@link SupportsFusedTraversal} may be one of many visitors
+ * that are driven by a single {@link FusedAstVisitor}, rather than walking the class itself. Then each visit method
+ * is invoked only for the nodes that the visitor would otherwise reach, and invoking the super method means that the
+ * children of the node are visited next; so any processing must be done before invoking the super method. Annotate
+ * a subclass with {@link ControlsOwnTraversal} if it does any processing after invoking a super visit method, or walks
+ * any part of the AST itself, so that none of its own subclasses is driven that way either.
  *
  * @author Chris Mair
  * @author Hamlet D'Arcy
@@ -38,6 +48,10 @@ public class AbstractAstVisitor<R extends Rule> extends ClassCodeVisitorSupport
     private SourceCode sourceCode;
     private Set<Object> visited = new HashSet<Object>();
     private ClassNode currentClassNode = null;
+    private boolean fusedTraversal = false;
+
+    // Set by each super visit method within a fused traversal, to request that the children of the node be visited
+    boolean visitChildrenRequested;
 
     /**
      * Return true if the AST expression has not already been visited. If it is
@@ -127,13 +141,32 @@ public class AbstractAstVisitor<R extends Rule> extends ClassCodeVisitorSupport
     }
 
     public final void visitClass(final ClassNode node) {
+        beginClass(node);
+        visitClassContents(node);
+        endClass(node);
+    }
+
+    // Invoked before visiting the contents of the class; either by visitClass() or by a FusedAstVisitor
+    void beginClass(ClassNode node) {
         currentClassNode = node;
         visitClassEx(node);
-        super.visitClass(node);
+    }
+
+    // Invoked after visiting the contents of the class; either by visitClass() or by a FusedAstVisitor
+    void endClass(ClassNode node) {
         visitClassComplete(node);
         currentClassNode = null;
     }
 
+    /**
+     * Visit the members and code of the class. By default, walk the entire class.
+     *
+     * @param node - the ClassNode
+     */
+    protected void visitClassContents(ClassNode node) {
+        super.visitClass(node);
+    }
+
     protected void visitClassEx(ClassNode node) {
         // empty on purpose
     }
@@ -212,4 +245,481 @@ public class AbstractAstVisitor<R extends Rule> extends ClassCodeVisitorSupport
     protected boolean isNotGeneratedCode(ASTNode node) {
         return !isGeneratedCode(node);
     }
+
+    //------------------------------------------------------------------------------------
+    // Visit methods: within a fused traversal, these only request that the FusedAstVisitor
+    // visit the children of the node
+    //------------------------------------------------------------------------------------
+
+    // Set while this visitor is driven by a FusedAstVisitor
+    void setFusedTraversal(boolean fusedTraversal) {
+        this.fusedTraversal = fusedTraversal;
+    }
+
+    /**
+     * @return true if the super visit method is to walk the children of the node; or false if this visitor is
+     * driven by a FusedAstVisitor, after requesting that it visit the children instead
+     */
+    private boolean shouldWalkChildren() {
+        if (fusedTraversal) {
+            visitChildrenRequested = true;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    protected void visitConstructorOrMethod(MethodNode node, boolean isConstructor) {
+        if (shouldWalkChildren()) {
+            super.visitConstructorOrMethod(node, isConstructor);
+        }
+    }
+
+    @Override
+    public void visitAnnotations(AnnotatedNode node) {
+        if (shouldWalkChildren()) {
+            super.visitAnnotations(node);
+        }
+    }
+
+    @Override
+    protected void visitAnnotation(AnnotationNode node) {
+        if (shouldWalkChildren()) {
+            super.visitAnnotation(node);
+        }
+    }
+
+    @Override
+    public void visitPackage(PackageNode node) {
+        if (shouldWalkChildren()) {
+            super.visitPackage(node);
+        }
+    }
+
+    @Override
+    public void visitImports(ModuleNode node) {
+        if (shouldWalkChildren()) {
+            super.visitImports(node);
+        }
+    }
+
+    @Override
+    public void visitConstructor(ConstructorNode node) {
+        if (shouldWalkChildren()) {
+            super.visitConstructor(node);
+        }
+    }
+
+    @Override
+    public void visitField(FieldNode node) {
+        if (shouldWalkChildren()) {
+            super.visitField(node);
+        }
+    }
+
+    @Override
+    public void visitProperty(PropertyNode node) {
+        if (shouldWalkChildren()) {
+            super.visitProperty(node);
+        }
+    }
+
+    @Override
+    protected void visitClassCodeContainer(Statement code) {
+        if (shouldWalkChildren()) {
+            super.visitClassCodeContainer(code);
+        }
+    }
+
+    @Override
+    protected void visitObjectInitializerStatements(ClassNode node) {
+        if (shouldWalkChildren()) {
+            super.visitObjectInitializerStatements(node);
+        }
+    }
+
+    @Override
+    protected void visitStatement(Statement statement) {
+        if (shouldWalkChildren()) {
+            super.visitStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitAssertStatement(AssertStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitAssertStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitBlockStatement(BlockStatement block) {
+        if (shouldWalkChildren()) {
+            super.visitBlockStatement(block);
+        }
+    }
+
+    @Override
+    public void visitBreakStatement(BreakStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitBreakStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitCaseStatement(CaseStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitCaseStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitCatchStatement(CatchStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitCatchStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitContinueStatement(ContinueStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitContinueStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitDoWhileLoop(DoWhileStatement loop) {
+        if (shouldWalkChildren()) {
+            super.visitDoWhileLoop(loop);
+        }
+    }
+
+    @Override
+    public void visitEmptyStatement(EmptyStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitEmptyStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitExpressionStatement(ExpressionStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitExpressionStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitForLoop(ForStatement forLoop) {
+        if (shouldWalkChildren()) {
+            super.visitForLoop(forLoop);
+        }
+    }
+
+    @Override
+    public void visitIfElse(IfStatement ifElse) {
+        if (shouldWalkChildren()) {
+            super.visitIfElse(ifElse);
+        }
+    }
+
+    @Override
+    public void visitReturnStatement(ReturnStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitReturnStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitSwitch(SwitchStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitSwitch(statement);
+        }
+    }
+
+    @Override
+    public void visitSynchronizedStatement(SynchronizedStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitSynchronizedStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitThrowStatement(ThrowStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitThrowStatement(statement);
+        }
+    }
+
+    @Override
+    public void visitTryCatchFinally(TryCatchStatement statement) {
+        if (shouldWalkChildren()) {
+            super.visitTryCatchFinally(statement);
+        }
+    }
+
+    @Override
+    public void visitWhileLoop(WhileStatement loop) {
+        if (shouldWalkChildren()) {
+            super.visitWhileLoop(loop);
+        }
+    }
+
+    @Override
+    public void visitMethodCallExpression(MethodCallExpression call) {
+        if (shouldWalkChildren()) {
+            super.visitMethodCallExpression(call);
+        }
+    }
+
+    @Override
+    public void visitStaticMethodCallExpression(StaticMethodCallExpression call) {
+        if (shouldWalkChildren()) {
+            super.visitStaticMethodCallExpression(call);
+        }
+    }
+
+    @Override
+    public void visitConstructorCallExpression(ConstructorCallExpression call) {
+        if (shouldWalkChildren()) {
+            super.visitConstructorCallExpression(call);
+        }
+    }
+
+    @Override
+    public void visitBinaryExpression(BinaryExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitBinaryExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitDeclarationExpression(DeclarationExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitDeclarationExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitTernaryExpression(TernaryExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitTernaryExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitShortTernaryExpression(ElvisOperatorExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitShortTernaryExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitPostfixExpression(PostfixExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitPostfixExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitPrefixExpression(PrefixExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitPrefixExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitBooleanExpression(BooleanExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitBooleanExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitNotExpression(NotExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitNotExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitClosureExpression(ClosureExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitClosureExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitLambdaExpression(LambdaExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitLambdaExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitTupleExpression(TupleExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitTupleExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitListExpression(ListExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitListExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitArrayExpression(ArrayExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitArrayExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitMapExpression(MapExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitMapExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitMapEntryExpression(MapEntryExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitMapEntryExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitRangeExpression(RangeExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitRangeExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitSpreadExpression(SpreadExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitSpreadExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitSpreadMapExpression(SpreadMapExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitSpreadMapExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitMethodPointerExpression(MethodPointerExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitMethodPointerExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitMethodReferenceExpression(MethodReferenceExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitMethodReferenceExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitUnaryMinusExpression(UnaryMinusExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitUnaryMinusExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitUnaryPlusExpression(UnaryPlusExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitUnaryPlusExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitBitwiseNegationExpression(BitwiseNegationExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitBitwiseNegationExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitCastExpression(CastExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitCastExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitConstantExpression(ConstantExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitConstantExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitClassExpression(ClassExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitClassExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitVariableExpression(VariableExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitVariableExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitPropertyExpression(PropertyExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitPropertyExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitAttributeExpression(AttributeExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitAttributeExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitFieldExpression(FieldExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitFieldExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitGStringExpression(GStringExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitGStringExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitArgumentlistExpression(ArgumentListExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitArgumentlistExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitClosureListExpression(ClosureListExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitClosureListExpression(expression);
+        }
+    }
+
+    @Override
+    public void visitBytecodeExpression(BytecodeExpression expression) {
+        if (shouldWalkChildren()) {
+            super.visitBytecodeExpression(expression);
+        }
+    }
 }
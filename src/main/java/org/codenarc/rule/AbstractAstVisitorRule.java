@@ -18,11 +18,12 @@ package org.codenarc.rule;
 import org.codehaus.groovy.ast.ClassNode;
 import org.codehaus.groovy.ast.ModuleNode;
 import org.codenarc.source.SourceCode;
-import org.codenarc.util.WildcardPattern;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Abstract superclass for Rules that use a Groovy AST Visitor.
@@ -76,12 +77,19 @@ public abstract class AbstractAstVisitorRule extends AbstractRule {
     public AstVisitor getAstVisitor() {
         Class visitorClass = getAstVisitorClass();
         if (visitorClass == null) throw new IllegalArgumentException("The astVisitorClass property must not be null");
-        if (!AstVisitor.class.isAssignableFrom(visitorClass)) throw new IllegalArgumentException("The astVisitorClass property must specify a class that implements AstVisitor");
-        try {
-            return (AstVisitor) visitorClass.newInstance();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return AstVisitorFactory.forClass(visitorClass).newVisitor();
+    }
+
+    /**
+     * @return the AST; and also the AstNodeIndex built from it, if the astVisitorClass is an
+     * {@link AbstractMethodCallExpressionVisitor} or an {@link AbstractAstNodeIndexVisitor}
+     */
+    @Override
+    public Set<RuleCapability> getRequiredCapabilities() {
+        Class visitorClass = getAstVisitorClass();
+        boolean usesIndex = visitorClass != null && (AbstractMethodCallExpressionVisitor.class.isAssignableFrom(visitorClass)
+            || AbstractAstNodeIndexVisitor.class.isAssignableFrom(visitorClass));
+        return usesIndex ? EnumSet.of(RuleCapability.AST, RuleCapability.AST_NODE_INDEX) : EnumSet.of(RuleCapability.AST);
     }
 
     @Override
@@ -99,6 +107,11 @@ public abstract class AbstractAstVisitorRule extends AbstractRule {
                 }
             }
         }
+        sortViolations(violations);
+    }
+
+    // Sort the violations by line number, keeping the order of violations on the same line
+    static void sortViolations(List<Violation> violations) {
         Collections.sort(violations, new Comparator<Violation>() {
             public int compare(Violation o1, Violation o2) {
                 if (o1 == null && o2 == null) return 0;
@@ -119,23 +132,7 @@ public abstract class AbstractAstVisitorRule extends AbstractRule {
      * @return true if this rule should be applied for the specified ClassNode
      */
     protected boolean shouldApplyThisRuleTo(ClassNode classNode) {
-        // TODO Consider caching applyTo, doNotApplyTo and associated WildcardPatterns
-        boolean shouldApply = true;
-
-        String applyTo = getApplyToClassNames();
-        String doNotApplyTo = getDoNotApplyToClassNames();
-
-        if (applyTo != null  && applyTo.length() > 0) {
-            WildcardPattern pattern = new WildcardPattern(applyTo, true);
-            shouldApply = pattern.matches(classNode.getNameWithoutPackage()) || pattern.matches(classNode.getName());
-        }
-
-        if (shouldApply && doNotApplyTo != null && doNotApplyTo.length() > 0) {
-            WildcardPattern pattern = new WildcardPattern(doNotApplyTo, true);
-            shouldApply = !pattern.matches(classNode.getNameWithoutPackage()) && !pattern.matches(classNode.getName());
-        }
-
-        return shouldApply;
+        return RuleApplicability.matchesClassFilters(this, classNode);
     }
 
     public String getApplyToClassNames() {
@@ -18,7 +18,6 @@ package org.codenarc.rule;
 import org.codehaus.groovy.ast.ASTNode;
 import org.codehaus.groovy.ast.ImportNode;
 import org.codenarc.source.SourceCode;
-import org.codenarc.source.SourceCodeCriteria;
 import org.codenarc.util.ImportUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +32,9 @@ import java.util.regex.Pattern;
  * <p/>
  * Each subclass must define an <code>name</code> property (String) and a <code>priority</code> property
  * (integer 1..3).
+ * <p/>
+ * A rule may be applied to a (large) source file concurrently with other rules. Annotate a subclass with
+ * {@link SequentialWithinFile} if that is not safe.
  *
  * @author Chris Mair
  * @author Hamlet D'Arcy
@@ -136,20 +138,33 @@ public abstract class AbstractRule implements Rule {
      */
     public List<Violation> applyTo(SourceCode sourceCode) throws Throwable {
         try {
-            validateAstCompilerPhase(sourceCode);
-            validate();
             List<Violation> violations = new ArrayList<Violation>();
-            if (shouldApplyThisRuleTo(sourceCode)) {
+            if (validateAndCheckApplicable(sourceCode)) {
                 applyTo(sourceCode, violations);
             }
             overrideViolationMessageIfNecessary(violations);
             return violations;
         } catch(Throwable t) {
-            LOG.error("Error from [" + getClass().getName() + "] processing source file [" + sourceCode.getPath() + "]", t);
+            logError(sourceCode, t);
             throw t;
         }
     }
 
+    /**
+     * Validate this rule for the specified source, as for applyTo(SourceCode)
+     * @param sourceCode - the source to apply this rule to
+     * @return true if this rule should be applied to the source
+     */
+    boolean validateAndCheckApplicable(SourceCode sourceCode) {
+        validateAstCompilerPhase(sourceCode);
+        validate();
+        return shouldApplyThisRuleTo(sourceCode);
+    }
+
+    void logError(SourceCode sourceCode, Throwable t) {
+        LOG.error("Error from [" + getClass().getName() + "] processing source file [" + sourceCode.getPath() + "]", t);
+    }
+
     private void validateAstCompilerPhase(SourceCode sourceCode) {
         if (sourceCode.getAstCompilerPhase() != getCompilerPhase()) {
             throw new IllegalArgumentException("This rule requires SourceCode with AST compiler phase '"
@@ -246,16 +261,21 @@ public abstract class AbstractRule implements Rule {
         return violation;
     }
 
+    /**
+     * Return true if this rule is enabled and ready, and its file criteria (<code>applyToFilesMatching</code>,
+     * <code>applyToFileNames</code>, etc.) match the specified source code. Otherwise applying this rule to the
+     * source code does nothing.
+     * @param sourceCode - the SourceCode
+     * @return true if this rule should be applied to the specified source code
+     */
+    public boolean isApplicableTo(SourceCode sourceCode) {
+        return shouldApplyThisRuleTo(sourceCode);
+    }
+
     private boolean shouldApplyThisRuleTo(SourceCode sourceCode) {
         if (!enabled) return false;
         if (!isReady()) return false;
-
-        SourceCodeCriteria criteria = new SourceCodeCriteria();
-        criteria.setApplyToFilesMatching(getApplyToFilesMatching());
-        criteria.setDoNotApplyToFilesMatching(getDoNotApplyToFilesMatching());
-        criteria.setApplyToFileNames(getApplyToFileNames());
-        criteria.setDoNotApplyToFileNames(getDoNotApplyToFileNames());
-        return criteria.matches(sourceCode);
+        return RuleApplicability.matchesFileFilters(this, sourceCode);
     }
 
     private String getClassNameNoPackage() {
@@ -268,7 +288,7 @@ public abstract class AbstractRule implements Rule {
      * If the violationMessage property of this rule has been set, then use it to set the
      * message within each violation, overriding the original message(s), if any.
      */
-    private void overrideViolationMessageIfNecessary(List<Violation> violations) {
+    void overrideViolationMessageIfNecessary(List<Violation> violations) {
         if (violationMessage != null && violations != null) {
             for (Violation violation : violations) {
                 violation.setMessage(violationMessage);
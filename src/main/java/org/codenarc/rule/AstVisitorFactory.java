@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Creates the AstVisitors of a single class for AbstractAstVisitorRules. The class is validated, and its no-argument
+ * constructor resolved to a MethodHandle, once, rather than reflectively for each visitor.
+ */
+final class AstVisitorFactory {
+
+    private static final ClassValue<AstVisitorFactory> FACTORIES = new ClassValue<AstVisitorFactory>() {
+        @Override
+        protected AstVisitorFactory computeValue(Class<?> visitorClass) {
+            return new AstVisitorFactory(visitorClass);
+        }
+    };
+
+    private final MethodHandle constructor;
+
+    /**
+     * @param visitorClass - the class of AstVisitor to create
+     * @return the AstVisitorFactory for the visitor class, created on first use
+     * @throws IllegalArgumentException if the class does not implement AstVisitor
+     */
+    static AstVisitorFactory forClass(Class<?> visitorClass) {
+        return FACTORIES.get(visitorClass);
+    }
+
+    private AstVisitorFactory(Class<?> visitorClass) {
+        if (!AstVisitor.class.isAssignableFrom(visitorClass)) {
+            throw new IllegalArgumentException("The astVisitorClass property must specify a class that implements AstVisitor");
+        }
+        try {
+            this.constructor = MethodHandles.lookup().unreflectConstructor(visitorClass.getDeclaredConstructor())
+                .asType(MethodType.methodType(AstVisitor.class));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return a new visitor
+     */
+    AstVisitor newVisitor() {
+        try {
+            return (AstVisitor) constructor.invokeExact();
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+}
@@ -0,0 +1,920 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule;
+
+import org.codehaus.groovy.ast.*;
+import org.codehaus.groovy.ast.expr.*;
+import org.codehaus.groovy.ast.stmt.*;
+import org.codehaus.groovy.classgen.BytecodeExpression;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codenarc.source.SourceCode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Applies many AbstractAstVisitorRules to a source file with a single traversal of the AST of each class,
+ * rather than a separate traversal for each rule. It walks each class once, dispatching each visit method to
+ * the visitors of the rules that apply to that class (according to <code>applyToClassNames</code> and
+ * <code>doNotApplyToClassNames</code>). The children of a node are visited for each visitor that invoked the super
+ * method for that node, just as when the visitor walks the class itself; and each visitor keeps its own state,
+ * such as the nodes registered by <code>isFirstVisit()</code>.
+ * <p/>
+ * Only the visitors whose class is annotated with {@link SupportsFusedTraversal} are driven this way; the others walk
+ * each class themselves, as usual. That includes the subclasses of an annotated visitor that are not annotated
+ * themselves, and any visitor that is annotated with {@link ControlsOwnTraversal} or that overrides
+ * <code>visitClassContents()</code> (such as an AbstractAstNodeIndexVisitor).
+ * <p/>
+ * The violations for each rule are the same as for <code>Rule.applyTo(SourceCode)</code>. A new instance is
+ * required for each source file, and it is not thread-safe.
+ */
+public class FusedAstVisitor extends ClassCodeVisitorSupport {
+
+    private static final ClassValue<Boolean> FUSIBLE_RULE_CLASSES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> ruleClass) {
+            return AbstractAstVisitorRule.class.isAssignableFrom(ruleClass)
+                && declaringClass(ruleClass, "applyTo", SourceCode.class) == AbstractRule.class
+                && declaringClass(ruleClass, "applyTo", SourceCode.class, List.class) == AbstractAstVisitorRule.class;
+        }
+    };
+
+    private static final ClassValue<VisitorInfo> VISITOR_INFOS = new ClassValue<VisitorInfo>() {
+        @Override
+        protected VisitorInfo computeValue(Class<?> visitorClass) {
+            return new VisitorInfo(visitorClass);
+        }
+    };
+
+    private final List<AbstractAstVisitorRule> rules;
+    private final RuleApplicability applicability;
+    private final int[] applicabilityIndexes;
+    private int classTraversalCount;
+    private Rule currentRule;
+
+    // The visitors driven for the current class; for each Visit, the indexes of the visitors that override it;
+    // whether each visitor is visiting the current node; and the indexes of the visitors not visiting its children
+    private AbstractAstVisitor<?>[] visitors;
+    private int[][] visitorIndexes;
+    private boolean[] active;
+    private int[] suspended;
+    private int suspendedCount;
+
+    /**
+     * @param rules - the rules to apply; each must be accepted by <code>isFusible()</code>
+     */
+    public FusedAstVisitor(List<? extends Rule> rules) {
+        this(rules, RuleApplicability.forRules(rules));
+    }
+
+    /**
+     * @param rules - the rules to apply; each must be accepted by <code>isFusible()</code>
+     * @param applicability - a RuleApplicability whose rules include each of the rules, such as the one reused by a
+     *      SourceAnalyzer for all of the rules of a RuleSet; it determines the rules that apply to each class
+     */
+    public FusedAstVisitor(List<? extends Rule> rules, RuleApplicability applicability) {
+        this.rules = new ArrayList<AbstractAstVisitorRule>(rules.size());
+        this.applicabilityIndexes = new int[rules.size()];
+        for (Rule rule : rules) {
+            if (!isFusible(rule)) {
+                throw new IllegalArgumentException("The rule cannot be applied by a FusedAstVisitor: " + rule);
+            }
+            int applicabilityIndex = applicability.indexOf(rule);
+            if (applicabilityIndex < 0) {
+                throw new IllegalArgumentException("The rule is not one of the rules of the RuleApplicability: " + rule);
+            }
+            applicabilityIndexes[this.rules.size()] = applicabilityIndex;
+            this.rules.add((AbstractAstVisitorRule) rule);
+        }
+        this.applicability = applicability;
+    }
+
+    /**
+     * @return true if the rule can be applied by a FusedAstVisitor: it is an AbstractAstVisitorRule that does not
+     * override either <code>applyTo()</code> method. Its visitor may still need to walk each class itself.
+     */
+    public static boolean isFusible(Rule rule) {
+        return FUSIBLE_RULE_CLASSES.get(rule.getClass());
+    }
+
+    /**
+     * Apply the rules to the source code
+     * @param sourceCode - the source to apply the rules to
+     * @return the violations for each rule, in the order of the rules; as returned by <code>Rule.applyTo(SourceCode)</code>
+     */
+    public List<List<Violation>> applyTo(SourceCode sourceCode) throws Throwable {
+        try {
+            List<List<Violation>> violationsByRule = new ArrayList<List<Violation>>(rules.size());
+            boolean[] applicable = new boolean[rules.size()];
+            boolean anyApplicable = false;
+            for (int index = 0; index < rules.size(); index++) {
+                currentRule = rules.get(index);
+                applicable[index] = rules.get(index).validateAndCheckApplicable(sourceCode);
+                anyApplicable |= applicable[index];
+                violationsByRule.add(new ArrayList<Violation>());
+            }
+            currentRule = null;
+
+            // If AST is null, skip this source code
+            ModuleNode ast = anyApplicable ? sourceCode.getAst() : null;
+            if (ast != null && ast.getClasses() != null) {
+                for (ClassNode classNode : ast.getClasses()) {
+                    applyTo(sourceCode, classNode, applicable, violationsByRule);
+                }
+            }
+
+            for (int index = 0; index < rules.size(); index++) {
+                List<Violation> violations = violationsByRule.get(index);
+                AbstractAstVisitorRule.sortViolations(violations);
+                rules.get(index).overrideViolationMessageIfNecessary(violations);
+            }
+            return violationsByRule;
+        } catch (Throwable t) {
+            if (currentRule instanceof AbstractRule) {
+                ((AbstractRule) currentRule).logError(sourceCode, t);
+            }
+            throw t;
+        }
+    }
+
+    /**
+     * @return the number of times that a class has been walked (or visited) for all of the rules so far: once for all
+     * of the visitors driven by this FusedAstVisitor, plus once for each visitor that walks the class itself
+     */
+    public int getClassTraversalCount() {
+        return classTraversalCount;
+    }
+
+    private void applyTo(SourceCode sourceCode, ClassNode classNode, boolean[] applicable, List<List<Violation>> violationsByRule) {
+        List<AbstractAstVisitor<?>> fusedVisitors = new ArrayList<AbstractAstVisitor<?>>();
+        List<Integer> fusedRuleIndexes = new ArrayList<Integer>();
+        BitSet applicableToClass = applicability.applicableRules(classNode);
+        for (int index = 0; index < rules.size(); index++) {
+            AbstractAstVisitorRule rule = rules.get(index);
+            currentRule = rule;
+            if (applicable[index] && applicableToClass.get(applicabilityIndexes[index])) {
+                AstVisitor visitor = rule.getAstVisitor();
+                visitor.setRule(rule);
+                visitor.setSourceCode(sourceCode);
+                if (VISITOR_INFOS.get(visitor.getClass()).fusible) {
+                    fusedVisitors.add((AbstractAstVisitor<?>) visitor);
+                    fusedRuleIndexes.add(index);
+                } else {
+                    visitor.visitClass(classNode);
+                    classTraversalCount++;
+                    violationsByRule.get(index).addAll(visitor.getViolations());
+                }
+            }
+        }
+        currentRule = null;
+
+        if (!fusedVisitors.isEmpty()) {
+            walkClass(classNode, fusedVisitors);
+            classTraversalCount++;
+            for (int index = 0; index < fusedVisitors.size(); index++) {
+                violationsByRule.get(fusedRuleIndexes.get(index)).addAll(fusedVisitors.get(index).getViolations());
+            }
+        }
+    }
+
+    private void walkClass(ClassNode classNode, List<AbstractAstVisitor<?>> fusedVisitors) {
+        visitors = fusedVisitors.toArray(new AbstractAstVisitor<?>[0]);
+        active = new boolean[visitors.length];
+        suspended = new int[visitors.length];
+        suspendedCount = 0;
+
+        // Index the visitors by the visit methods that they override; the others only visit the children of the node
+        int[] counts = new int[Visit.VALUES.length];
+        for (AbstractAstVisitor<?> visitor : visitors) {
+            for (int visit : VISITOR_INFOS.get(visitor.getClass()).overriddenVisits) {
+                counts[visit]++;
+            }
+        }
+        visitorIndexes = new int[Visit.VALUES.length][];
+        for (int visit = 0; visit < counts.length; visit++) {
+            visitorIndexes[visit] = new int[counts[visit]];
+            counts[visit] = 0;
+        }
+        for (int index = 0; index < visitors.length; index++) {
+            for (int visit : VISITOR_INFOS.get(visitors[index].getClass()).overriddenVisits) {
+                visitorIndexes[visit][counts[visit]++] = index;
+            }
+        }
+
+        for (int index = 0; index < visitors.length; index++) {
+            active[index] = true;
+            visitors[index].setFusedTraversal(true);
+            currentRule = visitors[index].getRule();
+            visitors[index].beginClass(classNode);
+        }
+        currentRule = null;
+
+        super.visitClass(classNode);
+
+        for (AbstractAstVisitor<?> visitor : visitors) {
+            currentRule = visitor.getRule();
+            visitor.endClass(classNode);
+            visitor.setFusedTraversal(false);
+        }
+        currentRule = null;
+        visitors = null;
+    }
+
+    /**
+     * Invoke the visit method for the node on each active visitor that overrides it. Suspend each of those
+     * visitors that does not request that the children of the node be visited, until <code>resume()</code>.
+     * @return the suspendedCount to pass to resume() once the children of the node have been visited
+     */
+    private <T> int dispatch(Visit visit, T node, VisitMethod<T> visitMethod) {
+        int previousSuspendedCount = suspendedCount;
+        for (int index : visitorIndexes[visit.ordinal()]) {
+            if (active[index]) {
+                AbstractAstVisitor<?> visitor = visitors[index];
+                visitor.visitChildrenRequested = false;
+                invoke(visitor, node, visitMethod);
+                if (!visitor.visitChildrenRequested) {
+                    active[index] = false;
+                    suspended[suspendedCount++] = index;
+                }
+            }
+        }
+        return previousSuspendedCount;
+    }
+
+    // Invoke the (hook) method for the node on each active visitor that overrides it
+    private <T> void invokeEach(Visit visit, T node, VisitMethod<T> visitMethod) {
+        for (int index : visitorIndexes[visit.ordinal()]) {
+            if (active[index]) {
+                invoke(visitors[index], node, visitMethod);
+            }
+        }
+    }
+
+    private <T> void invoke(AbstractAstVisitor<?> visitor, T node, VisitMethod<T> visitMethod) {
+        try {
+            visitMethod.visit(visitor, node);
+        } catch (Throwable t) {
+            currentRule = visitor.getRule();
+            throw t;
+        }
+    }
+
+    private void resume(int previousSuspendedCount) {
+        while (suspendedCount > previousSuspendedCount) {
+            active[suspended[--suspendedCount]] = true;
+        }
+    }
+
+    @Override
+    protected SourceUnit getSourceUnit() {
+        throw new RuntimeException("should never be called");
+    }
+
+    //------------------------------------------------------------------------------------
+    // Visit methods
+    //------------------------------------------------------------------------------------
+
+    // As for AbstractAstVisitor.visitMethod(), for each active visitor
+    @Override
+    public void visitMethod(MethodNode node) {
+        int previousSuspendedCount = suspendedCount;
+        for (int index : visitorIndexes[Visit.SHOULD_VISIT_METHOD.ordinal()]) {
+            if (active[index]) {
+                AbstractAstVisitor<?> visitor = visitors[index];
+                boolean shouldVisitMethod = false;
+                try {
+                    shouldVisitMethod = visitor.shouldVisitMethod(node);
+                } catch (Throwable t) {
+                    currentRule = visitor.getRule();
+                    throw t;
+                }
+                if (!shouldVisitMethod) {
+                    active[index] = false;
+                    suspended[suspendedCount++] = index;
+                }
+            }
+        }
+        invokeEach(Visit.METHOD_EX, node, AbstractAstVisitor::visitMethodEx);
+        if (node.getParameters() != null) {
+            for (Parameter parameter : node.getParameters()) {
+                if (parameter.hasInitialExpression()) {
+                    parameter.getInitialExpression().visit(this);
+                }
+            }
+        }
+        super.visitMethod(node);
+        invokeEach(Visit.METHOD_COMPLETE, node, AbstractAstVisitor::visitMethodComplete);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    protected void visitConstructorOrMethod(MethodNode node, boolean isConstructor) {
+        int previousSuspendedCount = dispatch(Visit.CONSTRUCTOR_OR_METHOD, node,
+            (visitor, method) -> visitor.visitConstructorOrMethod(method, isConstructor));
+        super.visitConstructorOrMethod(node, isConstructor);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitAnnotations(AnnotatedNode node) {
+        int previousSuspendedCount = dispatch(Visit.ANNOTATIONS, node, AbstractAstVisitor::visitAnnotations);
+        super.visitAnnotations(node);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    protected void visitAnnotation(AnnotationNode node) {
+        int previousSuspendedCount = dispatch(Visit.ANNOTATION, node, AbstractAstVisitor::visitAnnotation);
+        super.visitAnnotation(node);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitPackage(PackageNode node) {
+        int previousSuspendedCount = dispatch(Visit.PACKAGE, node, AbstractAstVisitor::visitPackage);
+        super.visitPackage(node);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitImports(ModuleNode node) {
+        int previousSuspendedCount = dispatch(Visit.IMPORTS, node, AbstractAstVisitor::visitImports);
+        super.visitImports(node);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitConstructor(ConstructorNode node) {
+        int previousSuspendedCount = dispatch(Visit.CONSTRUCTOR, node, AbstractAstVisitor::visitConstructor);
+        super.visitConstructor(node);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitField(FieldNode node) {
+        int previousSuspendedCount = dispatch(Visit.FIELD, node, AbstractAstVisitor::visitField);
+        super.visitField(node);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitProperty(PropertyNode node) {
+        int previousSuspendedCount = dispatch(Visit.PROPERTY, node, AbstractAstVisitor::visitProperty);
+        super.visitProperty(node);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    protected void visitClassCodeContainer(Statement code) {
+        int previousSuspendedCount = dispatch(Visit.CLASS_CODE_CONTAINER, code, AbstractAstVisitor::visitClassCodeContainer);
+        super.visitClassCodeContainer(code);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    protected void visitObjectInitializerStatements(ClassNode node) {
+        int previousSuspendedCount = dispatch(Visit.OBJECT_INITIALIZER_STATEMENTS, node, AbstractAstVisitor::visitObjectInitializerStatements);
+        super.visitObjectInitializerStatements(node);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    protected void visitStatement(Statement statement) {
+        int previousSuspendedCount = dispatch(Visit.STATEMENT, statement, AbstractAstVisitor::visitStatement);
+        super.visitStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitAssertStatement(AssertStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.ASSERT_STATEMENT, statement, AbstractAstVisitor::visitAssertStatement);
+        super.visitAssertStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitBlockStatement(BlockStatement block) {
+        int previousSuspendedCount = dispatch(Visit.BLOCK_STATEMENT, block, AbstractAstVisitor::visitBlockStatement);
+        super.visitBlockStatement(block);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitBreakStatement(BreakStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.BREAK_STATEMENT, statement, AbstractAstVisitor::visitBreakStatement);
+        super.visitBreakStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitCaseStatement(CaseStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.CASE_STATEMENT, statement, AbstractAstVisitor::visitCaseStatement);
+        super.visitCaseStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitCatchStatement(CatchStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.CATCH_STATEMENT, statement, AbstractAstVisitor::visitCatchStatement);
+        super.visitCatchStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitContinueStatement(ContinueStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.CONTINUE_STATEMENT, statement, AbstractAstVisitor::visitContinueStatement);
+        super.visitContinueStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitDoWhileLoop(DoWhileStatement loop) {
+        int previousSuspendedCount = dispatch(Visit.DO_WHILE_LOOP, loop, AbstractAstVisitor::visitDoWhileLoop);
+        super.visitDoWhileLoop(loop);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitEmptyStatement(EmptyStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.EMPTY_STATEMENT, statement, AbstractAstVisitor::visitEmptyStatement);
+        super.visitEmptyStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitExpressionStatement(ExpressionStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.EXPRESSION_STATEMENT, statement, AbstractAstVisitor::visitExpressionStatement);
+        super.visitExpressionStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitForLoop(ForStatement forLoop) {
+        int previousSuspendedCount = dispatch(Visit.FOR_LOOP, forLoop, AbstractAstVisitor::visitForLoop);
+        super.visitForLoop(forLoop);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitIfElse(IfStatement ifElse) {
+        int previousSuspendedCount = dispatch(Visit.IF_ELSE, ifElse, AbstractAstVisitor::visitIfElse);
+        super.visitIfElse(ifElse);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitReturnStatement(ReturnStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.RETURN_STATEMENT, statement, AbstractAstVisitor::visitReturnStatement);
+        super.visitReturnStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitSwitch(SwitchStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.SWITCH, statement, AbstractAstVisitor::visitSwitch);
+        super.visitSwitch(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitSynchronizedStatement(SynchronizedStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.SYNCHRONIZED_STATEMENT, statement, AbstractAstVisitor::visitSynchronizedStatement);
+        super.visitSynchronizedStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitThrowStatement(ThrowStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.THROW_STATEMENT, statement, AbstractAstVisitor::visitThrowStatement);
+        super.visitThrowStatement(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitTryCatchFinally(TryCatchStatement statement) {
+        int previousSuspendedCount = dispatch(Visit.TRY_CATCH_FINALLY, statement, AbstractAstVisitor::visitTryCatchFinally);
+        super.visitTryCatchFinally(statement);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitWhileLoop(WhileStatement loop) {
+        int previousSuspendedCount = dispatch(Visit.WHILE_LOOP, loop, AbstractAstVisitor::visitWhileLoop);
+        super.visitWhileLoop(loop);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitMethodCallExpression(MethodCallExpression call) {
+        int previousSuspendedCount = dispatch(Visit.METHOD_CALL_EXPRESSION, call, AbstractAstVisitor::visitMethodCallExpression);
+        super.visitMethodCallExpression(call);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitStaticMethodCallExpression(StaticMethodCallExpression call) {
+        int previousSuspendedCount = dispatch(Visit.STATIC_METHOD_CALL_EXPRESSION, call, AbstractAstVisitor::visitStaticMethodCallExpression);
+        super.visitStaticMethodCallExpression(call);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitConstructorCallExpression(ConstructorCallExpression call) {
+        int previousSuspendedCount = dispatch(Visit.CONSTRUCTOR_CALL_EXPRESSION, call, AbstractAstVisitor::visitConstructorCallExpression);
+        super.visitConstructorCallExpression(call);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitBinaryExpression(BinaryExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.BINARY_EXPRESSION, expression, AbstractAstVisitor::visitBinaryExpression);
+        super.visitBinaryExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitDeclarationExpression(DeclarationExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.DECLARATION_EXPRESSION, expression, AbstractAstVisitor::visitDeclarationExpression);
+        super.visitDeclarationExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitTernaryExpression(TernaryExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.TERNARY_EXPRESSION, expression, AbstractAstVisitor::visitTernaryExpression);
+        super.visitTernaryExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitShortTernaryExpression(ElvisOperatorExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.SHORT_TERNARY_EXPRESSION, expression, AbstractAstVisitor::visitShortTernaryExpression);
+        super.visitShortTernaryExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitPostfixExpression(PostfixExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.POSTFIX_EXPRESSION, expression, AbstractAstVisitor::visitPostfixExpression);
+        super.visitPostfixExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitPrefixExpression(PrefixExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.PREFIX_EXPRESSION, expression, AbstractAstVisitor::visitPrefixExpression);
+        super.visitPrefixExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitBooleanExpression(BooleanExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.BOOLEAN_EXPRESSION, expression, AbstractAstVisitor::visitBooleanExpression);
+        super.visitBooleanExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitNotExpression(NotExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.NOT_EXPRESSION, expression, AbstractAstVisitor::visitNotExpression);
+        super.visitNotExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitClosureExpression(ClosureExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.CLOSURE_EXPRESSION, expression, AbstractAstVisitor::visitClosureExpression);
+        super.visitClosureExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitLambdaExpression(LambdaExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.LAMBDA_EXPRESSION, expression, AbstractAstVisitor::visitLambdaExpression);
+        super.visitLambdaExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitTupleExpression(TupleExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.TUPLE_EXPRESSION, expression, AbstractAstVisitor::visitTupleExpression);
+        super.visitTupleExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitListExpression(ListExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.LIST_EXPRESSION, expression, AbstractAstVisitor::visitListExpression);
+        super.visitListExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitArrayExpression(ArrayExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.ARRAY_EXPRESSION, expression, AbstractAstVisitor::visitArrayExpression);
+        super.visitArrayExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitMapExpression(MapExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.MAP_EXPRESSION, expression, AbstractAstVisitor::visitMapExpression);
+        super.visitMapExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitMapEntryExpression(MapEntryExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.MAP_ENTRY_EXPRESSION, expression, AbstractAstVisitor::visitMapEntryExpression);
+        super.visitMapEntryExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitRangeExpression(RangeExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.RANGE_EXPRESSION, expression, AbstractAstVisitor::visitRangeExpression);
+        super.visitRangeExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitSpreadExpression(SpreadExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.SPREAD_EXPRESSION, expression, AbstractAstVisitor::visitSpreadExpression);
+        super.visitSpreadExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitSpreadMapExpression(SpreadMapExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.SPREAD_MAP_EXPRESSION, expression, AbstractAstVisitor::visitSpreadMapExpression);
+        super.visitSpreadMapExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitMethodPointerExpression(MethodPointerExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.METHOD_POINTER_EXPRESSION, expression, AbstractAstVisitor::visitMethodPointerExpression);
+        super.visitMethodPointerExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitMethodReferenceExpression(MethodReferenceExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.METHOD_REFERENCE_EXPRESSION, expression, AbstractAstVisitor::visitMethodReferenceExpression);
+        super.visitMethodReferenceExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitUnaryMinusExpression(UnaryMinusExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.UNARY_MINUS_EXPRESSION, expression, AbstractAstVisitor::visitUnaryMinusExpression);
+        super.visitUnaryMinusExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitUnaryPlusExpression(UnaryPlusExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.UNARY_PLUS_EXPRESSION, expression, AbstractAstVisitor::visitUnaryPlusExpression);
+        super.visitUnaryPlusExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitBitwiseNegationExpression(BitwiseNegationExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.BITWISE_NEGATION_EXPRESSION, expression, AbstractAstVisitor::visitBitwiseNegationExpression);
+        super.visitBitwiseNegationExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitCastExpression(CastExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.CAST_EXPRESSION, expression, AbstractAstVisitor::visitCastExpression);
+        super.visitCastExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitConstantExpression(ConstantExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.CONSTANT_EXPRESSION, expression, AbstractAstVisitor::visitConstantExpression);
+        super.visitConstantExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitClassExpression(ClassExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.CLASS_EXPRESSION, expression, AbstractAstVisitor::visitClassExpression);
+        super.visitClassExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitVariableExpression(VariableExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.VARIABLE_EXPRESSION, expression, AbstractAstVisitor::visitVariableExpression);
+        super.visitVariableExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitPropertyExpression(PropertyExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.PROPERTY_EXPRESSION, expression, AbstractAstVisitor::visitPropertyExpression);
+        super.visitPropertyExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitAttributeExpression(AttributeExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.ATTRIBUTE_EXPRESSION, expression, AbstractAstVisitor::visitAttributeExpression);
+        super.visitAttributeExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitFieldExpression(FieldExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.FIELD_EXPRESSION, expression, AbstractAstVisitor::visitFieldExpression);
+        super.visitFieldExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitGStringExpression(GStringExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.GSTRING_EXPRESSION, expression, AbstractAstVisitor::visitGStringExpression);
+        super.visitGStringExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitArgumentlistExpression(ArgumentListExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.ARGUMENTLIST_EXPRESSION, expression, AbstractAstVisitor::visitArgumentlistExpression);
+        super.visitArgumentlistExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitClosureListExpression(ClosureListExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.CLOSURE_LIST_EXPRESSION, expression, AbstractAstVisitor::visitClosureListExpression);
+        super.visitClosureListExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    @Override
+    public void visitBytecodeExpression(BytecodeExpression expression) {
+        int previousSuspendedCount = dispatch(Visit.BYTECODE_EXPRESSION, expression, AbstractAstVisitor::visitBytecodeExpression);
+        super.visitBytecodeExpression(expression);
+        resume(previousSuspendedCount);
+    }
+
+    //------------------------------------------------------------------------------------
+    // Internal classes and helper methods
+    //------------------------------------------------------------------------------------
+
+    // The overridable methods of AbstractAstVisitor that are invoked for each node
+    private enum Visit {
+        SHOULD_VISIT_METHOD("shouldVisitMethod", MethodNode.class),
+        METHOD_EX("visitMethodEx", MethodNode.class),
+        METHOD_COMPLETE("visitMethodComplete", MethodNode.class),
+        CONSTRUCTOR_OR_METHOD("visitConstructorOrMethod", MethodNode.class, boolean.class),
+        ANNOTATIONS("visitAnnotations", AnnotatedNode.class),
+        ANNOTATION("visitAnnotation", AnnotationNode.class),
+        PACKAGE("visitPackage", PackageNode.class),
+        IMPORTS("visitImports", ModuleNode.class),
+        CONSTRUCTOR("visitConstructor", ConstructorNode.class),
+        FIELD("visitField", FieldNode.class),
+        PROPERTY("visitProperty", PropertyNode.class),
+        CLASS_CODE_CONTAINER("visitClassCodeContainer", Statement.class),
+        OBJECT_INITIALIZER_STATEMENTS("visitObjectInitializerStatements", ClassNode.class),
+        STATEMENT("visitStatement", Statement.class),
+        ASSERT_STATEMENT("visitAssertStatement", AssertStatement.class),
+        BLOCK_STATEMENT("visitBlockStatement", BlockStatement.class),
+        BREAK_STATEMENT("visitBreakStatement", BreakStatement.class),
+        CASE_STATEMENT("visitCaseStatement", CaseStatement.class),
+        CATCH_STATEMENT("visitCatchStatement", CatchStatement.class),
+        CONTINUE_STATEMENT("visitContinueStatement", ContinueStatement.class),
+        DO_WHILE_LOOP("visitDoWhileLoop", DoWhileStatement.class),
+        EMPTY_STATEMENT("visitEmptyStatement", EmptyStatement.class),
+        EXPRESSION_STATEMENT("visitExpressionStatement", ExpressionStatement.class),
+        FOR_LOOP("visitForLoop", ForStatement.class),
+        IF_ELSE("visitIfElse", IfStatement.class),
+        RETURN_STATEMENT("visitReturnStatement", ReturnStatement.class),
+        SWITCH("visitSwitch", SwitchStatement.class),
+        SYNCHRONIZED_STATEMENT("visitSynchronizedStatement", SynchronizedStatement.class),
+        THROW_STATEMENT("visitThrowStatement", ThrowStatement.class),
+        TRY_CATCH_FINALLY("visitTryCatchFinally", TryCatchStatement.class),
+        WHILE_LOOP("visitWhileLoop", WhileStatement.class),
+        METHOD_CALL_EXPRESSION("visitMethodCallExpression", MethodCallExpression.class),
+        STATIC_METHOD_CALL_EXPRESSION("visitStaticMethodCallExpression", StaticMethodCallExpression.class),
+        CONSTRUCTOR_CALL_EXPRESSION("visitConstructorCallExpression", ConstructorCallExpression.class),
+        BINARY_EXPRESSION("visitBinaryExpression", BinaryExpression.class),
+        DECLARATION_EXPRESSION("visitDeclarationExpression", DeclarationExpression.class),
+        TERNARY_EXPRESSION("visitTernaryExpression", TernaryExpression.class),
+        SHORT_TERNARY_EXPRESSION("visitShortTernaryExpression", ElvisOperatorExpression.class),
+        POSTFIX_EXPRESSION("visitPostfixExpression", PostfixExpression.class),
+        PREFIX_EXPRESSION("visitPrefixExpression", PrefixExpression.class),
+        BOOLEAN_EXPRESSION("visitBooleanExpression", BooleanExpression.class),
+        NOT_EXPRESSION("visitNotExpression", NotExpression.class),
+        CLOSURE_EXPRESSION("visitClosureExpression", ClosureExpression.class),
+        LAMBDA_EXPRESSION("visitLambdaExpression", LambdaExpression.class),
+        TUPLE_EXPRESSION("visitTupleExpression", TupleExpression.class),
+        LIST_EXPRESSION("visitListExpression", ListExpression.class),
+        ARRAY_EXPRESSION("visitArrayExpression", ArrayExpression.class),
+        MAP_EXPRESSION("visitMapExpression", MapExpression.class),
+        MAP_ENTRY_EXPRESSION("visitMapEntryExpression", MapEntryExpression.class),
+        RANGE_EXPRESSION("visitRangeExpression", RangeExpression.class),
+        SPREAD_EXPRESSION("visitSpreadExpression", SpreadExpression.class),
+        SPREAD_MAP_EXPRESSION("visitSpreadMapExpression", SpreadMapExpression.class),
+        METHOD_POINTER_EXPRESSION("visitMethodPointerExpression", MethodPointerExpression.class),
+        METHOD_REFERENCE_EXPRESSION("visitMethodReferenceExpression", MethodReferenceExpression.class),
+        UNARY_MINUS_EXPRESSION("visitUnaryMinusExpression", UnaryMinusExpression.class),
+        UNARY_PLUS_EXPRESSION("visitUnaryPlusExpression", UnaryPlusExpression.class),
+        BITWISE_NEGATION_EXPRESSION("visitBitwiseNegationExpression", BitwiseNegationExpression.class),
+        CAST_EXPRESSION("visitCastExpression", CastExpression.class),
+        CONSTANT_EXPRESSION("visitConstantExpression", ConstantExpression.class),
+        CLASS_EXPRESSION("visitClassExpression", ClassExpression.class),
+        VARIABLE_EXPRESSION("visitVariableExpression", VariableExpression.class),
+        PROPERTY_EXPRESSION("visitPropertyExpression", PropertyExpression.class),
+        ATTRIBUTE_EXPRESSION("visitAttributeExpression", AttributeExpression.class),
+        FIELD_EXPRESSION("visitFieldExpression", FieldExpression.class),
+        GSTRING_EXPRESSION("visitGStringExpression", GStringExpression.class),
+        ARGUMENTLIST_EXPRESSION("visitArgumentlistExpression", ArgumentListExpression.class),
+        CLOSURE_LIST_EXPRESSION("visitClosureListExpression", ClosureListExpression.class),
+        BYTECODE_EXPRESSION("visitBytecodeExpression", BytecodeExpression.class);
+
+        private static final Visit[] VALUES = values();
+
+        private final String methodName;
+        private final Class<?>[] parameterTypes;
+
+        Visit(String methodName, Class<?>... parameterTypes) {
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+        }
+    }
+
+    private interface VisitMethod<T> {
+        void visit(AbstractAstVisitor<?> visitor, T node);
+    }
+
+    // Whether instances of a visitor class can be driven by a FusedAstVisitor, and the visit methods it overrides
+    private static class VisitorInfo {
+        private final boolean fusible;
+        private final int[] overriddenVisits;
+
+        VisitorInfo(Class<?> visitorClass) {
+            List<Integer> visits = new ArrayList<Integer>();
+            boolean isFusible = AbstractAstVisitor.class.isAssignableFrom(visitorClass)
+                && visitorClass.getDeclaredAnnotation(SupportsFusedTraversal.class) != null
+                && !visitorClass.isAnnotationPresent(ControlsOwnTraversal.class)
+                && !overrides(visitorClass, "visitClassContents", ClassNode.class)
+                && !overrides(visitorClass, "visit", Expression.class)
+                && !overrides(visitorClass, "visit", Statement.class)
+                && !overrides(visitorClass, "visitListOfExpressions", List.class)
+                && !overrides(visitorClass, "visitEmptyExpression", EmptyExpression.class);
+            if (isFusible) {
+                for (Visit visit : Visit.VALUES) {
+                    if (overrides(visitorClass, visit.methodName, visit.parameterTypes)) {
+                        visits.add(visit.ordinal());
+                    }
+                }
+            }
+            this.fusible = isFusible;
+            this.overriddenVisits = new int[visits.size()];
+            for (int index = 0; index < visits.size(); index++) {
+                overriddenVisits[index] = visits.get(index);
+            }
+        }
+
+        // Return true if a subclass of AbstractAstVisitor declares the method
+        private static boolean overrides(Class<?> visitorClass, String methodName, Class<?>... parameterTypes) {
+            for (Class<?> c = visitorClass; c != null && c != AbstractAstVisitor.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod(methodName, parameterTypes);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // continue with the superclass
+                }
+            }
+            return false;
+        }
+    }
+
+    private static Class<?> declaringClass(Class<?> c, String methodName, Class<?>... parameterTypes) {
+        try {
+            return c.getMethod(methodName, parameterTypes).getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
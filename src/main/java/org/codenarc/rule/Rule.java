@@ -17,7 +17,9 @@ package org.codenarc.rule;
 
 import org.codenarc.source.SourceCode;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a source code analysis rule .
@@ -51,4 +53,13 @@ public interface Rule {
      */
     int getCompilerPhase();
 
+    /**
+     * @return the parts of the {@link SourceCode} that this rule reads when it is applied. Defaults to the AST,
+     * which also makes the text and the lines available. A rule that only reads the text and/or the lines
+     * can override this so that the source code need not be compiled for that rule.
+     */
+    default Set<RuleCapability> getRequiredCapabilities() {
+        return EnumSet.of(RuleCapability.AST);
+    }
+
 }
\ No newline at end of file
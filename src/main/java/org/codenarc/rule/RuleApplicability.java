@@ -0,0 +1,368 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule;
+
+import org.codehaus.groovy.ast.ClassNode;
+import org.codenarc.source.SourceCode;
+import org.codenarc.util.WildcardPattern;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Determines which of a list of rules apply to a source file, or to a class within it, according to the file and
+ * class name filters of the rules: <code>applyToFilesMatching</code>, <code>doNotApplyToFilesMatching</code>,
+ * <code>applyToFileNames</code>, <code>doNotApplyToFileNames</code> and, for an AbstractAstVisitorRule,
+ * <code>applyToClassNames</code> and <code>doNotApplyToClassNames</code>.
+ * <p/>
+ * Each distinct filter value is compiled once (to a Pattern or a WildcardPattern), and shared by every rule that
+ * specifies it. The rules that apply to a source file are then determined by matching each distinct filter once
+ * against the path and name of the file, rather than by compiling and matching the filters of each rule in turn.
+ * An AbstractRule must also be enabled and ready, as for <code>AbstractRule.isApplicableTo()</code>; any other Rule
+ * always applies. A rule that overrides <code>isApplicableTo()</code>, or <code>shouldApplyThisRuleTo(ClassNode)</code>,
+ * is asked itself.
+ * <p/>
+ * The filters of the rules are read when the RuleApplicability is created; see <code>isCurrent()</code>.
+ * Instances are immutable, and so thread-safe.
+ */
+public final class RuleApplicability {
+
+    /** The maximum number of compiled filter values of each type that are kept, to be shared */
+    static final int MAX_COMPILED_FILTERS = 1000;
+
+    // The filters of each rule, as indexes into the filter values and indexes of the rule
+    private static final int APPLY_TO_FILES_MATCHING = 0;
+    private static final int DO_NOT_APPLY_TO_FILES_MATCHING = 1;
+    private static final int APPLY_TO_FILE_NAMES = 2;
+    private static final int DO_NOT_APPLY_TO_FILE_NAMES = 3;
+    private static final int APPLY_TO_CLASS_NAMES = 4;
+    private static final int DO_NOT_APPLY_TO_CLASS_NAMES = 5;
+    private static final int NUM_FILTERS = 6;
+    private static final FilterType[] FILTER_TYPES = {
+        FilterType.FILES_MATCHING, FilterType.FILES_MATCHING,
+        FilterType.FILE_NAMES, FilterType.FILE_NAMES,
+        FilterType.CLASS_NAMES, FilterType.CLASS_NAMES
+    };
+
+    private static final byte MATCHED = 1;
+    private static final byte NOT_MATCHED = 2;
+
+    private static final ClassValue<Boolean> CUSTOM_FILE_CRITERIA = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> ruleClass) {
+            return AbstractRule.class.isAssignableFrom(ruleClass)
+                && declaringClass(ruleClass, "isApplicableTo", SourceCode.class) != AbstractRule.class;
+        }
+    };
+
+    private static final ClassValue<Boolean> CUSTOM_CLASS_CRITERIA = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> ruleClass) {
+            return AbstractAstVisitorRule.class.isAssignableFrom(ruleClass)
+                && declaringClass(ruleClass, "shouldApplyThisRuleTo", ClassNode.class) != AbstractAstVisitorRule.class;
+        }
+    };
+
+    private final List<Rule> rules;
+    private final Map<Rule, Integer> ruleIndexes;
+    private final String[][] filterValues;
+    private final int[][] filterIndexes;
+    private final Filter[] filters;
+
+    /**
+     * Compile the filters of the rules
+     * @param rules - the rules
+     * @return a new RuleApplicability for the rules
+     */
+    public static RuleApplicability forRules(List<? extends Rule> rules) {
+        return new RuleApplicability(rules);
+    }
+
+    private RuleApplicability(List<? extends Rule> rules) {
+        this.rules = Collections.unmodifiableList(new ArrayList<Rule>(rules));
+        this.ruleIndexes = new IdentityHashMap<Rule, Integer>();
+        this.filterValues = new String[rules.size()][];
+        this.filterIndexes = new int[rules.size()][];
+        Map<Filter, Integer> distinctFilters = new IdentityHashMap<Filter, Integer>();
+        for (int index = 0; index < rules.size(); index++) {
+            ruleIndexes.putIfAbsent(this.rules.get(index), index);
+            filterValues[index] = getFilterValues(this.rules.get(index));
+            filterIndexes[index] = new int[NUM_FILTERS];
+            for (int filter = 0; filter < NUM_FILTERS; filter++) {
+                Filter compiled = FILTER_TYPES[filter].compile(filterValues[index][filter]);
+                Integer filterIndex = -1;
+                if (compiled != null) {
+                    filterIndex = distinctFilters.get(compiled);
+                    if (filterIndex == null) {
+                        filterIndex = distinctFilters.size();
+                        distinctFilters.put(compiled, filterIndex);
+                    }
+                }
+                filterIndexes[index][filter] = filterIndex;
+            }
+        }
+        this.filters = new Filter[distinctFilters.size()];
+        for (Map.Entry<Filter, Integer> entry : distinctFilters.entrySet()) {
+            filters[entry.getValue()] = entry.getKey();
+        }
+    }
+
+    /**
+     * @return the rules, in their original order; the index of each rule is its bit within the BitSets returned
+     */
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    /**
+     * @param rule - a rule
+     * @return the index of the (first occurrence of the) rule instance within <code>getRules()</code>; or -1 if it is
+     * not one of those rules
+     */
+    public int indexOf(Rule rule) {
+        Integer index = ruleIndexes.get(rule);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @param rules - a list of rules
+     * @return true if the rules are the same rule instances, in the same order, as those of this RuleApplicability,
+     * and none of their filters has changed since it was created
+     */
+    public boolean isCurrent(List<? extends Rule> rules) {
+        if (rules.size() != this.rules.size()) {
+            return false;
+        }
+        for (int index = 0; index < rules.size(); index++) {
+            Rule rule = rules.get(index);
+            if (rule != this.rules.get(index)) {
+                return false;
+            }
+            String[] values = getFilterValues(rule);
+            for (int filter = 0; filter < NUM_FILTERS; filter++) {
+                if (!Objects.equals(values[filter], filterValues[index][filter])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param sourceCode - the SourceCode
+     * @return the indexes of the rules that apply to the source code
+     */
+    public BitSet applicableRules(SourceCode sourceCode) {
+        BitSet applicable = new BitSet(rules.size());
+        byte[] matches = new byte[filters.length];
+        for (int index = 0; index < rules.size(); index++) {
+            Rule rule = rules.get(index);
+            boolean applies;
+            if (!(rule instanceof AbstractRule)) {
+                applies = true;
+            } else if (CUSTOM_FILE_CRITERIA.get(rule.getClass())) {
+                applies = ((AbstractRule) rule).isApplicableTo(sourceCode);
+            } else {
+                AbstractRule abstractRule = (AbstractRule) rule;
+                int[] indexes = filterIndexes[index];
+                applies = abstractRule.isEnabled() && abstractRule.isReady()
+                    && matchesFile(indexes[APPLY_TO_FILES_MATCHING], true, sourceCode, matches)
+                    && !matchesFile(indexes[DO_NOT_APPLY_TO_FILES_MATCHING], false, sourceCode, matches)
+                    && matchesFile(indexes[APPLY_TO_FILE_NAMES], true, sourceCode, matches)
+                    && !matchesFile(indexes[DO_NOT_APPLY_TO_FILE_NAMES], false, sourceCode, matches);
+            }
+            applicable.set(index, applies);
+        }
+        return applicable;
+    }
+
+    /**
+     * @param classNode - the ClassNode
+     * @return the indexes of the rules that apply to the class, according to the class name filters of each
+     * AbstractAstVisitorRule; any other rule is included. The file filters are not checked.
+     */
+    public BitSet applicableRules(ClassNode classNode) {
+        BitSet applicable = new BitSet(rules.size());
+        byte[] matches = new byte[filters.length];
+        for (int index = 0; index < rules.size(); index++) {
+            Rule rule = rules.get(index);
+            boolean applies;
+            if (!(rule instanceof AbstractAstVisitorRule)) {
+                applies = true;
+            } else if (CUSTOM_CLASS_CRITERIA.get(rule.getClass())) {
+                applies = ((AbstractAstVisitorRule) rule).shouldApplyThisRuleTo(classNode);
+            } else {
+                int[] indexes = filterIndexes[index];
+                applies = matchesClass(indexes[APPLY_TO_CLASS_NAMES], true, classNode, matches)
+                    && !matchesClass(indexes[DO_NOT_APPLY_TO_CLASS_NAMES], false, classNode, matches);
+            }
+            applicable.set(index, applies);
+        }
+        return applicable;
+    }
+
+    /**
+     * @return true if the file filters of the rule match the source code; its enablement is not checked
+     */
+    static boolean matchesFileFilters(AbstractRule rule, SourceCode sourceCode) {
+        return matchesFileFilters(rule.getApplyToFilesMatching(), rule.getDoNotApplyToFilesMatching(),
+            rule.getApplyToFileNames(), rule.getDoNotApplyToFileNames(), sourceCode);
+    }
+
+    /**
+     * Match the file filters against the source code, using the shared compiled filters. A null or empty filter
+     * value is ignored.
+     * @return true if all of the file filters match the source code
+     */
+    public static boolean matchesFileFilters(String applyToFilesMatching, String doNotApplyToFilesMatching,
+            String applyToFileNames, String doNotApplyToFileNames, SourceCode sourceCode) {
+        Filter filter = FilterType.FILES_MATCHING.compile(applyToFilesMatching);
+        if (filter != null && !filter.matchesFile(sourceCode)) {
+            return false;
+        }
+        filter = FilterType.FILES_MATCHING.compile(doNotApplyToFilesMatching);
+        if (filter != null && filter.matchesFile(sourceCode)) {
+            return false;
+        }
+        filter = FilterType.FILE_NAMES.compile(applyToFileNames);
+        if (filter != null && !filter.matchesFile(sourceCode)) {
+            return false;
+        }
+        filter = FilterType.FILE_NAMES.compile(doNotApplyToFileNames);
+        return filter == null || !filter.matchesFile(sourceCode);
+    }
+
+    /**
+     * @return true if the class name filters of the rule match the class
+     */
+    static boolean matchesClassFilters(AbstractAstVisitorRule rule, ClassNode classNode) {
+        Filter filter = FilterType.CLASS_NAMES.compile(rule.getApplyToClassNames());
+        if (filter != null && !filter.matchesClass(classNode)) {
+            return false;
+        }
+        filter = FilterType.CLASS_NAMES.compile(rule.getDoNotApplyToClassNames());
+        return filter == null || !filter.matchesClass(classNode);
+    }
+
+    private boolean matchesFile(int filterIndex, boolean noFilter, SourceCode sourceCode, byte[] matches) {
+        if (filterIndex < 0) {
+            return noFilter;
+        }
+        if (matches[filterIndex] == 0) {
+            matches[filterIndex] = filters[filterIndex].matchesFile(sourceCode) ? MATCHED : NOT_MATCHED;
+        }
+        return matches[filterIndex] == MATCHED;
+    }
+
+    private boolean matchesClass(int filterIndex, boolean noFilter, ClassNode classNode, byte[] matches) {
+        if (filterIndex < 0) {
+            return noFilter;
+        }
+        if (matches[filterIndex] == 0) {
+            matches[filterIndex] = filters[filterIndex].matchesClass(classNode) ? MATCHED : NOT_MATCHED;
+        }
+        return matches[filterIndex] == MATCHED;
+    }
+
+    private static String[] getFilterValues(Rule rule) {
+        String[] values = new String[NUM_FILTERS];
+        if (rule instanceof AbstractRule) {
+            AbstractRule abstractRule = (AbstractRule) rule;
+            values[APPLY_TO_FILES_MATCHING] = abstractRule.getApplyToFilesMatching();
+            values[DO_NOT_APPLY_TO_FILES_MATCHING] = abstractRule.getDoNotApplyToFilesMatching();
+            values[APPLY_TO_FILE_NAMES] = abstractRule.getApplyToFileNames();
+            values[DO_NOT_APPLY_TO_FILE_NAMES] = abstractRule.getDoNotApplyToFileNames();
+        }
+        if (rule instanceof AbstractAstVisitorRule) {
+            AbstractAstVisitorRule astVisitorRule = (AbstractAstVisitorRule) rule;
+            values[APPLY_TO_CLASS_NAMES] = astVisitorRule.getApplyToClassNames();
+            values[DO_NOT_APPLY_TO_CLASS_NAMES] = astVisitorRule.getDoNotApplyToClassNames();
+        }
+        return values;
+    }
+
+    private static Class<?> declaringClass(Class<?> ruleClass, String methodName, Class<?>... parameterTypes) {
+        for (Class<?> c = ruleClass; c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(methodName, parameterTypes);
+                return c;
+            } catch (NoSuchMethodException e) {
+                // Keep looking in the superclass
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The types of filter value, each with the filters compiled so far, keyed by value
+     */
+    private enum FilterType {
+        FILES_MATCHING, FILE_NAMES, CLASS_NAMES;
+
+        private final Map<String, Filter> compiledFilters = new ConcurrentHashMap<String, Filter>();
+
+        // Return the compiled filter for the value; or null if the value is null or empty, so there is no filter
+        Filter compile(String value) {
+            if (value == null || value.isEmpty()) {
+                return null;
+            }
+            Filter filter = compiledFilters.get(value);
+            if (filter == null) {
+                filter = new Filter(this, value);
+                if (compiledFilters.size() < MAX_COMPILED_FILTERS) {
+                    Filter existing = compiledFilters.putIfAbsent(value, filter);
+                    filter = existing != null ? existing : filter;
+                }
+            }
+            return filter;
+        }
+    }
+
+    /**
+     * A single compiled filter value: a regular expression that matches the path of a source file; or a
+     * WildcardPattern that matches the name (or path, if it includes a path) of a source file, or the name of a class
+     */
+    private static final class Filter {
+        private final Pattern pattern;
+        private final WildcardPattern wildcardPattern;
+        private final boolean includesPath;
+
+        Filter(FilterType type, String value) {
+            this.pattern = type == FilterType.FILES_MATCHING ? Pattern.compile(value) : null;
+            this.wildcardPattern = type == FilterType.FILES_MATCHING ? null : new WildcardPattern(value, true);
+            this.includesPath = value.contains("/");
+        }
+
+        boolean matchesFile(SourceCode sourceCode) {
+            if (pattern != null) {
+                String path = sourceCode.getPath();
+                return path != null && pattern.matcher(path).matches();
+            }
+            return wildcardPattern.matches(includesPath ? sourceCode.getPath() : sourceCode.getName());
+        }
+
+        boolean matchesClass(ClassNode classNode) {
+            return wildcardPattern.matches(classNode.getNameWithoutPackage()) || wildcardPattern.matches(classNode.getName());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule;
+
+/**
+ * The parts of a {@link org.codenarc.source.SourceCode} that a Rule reads when it is applied, as returned by
+ * {@link Rule#getRequiredCapabilities()}. A SourceAnalyzer uses these to avoid work that none of the
+ * rules applied to a source file need, e.g. compiling the source file if no rule needs its AST.
+ *
+ * @see org.codenarc.analyzer.RuleExecutionPlan
+ */
+public enum RuleCapability {
+
+    /** The full text of the source code; <code>getText()</code>, <code>getLineNumberForCharacterIndex()</code> */
+    TEXT,
+
+    /** The lines of the source code; <code>getLines()</code>, <code>line()</code> */
+    LINES,
+
+    /** The Groovy AST of the source code; <code>getAst()</code> */
+    AST,
+
+    /** The index of the nodes of the AST; <code>getAstNodeIndex()</code>, <code>getMethodCallExpressions()</code>. Implies AST. */
+    AST_NODE_INDEX
+}
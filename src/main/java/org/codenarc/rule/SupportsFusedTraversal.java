@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an AbstractAstVisitor class that can be driven by a {@link FusedAstVisitor} together with the visitors of
+ * other rules, rather than walk the AST of each class itself. Only annotate a visitor that does all of its processing
+ * for a node before invoking the super visit method (if at all), and never visits the children of a node explicitly.
+ * <p/>
+ * It is not inherited, so each visitor subclass must be checked, and annotated, separately.
+ *
+ * @see ControlsOwnTraversal
+ * @see AbstractAstVisitor
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SupportsFusedTraversal {
+}
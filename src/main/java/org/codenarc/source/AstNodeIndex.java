@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source;
+
+import org.codehaus.groovy.ast.ASTNode;
+import org.codehaus.groovy.ast.AnnotationNode;
+import org.codehaus.groovy.ast.ClassCodeVisitorSupport;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.ast.MethodNode;
+import org.codehaus.groovy.ast.ModuleNode;
+import org.codehaus.groovy.ast.Parameter;
+import org.codehaus.groovy.ast.expr.AttributeExpression;
+import org.codehaus.groovy.ast.expr.BinaryExpression;
+import org.codehaus.groovy.ast.expr.ClosureExpression;
+import org.codehaus.groovy.ast.expr.ConstructorCallExpression;
+import org.codehaus.groovy.ast.expr.DeclarationExpression;
+import org.codehaus.groovy.ast.expr.FieldExpression;
+import org.codehaus.groovy.ast.expr.MethodCallExpression;
+import org.codehaus.groovy.ast.expr.PropertyExpression;
+import org.codehaus.groovy.ast.expr.StaticMethodCallExpression;
+import org.codehaus.groovy.ast.expr.VariableExpression;
+import org.codehaus.groovy.ast.stmt.CatchStatement;
+import org.codehaus.groovy.ast.stmt.DoWhileStatement;
+import org.codehaus.groovy.ast.stmt.ForStatement;
+import org.codehaus.groovy.ast.stmt.TryCatchStatement;
+import org.codehaus.groovy.ast.stmt.WhileStatement;
+import org.codehaus.groovy.control.SourceUnit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of the AST nodes of a source file, by node type and by the ClassNode (and MethodNode) that contains
+ * them, built in a single traversal of the AST. A rule that is only interested in a few types of node can
+ * iterate over those nodes, rather than walking the entire AST itself.
+ * <p/>
+ * Each node is indexed under the type of the visit method that visits it within a
+ * <code>ClassCodeVisitorSupport</code> traversal; so, for instance, a DeclarationExpression is indexed as a
+ * DeclarationExpression but not as a BinaryExpression, and an AttributeExpression is not indexed as a
+ * PropertyExpression. Each node is indexed only once within each class, in the order in which it is first visited.
+ * As for an AbstractAstVisitor, the default values of the parameters of a method (but not of a constructor) are
+ * visited, before its code. The nodes within a closure belong to the method that contains the closure; the nodes
+ * within field and property initializers and class annotations belong to no method. This class is immutable once
+ * built.
+ *
+ * @see org.codenarc.rule.AbstractAstNodeIndexVisitor
+ */
+public final class AstNodeIndex {
+
+    /**
+     * The types of AST node that are indexed
+     */
+    public static final Set<Class<? extends ASTNode>> INDEXED_NODE_TYPES = Collections.unmodifiableSet(new LinkedHashSet<Class<? extends ASTNode>>(Arrays.asList(
+        MethodCallExpression.class, StaticMethodCallExpression.class, ConstructorCallExpression.class,
+        PropertyExpression.class, AttributeExpression.class, FieldExpression.class, VariableExpression.class,
+        BinaryExpression.class, DeclarationExpression.class, ClosureExpression.class, AnnotationNode.class,
+        TryCatchStatement.class, CatchStatement.class, ForStatement.class, WhileStatement.class, DoWhileStatement.class)));
+
+    private final Map<ClassNode, List<Entry>> entriesByClass = new HashMap<ClassNode, List<Entry>>();
+    private final Map<ClassNode, Map<Class<?>, List<ASTNode>>> nodesByClass = new HashMap<ClassNode, Map<Class<?>, List<ASTNode>>>();
+    private final Map<MethodNode, Map<Class<?>, List<ASTNode>>> nodesByMethod = new HashMap<MethodNode, Map<Class<?>, List<ASTNode>>>();
+    private final Map<ClassNode, List<MethodCallExpression>> methodCallExpressions = new HashMap<ClassNode, List<MethodCallExpression>>();
+
+    /**
+     * Build the index for the classes within the module
+     * @param module - the AST; may be null, in which case the index is empty
+     */
+    public AstNodeIndex(ModuleNode module) {
+        if (module != null && module.getClasses() != null) {
+            IndexingVisitor visitor = new IndexingVisitor();
+            for (ClassNode classNode : module.getClasses()) {
+                methodCallExpressions.put(classNode, visitor.visitClassNode(classNode));
+            }
+        }
+    }
+
+    /**
+     * @param classNode - the ClassNode
+     * @return all of the indexed nodes within the class, in the order in which they were visited; may be empty
+     */
+    public List<Entry> getEntries(ClassNode classNode) {
+        List<Entry> entries = entriesByClass.get(classNode);
+        return entries == null ? Collections.<Entry>emptyList() : Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * @param classNode - the ClassNode
+     * @param nodeType - the type of node; must be one of the INDEXED_NODE_TYPES
+     * @return the nodes of that type within the class, in the order in which they were visited; may be empty
+     */
+    public <T extends ASTNode> List<T> getNodes(ClassNode classNode, Class<T> nodeType) {
+        return getNodes(nodesByClass.get(classNode), nodeType);
+    }
+
+    /**
+     * @param methodNode - the MethodNode (or ConstructorNode)
+     * @param nodeType - the type of node; must be one of the INDEXED_NODE_TYPES
+     * @return the nodes of that type within the method, in the order in which they were visited; may be empty
+     */
+    public <T extends ASTNode> List<T> getNodes(MethodNode methodNode, Class<T> nodeType) {
+        return getNodes(nodesByMethod.get(methodNode), nodeType);
+    }
+
+    /**
+     * @return a Map of ClassNode to the List of MethodCallExpressions within that class; as for a
+     * <code>ClassCodeVisitorSupport</code>, this excludes those within the default values of method parameters
+     */
+    public Map<ClassNode, List<MethodCallExpression>> getMethodCallExpressions() {
+        return Collections.unmodifiableMap(methodCallExpressions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends ASTNode> List<T> getNodes(Map<Class<?>, List<ASTNode>> nodesByType, Class<T> nodeType) {
+        if (!INDEXED_NODE_TYPES.contains(nodeType)) {
+            throw new IllegalArgumentException("Nodes of type " + nodeType.getName() + " are not indexed");
+        }
+        List<ASTNode> nodes = nodesByType == null ? null : nodesByType.get(nodeType);
+        return nodes == null ? Collections.<T>emptyList() : (List<T>) Collections.unmodifiableList(nodes);
+    }
+
+    private static <K> void add(Map<K, Map<Class<?>, List<ASTNode>>> index, K key, Class<?> nodeType, ASTNode node) {
+        Map<Class<?>, List<ASTNode>> nodesByType = index.get(key);
+        if (nodesByType == null) {
+            nodesByType = new HashMap<Class<?>, List<ASTNode>>();
+            index.put(key, nodesByType);
+        }
+        List<ASTNode> nodes = nodesByType.get(nodeType);
+        if (nodes == null) {
+            nodes = new ArrayList<ASTNode>();
+            nodesByType.put(nodeType, nodes);
+        }
+        nodes.add(node);
+    }
+
+    /**
+     * An indexed node, along with its (indexed) type and the method that contains it
+     */
+    public static final class Entry {
+        private final Class<? extends ASTNode> nodeType;
+        private final ASTNode node;
+        private final MethodNode methodNode;
+
+        private Entry(Class<? extends ASTNode> nodeType, ASTNode node, MethodNode methodNode) {
+            this.nodeType = nodeType;
+            this.node = node;
+            this.methodNode = methodNode;
+        }
+
+        /**
+         * @return the type under which the node is indexed; one of the INDEXED_NODE_TYPES
+         */
+        public Class<? extends ASTNode> getNodeType() {
+            return nodeType;
+        }
+
+        public ASTNode getNode() {
+            return node;
+        }
+
+        /**
+         * @return the MethodNode (or ConstructorNode) that contains the node; or null if it is not within a method
+         */
+        public MethodNode getMethodNode() {
+            return methodNode;
+        }
+    }
+
+    private class IndexingVisitor extends ClassCodeVisitorSupport {
+
+        private final Set<ASTNode> indexed = Collections.newSetFromMap(new IdentityHashMap<ASTNode, Boolean>());
+        private ClassNode currentClassNode;
+        private MethodNode currentMethodNode;
+        private boolean visitingParameterDefaults;
+        private List<Entry> entries;
+        private List<MethodCallExpression> methodCalls;
+
+        // Index the class; return its MethodCallExpressions, other than those within the method parameter defaults
+        List<MethodCallExpression> visitClassNode(ClassNode classNode) {
+            currentClassNode = classNode;
+            indexed.clear();
+            entries = new ArrayList<Entry>();
+            entriesByClass.put(classNode, entries);
+            methodCalls = new ArrayList<MethodCallExpression>();
+            visitClass(classNode);
+            currentClassNode = null;
+            return methodCalls;
+        }
+
+        // Property initial expressions are visited twice, so only index the first visit of each node within the class
+        private boolean index(Class<? extends ASTNode> nodeType, ASTNode node) {
+            if (indexed.add(node)) {
+                entries.add(new Entry(nodeType, node, currentMethodNode));
+                add(nodesByClass, currentClassNode, nodeType, node);
+                if (currentMethodNode != null) {
+                    add(nodesByMethod, currentMethodNode, nodeType, node);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected void visitConstructorOrMethod(MethodNode node, boolean isConstructor) {
+            currentMethodNode = node;
+            if (!isConstructor) {
+                visitingParameterDefaults = true;
+                for (Parameter parameter : node.getParameters()) {
+                    if (parameter.hasInitialExpression()) {
+                        parameter.getInitialExpression().visit(this);
+                    }
+                }
+                visitingParameterDefaults = false;
+            }
+            super.visitConstructorOrMethod(node, isConstructor);
+            currentMethodNode = null;
+        }
+
+        @Override
+        public void visitMethodCallExpression(MethodCallExpression call) {
+            if (index(MethodCallExpression.class, call) && !visitingParameterDefaults) {
+                methodCalls.add(call);
+            }
+            super.visitMethodCallExpression(call);
+        }
+
+        @Override
+        public void visitStaticMethodCallExpression(StaticMethodCallExpression call) {
+            index(StaticMethodCallExpression.class, call);
+            super.visitStaticMethodCallExpression(call);
+        }
+
+        @Override
+        public void visitConstructorCallExpression(ConstructorCallExpression call) {
+            index(ConstructorCallExpression.class, call);
+            super.visitConstructorCallExpression(call);
+        }
+
+        @Override
+        public void visitPropertyExpression(PropertyExpression expression) {
+            index(PropertyExpression.class, expression);
+            super.visitPropertyExpression(expression);
+        }
+
+        @Override
+        public void visitAttributeExpression(AttributeExpression expression) {
+            index(AttributeExpression.class, expression);
+            super.visitAttributeExpression(expression);
+        }
+
+        @Override
+        public void visitFieldExpression(FieldExpression expression) {
+            index(FieldExpression.class, expression);
+            super.visitFieldExpression(expression);
+        }
+
+        @Override
+        public void visitVariableExpression(VariableExpression expression) {
+            index(VariableExpression.class, expression);
+            super.visitVariableExpression(expression);
+        }
+
+        @Override
+        public void visitBinaryExpression(BinaryExpression expression) {
+            // visitDeclarationExpression() also calls visitBinaryExpression()
+            if (!(expression instanceof DeclarationExpression)) {
+                index(BinaryExpression.class, expression);
+            }
+            super.visitBinaryExpression(expression);
+        }
+
+        @Override
+        public void visitDeclarationExpression(DeclarationExpression expression) {
+            index(DeclarationExpression.class, expression);
+            super.visitDeclarationExpression(expression);
+        }
+
+        @Override
+        public void visitClosureExpression(ClosureExpression expression) {
+            index(ClosureExpression.class, expression);
+            super.visitClosureExpression(expression);
+        }
+
+        @Override
+        protected void visitAnnotation(AnnotationNode node) {
+            index(AnnotationNode.class, node);
+            super.visitAnnotation(node);
+        }
+
+        @Override
+        public void visitTryCatchFinally(TryCatchStatement statement) {
+            index(TryCatchStatement.class, statement);
+            super.visitTryCatchFinally(statement);
+        }
+
+        @Override
+        public void visitCatchStatement(CatchStatement statement) {
+            index(CatchStatement.class, statement);
+            super.visitCatchStatement(statement);
+        }
+
+        @Override
+        public void visitForLoop(ForStatement forLoop) {
+            index(ForStatement.class, forLoop);
+            super.visitForLoop(forLoop);
+        }
+
+        @Override
+        public void visitWhileLoop(WhileStatement loop) {
+            index(WhileStatement.class, loop);
+            super.visitWhileLoop(loop);
+        }
+
+        @Override
+        public void visitDoWhileLoop(DoWhileStatement loop) {
+            index(DoWhileStatement.class, loop);
+            super.visitDoWhileLoop(loop);
+        }
+
+        @Override
+        protected SourceUnit getSourceUnit() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
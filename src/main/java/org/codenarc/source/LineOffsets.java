@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The start and end offsets of each line within the text of a source file, built in a single scan of the text.
+ * Provides binary-search lookups of the line (and column) containing a character, and the lines themselves,
+ * as substrings of the text.
+ * <p/>
+ * Lines are terminated by "\n", "\r" or "\r\n", as for <code>BufferedReader.readLine()</code>; so a final line
+ * terminator does not start another (empty) line. Line and column numbers are one-based, as for ASTNodes;
+ * line indexes and character offsets are zero-based. This class is immutable.
+ */
+public final class LineOffsets {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final String text;
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+    private final int lineCount;
+    private volatile List<String> lines;
+
+    /**
+     * Construct a new instance for the specified text
+     * @param text - the text; must not be null
+     */
+    public LineOffsets(String text) {
+        this(text, new Builder().scan(text, 0));
+    }
+
+    private LineOffsets(String text, Builder builder) {
+        this.text = text;
+        this.lineCount = builder.finish(text.length());
+        this.lineStarts = builder.starts;
+        this.lineEnds = builder.ends;
+    }
+
+    /**
+     * @return the text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return the number of lines
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @return the lines (with line terminators removed), as an unmodifiable List; the lines are created (as
+     * substrings of the text) the first time that they are requested
+     */
+    public List<String> getLines() {
+        List<String> result = lines;
+        if (result == null) {
+            String[] array = new String[lineCount];
+            for (int i = 0; i < lineCount; i++) {
+                array[i] = text.substring(lineStarts[i], lineEnds[i]);
+            }
+            result = Collections.unmodifiableList(Arrays.asList(array));
+            lines = result;
+        }
+        return result;
+    }
+
+    /**
+     * @param lineIndex - the zero-based index of the line
+     * @return the line at the specified index, without its line terminator
+     * @throws IndexOutOfBoundsException if the lineIndex is not valid
+     */
+    public String getLine(int lineIndex) {
+        checkLineIndex(lineIndex);
+        return getLines().get(lineIndex);
+    }
+
+    /**
+     * @param lineIndex - the zero-based index of the line
+     * @return the offset of the first character of the line
+     * @throws IndexOutOfBoundsException if the lineIndex is not valid
+     */
+    public int getLineStart(int lineIndex) {
+        checkLineIndex(lineIndex);
+        return lineStarts[lineIndex];
+    }
+
+    /**
+     * @param lineIndex - the zero-based index of the line
+     * @return the offset just past the last character of the line, excluding its line terminator
+     * @throws IndexOutOfBoundsException if the lineIndex is not valid
+     */
+    public int getLineEnd(int lineIndex) {
+        checkLineIndex(lineIndex);
+        return lineEnds[lineIndex];
+    }
+
+    /**
+     * Return the line number for the line containing the character at the specified offset. A line terminator
+     * belongs to the line that it terminates.
+     * @param offset - the zero-based offset of the character within the text
+     * @return the one-based line number; or -1 if the offset is not valid
+     */
+    public int getLineNumber(int offset) {
+        return isValidOffset(offset) ? lineIndexOf(offset) + 1 : -1;
+    }
+
+    /**
+     * @param offset - the zero-based offset of the character within the text
+     * @return the one-based column number of the character within its line; or -1 if the offset is not valid
+     */
+    public int getColumnNumber(int offset) {
+        return isValidOffset(offset) ? offset - lineStarts[lineIndexOf(offset)] + 1 : -1;
+    }
+
+    /**
+     * Return the offset of the character at the specified line and column. The column may be that of a character
+     * of the line terminator, or just past the end of the line.
+     * @param lineNumber - the one-based line number
+     * @param columnNumber - the one-based column number
+     * @return the zero-based offset of the character within the text; or -1 if the line or column is not valid
+     */
+    public int getOffset(int lineNumber, int columnNumber) {
+        if (lineNumber < 1 || lineNumber > lineCount || columnNumber < 1) {
+            return -1;
+        }
+        int offset = lineStarts[lineNumber - 1] + columnNumber - 1;
+        int nextLineStart = lineNumber < lineCount ? lineStarts[lineNumber] : text.length();
+        return offset <= Math.max(lineEnds[lineNumber - 1], nextLineStart - 1) ? offset : -1;
+    }
+
+    private boolean isValidOffset(int offset) {
+        return offset >= 0 && offset < text.length();
+    }
+
+    // Return the index of the last line that starts at or before the (valid) offset
+    private int lineIndexOf(int offset) {
+        int low = 0;
+        int high = lineCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lineStarts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void checkLineIndex(int lineIndex) {
+        if (lineIndex < 0 || lineIndex >= lineCount) {
+            throw new IndexOutOfBoundsException("Line index: " + lineIndex + ", line count: " + lineCount);
+        }
+    }
+
+    /**
+     * Collects the line offsets while the text is being scanned (or decoded), e.g. by a SourceLoader, so that
+     * the text need not be scanned again
+     */
+    static final class Builder {
+        private int[] starts = new int[INITIAL_CAPACITY];
+        private int[] ends = new int[INITIAL_CAPACITY];
+        private int count;
+        private int start;
+
+        /**
+         * Add the line ending at the line terminator that starts at <code>end</code>
+         * @param end - the offset of the line terminator
+         * @param nextStart - the offset just past the line terminator; i.e., the start of the next line
+         */
+        void addLine(int end, int nextStart) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+            start = nextStart;
+        }
+
+        /**
+         * Add the lines terminated within the text, from the specified index onwards
+         * @param text - the text
+         * @param fromIndex - the index from which to scan; any earlier lines must already have been added
+         * @return this Builder
+         */
+        Builder scan(String text, int fromIndex) {
+            int length = text.length();
+            int index = fromIndex;
+            while (index < length) {
+                char ch = text.charAt(index);
+                if (ch == '\n' || ch == '\r') {
+                    int terminatorLength = (ch == '\r' && index + 1 < length && text.charAt(index + 1) == '\n') ? 2 : 1;
+                    addLine(index, index + terminatorLength);
+                    index += terminatorLength;
+                } else {
+                    index++;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @param text - the text that was scanned
+         * @return the LineOffsets for the text
+         */
+        LineOffsets build(String text) {
+            return new LineOffsets(text, this);
+        }
+
+        // Add the final line, if it has no line terminator; return the number of lines
+        private int finish(int length) {
+            if (start < length) {
+                addLine(length, length);
+            }
+            return count;
+        }
+    }
+
+}
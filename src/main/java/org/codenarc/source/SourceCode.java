@@ -13,89 +13,131 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.codenarc.source
+package org.codenarc.source;
 
-import org.codehaus.groovy.ast.ClassNode
-import org.codehaus.groovy.ast.ModuleNode
-import org.codehaus.groovy.ast.expr.MethodCallExpression
-import org.codehaus.groovy.control.Phases
-import org.codenarc.analyzer.SuppressionAnalyzer
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.ast.ModuleNode;
+import org.codehaus.groovy.ast.expr.MethodCallExpression;
+import org.codehaus.groovy.control.Phases;
+import org.codenarc.analyzer.SuppressionAnalyzer;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a unit of source code to be analyzed
  *
  * @author Chris Mair
   */
-interface SourceCode {
+public interface SourceCode {
 
-    public static final int DEFAULT_COMPILER_PHASE = Phases.CONVERSION
+    public static final int DEFAULT_COMPILER_PHASE = Phases.CONVERSION;
 
     /**
      * Returns information about this classes' suppressed warnings.
      * @return suppression analyzer
      */
-    SuppressionAnalyzer getSuppressionAnalyzer()
+    SuppressionAnalyzer getSuppressionAnalyzer();
 
     /**
      * Get the logical name for this source code. If this object is a file, then the name
      * is the filename, without a path.
      * @return the name for this source; may be null
      */
-    String getName()
+    String getName();
 
     /**
      * Get the logical path for this source code. If this object is a file, then the name
      * is the full path in the filesystem. File separators are normalized to forward slash (/).
      * @return the name for this source; may be null
      */
-    String getPath()
+    String getPath();
 
     /**
      * @return the full text of the source code
      */
-    String getText()
+    String getText();
 
     /**
      * @return the List of lines of the source code (with line terminators removed)
      */
-    List<String> getLines()
+    List<String> getLines();
 
     /**
      * Get the trimmed line at the specified index
      * @param lineNumber - the zero-based line number; may be negative
      * @return the trimmed line at the specified index, or null if lineNumber is not valid
      */
-    String line(int lineNumber)
+    String line(int lineNumber);
 
     /**
      * Return the Groovy AST (Abstract Syntax Tree) for this source file
      * @return the ModuleNode representing the AST for this source file
      */
-    ModuleNode getAst()
+    ModuleNode getAst();
 
     /**
      * @return compiler phase (as in {@link org.codehaus.groovy.control.Phases}) up to which the AST will be processed
      */
-    int getAstCompilerPhase()
+    int getAstCompilerPhase();
 
     /**
      * Return the line index for the line containing the character at the specified index within the source code.
      * @param charIndex - the index of the character within the source code (zero-based)
      * @return the line number (one-based) containing the specified character; Return -1 if charIndex is not valid.
      */
-    int getLineNumberForCharacterIndex(int charIndex)
+    int getLineNumberForCharacterIndex(int charIndex);
+
+    /**
+     * Return the column index for the character at the specified index within the source code.
+     * @param charIndex - the index of the character within the source code (zero-based)
+     * @return the column number (one-based) of the specified character within its line; Return -1 if charIndex is not valid.
+     */
+    default int getColumnNumberForCharacterIndex(int charIndex) {
+        return getLineOffsets().getColumnNumber(charIndex);
+    }
+
+    /**
+     * Return the index within the source code of the character at the specified line and column.
+     * @param lineNumber - the line number (one-based)
+     * @param columnNumber - the column number (one-based); may be that of the line terminator, or just past the end of the line
+     * @return the index of the character within the source code (zero-based); Return -1 if the line or column is not valid.
+     */
+    default int getCharacterIndexForLineAndColumn(int lineNumber, int columnNumber) {
+        return getLineOffsets().getOffset(lineNumber, columnNumber);
+    }
+
+    /**
+     * Return the start and end offsets of each line of the source code. By default, they are found by scanning
+     * the text on each request; AbstractSourceCode caches them, and serves the lines from them.
+     * @return the start and end offsets of each line of the source code
+     */
+    default LineOffsets getLineOffsets() {
+        return new LineOffsets(getText());
+    }
 
     /**
      * Return true if and only if the source code can be successfully compiled
      * @return true only if the source code is valid
      */
-    boolean isValid()
+    boolean isValid();
 
     /**
      * This method gives you all of the MethodCallExpressions defined in the AST without forcing you to walk the
      * entire tree on every request. They are cached for the lifespan of the SourceCode.
      * @return a Map of ClassNode to the List of MethodCallExpressions defined in the AST
      */
-    Map<ClassNode, List<MethodCallExpression>> getMethodCallExpressions()
+    Map<ClassNode, List<MethodCallExpression>> getMethodCallExpressions();
+
+    /**
+     * This method gives you the AST nodes of the types in AstNodeIndex.INDEXED_NODE_TYPES, by type and by the
+     * class and method that contain them, without forcing you to walk the entire tree. The index is built in a
+     * single traversal of the AST, and cached for the lifespan of the SourceCode (or until the AST is released).
+     * By default, a new index is built for each request; AbstractSourceCode caches it.
+     * @return the AstNodeIndex for the AST
+     */
+    default AstNodeIndex getAstNodeIndex() {
+        return new AstNodeIndex(getAst());
+    }
 
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the text of source files using a FileChannel, and builds the LineOffsets for the text.
+ * <p/>
+ * The charset is determined, in order, by:
+ * <ul>
+ *   <li>a byte order mark (BOM) for UTF-8, UTF-16BE or UTF-16LE at the start of the file (which is skipped)</li>
+ *   <li>the configured <code>charset</code>, if any</li>
+ *   <li>UTF-8, if the file is valid UTF-8; otherwise the platform default charset (as for Groovy's
+ *          <code>File.getText()</code>, which this replaces)</li>
+ * </ul>
+ * If the charset is ASCII-compatible (e.g. UTF-8 or ISO-8859-1), then the leading ASCII characters of the file are
+ * copied directly into the text, rather than decoded by a CharsetDecoder, and their line offsets are recorded in the
+ * same scan. So a file containing only ASCII characters (as do most source files) is scanned just once. Otherwise,
+ * the rest of the file, from its first non-ASCII byte, is decoded, and then scanned for the rest of the line offsets.
+ * Files of at least <code>memoryMapThreshold</code> bytes are memory-mapped rather than read into a buffer.
+ * <p/>
+ * This class is immutable and thread-safe.
+ */
+public class SourceLoader {
+
+    public static final long DEFAULT_MEMORY_MAP_THRESHOLD = 1024 * 1024;
+
+    /**
+     * The SourceLoader used if no charset is configured
+     */
+    public static final SourceLoader DEFAULT = new SourceLoader(null);
+
+    private static final byte[] UTF_8_BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+    private static final byte[] UTF_16BE_BOM = { (byte) 0xFE, (byte) 0xFF };
+    private static final byte[] UTF_16LE_BOM = { (byte) 0xFF, (byte) 0xFE };
+
+    private final Charset charset;
+    private final boolean asciiCompatible;
+    private final long memoryMapThreshold;
+
+    /**
+     * Construct a new instance
+     * @param charset - the charset for files without a BOM; if null, use UTF-8 if the file is valid UTF-8,
+     *          otherwise the platform default charset
+     */
+    public SourceLoader(Charset charset) {
+        this(charset, DEFAULT_MEMORY_MAP_THRESHOLD);
+    }
+
+    /**
+     * Construct a new instance
+     * @param charset - the charset for files without a BOM; if null, use UTF-8 if the file is valid UTF-8,
+     *          otherwise the platform default charset
+     * @param memoryMapThreshold - the minimum size (in bytes) of the files that are memory-mapped
+     */
+    public SourceLoader(Charset charset, long memoryMapThreshold) {
+        this.charset = charset;
+        this.asciiCompatible = charset == null || isAsciiCompatible(charset);
+        this.memoryMapThreshold = memoryMapThreshold;
+    }
+
+    /**
+     * @param encoding - the name of the charset for files without a BOM; may be null or empty
+     * @return the SourceLoader for that charset; or the DEFAULT if the encoding is null or empty
+     * @throws java.nio.charset.UnsupportedCharsetException if the charset is not supported
+     */
+    public static SourceLoader forEncoding(String encoding) {
+        return encoding == null || encoding.isEmpty() ? DEFAULT : new SourceLoader(Charset.forName(encoding));
+    }
+
+    /**
+     * @return the charset for files without a BOM; or null if it is determined from the contents of each file
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Read the text of the file
+     * @param file - the file
+     * @return the LineOffsets for the text of the file, which includes the text itself
+     * @throws IOException if the file cannot be read
+     */
+    public LineOffsets load(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large: " + file);
+            }
+            ByteBuffer bytes;
+            if (size >= memoryMapThreshold) {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                bytes = ByteBuffer.allocate((int) size);
+                while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                    // Keep reading until the buffer is full or the end of the file
+                }
+                bytes.flip();
+            }
+            return decode(bytes);
+        }
+    }
+
+    /**
+     * Decode the bytes of a source file
+     * @param bytes - the bytes, from the current position to the limit
+     * @return the LineOffsets for the decoded text, which includes the text itself
+     */
+    protected LineOffsets decode(ByteBuffer bytes) {
+        Charset fileCharset = charset;
+        boolean fileAsciiCompatible = asciiCompatible;
+        if (startsWith(bytes, UTF_8_BOM)) {
+            bytes.position(bytes.position() + UTF_8_BOM.length);
+            fileCharset = StandardCharsets.UTF_8;
+            fileAsciiCompatible = true;
+        } else if (startsWith(bytes, UTF_16BE_BOM) || startsWith(bytes, UTF_16LE_BOM)) {
+            fileCharset = startsWith(bytes, UTF_16BE_BOM) ? StandardCharsets.UTF_16BE : StandardCharsets.UTF_16LE;
+            bytes.position(bytes.position() + UTF_16BE_BOM.length);
+            fileAsciiCompatible = false;
+        }
+
+        LineOffsets.Builder builder = new LineOffsets.Builder();
+        int asciiLength = fileAsciiCompatible ? scanAscii(bytes, builder) : 0;
+        String asciiText = asciiText(bytes, asciiLength);
+        if (asciiLength == bytes.remaining()) {
+            return builder.build(asciiText);
+        }
+
+        // Decode the rest, from the first non-ASCII byte; which for an ASCII-compatible charset starts a character
+        ByteBuffer rest = bytes.duplicate();
+        rest.position(bytes.position() + asciiLength);
+        CharBuffer restText = decodeText(rest, fileCharset);
+        if (restText == null) {
+            // Not valid UTF-8, and the platform default charset may decode the ASCII bytes differently
+            return new LineOffsets(Charset.defaultCharset().decode(bytes.duplicate()).toString());
+        }
+        String text = asciiLength == 0 ? restText.toString() :
+            new StringBuilder(asciiLength + restText.remaining()).append(asciiText).append(restText).toString();
+        return builder.scan(text, asciiLength).build(text);
+    }
+
+    // Add the lines terminated within the leading ASCII characters; return the number of leading ASCII characters
+    private static int scanAscii(ByteBuffer bytes, LineOffsets.Builder builder) {
+        int start = bytes.position();
+        int limit = bytes.limit();
+        int index = start;
+        while (index < limit) {
+            byte b = bytes.get(index);
+            if (b < 0) {
+                break;
+            }
+            if (b == '\n' || b == '\r') {
+                int terminatorLength = (b == '\r' && index + 1 < limit && bytes.get(index + 1) == '\n') ? 2 : 1;
+                builder.addLine(index - start, index - start + terminatorLength);
+                index += terminatorLength;
+            } else {
+                index++;
+            }
+        }
+        return index - start;
+    }
+
+    private static String asciiText(ByteBuffer bytes, int length) {
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + bytes.position(), length, StandardCharsets.ISO_8859_1);
+        }
+        byte[] array = new byte[length];
+        bytes.duplicate().get(array);
+        return new String(array, StandardCharsets.ISO_8859_1);
+    }
+
+    // Return null if no charset is configured, the bytes are not valid UTF-8, and the platform default charset
+    // is not ASCII-compatible; then the whole file must be decoded with that charset
+    private static CharBuffer decodeText(ByteBuffer bytes, Charset fileCharset) {
+        // Charset.decode() replaces malformed input and unmappable characters
+        if (fileCharset != null) {
+            return fileCharset.decode(bytes);
+        }
+        try {
+            return newDecoder(StandardCharsets.UTF_8, CodingErrorAction.REPORT).decode(bytes.duplicate());
+        } catch (CharacterCodingException e) {
+            Charset defaultCharset = Charset.defaultCharset();
+            return isAsciiCompatible(defaultCharset) ? defaultCharset.decode(bytes) : null;
+        }
+    }
+
+    private static CharsetDecoder newDecoder(Charset fileCharset, CodingErrorAction errorAction) {
+        return fileCharset.newDecoder().onMalformedInput(errorAction).onUnmappableCharacter(errorAction);
+    }
+
+    private static boolean startsWith(ByteBuffer bytes, byte[] prefix) {
+        if (bytes.remaining() < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes.get(bytes.position() + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Return true if the charset decodes each ASCII byte to the same character
+    private static boolean isAsciiCompatible(Charset charset) {
+        byte[] ascii = new byte[128];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (byte) i;
+        }
+        try {
+            String decoded = newDecoder(charset, CodingErrorAction.REPORT).decode(ByteBuffer.wrap(ascii)).toString();
+            if (decoded.length() != ascii.length) {
+                return false;
+            }
+            for (int i = 0; i < ascii.length; i++) {
+                if (decoded.charAt(i) != i) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
+}
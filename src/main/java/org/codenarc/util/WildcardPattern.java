@@ -0,0 +1,321 @@
+/*
+ * Copyright 2009 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a string pattern that may optionally include wildcards ('*', '**' or '?'), and
+ * provides an API to determine whether that pattern matches a specified input string.
+ * <p/>
+ * The wildcard character '*' within the pattern matches a sequence of zero or more characters within a
+ * single file or directory name in the input string. It does not match a sequence of two or more
+ * dir/file names. For instance, 'a*b' matches 'a12345b' and 'ab', but does NOT match 'a/b' or 'a123/b'.
+ * <p/>
+ * The '**' wildcard matches any sequence of zero or more characters in the input string, including
+ * directory names and separators . It matches any part of the directory tree. For instance, 'a**b'
+ * matches 'a12345b', 'ab', 'a/b' and 'a1/a2/a3b'.
+ * <p/>
+ * The wildcard character '?' within the pattern matches exactly one character in the input string,
+ * excluding the normalized file separator character ('/').
+ * <p/>
+ * The patterns are compiled once for each distinct pattern string, and shared by the WildcardPatterns created for
+ * it: the patterns without wildcards into a hash set; and each pattern with wildcards into its literal prefix and
+ * suffix, which are checked first, and the wildcards between them. Those are matched directly if they are only
+ * '*' or '**', or a literal surrounded by them (e.g. '**&#47;*.groovy', '*Test', '**&#47;test&#47;**'); otherwise by
+ * a precompiled regular expression.
+ * <p/>
+ * This is an internal class and its API is subject to change.
+ *
+ * @author Chris Mair
+  */
+public class WildcardPattern {
+
+    /** The maximum number of distinct pattern strings whose compiled patterns are kept, to be shared */
+    static final int MAX_COMPILED_PATTERN_STRINGS = 1000;
+
+    private static final Map<String, CompiledPatterns> COMPILED_PATTERN_STRINGS = new ConcurrentHashMap<String, CompiledPatterns>();
+    private static final CompiledPatterns NO_PATTERNS = new CompiledPatterns(Collections.<String>emptySet(), new Glob[0]);
+
+    private final CompiledPatterns patterns;
+    private final boolean defaultMatches;
+
+    /**
+     * Construct a new WildcardPattern instance on a single pattern or a comma-separated list of patterns,
+     * which matches if the pattern string is either empty or null
+     * @param patternString - the pattern string, optionally including wildcard characters ('*' or '?');
+     *      may optionally contain more than one pattern, separated by commas; may be null or empty to always match
+     */
+    public WildcardPattern(String patternString) {
+        this(patternString, true);
+    }
+
+    /**
+     * Construct a new WildcardPattern instance on a single pattern or a comma-separated list of patterns.
+     * @param patternString - the pattern string, optionally including wildcard characters ('*' or '?');
+     *      may optionally contain more than one pattern, separated by commas; may be null or empty to always match
+     * @param defaultMatches - a boolean indicating whether <code>matches()</code> should
+     *      return true if the pattern string is either empty or null.
+     */
+    public WildcardPattern(String patternString, boolean defaultMatches) {
+        this.defaultMatches = defaultMatches;
+        this.patterns = compile(patternString);
+    }
+
+    /**
+     * Return true if the specified String matches the pattern or if the original
+     * patternString (specified in the constructor) was null or empty and the
+     * value for defaultMatches (also specified in the constructor) was true.
+     * @param string - the String to check
+     * @return true if the String matches the pattern
+     */
+    public boolean matches(String string) {
+        if (patterns == NO_PATTERNS) {
+            return defaultMatches;
+        }
+        return patterns.matches(string);
+    }
+
+    private static CompiledPatterns compile(String patternString) {
+        if (patternString == null || patternString.isEmpty()) {
+            return NO_PATTERNS;
+        }
+        CompiledPatterns compiled = COMPILED_PATTERN_STRINGS.get(patternString);
+        if (compiled == null) {
+            compiled = compilePatterns(patternString);
+            if (COMPILED_PATTERN_STRINGS.size() < MAX_COMPILED_PATTERN_STRINGS) {
+                COMPILED_PATTERN_STRINGS.putIfAbsent(patternString, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    private static CompiledPatterns compilePatterns(String patternString) {
+        Set<String> strings = new HashSet<String>();
+        List<Glob> globs = new ArrayList<Glob>();
+        StringTokenizer tokenizer = new StringTokenizer(patternString, ",");
+        while (tokenizer.hasMoreTokens()) {
+            String pattern = tokenizer.nextToken().trim();
+            if (containsWildcards(pattern)) {
+                globs.add(new Glob(pattern));
+            }
+            else {
+                strings.add(pattern);
+            }
+        }
+        if (strings.isEmpty() && globs.isEmpty()) {
+            return NO_PATTERNS;
+        }
+        return new CompiledPatterns(strings, globs.toArray(new Glob[0]));
+    }
+
+    /**
+     * Return true if the specified String contains one or more wildcard characters ('?' or '*')
+     * @param string - the String to check
+     * @return true if the String contains wildcards
+     */
+    private static boolean containsWildcards(String string) {
+        return string.indexOf('*') >= 0 || string.indexOf('?') >= 0;
+    }
+
+    /**
+     * The compiled patterns for a pattern string: those without wildcards, and those with wildcards
+     */
+    private static final class CompiledPatterns {
+        private final Set<String> strings;
+        private final Glob[] globs;
+
+        CompiledPatterns(Set<String> strings, Glob[] globs) {
+            this.strings = strings;
+            this.globs = globs;
+        }
+
+        boolean matches(String string) {
+            if (strings.contains(string)) {
+                return true;
+            }
+            if (string != null) {
+                for (Glob glob : globs) {
+                    if (glob.matches(string)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A single pattern that contains wildcards; split into its literal prefix and suffix, and the wildcards
+     * between them (starting and ending with a wildcard)
+     */
+    private static final class Glob {
+
+        // The wildcard characters, as the regular expressions they match
+        private static final int LITERAL = 0;
+        private static final int STAR = 1;              // [^/]*
+        private static final int DOUBLE_STAR = 2;       // .*
+        private static final int ANY_CHARACTER = 3;     // [^/]
+
+        // The ways of matching the wildcards between the prefix and suffix
+        private static final int MATCH_ANYTHING = 0;            // e.g. **
+        private static final int MATCH_WITHOUT_SEPARATOR = 1;   // e.g. *
+        private static final int MATCH_INFIX = 2;               // e.g. **abc*
+        private static final int MATCH_REGEX = 3;
+
+        private final String prefix;
+        private final String suffix;
+        private final int minLength;
+        private final int matchType;
+        private final String infix;
+        private final boolean anythingBeforeInfix;
+        private final boolean anythingAfterInfix;
+        private final Pattern regex;
+
+        Glob(String pattern) {
+            int[] types = wildcardTypes(pattern);
+            int first = 0;
+            while (types[first] == LITERAL) {
+                first++;
+            }
+            int last = pattern.length() - 1;
+            while (types[last] == LITERAL) {
+                last--;
+            }
+            this.prefix = pattern.substring(0, first);
+            this.suffix = pattern.substring(last + 1);
+            this.minLength = prefix.length() + suffix.length();
+
+            // Split the wildcards into the leading stars, any characters in between, and the trailing stars
+            int leadingStarsEnd = first;
+            boolean doubleStarBefore = false;
+            while (leadingStarsEnd <= last && isStar(types[leadingStarsEnd])) {
+                doubleStarBefore |= types[leadingStarsEnd++] == DOUBLE_STAR;
+            }
+            int trailingStarsStart = last + 1;
+            boolean doubleStarAfter = false;
+            while (trailingStarsStart > leadingStarsEnd && isStar(types[trailingStarsStart - 1])) {
+                doubleStarAfter |= types[--trailingStarsStart] == DOUBLE_STAR;
+            }
+            boolean literalInfix = leadingStarsEnd < trailingStarsStart;
+            for (int index = leadingStarsEnd; index < trailingStarsStart; index++) {
+                literalInfix &= types[index] == LITERAL;
+            }
+
+            if (leadingStarsEnd > last) {
+                this.matchType = doubleStarBefore ? MATCH_ANYTHING : MATCH_WITHOUT_SEPARATOR;
+            } else if (literalInfix && (doubleStarBefore || doubleStarAfter)) {
+                this.matchType = MATCH_INFIX;
+            } else {
+                this.matchType = MATCH_REGEX;
+            }
+            this.infix = matchType == MATCH_INFIX ? pattern.substring(leadingStarsEnd, trailingStarsStart) : null;
+            this.anythingBeforeInfix = doubleStarBefore;
+            this.anythingAfterInfix = doubleStarAfter;
+            this.regex = matchType == MATCH_REGEX ? Pattern.compile(toRegex(pattern, types, first, last + 1)) : null;
+        }
+
+        boolean matches(String string) {
+            if (string.length() < minLength || !string.startsWith(prefix) || !string.endsWith(suffix)) {
+                return false;
+            }
+            int start = prefix.length();
+            int end = string.length() - suffix.length();
+            switch (matchType) {
+                case MATCH_ANYTHING:
+                    return true;
+                case MATCH_WITHOUT_SEPARATOR:
+                    return containsNoSeparator(string, start, end);
+                case MATCH_INFIX:
+                    return matchesInfix(string, start, end);
+                default:
+                    return regex.matcher(string).region(start, end).matches();
+            }
+        }
+
+        // At least one side of the infix can match anything; if the text before the infix must not contain a
+        // separator, then try the first occurrence of the infix; otherwise the last
+        private boolean matchesInfix(String string, int start, int end) {
+            if (!anythingBeforeInfix) {
+                int index = string.indexOf(infix, start);
+                return index >= 0 && index + infix.length() <= end && containsNoSeparator(string, start, index);
+            }
+            int index = string.lastIndexOf(infix, end - infix.length());
+            return index >= start && (anythingAfterInfix || containsNoSeparator(string, index + infix.length(), end));
+        }
+
+        private static boolean containsNoSeparator(String string, int start, int end) {
+            int index = string.indexOf('/', start);
+            return index < 0 || index >= end;
+        }
+
+        private static boolean isStar(int type) {
+            return type == STAR || type == DOUBLE_STAR;
+        }
+
+        // Return the type of each character of the pattern
+        private static int[] wildcardTypes(String pattern) {
+            int[] types = new int[pattern.length()];
+            boolean prevCharWasStar = false;
+            for (int index = 0; index < pattern.length(); index++) {
+                switch (pattern.charAt(index)) {
+                    case '*':
+                        // Single '*' matches single dir/file; Double '*' matches sequence of zero or more dirs/files
+                        types[index] = prevCharWasStar ? DOUBLE_STAR : STAR;
+                        prevCharWasStar = !prevCharWasStar;
+                        break;
+                    case '?':
+                        // Any character except the normalized file separator ('/')
+                        types[index] = ANY_CHARACTER;
+                        break;
+                    default:
+                        types[index] = LITERAL;
+                }
+            }
+            return types;
+        }
+
+        // Convert the characters of the pattern between the start and end indexes to an equivalent regex String
+        private static String toRegex(String pattern, int[] types, int start, int end) {
+            StringBuilder result = new StringBuilder();
+            int literalStart = -1;
+            for (int index = start; index < end; index++) {
+                if (types[index] == LITERAL) {
+                    literalStart = literalStart < 0 ? index : literalStart;
+                    continue;
+                }
+                if (literalStart >= 0) {
+                    result.append(Pattern.quote(pattern.substring(literalStart, index)));
+                    literalStart = -1;
+                }
+                result.append(types[index] == STAR ? "[^/]*" : types[index] == DOUBLE_STAR ? ".*" : "[^/]");
+            }
+            if (literalStart >= 0) {
+                result.append(Pattern.quote(pattern.substring(literalStart, end)));
+            }
+            return result.toString();
+        }
+    }
+
+}
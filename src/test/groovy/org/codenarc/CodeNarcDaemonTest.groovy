@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc
+
+import static org.codenarc.test.TestUtil.shouldFail
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+/**
+ * Tests for CodeNarcDaemon and CodeNarcDaemonClient
+ */
+class CodeNarcDaemonTest extends AbstractTestCase {
+
+    private static final String BASE_DIR = 'src/test/resources/sourcewithdirs'
+    private static final String RULESET_FILES = 'rulesets/RuleSet1.xml'
+
+    @TempDir
+    private File tempDir
+
+    private File daemonFile
+    private CodeNarcDaemon daemon
+    private Thread daemonThread
+
+    @Test
+    void test_parseArgs() {
+        def newDaemon = new CodeNarcDaemon()
+        assert newDaemon.daemonFile == CodeNarcDaemonClient.DEFAULT_DAEMON_FILE
+        assert newDaemon.idleTimeoutMinutes == CodeNarcDaemon.DEFAULT_IDLE_TIMEOUT_MINUTES
+
+        newDaemon.parseArgs(['-daemonFile=daemon.properties', '-port=1234', '-idleTimeoutMinutes=5'] as String[])
+        assert newDaemon.daemonFile == 'daemon.properties'
+        assert newDaemon.port == 1234
+        assert newDaemon.idleTimeoutMinutes == 5
+
+        shouldFailWithMessageContaining('other') { newDaemon.parseArgs(['-other=1'] as String[]) }
+    }
+
+    @Test
+    void test_start_WritesDaemonFile() {
+        def properties = new Properties()
+        daemonFile.withInputStream { properties.load(it) }
+        assert properties.getProperty(CodeNarcDaemonClient.PORT_PROPERTY) == daemon.localPort as String
+        assert properties.getProperty(CodeNarcDaemonClient.TOKEN_PROPERTY) == daemon.token
+        assert properties.getProperty(CodeNarcDaemonClient.DIRECTORY_PROPERTY) == CodeNarcDaemonClient.currentDirectory()
+    }
+
+    @Test
+    void test_runWithDaemon_AnalyzesFiles() {
+        def output = new ByteArrayOutputStream()
+        def exitCode = runWithDaemon(output, "-basedir=$BASE_DIR", "-rulesetfiles=$RULESET_FILES", '-report=text:stdout')
+
+        assert exitCode == 0
+        def text = output.toString('UTF-8')
+        assert text.contains('TestPath')
+        assert text.contains('CodeNarc completed: (p1=')
+    }
+
+    @Test
+    void test_runWithDaemon_RuleSetReusedByLaterRequests() {
+        def args = ["-basedir=$BASE_DIR", "-rulesetfiles=$RULESET_FILES", '-report=text:stdout'] as String[]
+        assert runWithDaemon(new ByteArrayOutputStream(), args) == 0
+        assert runWithDaemon(new ByteArrayOutputStream(), args) == 0
+        assert daemon.ruleSetCache.size() == 1
+    }
+
+    @Test
+    void test_runWithDaemon_MaxViolationsExceeded_ExitCodeIsOne() {
+        def output = new ByteArrayOutputStream()
+        def exitCode = runWithDaemon(output, "-basedir=$BASE_DIR", "-rulesetfiles=$RULESET_FILES",
+            '-report=text:stdout', '-maxPriority3Violations=0')
+
+        assert exitCode == 1, output.toString('UTF-8')
+        assert output.toString('UTF-8').contains('ERROR: Number of p3 violations greater than maximum of 0')
+    }
+
+    @Test
+    void test_runWithDaemon_InvalidArgument_ExitCodeIsOne() {
+        def output = new ByteArrayOutputStream()
+        assert runWithDaemon(output, '-xxx=1') == 1
+        assert output.toString('UTF-8').contains('ERROR: java.lang.IllegalArgumentException: Invalid option: [-xxx=1]')
+    }
+
+    @Test
+    void test_runWithDaemon_Version() {
+        def output = new ByteArrayOutputStream()
+        assert runWithDaemon(output, '-version') == 0
+        assert output.toString('UTF-8').contains('CodeNarc version')
+    }
+
+    @Test
+    void test_runWithDaemon_Stop() {
+        assert runWithDaemon(new ByteArrayOutputStream(), CodeNarcDaemon.STOP_ARG) == 0
+        daemonThread.join(10_000)
+        assert !daemonThread.alive
+        assert !daemonFile.exists()
+        assert runWithDaemon(new ByteArrayOutputStream(), '-version') == null
+    }
+
+    @Test
+    void test_runWithDaemon_NoDaemonFile_ReturnsNull() {
+        def otherFile = new File(tempDir, 'other')
+        assert CodeNarcDaemonClient.runWithDaemon(otherFile, ['-version'] as String[], new ByteArrayOutputStream()) == null
+    }
+
+    @Test
+    void test_runWithDaemon_DaemonForOtherDirectory_ReturnsNull() {
+        def otherFile = new File(tempDir, 'other')
+        otherFile.text = daemonFile.text.replaceAll(/(?m)^directory=.*$/, 'directory=/other')
+        assert CodeNarcDaemonClient.runWithDaemon(otherFile, ['-version'] as String[], new ByteArrayOutputStream()) == null
+    }
+
+    @Test
+    void test_runWithDaemon_InvalidToken_RequestRejected() {
+        def otherFile = new File(tempDir, 'other')
+        otherFile.text = daemonFile.text.replaceAll(/(?m)^token=.*$/, 'token=invalid')
+        shouldFail(EOFException) {
+            CodeNarcDaemonClient.runWithDaemon(otherFile, ['-version'] as String[], new ByteArrayOutputStream())
+        }
+    }
+
+    //------------------------------------------------------------------------------------
+    // Setup and helper methods
+    //------------------------------------------------------------------------------------
+
+    @BeforeEach
+    void setUp() {
+        daemonFile = new File(tempDir, 'daemon.properties')
+        daemon = new CodeNarcDaemon(daemonFile:daemonFile.path, idleTimeoutMinutes:1)
+        daemon.start()
+        daemonThread = Thread.startDaemon { daemon.serve() }
+    }
+
+    @AfterEach
+    void tearDown() {
+        daemon.stop()
+        daemonThread.join(10_000)
+    }
+
+    private Integer runWithDaemon(OutputStream output, String... args) {
+        CodeNarcDaemonClient.runWithDaemon(daemonFile, args, output)
+    }
+}
@@ -18,13 +18,18 @@ package org.codenarc
 import static org.codenarc.test.TestUtil.shouldFail
 import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
 
+import org.codenarc.analyzer.AnalysisSchedulerFactory
+import org.codenarc.analyzer.AnalysisTimings
+import org.codenarc.analyzer.FilesystemSourceAnalyzer
 import org.codenarc.analyzer.SourceAnalyzer
+import org.codenarc.analyzer.ViolationThresholds
 import org.codenarc.plugin.CodeNarcPlugin
 import org.codenarc.plugin.TestPlugin1
 import org.codenarc.plugin.TestPlugin2
 import org.codenarc.plugin.disablerules.DisableRulesInCommentsPlugin
 import org.codenarc.report.HtmlReportWriter
 import org.codenarc.report.ReportWriter
+import org.codenarc.report.StreamingReportWriter
 import org.codenarc.results.DirectoryResults
 import org.codenarc.results.FileResults
 import org.codenarc.results.Results
@@ -34,10 +39,15 @@ import org.codenarc.rule.StubRule
 import org.codenarc.rule.Violation
 import org.codenarc.ruleset.RuleSet
 import org.codenarc.ruleset.RuleSetConfigurer
+import org.codenarc.source.SourceFile
+import org.codenarc.source.SourceLines
 import org.codenarc.test.AbstractTestCase
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+import java.util.function.Consumer
 
 /**
  * Tests for CodeNarcRunner
@@ -62,6 +72,9 @@ class CodeNarcRunnerTest extends AbstractTestCase {
     private static final SOURCE_DIRS = ['abc']
     private static final ENCODING = 'UTF-8'
 
+    @TempDir
+    private File tempDir
+
     private CodeNarcRunner codeNarcRunner
     private RuleSet analyzedRuleSet
     private RuleSet configuredRuleSet
@@ -124,6 +137,232 @@ class CodeNarcRunnerTest extends AbstractTestCase {
         assert propertiesFilename == PROPERTIES_FILE
     }
 
+    @Test
+    void test_execute_schedulerFactory() {
+        def schedulerFactory = new AnalysisSchedulerFactory(type:AnalysisSchedulerFactory.FIXED, threads:2)
+        def filesystemSourceAnalyzer = new FilesystemSourceAnalyzer(baseDirectory:'src/test/resources/sourcewithdirs')
+        codeNarcRunner.sourceAnalyzer = filesystemSourceAnalyzer
+        codeNarcRunner.schedulerFactory = schedulerFactory
+        codeNarcRunner.ruleSetFiles = XML_RULESET1
+        codeNarcRunner.execute()
+
+        assert filesystemSourceAnalyzer.schedulerFactory.is(schedulerFactory)
+    }
+
+    @Test
+    void test_execute_ruleSetCache_RuleSetReused() {
+        Map<String, RuleSet> ruleSetCache = [:]
+        def rules = executeWithRuleSetCache(XML_RULESET1, ruleSetCache)
+        assert executeWithRuleSetCache(XML_RULESET1, ruleSetCache).every { rule -> rules.contains(rule) }
+        assert ruleSetCache.size() == 1
+
+        executeWithRuleSetCache(RULESET_FILES, ruleSetCache)
+        assert ruleSetCache.size() == 2
+    }
+
+    @Test
+    void test_execute_ruleSetCache_RulesProcessedAndConfiguredOnlyOnce() {
+        Map<String, RuleSet> ruleSetCache = [:]
+        def plugin = [initialize: { }, processRules: { rules -> rules.each { rule -> rule.priority++ } }, processReports: { },
+                processViolationsForFile: { }] as CodeNarcPlugin
+        def configureCount = 0
+        2.times {
+            def runner = new CodeNarcRunner(ruleSetFiles:XML_RULESET1, sourceAnalyzer:sourceAnalyzer, ruleSetCache:ruleSetCache)
+            runner.ruleSetConfigurer = [configure:{ ruleSet, name -> configureCount++ }] as RuleSetConfigurer
+            runner.registerPlugin(plugin)
+            runner.execute()
+        }
+        assert analyzedRuleSet.rules*.priority == [new FakePathRule().priority + 1]
+        assert configureCount == 1
+    }
+
+    @Test
+    void test_execute_ruleSetCache_RuleSetFileModified_RuleSetReloaded() {
+        def ruleSetFile = new File(tempDir, 'RuleSet1.xml')
+        ruleSetFile.text = new File('src/test/resources/rulesets/RuleSet1.xml').text
+        def ruleSetPath = 'file:' + ruleSetFile.path
+        Map<String, RuleSet> ruleSetCache = [:]
+        def rules = executeWithRuleSetCache(ruleSetPath, ruleSetCache)
+
+        ruleSetFile.lastModified = ruleSetFile.lastModified() - 10_000
+        def reloadedRules = executeWithRuleSetCache(ruleSetPath, ruleSetCache)
+        assert reloadedRules*.class == rules*.class
+        assert !reloadedRules.any { rule -> rules.contains(rule) }
+    }
+
+    @Test
+    void test_reanalyzeFiles() {
+        def sourceDir = new File(tempDir, 'src')
+        new File(sourceDir, 'sub').mkdirs()
+        ['A.groovy', 'sub/B.groovy', 'sub/C.groovy'].each { path -> new File(sourceDir, path).text = 'class X { }' }
+        def reportCount = 0
+        codeNarcRunner.reportWriters << ([writeReport: { ac, res -> reportCount++ }] as ReportWriter)
+        codeNarcRunner.sourceAnalyzer = new FilesystemSourceAnalyzer(baseDirectory:sourceDir.path)
+        codeNarcRunner.ruleSetFiles = XML_RULESET1
+        def results = codeNarcRunner.execute()
+        assert results.totalNumberOfFiles == 3
+
+        new File(sourceDir, 'sub/B.groovy').delete()
+        new File(sourceDir, 'sub/C.groovy').delete()
+        new File(sourceDir, 'D.groovy').text = 'class D { }'
+        codeNarcRunner.reanalyzeFiles(results, ['A.groovy', 'sub/B.groovy', 'sub/C.groovy', 'D.groovy'])
+
+        assert results.totalNumberOfFiles == 2
+        assert results.findResultsForPath('A.groovy')
+        assert results.findResultsForPath('D.groovy').violations.size() == 1
+        assert results.findResultsForPath('sub') == null
+        assert reportCount == 2
+    }
+
+    @Test
+    void test_execute_streamReports() {
+        def sourceDir = new File(tempDir, 'src')
+        new File(sourceDir, 'b/c').mkdirs()
+        ['a.groovy', 'b/B1.groovy', 'b/c/C.groovy', 'b/B2.groovy', 'd.groovy'].each { path -> new File(sourceDir, path).text = 'class X { }' }
+        List<String> streamed = []
+        def streamingReportWriter = [
+            begin: { ac -> streamed << 'begin' },
+            fileCompleted: { fileResults -> streamed << fileResults.path },
+            end: { res -> streamed << 'end' },
+            writeReport: { ac, res -> streamed << 'writeReport' }] as StreamingReportWriter
+        def reportCount = 0
+        codeNarcRunner.reportWriters = [streamingReportWriter, [writeReport: { ac, res -> reportCount++ }] as ReportWriter]
+        def processedFiles = []
+        codeNarcRunner.registerPlugin([initialize: { }, processRules: { }, processReports: { },
+            processViolationsForFile: { fileViolations -> processedFiles << fileViolations.path }] as CodeNarcPlugin)
+        def analyzer = new FilesystemSourceAnalyzer(baseDirectory:sourceDir.path, threads:3)
+        codeNarcRunner.sourceAnalyzer = analyzer
+        codeNarcRunner.ruleSetFiles = XML_RULESET1
+        codeNarcRunner.streamReports = true
+
+        def results = codeNarcRunner.execute()
+
+        List<String> paths = getFilePaths(results)
+        assert paths.size() == 5
+        assert streamed == ['begin'] + paths + ['end']
+        assert processedFiles.sort() == paths.sort()
+        assert reportCount == 1
+        assert analyzer.fileResultsListener == null
+    }
+
+    @Test
+    void test_execute_lowMemory() {
+        def sourceDir = new File(tempDir, 'src')
+        new File(sourceDir, 'b').mkdirs()
+        ['a.groovy', 'b/B.groovy'].each { path -> new File(sourceDir, path).text = 'class X {\n}\n' }
+        def sourceTexts = []
+        def analyzer = new FilesystemSourceAnalyzer(baseDirectory:sourceDir.path)
+        def analyzerLowMemory = []
+        codeNarcRunner.registerPlugin([initialize: { }, processRules: { }, processReports: { },
+            processViolationsForFile: { fileViolations ->
+                sourceTexts << fileViolations.sourceText
+                analyzerLowMemory << analyzer.lowMemory
+            }] as CodeNarcPlugin)
+        codeNarcRunner.sourceAnalyzer = analyzer
+        codeNarcRunner.ruleSetFiles = XML_RULESET1
+        codeNarcRunner.lowMemory = true
+
+        def results = codeNarcRunner.execute()
+
+        assert sourceTexts == ['class X {\n}\n'] * 2
+        def allFileResults = getFilePaths(results).collect { path -> results.findResultsForPath(path) }
+        assert allFileResults.size() == 2
+        allFileResults.each { fileResults ->
+            assert fileResults.sourceCode instanceof SourceLines
+            assert fileResults.sourceCode.lines == ['class X {', '}']
+        }
+        assert analyzerLowMemory == [true, true]
+        assert !analyzer.lowMemory
+        assert analyzer.fileResultsListener == null
+    }
+
+    @Test
+    void test_execute_lowMemory_RestoresTheSourceAnalyzerProperties() {
+        def sourceDir = new File(tempDir, 'src')
+        sourceDir.mkdirs()
+        new File(sourceDir, 'a.groovy').text = 'class X {\n}\n'
+        def listener = { } as Consumer<FileResults>
+        def thresholds = new ViolationThresholds(99, 99, 99)
+        def analyzer = new FilesystemSourceAnalyzer(baseDirectory:sourceDir.path, lowMemory:true,
+            fileResultsListener:listener, failFastThresholds:thresholds)
+        codeNarcRunner.sourceAnalyzer = analyzer
+        codeNarcRunner.ruleSetFiles = XML_RULESET1
+        codeNarcRunner.lowMemory = true
+        codeNarcRunner.failFastThresholds = new ViolationThresholds(0, 0, 0)
+
+        codeNarcRunner.execute()
+
+        assert analyzer.lowMemory
+        assert analyzer.fileResultsListener.is(listener)
+        assert analyzer.failFastThresholds.is(thresholds)
+    }
+
+    @Test
+    void test_execute_failFastThresholds_Exceeded_ResultsTruncated() {
+        def analyzer = createFailFastAnalyzer(['a.groovy', 'b.groovy', 'c.groovy', 'd.groovy'])
+        AnalysisContext reportAnalysisContext
+        codeNarcRunner.reportWriters = [[writeReport: { ac, res -> reportAnalysisContext = ac }] as ReportWriter]
+        def thresholds = new ViolationThresholds(Integer.MAX_VALUE, 1, Integer.MAX_VALUE)
+        codeNarcRunner.failFastThresholds = thresholds
+
+        def results = codeNarcRunner.execute()
+
+        assert getFilePaths(results).size() == 2
+        assert thresholds.getNumberOfViolationsWithPriority(2) == 2
+        assert thresholds.numberOfSkippedFiles == 2
+        assert reportAnalysisContext.truncatedMessage == 'Analysis truncated: p2 violations exceed maximum of 1; 2 file(s) not analyzed'
+        assert analyzer.failFastThresholds == null
+        assert analyzer.fileResultsListener == null
+    }
+
+    @Test
+    void test_execute_failFastThresholds_ViolationsRemovedByPlugin_NotTruncated() {
+        createFailFastAnalyzer(['a.groovy', 'b.groovy', 'c.groovy'])
+        codeNarcRunner.registerPlugin([initialize: { }, processRules: { }, processReports: { },
+            processViolationsForFile: { fileViolations -> fileViolations.violations.clear() }] as CodeNarcPlugin)
+        AnalysisContext reportAnalysisContext
+        codeNarcRunner.reportWriters = [[writeReport: { ac, res -> reportAnalysisContext = ac }] as ReportWriter]
+        codeNarcRunner.failFastThresholds = new ViolationThresholds(0, 0, 0)
+
+        def results = codeNarcRunner.execute()
+
+        assert getFilePaths(results).size() == 3
+        assert reportAnalysisContext.truncatedMessage == null
+    }
+
+    @Test
+    void test_execute_AnalysisTimings_PassedToReports() {
+        def sourceDir = new File(tempDir, 'src')
+        sourceDir.mkdirs()
+        new File(sourceDir, 'a.groovy').text = 'class X { }'
+        def analysisTimings = new AnalysisTimings()
+        codeNarcRunner.sourceAnalyzer = new FilesystemSourceAnalyzer(baseDirectory:sourceDir.path, analysisTimings:analysisTimings)
+        AnalysisContext reportAnalysisContext
+        codeNarcRunner.reportWriters = [[writeReport: { ac, res -> reportAnalysisContext = ac }] as ReportWriter]
+        codeNarcRunner.ruleSetFiles = XML_RULESET1
+
+        codeNarcRunner.execute()
+
+        assert reportAnalysisContext.analysisTimings.is(analysisTimings)
+        assert analysisTimings.slowestFiles*.path == [new SourceFile(new File(sourceDir, 'a.groovy')).path]
+    }
+
+    // Each file has a single (priority 2) EmptyClass violation
+    private FilesystemSourceAnalyzer createFailFastAnalyzer(List<String> paths) {
+        def sourceDir = new File(tempDir, 'src')
+        sourceDir.mkdirs()
+        paths.each { path -> new File(sourceDir, path).text = 'class X { }' }
+        def analyzer = new FilesystemSourceAnalyzer(baseDirectory:sourceDir.path)
+        codeNarcRunner.sourceAnalyzer = analyzer
+        codeNarcRunner.ruleSetString = '{ "EmptyClass": { } }'
+        analyzer
+    }
+
+    @Test
+    void test_reanalyzeFiles_ExecuteNotCalled() {
+        shouldFailWithMessageContaining('execute()') { codeNarcRunner.reanalyzeFiles(RESULTS, ['A.groovy']) }
+    }
+
     @Test
     void test_execute_NoReportWriters() {
         codeNarcRunner.ruleSetFiles = XML_RULESET1
@@ -405,6 +644,13 @@ class CodeNarcRunnerTest extends AbstractTestCase {
     // Test setUp/tearDown and helper methods
     //--------------------------------------------------------------------------
 
+    private List<Rule> executeWithRuleSetCache(String ruleSetFiles, Map<String, RuleSet> ruleSetCache) {
+        def runner = new CodeNarcRunner(ruleSetFiles:ruleSetFiles, sourceAnalyzer:sourceAnalyzer, ruleSetCache:ruleSetCache)
+        runner.ruleSetConfigurer = ruleSetConfigurer
+        runner.execute()
+        analyzedRuleSet.rules
+    }
+
     @BeforeEach
     void setUp() {
         codeNarcRunner = new CodeNarcRunner()
@@ -417,6 +663,10 @@ class CodeNarcRunnerTest extends AbstractTestCase {
         System.clearProperty(CodeNarcRunner.PLUGINS_PROPERTY)
     }
 
+    private static List<String> getFilePaths(Results results) {
+        results.isFile() ? [results.path] : results.children.collectMany { child -> getFilePaths(child) }
+    }
+
     private static String encode(String string) {
         return URLEncoder.encode(string, ENCODING)
     }
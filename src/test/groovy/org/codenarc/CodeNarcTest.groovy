@@ -15,12 +15,15 @@
  */
 package org.codenarc
 
+import org.codenarc.analyzer.AnalysisTimings
 import org.codenarc.analyzer.FilesSourceAnalyzer
 
 import static org.codenarc.test.TestUtil.captureSystemOut
 import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
 
 import org.codenarc.analyzer.FilesystemSourceAnalyzer
+import org.codenarc.analyzer.GitDiffSourceAnalyzer
+import org.codenarc.analyzer.MergedReportsSourceAnalyzer
 import org.codenarc.analyzer.SourceAnalyzer
 import org.codenarc.report.*
 import org.codenarc.results.Results
@@ -106,6 +109,18 @@ class CodeNarcTest extends AbstractTestCase {
             assert codeNarc.excludeBaseline == EXCLUDE_FILE
         }
 
+        @Test
+        void watch() {
+            parseArgs('-watch=true')
+            assert codeNarc.watch
+        }
+
+        @Test
+        void gitDiffBase() {
+            parseArgs('-gitDiffBase=origin/main')
+            assert codeNarc.gitDiffBase == 'origin/main'
+        }
+
         @Test
         void baseDir() {
             parseArgs("-basedir=$BASE_DIR")
@@ -145,6 +160,73 @@ class CodeNarcTest extends AbstractTestCase {
             assert codeNarc.failOnError == false
         }
 
+        @Test
+        void threads() {
+            parseArgs('-threads=4')
+            assert codeNarc.threads == 4
+        }
+
+        @Test
+        void scheduler() {
+            parseArgs('-scheduler=virtual', '-queueSize=50', '-analysisTimeout=120')
+            assert codeNarc.scheduler == 'virtual'
+            assert codeNarc.queueSize == 50
+            assert codeNarc.analysisTimeoutSeconds == 120
+        }
+
+        @Test
+        void schedulingPolicy() {
+            parseArgs('-largestFirst=false', '-smallFileSize=500', '-costHistoryFile=costs.properties')
+            assert codeNarc.largestFirst == false
+            assert codeNarc.smallFileSize == 500
+            assert codeNarc.costHistoryFile == 'costs.properties'
+        }
+
+        @Test
+        void parallelRulesMinLines() {
+            parseArgs('-parallelRulesMinLines=5000')
+            assert codeNarc.parallelRulesMinLines == 5000
+        }
+
+        @Test
+        void fusedAstVisitors() {
+            parseArgs('-fusedAstVisitors=true')
+            assert codeNarc.fusedAstVisitors
+        }
+
+        @Test
+        void timeouts() {
+            parseArgs('-parseTimeoutMillis=30000', '-ruleTimeoutMillis=5000', '-slowestCount=20')
+            assert codeNarc.parseTimeoutMillis == 30000
+            assert codeNarc.ruleTimeoutMillis == 5000
+            assert codeNarc.slowestCount == 20
+        }
+
+        @Test
+        void cacheFile() {
+            parseArgs('-cacheFile=cache.bin', '-cacheMaxEntries=100')
+            assert codeNarc.cacheFile == 'cache.bin'
+            assert codeNarc.cacheMaxEntries == 100
+        }
+
+        @Test
+        void streamReports() {
+            parseArgs('-streamReports=true')
+            assert codeNarc.streamReports
+        }
+
+        @Test
+        void lowMemory() {
+            parseArgs('-lowMemory=true')
+            assert codeNarc.lowMemory
+        }
+
+        @Test
+        void encoding() {
+            parseArgs('-encoding=ISO-8859-1')
+            assert codeNarc.encoding == 'ISO-8859-1'
+        }
+
         @Test
         void SingleHtmlReport() {
             parseArgs("-report=$HTML_REPORT_STR")
@@ -324,6 +406,9 @@ class CodeNarcTest extends AbstractTestCase {
 
             assert codeNarcRunner.propertiesFile == null
             assert codeNarcRunner.ruleSetFiles == RULESET1
+            assert codeNarcRunner.streamReports == false
+            assert codeNarcRunner.lowMemory == false
+            assert codeNarcRunner.failFastThresholds == null
 
             assert codeNarcRunner.reportWriters.size() == 1
             def reportWriter = codeNarcRunner.reportWriters[0]
@@ -331,6 +416,27 @@ class CodeNarcTest extends AbstractTestCase {
             assert exitCode == 0
         }
 
+        @Test
+        void StreamReports() {
+            final ARGS = ["-basedir=$BASE_DIR", '-streamReports=true'] as String[]
+            codeNarc.execute(ARGS)
+            assert codeNarcRunner.streamReports == true
+        }
+
+        @Test
+        void LowMemory() {
+            final ARGS = ["-basedir=$BASE_DIR", '-lowMemory=true'] as String[]
+            codeNarc.execute(ARGS)
+            assert codeNarcRunner.lowMemory == true
+        }
+
+        @Test
+        void Encoding() {
+            final ARGS = ["-sourcefiles=$SOURCE_FILES", '-encoding=ISO-8859-1'] as String[]
+            codeNarc.execute(ARGS)
+            assert codeNarcRunner.sourceAnalyzer.encoding == 'ISO-8859-1'
+        }
+
         @Test
         void SourceFiles() {
             final ARGS = ["-sourcefiles=$SOURCE_FILES", "-rulesetfiles=$RULESET1"] as String[]
@@ -362,6 +468,16 @@ class CodeNarcTest extends AbstractTestCase {
             assert sourceAnalyzer.baseDirectory == 'example'
         }
 
+        @Test
+        void SourceFiles_Threads() {
+            final ARGS = ["-sourcefiles=$SOURCE_FILES", '-threads=4'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            FilesSourceAnalyzer sourceAnalyzer = codeNarcRunner.sourceAnalyzer as FilesSourceAnalyzer
+            assert sourceAnalyzer.threads == 4
+        }
+
         @Test
         void NoArgs() {
             final ARGS = [] as String[]
@@ -438,6 +554,25 @@ class CodeNarcTest extends AbstractTestCase {
             assert exitCode == 0
         }
 
+        @Test
+        void GitDiffBase_WithBaselineExclude() {
+            final ARGS = [
+                    "-basedir=$BASE_DIR", "-includes=$INCLUDES", "-excludes=$EXCLUDES", '-gitDiffBase=origin/main',
+                    "-excludeBaseline=$EXCLUDE_FILE", '-threads=2'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            def sourceAnalyzer = codeNarcRunner.sourceAnalyzer
+            assert sourceAnalyzer.class == GitDiffSourceAnalyzer
+            assert sourceAnalyzer.gitDiffBase == 'origin/main'
+            assert sourceAnalyzer.baseDirectory == BASE_DIR
+            assert sourceAnalyzer.includes == INCLUDES
+            assert sourceAnalyzer.excludes == EXCLUDES
+            assert sourceAnalyzer.threads == 2
+            assert codeNarc.excludeBaseline == EXCLUDE_FILE
+            assert exitCode == 0
+        }
+
         @Test
         void Plugins() {
             final ARGS = ["-plugins=$PLUGIN_NAMES"] as String[]
@@ -483,6 +618,46 @@ class CodeNarcTest extends AbstractTestCase {
             assert exitCode == 1
         }
 
+        @Test
+        void Watch_WatchesForChanges_MaxViolationsNotChecked() {
+            final ARGS = ["-basedir=$BASE_DIR", '-watch=true', '-maxPriority1Violations=3'] as String[]
+            numViolations[P1] = 4
+            def watcherArgs
+            codeNarc.createCodeNarcWatcher = { runner, res ->
+                watcherArgs = [runner, res]
+                [watch: { }]
+            }
+
+            codeNarc.execute(ARGS)
+
+            assert watcherArgs[0].is(codeNarcRunner)
+            assert watcherArgs[1].is(results)
+            assert exitCode == 0
+        }
+
+        @Test
+        void FailFast_ThresholdsFromMaxViolations() {
+            final ARGS = ["-basedir=$BASE_DIR", '-failFast=true', '-maxPriority1Violations=3', '-maxPriority3Violations=7'] as String[]
+            numViolations[P1] = 4
+
+            codeNarc.execute(ARGS)
+
+            def thresholds = codeNarcRunner.failFastThresholds
+            assert thresholds.maxPriority1Violations == 3
+            assert thresholds.maxPriority2Violations == Integer.MAX_VALUE
+            assert thresholds.maxPriority3Violations == 7
+            assert exitCode == 1
+        }
+
+        @Test
+        void Watch_SourceFilesOrFailFast() {
+            final FAIL_FAST_ARGS = ["-basedir=$BASE_DIR", '-failFast=true', '-watch=true'] as String[]
+            shouldFailWithMessageContaining('failFast') { codeNarc.execute(FAIL_FAST_ARGS) }
+
+            final ARGS = ['-sourcefiles=a.groovy', '-watch=true'] as String[]
+            shouldFailWithMessageContaining('sourcefiles') { codeNarc.execute(ARGS) }
+        }
+
         @Test
         void FailOnError() {
             final ARGS = ['-failOnError=true'] as String[]
@@ -492,6 +667,100 @@ class CodeNarcTest extends AbstractTestCase {
             assert codeNarcRunner.sourceAnalyzer.failOnError == true
         }
 
+        @Test
+        void Threads() {
+            final ARGS = ['-threads=3'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            assert codeNarcRunner.sourceAnalyzer.threads == 3
+        }
+
+        @Test
+        void Scheduler() {
+            final ARGS = ['-scheduler=fixed', '-threads=2', '-queueSize=10', '-analysisTimeout=30'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            def schedulerFactory = codeNarcRunner.sourceAnalyzer.schedulerFactory
+            assert schedulerFactory.type == 'fixed'
+            assert schedulerFactory.threads == 2
+            assert schedulerFactory.queueSize == 10
+            assert schedulerFactory.timeoutSeconds == 30
+        }
+
+        @Test
+        void SchedulingPolicy() {
+            final ARGS = ['-largestFirst=false', '-smallFileSize=0', '-costHistoryFile=target/costs.properties'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            def schedulingPolicy = codeNarcRunner.sourceAnalyzer.schedulingPolicy
+            assert schedulingPolicy.largestFirst == false
+            assert schedulingPolicy.smallFileSize == 0
+            assert schedulingPolicy.costHistoryFile == 'target/costs.properties'
+        }
+
+        @Test
+        void ParallelRulesMinLines() {
+            final ARGS = ['-parallelRulesMinLines=2000'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            assert codeNarcRunner.sourceAnalyzer.parallelRulesMinLines == 2000
+        }
+
+        @Test
+        void FusedAstVisitors() {
+            final ARGS = ['-fusedAstVisitors=true'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            assert codeNarcRunner.sourceAnalyzer.fusedAstVisitors
+        }
+
+        @Test
+        void Timeouts() {
+            final ARGS = ['-parseTimeoutMillis=30000', '-ruleTimeoutMillis=5000'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            def sourceAnalyzer = codeNarcRunner.sourceAnalyzer
+            assert sourceAnalyzer.parseTimeoutMillis == 30000
+            assert sourceAnalyzer.ruleTimeoutMillis == 5000
+            assert sourceAnalyzer.analysisTimings.size == AnalysisTimings.DEFAULT_SIZE
+        }
+
+        @Test
+        void SlowestCount() {
+            codeNarc.execute(['-slowestCount=3'] as String[])
+            assert codeNarcRunner.sourceAnalyzer.analysisTimings.size == 3
+        }
+
+        @Test
+        void NoTimeoutsOrSlowestCount() {
+            codeNarc.execute([] as String[])
+            assert codeNarcRunner.sourceAnalyzer.ruleTimeoutMillis == 0
+            assert codeNarcRunner.sourceAnalyzer.analysisTimings == null
+        }
+
+        @Test
+        void AnalysisCache() {
+            final ARGS = ['-cacheFile=target/cache.bin', '-cacheMaxEntries=100'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            def analysisCache = codeNarcRunner.sourceAnalyzer.analysisCache
+            assert analysisCache.cacheFile == 'target/cache.bin'
+            assert analysisCache.maxEntries == 100
+        }
+
+        @Test
+        void NoCacheFile() {
+            codeNarc.execute([] as String[])
+            assert codeNarcRunner.sourceAnalyzer.analysisCache == null
+        }
+
         @Test
         void ReportClassDoesNotSupportSetTitle() {
             final ARGS = ["-report=${NoTitleReportWriter.name}", "-title=$TITLE"] as String[]
@@ -519,6 +788,93 @@ class CodeNarcTest extends AbstractTestCase {
 
     }
 
+    @Nested
+    class Sharding {
+
+        @Test
+        void Shard() {
+            final ARGS = ["-basedir=$BASE_DIR", '-shard=2/4'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            def sourceAnalyzer = codeNarcRunner.sourceAnalyzer
+            assert sourceAnalyzer.class == FilesystemSourceAnalyzer
+            assert sourceAnalyzer.shard.index == 2
+            assert sourceAnalyzer.shard.count == 4
+        }
+
+        @Test
+        void Shard_SourceFiles() {
+            final ARGS = ["-sourcefiles=$SOURCE_FILES", '-shard=1/3'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            def sourceAnalyzer = codeNarcRunner.sourceAnalyzer
+            assert sourceAnalyzer.class == FilesSourceAnalyzer
+            assert sourceAnalyzer.shard.toString() == '1/3'
+        }
+
+        @Test
+        void Shard_Invalid() {
+            final ARGS = ["-basedir=$BASE_DIR", '-shard=5/4'] as String[]
+            shouldFailWithMessageContaining('shard') { codeNarc.execute(ARGS) }
+        }
+
+        @Test
+        void MergeShards() {
+            final ARGS = ['-mergeShards=shard1.json, shard2.json', '-maxPriority2Violations=3'] as String[]
+            numViolations[P2] = 4
+
+            codeNarc.execute(ARGS)
+
+            def sourceAnalyzer = codeNarcRunner.sourceAnalyzer
+            assert sourceAnalyzer.class == MergedReportsSourceAnalyzer
+            assert sourceAnalyzer.reportFiles == ['shard1.json', 'shard2.json']
+            assert exitCode == 1
+        }
+
+        @Test
+        void Watch_Shard() {
+            final ARGS = ["-basedir=$BASE_DIR", '-shard=1/2', '-watch=true'] as String[]
+            shouldFailWithMessageContaining('shard') { codeNarc.execute(ARGS) }
+        }
+    }
+
+    @Nested
+    class BinaryResults {
+
+        @Test
+        void Report_Binary() {
+            final ARGS = ["-basedir=$BASE_DIR", '-report=binary:results.cnr'] as String[]
+
+            codeNarc.execute(ARGS)
+
+            def reportWriter = codeNarcRunner.reportWriters[0]
+            assert reportWriter.class == BinaryResultsReportWriter
+            assert reportWriter.outputFile == 'results.cnr'
+        }
+
+        @Test
+        void LoadResults() {
+            final ARGS = ['-loadResults=results.cnr', '-report=sarif', '-maxPriority1Violations=0'] as String[]
+            numViolations[P1] = 1
+
+            codeNarc.execute(ARGS)
+
+            def sourceAnalyzer = codeNarcRunner.sourceAnalyzer
+            assert sourceAnalyzer.class == MergedReportsSourceAnalyzer
+            assert sourceAnalyzer.reportFiles == ['results.cnr']
+            assert codeNarcRunner.reportWriters[0].class == SarifReportWriter
+            assert exitCode == 1
+        }
+
+        @Test
+        void Watch_LoadResults() {
+            final ARGS = ['-loadResults=results.cnr', '-watch=true'] as String[]
+            shouldFailWithMessageContaining('loadResults') { codeNarc.execute(ARGS) }
+        }
+    }
+
     @Nested
     class Main {
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc
+
+import static org.codenarc.test.TestUtil.assertEqualSets
+
+import org.codenarc.results.DirectoryResults
+import org.codenarc.results.Results
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+import java.util.concurrent.BlockingQueue
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+/**
+ * Tests for CodeNarcWatcher
+ */
+class CodeNarcWatcherTest extends AbstractTestCase {
+
+    private static final long TIMEOUT_SECONDS = 20
+
+    @TempDir
+    private File tempDir
+
+    private final Results initialResults = new DirectoryResults()
+    private final BlockingQueue<List> reanalyzed = new LinkedBlockingQueue<>()
+    private final CodeNarcRunner codeNarcRunner = new CodeNarcRunner() {
+        @Override
+        void reanalyzeFiles(Results results, Collection<String> paths) {
+            reanalyzed << [results, new ArrayList(paths)]
+        }
+
+        @Override
+        Results execute() {
+            reanalyzed << ['execute']
+            new DirectoryResults()
+        }
+    }
+    private CodeNarcWatcher watcher
+    private Thread watcherThread
+
+    @Test
+    void test_ModifiedAndCreatedFiles_Debounced() {
+        writeFile('A.groovy')
+        writeFile('sub/B.groovy')
+        writeFile('New.groovy')
+
+        def (results, paths) = nextReanalysis()
+        assert results.is(initialResults)
+        assertEqualSets(paths, ['A.groovy', 'sub/B.groovy', 'New.groovy'])
+    }
+
+    @Test
+    void test_DeletedFile() {
+        assert new File(tempDir, 'sub/B.groovy').delete()
+        assert nextReanalysis()[1] == ['sub/B.groovy']
+    }
+
+    @Test
+    void test_NewDirectory_FilesWithinIt_AndLaterChanges() {
+        writeFile('newdir/deeper/C.groovy')
+        assert 'newdir/deeper/C.groovy' in nextReanalysis()[1]
+
+        writeFile('newdir/deeper/D.groovy')
+        assert 'newdir/deeper/D.groovy' in nextReanalysis()[1]
+    }
+
+    @Test
+    void test_processChanges_EventsLost_AnalyzesAllFilesAgain() {
+        watcher.processChanges(null)
+        assert reanalyzed.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS) == ['execute']
+        assert !watcher.results.is(initialResults)
+    }
+
+    @Test
+    void test_processChanges_NoChanges_DoesNothing() {
+        watcher.processChanges([] as Set)
+        assert reanalyzed.empty
+    }
+
+    //------------------------------------------------------------------------------------
+    // Setup and helper methods
+    //------------------------------------------------------------------------------------
+
+    @BeforeEach
+    void setUp() {
+        writeFile('A.groovy')
+        writeFile('sub/B.groovy')
+        watcher = new CodeNarcWatcher(codeNarcRunner, tempDir.path, initialResults)
+        watcher.debounceMillis = 500
+        watcherThread = Thread.startDaemon { watcher.watch() }
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.stop()
+        watcherThread.join(TIMEOUT_SECONDS * 1000)
+        assert !watcherThread.alive
+    }
+
+    private List nextReanalysis() {
+        def reanalysis = reanalyzed.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        assert reanalysis, 'No re-analysis'
+        reanalysis
+    }
+
+    private void writeFile(String path) {
+        def file = new File(tempDir, path)
+        file.parentFile.mkdirs()
+        file.text = "class ${file.name - '.groovy'} { int x = ${System.nanoTime()} }"
+    }
+}
@@ -15,11 +15,24 @@
  */
 package org.codenarc.analyzer
 
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codehaus.groovy.ast.ModuleNode
 import org.codehaus.groovy.control.Phases
+import org.codenarc.rule.FakePathRule
 import org.codenarc.rule.MockRule
 import org.codenarc.rule.Rule
+import org.codenarc.rule.SequentialWithinFile
+import org.codenarc.rule.Violation
+import org.codenarc.rule.basic.ComparisonWithSelfRule
+import org.codenarc.rule.basic.EmptyIfStatementRule
+import org.codenarc.rule.formatting.TrailingWhitespaceRule
+import org.codenarc.rule.generic.IllegalStringRule
+import org.codenarc.rule.unnecessary.UnnecessaryBooleanInstantiationRule
 import org.codenarc.ruleset.ListRuleSet
+import org.codenarc.ruleset.RuleSet
 import org.codenarc.source.SourceCode
+import org.codenarc.source.SourceString
 import org.codenarc.test.AbstractTestCase
 import org.junit.jupiter.api.Test
 
@@ -28,7 +41,27 @@ import org.junit.jupiter.api.Test
  */
 class AbstractSourceAnalyzerTest extends AbstractTestCase {
 
+    private static final String SOURCE = '''
+        class MyClass {
+            def a
+            def b
+        }
+    '''
+
+    private static final String FUSED_SOURCE = '''
+        class MyClass {
+            def myMethod(int count) {
+                if (count == count) { }
+                @SuppressWarnings('EmptyIfStatement')
+                def result = { if (count) { } }
+                if (count) { }
+                new Boolean(true)
+            }
+        }
+    '''
+
     private AbstractSourceAnalyzer analyzer = new StringSourceAnalyzer('class MyClass {}')
+    private final List<String> appliedRules = Collections.synchronizedList([])
 
     @Test
     void testProvidesRulesWithSourceCodeOfRequiredAstCompilationPhase() {
@@ -40,6 +73,235 @@ class AbstractSourceAnalyzerTest extends AbstractTestCase {
         assert results.violations.isEmpty()
     }
 
+    @Test
+    void testCompilerPhases_LaterPhaseContinuesCompilingTheSameAst() {
+        List<String> superClassNames = []
+        List asts = []
+        analyzer = new StringSourceAnalyzer('class MyList extends ArrayList { }')
+
+        def violations = analyzer.analyze(new ListRuleSet(superClassRecordingRules(superClassNames, asts))).violations
+
+        // The rules are applied in order of compiler phase, but the violations are in the order of the rules
+        assert superClassNames == ['ArrayList', 'java.util.ArrayList', 'java.util.ArrayList']
+        assert violations*.message == ['Semantic', 'Conversion', 'Canonicalization']
+        assert asts[1].is(asts[0]) && asts[2].is(asts[0])
+    }
+
+    @Test
+    void testCompilerPhases_RuleTimeoutMillis_LaterPhaseCompiledSeparately() {
+        List<String> superClassNames = []
+        List asts = []
+        analyzer = new StringSourceAnalyzer('class MyList extends ArrayList { }')
+        analyzer.ruleTimeoutMillis = 60000
+
+        def violations = analyzer.analyze(new ListRuleSet(superClassRecordingRules(superClassNames, asts))).violations
+
+        assert superClassNames == ['ArrayList', 'java.util.ArrayList', 'java.util.ArrayList']
+        assert violations*.message == ['Semantic', 'Conversion', 'Canonicalization']
+        assert !asts[1].is(asts[0]) && !asts[2].is(asts[0])
+        assert asts[0].classes[0].superClass.name == 'ArrayList'
+    }
+
+    @Test
+    void testParallelRulesMinLines_ProvidesRulesWithSourceCodeOfRequiredAstCompilationPhase() {
+        analyzer.parallelRulesMinLines = 1
+        def results = analyzer.analyze(new ListRuleSet([
+            astCompilerPhaseAssertingRule(Phases.CONVERSION),
+            astCompilerPhaseAssertingRule(Phases.SEMANTIC_ANALYSIS),
+            astCompilerPhaseAssertingRule(Phases.CANONICALIZATION)
+        ]))
+        assert results.violations.isEmpty()
+    }
+
+    @Test
+    void testParallelRulesMinLines_SameViolationsAsSequential() {
+        def ruleSet = new ListRuleSet((1..7).collect { index -> violationsRule("Rule$index", [4, index % 3 + 2, 3]) })
+        analyzer = new StringSourceAnalyzer(SOURCE)
+        def sequentialViolations = analyzer.analyze(ruleSet).violations
+
+        analyzer.parallelRulesMinLines = 5
+        analyzer.parallelRuleGroups = 3
+        def violations = analyzer.analyze(ruleSet).violations
+
+        assert violations.size() == 21
+        assert violations.collect { [it.rule.name, it.lineNumber, it.message] } == sequentialViolations.collect { [it.rule.name, it.lineNumber, it.message] }
+        assert appliedRules.size() == 14
+    }
+
+    @Test
+    void testParallelRulesMinLines_SequentialWithinFileRulesAppliedFirstOnAnalyzingThread() {
+        def threads = Collections.synchronizedMap([:])
+        def recordThread = { String name -> violationsRule(name, [2]) { threads[name] = Thread.currentThread() } }
+        def ruleSet = new ListRuleSet([recordThread('Rule1'), new SequentialRule(recordThread('Sequential')), recordThread('Rule2')])
+        analyzer = new StringSourceAnalyzer(SOURCE)
+        analyzer.parallelRulesMinLines = 5
+        analyzer.parallelRuleGroups = 2
+
+        def violations = analyzer.analyze(ruleSet).violations
+
+        assert violations*.rule*.name == ['Rule1', 'Sequential', 'Rule2']
+        assert appliedRules[0] == 'Sequential'
+        assert threads['Sequential'] == Thread.currentThread()
+    }
+
+    @Test
+    void testParallelRulesMinLines_FileBelowThreshold_AppliedSequentially() {
+        def threads = Collections.synchronizedSet([] as Set)
+        def ruleSet = new ListRuleSet((1..4).collect { index -> violationsRule("Rule$index", [1]) { threads << Thread.currentThread() } })
+        analyzer = new StringSourceAnalyzer(SOURCE)
+        analyzer.parallelRulesMinLines = 100
+
+        analyzer.analyze(ruleSet)
+
+        assert appliedRules == ['Rule1', 'Rule2', 'Rule3', 'Rule4']
+        assert threads == [Thread.currentThread()] as Set
+    }
+
+    @Test
+    void testParallelRulesMinLines_RuleThrowsException() {
+        def ruleSet = new ListRuleSet([violationsRule('Rule1', [1]), new MockRule(name:'Bad', applyTo:{ throw new IllegalStateException('bad rule') })])
+        analyzer = new StringSourceAnalyzer(SOURCE)
+        analyzer.parallelRulesMinLines = 1
+        shouldFailWithMessageContaining('bad rule') { analyzer.analyze(ruleSet) }
+    }
+
+    @Test
+    void testLowMemory_ReleasesAstForEachCompilerPhaseOnceRulesApplied() {
+        Map<SourceCode, Object> asts = [:]
+        def recordAst = { int compilerPhase -> new MockRule(compilerPhase:compilerPhase, applyTo:{ SourceCode source -> asts[source] = source.ast; [] }) }
+        def ruleSet = new ListRuleSet([recordAst(Phases.CONVERSION), recordAst(Phases.SEMANTIC_ANALYSIS)])
+
+        analyzer.analyze(ruleSet)
+        assert asts.size() == 2
+        // The source for the default phase hands over its AST, to continue its compilation for the later phase
+        asts.each { source, ast -> assert source.ast.is(ast) == (source.astCompilerPhase == Phases.SEMANTIC_ANALYSIS) }
+
+        asts.clear()
+        analyzer.lowMemory = true
+        analyzer.analyze(ruleSet)
+        assert asts.size() == 2
+        asts.each { source, ast -> assert !source.ast.is(ast) }
+    }
+
+    @Test
+    void testRuleTimeoutMillis_SlowRuleAbandoned_OtherViolationsRetained() {
+        def ruleSet = new ListRuleSet([violationsRule('Rule1', [2]), violationsRule('Slow', [3]) { Thread.sleep(60_000) }, violationsRule('Rule3', [4])])
+        analyzer = new StringSourceAnalyzer(SOURCE)
+        analyzer.ruleTimeoutMillis = 200
+        analyzer.parallelRulesMinLines = 1
+        analyzer.analysisTimings = new AnalysisTimings()
+
+        def violations = analyzer.analyze(ruleSet).violations
+
+        assert violations*.message == ['Rule1-2', 'Rule3-4']
+        assert analyzer.analysisTimings.timeouts*.ruleName == ['Slow']
+    }
+
+    @Test
+    void testRuleTimeoutMillis_ViolationsWithTimeoutsNotCached() {
+        def slow = true
+        def ruleSet = new ListRuleSet([violationsRule('Rule1', [2]), violationsRule('Slow', [3]) { if (slow) { Thread.sleep(60_000) } }])
+        analyzer = new StringSourceAnalyzer(SOURCE)
+        analyzer.ruleTimeoutMillis = 200
+        analyzer.analysisCache = new AnalysisCache('target/AbstractSourceAnalyzerTest-cache.bin')
+
+        assert analyzer.analyze(ruleSet).violations*.message == ['Rule1-2']
+        slow = false
+        assert analyzer.analyze(ruleSet).violations*.message == ['Rule1-2', 'Slow-3']
+        assert analyzer.analyze(ruleSet).violations*.message == ['Rule1-2', 'Slow-3']
+        assert analyzer.analysisCache.hits == 1
+    }
+
+    @Test
+    void testParseTimeoutMillis_FileParsedWithinTimeout() {
+        analyzer = new StringSourceAnalyzer(SOURCE)
+        analyzer.parseTimeoutMillis = 60_000
+        def violations = analyzer.analyze(new ListRuleSet([violationsRule('Rule1', [2]), astCompilerPhaseAssertingRule(Phases.SEMANTIC_ANALYSIS)])).violations
+        assert violations*.message == ['Rule1-2']
+    }
+
+    @Test
+    void testAnalysisTimings_RecordsEachRuleForEachFile() {
+        analyzer.analysisTimings = new AnalysisTimings(5)
+        analyzer.analyze(new ListRuleSet([violationsRule('Rule1', []), violationsRule('Rule2', [])]))
+        assert analyzer.analysisTimings.slowestRules*.ruleName.sort() == ['Rule1', 'Rule2']
+    }
+
+    @Test
+    void testRulesThatDoNotApplyToTheSource_NotApplied() {
+        def disabledRule = new FakePathRule(name:'Disabled', enabled:false)
+        def filteredRule = new FakePathRule(name:'Filtered', applyToFileNames:'Other.groovy')
+        def ruleSet = new ListRuleSet([violationsRule('Rule1', []), disabledRule, filteredRule])
+        analyzer.analysisTimings = new AnalysisTimings(5)
+        assert analyzer.analyze(ruleSet).violations.empty
+        assert analyzer.analysisTimings.slowestRules*.ruleName == ['Rule1']
+
+        // Changes to the rules are applied to the next analysis
+        filteredRule.applyToFileNames = ''
+        assert analyzer.analyze(ruleSet).violations*.rule == [filteredRule]
+        disabledRule.enabled = true
+        assert analyzer.analyze(ruleSet).violations*.rule == [disabledRule, filteredRule]
+    }
+
+    @Test
+    void testFusedAstVisitors_SameViolations() {
+        def ruleSet = fusedRuleSet()
+        analyzer = new StringSourceAnalyzer(FUSED_SOURCE)
+        def expectedViolations = describe(analyzer.analyze(ruleSet).violations)
+        assert expectedViolations.collect { it[0..1] } == [['Rule1', 2], ['EmptyIfStatement', 4], ['ComparisonWithSelf', 4], ['Rule2', 5],
+            ['EmptyIfStatement', 7], ['UnnecessaryBooleanInstantiation', 8]]
+
+        analyzer.fusedAstVisitors = true
+        assert describe(analyzer.analyze(ruleSet).violations) == expectedViolations
+
+        analyzer.parallelRulesMinLines = 1
+        analyzer.parallelRuleGroups = 2
+        assert describe(analyzer.analyze(ruleSet).violations) == expectedViolations
+    }
+
+    @Test
+    void testFusedAstVisitors_AnalysisTimingsRecordsFusedRulesTogether() {
+        analyzer = new StringSourceAnalyzer(FUSED_SOURCE)
+        analyzer.fusedAstVisitors = true
+        analyzer.analysisTimings = new AnalysisTimings(5)
+        analyzer.analyze(fusedRuleSet())
+        assert analyzer.analysisTimings.slowestRules*.ruleName.sort() == ['FusedAstVisitor', 'Rule1', 'Rule2']
+        assert analyzer.ruleProcessingTimes.keySet()*.name.sort() == ['Rule1', 'Rule2']
+    }
+
+    private RuleSet fusedRuleSet() {
+        new ListRuleSet([violationsRule('Rule1', [2]), new EmptyIfStatementRule(), new ComparisonWithSelfRule(),
+            violationsRule('Rule2', [5]), new UnnecessaryBooleanInstantiationRule()])
+    }
+
+    private static List describe(List<Violation> violations) {
+        violations.collect { [it.rule.name, it.lineNumber, it.message] }
+    }
+
+    private Rule violationsRule(String name, List<Integer> lineNumbers, Closure onApply = null) {
+        MockRule rule
+        rule = new MockRule(name: name, applyTo: { SourceCode source ->
+            appliedRules << name
+            onApply?.call()
+            lineNumbers.collect { lineNumber -> new Violation(rule:rule, lineNumber:lineNumber, message:"$name-$lineNumber") }
+        })
+        rule
+    }
+
+    private List<Rule> superClassRecordingRules(List<String> superClassNames, List asts) {
+        def recordSuperClass = { String name, int compilerPhase ->
+            MockRule rule
+            rule = new MockRule(name:name, compilerPhase:compilerPhase, applyTo:{ SourceCode source ->
+                asts << source.ast
+                superClassNames << source.ast.classes[0].superClass.name
+                [new Violation(rule:rule, lineNumber:1, message:name)]
+            })
+        }
+        [recordSuperClass('Semantic', Phases.SEMANTIC_ANALYSIS),
+         recordSuperClass('Conversion', Phases.CONVERSION),
+         recordSuperClass('Canonicalization', Phases.CANONICALIZATION)]
+    }
+
     private Rule astCompilerPhaseAssertingRule(int compilerPhase) {
         return new MockRule(
             compilerPhase: compilerPhase,
@@ -49,4 +311,28 @@ class AbstractSourceAnalyzerTest extends AbstractTestCase {
             }
         )
     }
+
+    private static class CompileCountingSourceString extends SourceString {
+        int compileCount = 0
+
+        CompileCountingSourceString(String source) {
+            super(source)
+        }
+
+        @Override
+        protected ModuleNode compileAst() {
+            compileCount++
+            super.compileAst()
+        }
+    }
+
+    @SequentialWithinFile
+    private static class SequentialRule implements Rule {
+        @Delegate
+        private final Rule rule
+
+        SequentialRule(Rule rule) {
+            this.rule = rule
+        }
+    }
 }
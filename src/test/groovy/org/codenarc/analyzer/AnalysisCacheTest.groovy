@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.rule.FakePathRule
+import org.codenarc.rule.MockRule
+import org.codenarc.rule.Rule
+import org.codenarc.rule.Violation
+import org.codenarc.ruleset.ListRuleSet
+import org.codenarc.source.SourceString
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+import java.util.function.Supplier
+
+/**
+ * Tests for AnalysisCache
+ */
+class AnalysisCacheTest extends AbstractTestCase {
+
+    private static final String LONG_LINE = 'x' * 70_000
+
+    @TempDir
+    private File tempDir
+
+    private File cacheFile
+    private AnalysisCache cache
+    private final rule1 = new FakePathRule(name:'Rule1')
+    private final rule2 = new FakePathRule(name:'Rule2')
+    private final ruleSet = new ListRuleSet([rule1, rule2])
+    private final source1 = new SourceString('class One { }', 'src/One.groovy')
+    private final source2 = new SourceString('class Two { }', 'src/Two.groovy')
+    private final source3 = new SourceString('class Three { }', 'src/Three.groovy')
+    private int collectCount
+
+    @Test
+    void test_Constructor_DefaultMaxEntries() {
+        assert new AnalysisCache('cache.bin').maxEntries == AnalysisCache.DEFAULT_MAX_ENTRIES
+    }
+
+    @Test
+    void test_Constructor_NullOrEmptyCacheFile() {
+        shouldFailWithMessageContaining('cacheFile') { new AnalysisCache(null) }
+        shouldFailWithMessageContaining('cacheFile') { new AnalysisCache('') }
+    }
+
+    @Test
+    void test_getViolations_MissThenHit() {
+        def violations = getViolations(source1)
+        assert violations*.message == ['src/One.groovy:1', 'src/One.groovy:2']
+        assert collectCount == 1
+
+        assertSameViolations(getViolations(source1), violations)
+        assert collectCount == 1
+        assert cache.hits == 1
+        assert cache.misses == 1
+    }
+
+    @Test
+    void test_getViolations_DifferentPathOrContents_Miss() {
+        getViolations(source1)
+        getViolations(new SourceString(source1.text, 'other/One.groovy'))
+        getViolations(new SourceString('class One { int x }', source1.path))
+        assert collectCount == 3
+        assert cache.hits == 0
+    }
+
+    @Test
+    void test_removeViolations() {
+        getViolations(source1)
+        getViolations(source2)
+        cache.removeViolations(source1)
+        cache.removeViolations(source3)
+
+        getViolations(source1)
+        getViolations(source2)
+        assert collectCount == 3
+        assert cache.hits == 1
+    }
+
+    @Test
+    void test_save_ThenLoad_Hit() {
+        def violations = getViolations(source1, violationsWithNullsAndLongLine())
+        cache.save()
+        assert cacheFile.exists()
+
+        def newCache = new AnalysisCache(cacheFile.path)
+        def newRuleSet = new ListRuleSet([new FakePathRule(name:'Rule1'), new FakePathRule(name:'Rule2')])
+        def cachedViolations = newCache.getViolations(source1, newRuleSet, failingSupplier())
+
+        assert newCache.hits == 1
+        assert cachedViolations*.rule == newRuleSet.rules
+        assert cachedViolations*.lineNumber == violations*.lineNumber
+        assert cachedViolations*.sourceLine == violations*.sourceLine
+        assert cachedViolations*.message == violations*.message
+    }
+
+    @Test
+    void test_save_ThenLoad_RuleSetPropertyChanged_Miss() {
+        getViolations(source1)
+        cache.save()
+
+        def newCache = new AnalysisCache(cacheFile.path)
+        def newRuleSet = new ListRuleSet([new FakePathRule(name:'Rule1'), new FakePathRule(name:'Rule2', priority:3)])
+        newCache.getViolations(source1, newRuleSet) { -> [] }
+        assert newCache.misses == 1
+    }
+
+    @Test
+    void test_save_ThenLoad_RuleSetRuleAdded_Miss() {
+        getViolations(source1)
+        cache.save()
+
+        def newCache = new AnalysisCache(cacheFile.path)
+        def newRuleSet = new ListRuleSet([rule1, rule2, new FakePathRule(name:'Rule3')])
+        newCache.getViolations(source1, newRuleSet) { -> [] }
+        assert newCache.misses == 1
+    }
+
+    @Test
+    void test_getViolations_DifferentRuleSet_ClearsEntries() {
+        getViolations(source1)
+        cache.getViolations(source1, new ListRuleSet([rule2])) { -> [] }
+        assert cache.misses == 2
+    }
+
+    @Test
+    void test_getViolations_ViolationForOtherRule_NotCached() {
+        def otherRule = new MockRule(name:'Other')
+        getViolations(source1, [new Violation(rule:otherRule, lineNumber:1)])
+        getViolations(source1)
+        assert collectCount == 2
+    }
+
+    @Test
+    void test_getViolations_MaxEntries_LeastRecentlyUsedEvicted() {
+        cache = new AnalysisCache(cacheFile.path, 2)
+        getViolations(source1)
+        getViolations(source2)
+        getViolations(source1)
+        getViolations(source3)
+        assert collectCount == 3
+
+        getViolations(source1)
+        getViolations(source3)
+        assert collectCount == 3
+        getViolations(source2)
+        assert collectCount == 4
+    }
+
+    @Test
+    void test_save_PreservesLeastRecentlyUsedOrder() {
+        cache = new AnalysisCache(cacheFile.path, 2)
+        getViolations(source1)
+        getViolations(source2)
+        getViolations(source1)
+        cache.save()
+
+        cache = new AnalysisCache(cacheFile.path, 2)
+        getViolations(source3)
+        getViolations(source1)
+        assert collectCount == 3
+    }
+
+    @Test
+    void test_load_InvalidCacheFile_Ignored() {
+        cacheFile.text = 'not a cache file'
+        getViolations(source1)
+        assert cache.misses == 1
+        cache.save()
+
+        def newCache = new AnalysisCache(cacheFile.path)
+        newCache.getViolations(source1, ruleSet, failingSupplier())
+        assert newCache.hits == 1
+    }
+
+    @Test
+    void test_save_NotUsed_DoesNotWriteFile() {
+        cache.save()
+        assert !cacheFile.exists()
+    }
+
+    //------------------------------------------------------------------------------------
+    // Helper Methods
+    //------------------------------------------------------------------------------------
+
+    @BeforeEach
+    void setUp() {
+        cacheFile = new File(tempDir, 'cache.bin')
+        cache = new AnalysisCache(cacheFile.path)
+    }
+
+    private List<Violation> getViolations(SourceString source, List<Violation> violations = null) {
+        cache.getViolations(source, ruleSet) { ->
+            collectCount++
+            violations ?: [1, 2].collect { lineNumber ->
+                new Violation(rule:lineNumber == 1 ? rule1 : rule2, lineNumber:lineNumber, sourceLine:source.text,
+                    message:source.path + ':' + lineNumber)
+            }
+        }
+    }
+
+    private List<Violation> violationsWithNullsAndLongLine() {
+        [new Violation(rule:rule1), new Violation(rule:rule2, lineNumber:-1, sourceLine:LONG_LINE, message:'ü')]
+    }
+
+    private static Supplier<List<Violation>> failingSupplier() {
+        return { -> throw new AssertionError('Expected the violations to be cached') } as Supplier<List<Violation>>
+    }
+
+    private static void assertSameViolations(List<Violation> actual, List<Violation> expected) {
+        assert actual*.rule as List<Rule> == expected*.rule
+        assert actual*.lineNumber == expected*.lineNumber
+        assert actual*.sourceLine == expected*.sourceLine
+        assert actual*.message == expected*.message
+    }
+}
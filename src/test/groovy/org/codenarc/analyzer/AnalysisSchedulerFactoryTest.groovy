@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ThreadPoolExecutor
+
+/**
+ * Tests for AnalysisSchedulerFactory
+ */
+class AnalysisSchedulerFactoryTest extends AbstractTestCase {
+
+    private final factory = new AnalysisSchedulerFactory()
+    private AnalysisScheduler scheduler
+
+    @Test
+    void test_InitialPropertyValues() {
+        assert factory.type == null
+        assert factory.threads == 0
+        assert factory.queueSize == 0
+        assert factory.timeoutSeconds == 60 * 60
+    }
+
+    @Test
+    void test_createScheduler_Defaults_OneThread_Sequential() {
+        scheduler = factory.createScheduler(AnalysisSchedulerFactory.FORK_JOIN, 1)
+        assert scheduler instanceof SequentialAnalysisScheduler
+    }
+
+    @Test
+    void test_createScheduler_DefaultType() {
+        scheduler = factory.createScheduler(AnalysisSchedulerFactory.FORK_JOIN, 3)
+        assert executorService(scheduler) instanceof ForkJoinPool
+        assert executorService(scheduler).parallelism == 3
+    }
+
+    @Test
+    void test_createScheduler_Threads_OverridesDefaultThreads() {
+        factory.threads = 2
+        scheduler = factory.createScheduler(AnalysisSchedulerFactory.FIXED, 1)
+        assert executorService(scheduler) instanceof ThreadPoolExecutor
+        assert executorService(scheduler).corePoolSize == 2
+    }
+
+    @Test
+    void test_createScheduler_Type_OverridesDefaultType() {
+        factory.type = AnalysisSchedulerFactory.SEQUENTIAL
+        factory.threads = 4
+        assert factory.createScheduler(AnalysisSchedulerFactory.FIXED, 1) instanceof SequentialAnalysisScheduler
+
+        factory.type = AnalysisSchedulerFactory.FIXED
+        factory.threads = 0
+        scheduler = factory.createScheduler(AnalysisSchedulerFactory.FORK_JOIN, 1)
+        assert executorService(scheduler) instanceof ThreadPoolExecutor
+        assert executorService(scheduler).corePoolSize == 1
+    }
+
+    @Test
+    void test_createScheduler_Virtual() {
+        factory.type = AnalysisSchedulerFactory.VIRTUAL
+        scheduler = factory.createScheduler(AnalysisSchedulerFactory.FIXED, 1)
+        assert scheduler instanceof ExecutorServiceAnalysisScheduler
+        assertTasksExecuted(scheduler)
+    }
+
+    @Test
+    void test_createScheduler_AllTypes_ExecuteTasks() {
+        AnalysisSchedulerFactory.TYPES.each { type ->
+            def schedulerFactory = new AnalysisSchedulerFactory(type:type, threads:2, queueSize:1)
+            assertTasksExecuted(schedulerFactory.createScheduler(AnalysisSchedulerFactory.FIXED, 1))
+        }
+    }
+
+    @Test
+    void test_createScheduler_InvalidType() {
+        factory.type = 'other'
+        shouldFailWithMessageContaining('other') { factory.createScheduler(AnalysisSchedulerFactory.FIXED, 1) }
+    }
+
+    @Test
+    void test_createScheduler_InvalidTimeout() {
+        factory.timeoutSeconds = 0
+        shouldFailWithMessageContaining('timeoutSeconds') { factory.createScheduler(AnalysisSchedulerFactory.FIXED, 1) }
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler?.shutdownNow()
+    }
+
+    private void assertTasksExecuted(AnalysisScheduler analysisScheduler) {
+        try {
+            def futures = (1..10).collect { i -> analysisScheduler.submit({ -> i * 2 } as Callable<Integer>) }
+            analysisScheduler.awaitCompletion()
+            assert futures*.get() == (1..10).collect { i -> i * 2 }
+        }
+        finally {
+            analysisScheduler.shutdownNow()
+        }
+    }
+
+    private ExecutorService executorService(AnalysisScheduler analysisScheduler) {
+        assert analysisScheduler instanceof ExecutorServiceAnalysisScheduler
+        return analysisScheduler.@executorService
+    }
+}
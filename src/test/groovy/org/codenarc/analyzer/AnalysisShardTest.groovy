@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+/**
+ * Tests for AnalysisShard
+ */
+class AnalysisShardTest extends AbstractTestCase {
+
+    private static final List<String> PATHS = (1..200).collect { index -> "dir${index % 7}/File${index}.groovy".toString() }
+
+    @Test
+    void test_parse() {
+        def shard = AnalysisShard.parse('3/8')
+        assert shard.index == 3
+        assert shard.count == 8
+        assert shard.toString() == '3/8'
+    }
+
+    @Test
+    void test_parse_Invalid() {
+        shouldFailWithMessageContaining('i/n') { AnalysisShard.parse('3') }
+        shouldFailWithMessageContaining('i/n') { AnalysisShard.parse('a/b') }
+        shouldFailWithMessageContaining('between 1 and 2') { AnalysisShard.parse('0/2') }
+        shouldFailWithMessageContaining('between 1 and 2') { AnalysisShard.parse('3/2') }
+        shouldFailWithMessageContaining('count') { AnalysisShard.parse('0/0') }
+    }
+
+    @Test
+    void test_contains_EachPathInExactlyOneShard() {
+        def shards = (1..4).collect { index -> new AnalysisShard(index, 4) }
+        PATHS.each { path ->
+            assert shards.count { shard -> shard.contains(path) } == 1, path
+        }
+        shards.each { shard ->
+            assert PATHS.count { path -> shard.contains(path) } > 20
+        }
+    }
+
+    @Test
+    void test_contains_SingleShard_ContainsAllPaths() {
+        def shard = new AnalysisShard(1, 1)
+        assert PATHS.every { path -> shard.contains(path) }
+    }
+
+    @Test
+    void test_contains_StableForEquivalentPaths() {
+        def shard = new AnalysisShard(2, 3)
+        def path = PATHS.find { shard.contains(it) }
+        assert shard.contains('./' + path)
+        assert shard.contains('/' + path)
+        assert shard.contains(path.replace('/', '\\'))
+        assert new AnalysisShard(2, 3).contains(path)
+    }
+
+    @Test
+    void test_contains_KnownPartition() {
+        // The partition must not change between releases, or between machines
+        def shardIndexes = ['a.groovy', 'b.groovy', 'c.groovy', 'src/Main.groovy'].collect { path ->
+            (1..3).find { index -> new AnalysisShard(index, 3).contains(path) }
+        }
+        assert shardIndexes == [3, 2, 2, 1]
+    }
+}
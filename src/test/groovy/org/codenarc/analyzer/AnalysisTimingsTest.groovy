@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+import static org.codenarc.test.TestUtil.shouldFail
+
+/**
+ * Tests for AnalysisTimings
+ */
+class AnalysisTimingsTest extends AbstractTestCase {
+
+    private static final long MILLIS = 1_000_000L
+
+    private final AnalysisTimings timings = new AnalysisTimings(2)
+
+    @Test
+    void test_Constructor_DefaultSize() {
+        def defaultTimings = new AnalysisTimings()
+        (1..20).each { index -> defaultTimings.recordFile("File$index", index * MILLIS) }
+        assert defaultTimings.slowestFiles.size() == AnalysisTimings.DEFAULT_SIZE
+    }
+
+    @Test
+    void test_Constructor_InvalidSize() {
+        shouldFail { new AnalysisTimings(0) }
+    }
+
+    @Test
+    void test_recordFile_RetainsSlowestFiles_SlowestFirst() {
+        timings.recordFile('A', 5 * MILLIS)
+        timings.recordFile('B', 9 * MILLIS)
+        timings.recordFile('C', 1 * MILLIS)
+        timings.recordFile('D', 7 * MILLIS)
+
+        assert timings.slowestFiles*.path == ['B', 'D']
+        assert timings.slowestFiles*.elapsedMillis == [9, 7]
+        assert timings.slowestRules == []
+    }
+
+    @Test
+    void test_recordRule_RetainsSlowestRules_SlowestFirst() {
+        timings.recordRule('A', 'Rule1', 3 * MILLIS)
+        timings.recordRule('A', 'Rule2', 8 * MILLIS)
+        timings.recordRule('B', 'Rule1', 6 * MILLIS)
+
+        assert timings.slowestRules.collect { [it.path, it.ruleName, it.elapsedMillis] } == [['A', 'Rule2', 8], ['B', 'Rule1', 6]]
+        assert timings.slowestFiles == []
+    }
+
+    @Test
+    void test_recordTimeout() {
+        timings.recordTimeout('A', 'Rule1', 500)
+        timings.recordTimeout('B', null, 2000)
+
+        assert timings.timeouts.collect { [it.path, it.ruleName, it.elapsedMillis] } == [['A', 'Rule1', 500], ['B', null, 2000]]
+    }
+
+    @Test
+    void test_recordFile_Concurrently() {
+        def threads = (1..4).collect { threadIndex ->
+            Thread.start { (1..1000).each { index -> timings.recordFile("File$threadIndex-$index", index * MILLIS) } }
+        }
+        threads*.join()
+        assert timings.slowestFiles*.elapsedMillis == [1000, 1000]
+    }
+
+    @Test
+    void test_formatSummary() {
+        timings.recordFile('src/A.groovy', 25 * MILLIS)
+        timings.recordRule('src/A.groovy', 'Rule1', 12 * MILLIS)
+        timings.recordTimeout('src/B.groovy', 'Rule2', 500)
+        timings.recordTimeout('src/C.groovy', null, 2000)
+
+        assert timings.formatSummary() == [
+            'Analysis timeouts:',
+            '    Rule=Rule2 File=src/B.groovy Timeout=500ms',
+            '    Parse File=src/C.groovy Timeout=2000ms',
+            'Slowest files:',
+            '    25ms File=src/A.groovy',
+            'Slowest rules:',
+            '    12ms Rule=Rule1 File=src/A.groovy']
+    }
+
+    @Test
+    void test_formatSummary_NoTimeouts() {
+        assert timings.formatSummary() == ['Slowest files:', 'Slowest rules:']
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.rule.MockRule
+import org.codenarc.rule.Rule
+import org.codenarc.rule.Violation
+import org.codenarc.source.SourceCode
+import org.codenarc.source.SourceString
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.function.Function
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+/**
+ * Tests for AnalysisWatchdog
+ */
+class AnalysisWatchdogTest extends AbstractTestCase {
+
+    private static final String PATH = 'src/MyClass.groovy'
+
+    private final AnalysisWatchdog watchdog = new AnalysisWatchdog(60_000, 200)
+    private final AnalysisTimings timings = new AnalysisTimings()
+    private final AtomicBoolean released = new AtomicBoolean()
+
+    @Test
+    void test_applyRules_AllRulesComplete() {
+        def rules = [rule('Rule1'), rule('Rule2'), rule('Rule3')]
+
+        def violationsByRule = watchdog.applyRules(PATH, rules, applyRule(), timings)
+
+        assert violationsByRule*.message == [['Rule1'], ['Rule2'], ['Rule3']]
+        assert timings.timeouts == []
+    }
+
+    @Test
+    void test_applyRules_InterruptibleRuleExceedsTimeout_Abandoned() {
+        def rules = [rule('Rule1'), rule('Slow') { Thread.sleep(60_000) }, rule('Rule3')]
+
+        def violationsByRule = watchdog.applyRules(PATH, rules, applyRule(), timings)
+
+        assert violationsByRule*.message == [['Rule1'], null, ['Rule3']]
+        assert timings.timeouts.collect { [it.path, it.ruleName, it.elapsedMillis] } == [[PATH, 'Slow', 200L]]
+    }
+
+    @Test
+    void test_applyRules_RuleIgnoresInterrupt_AbandonedAndRemainingRulesApplied() {
+        def rules = [rule('Stuck') { spinUntilReleased() }, rule('Rule2'), rule('Stuck2') { spinUntilReleased() }, rule('Rule4')]
+
+        def violationsByRule = watchdog.applyRules(PATH, rules, applyRule(), timings)
+
+        assert violationsByRule*.message == [null, ['Rule2'], null, ['Rule4']]
+        assert timings.timeouts*.ruleName == ['Stuck', 'Stuck2']
+    }
+
+    @Test
+    void test_applyRules_NoRuleTimeout() {
+        def noLimitWatchdog = new AnalysisWatchdog(0, 0)
+        def rules = [rule('Rule1') { Thread.sleep(300) }, rule('Rule2')]
+
+        def violationsByRule = noLimitWatchdog.applyRules(PATH, rules, applyRule(), timings)
+
+        assert violationsByRule*.message == [['Rule1'], ['Rule2']]
+    }
+
+    @Test
+    void test_applyRules_RuleThrowsException() {
+        def rules = [rule('Rule1'), rule('Bad') { throw new IllegalStateException('bad rule') }]
+        shouldFailWithMessageContaining('bad rule') { watchdog.applyRules(PATH, rules, applyRule(), timings) }
+    }
+
+    @Test
+    void test_parse() {
+        def source = new SourceString('class MyClass { }', PATH)
+        watchdog.parse(PATH, [source], timings)
+        assert source.ast.classes[0].name == 'MyClass'
+        assert timings.timeouts == []
+    }
+
+    @Test
+    void test_parse_ExceedsTimeout() {
+        def slowSource = [getAst: { spinUntilReleased() }] as SourceCode
+
+        def parseWatchdog = new AnalysisWatchdog(200, 0)
+
+        shouldFailWithMessageContaining([PATH, '200ms']) { parseWatchdog.parse(PATH, [slowSource], timings) }
+        assert timings.timeouts.collect { [it.path, it.ruleName] } == [[PATH, null]]
+    }
+
+    @AfterEach
+    void afterEach() {
+        released.set(true)
+    }
+
+    private Rule rule(String name, Closure onApply = null) {
+        MockRule rule
+        rule = new MockRule(name:name, applyTo:{ SourceCode source ->
+            onApply?.call()
+            [new Violation(rule:rule, lineNumber:1, message:name)]
+        })
+        rule
+    }
+
+    private static Function<Rule, List<Violation>> applyRule() {
+        { Rule rule -> rule.applyTo(null) } as Function<Rule, List<Violation>>
+    }
+
+    // Simulate a step that does not respond to interrupts, such as catastrophic regex backtracking
+    private long spinUntilReleased() {
+        long spins = 0
+        while (!released.get()) {
+            spins++
+        }
+        spins
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import static org.codenarc.test.TestUtil.shouldFail
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Tests for ExecutorServiceAnalysisScheduler and SequentialAnalysisScheduler
+ */
+class ExecutorServiceAnalysisSchedulerTest extends AbstractTestCase {
+
+    private static final long TIMEOUT_SECONDS = 60
+
+    private AnalysisScheduler scheduler
+
+    @Test
+    void test_Constructor_NullExecutorService() {
+        shouldFailWithMessageContaining('executorService') { new ExecutorServiceAnalysisScheduler(null, 0, TIMEOUT_SECONDS) }
+    }
+
+    @Test
+    void test_submit_ReturnsResults() {
+        scheduler = new ExecutorServiceAnalysisScheduler(Executors.newFixedThreadPool(3), 0, TIMEOUT_SECONDS)
+        def futures = (1..20).collect { i -> scheduler.submit({ -> "result$i" } as Callable<String>) }
+        scheduler.awaitCompletion()
+        assert futures*.get() == (1..20).collect { i -> "result$i" }
+    }
+
+    @Test
+    void test_submit_TaskThrowsException() {
+        scheduler = new ExecutorServiceAnalysisScheduler(Executors.newFixedThreadPool(2), 0, TIMEOUT_SECONDS)
+        def future = scheduler.submit({ -> throw new IllegalStateException('bad') } as Callable<String>)
+        scheduler.awaitCompletion()
+        shouldFailWithMessageContaining('bad') { future.get() }
+    }
+
+    @Test
+    void test_submit_MaxPendingTasks_LimitsConcurrency() {
+        final MAX = 2
+        def running = new AtomicInteger()
+        def maxRunning = new AtomicInteger()
+        scheduler = new ExecutorServiceAnalysisScheduler(Executors.newCachedThreadPool(), MAX, TIMEOUT_SECONDS)
+
+        20.times {
+            scheduler.submit({ ->
+                int current = running.incrementAndGet()
+                maxRunning.accumulateAndGet(current) { a, b -> Math.max(a, b) }
+                sleep(5)
+                running.decrementAndGet()
+            } as Callable<Integer>)
+        }
+        scheduler.awaitCompletion()
+
+        assert maxRunning.get() <= MAX
+    }
+
+    @Test
+    void test_awaitCompletion_Timeout() {
+        def latch = new CountDownLatch(1)
+        scheduler = new ExecutorServiceAnalysisScheduler(Executors.newFixedThreadPool(1), 0, 1)
+        scheduler.submit({ -> latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS) } as Callable<Boolean>)
+        shouldFailWithMessageContaining(AnalyzerException, 'did not complete within 1 seconds') { scheduler.awaitCompletion() }
+        latch.countDown()
+    }
+
+    @Test
+    void test_SequentialAnalysisScheduler() {
+        scheduler = new SequentialAnalysisScheduler()
+        def thread = null
+        def future = scheduler.submit({ -> thread = Thread.currentThread(); 'abc' } as Callable<String>)
+        assert future.done
+        assert future.get() == 'abc'
+        assert thread == Thread.currentThread()
+
+        def failedFuture = scheduler.submit({ -> throw new IllegalStateException('bad') } as Callable<String>)
+        assert failedFuture.done
+        shouldFail(ExecutionException) { failedFuture.get() }
+        scheduler.awaitCompletion()
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler?.shutdownNow()
+    }
+}
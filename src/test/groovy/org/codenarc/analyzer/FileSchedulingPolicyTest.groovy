@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+/**
+ * Tests for FileSchedulingPolicy
+ */
+class FileSchedulingPolicyTest extends AbstractTestCase {
+
+    @TempDir
+    private File tempDir
+
+    private final policy = new FileSchedulingPolicy(smallFileSize:100, maxBatchSize:3)
+    private ScheduledFile large, medium, huge, tiny1, tiny2, tiny3, tiny4
+    private List<ScheduledFile> files
+
+    @Test
+    void test_InitialPropertyValues() {
+        def schedulingPolicy = new FileSchedulingPolicy()
+        assert schedulingPolicy.largestFirst
+        assert schedulingPolicy.smallFileSize == FileSchedulingPolicy.DEFAULT_SMALL_FILE_SIZE
+        assert schedulingPolicy.maxBatchSize == FileSchedulingPolicy.DEFAULT_MAX_BATCH_SIZE
+        assert schedulingPolicy.costHistoryFile == null
+    }
+
+    @Test
+    void test_planBatches_NotConcurrent_OneFilePerBatch_OriginalOrder() {
+        assert policy.planBatches(files, false) == files.collect { [it] }
+    }
+
+    @Test
+    void test_planBatches_LargestFirst_SmallFilesBatched() {
+        def batches = policy.planBatches(files, true)
+        assert batches == [[huge], [large], [medium], [tiny4, tiny3, tiny2], [tiny1]]
+        assert files == [large, tiny1, medium, tiny2, huge, tiny3, tiny4]
+    }
+
+    @Test
+    void test_planBatches_LargestFirst_False() {
+        policy.largestFirst = false
+        assert policy.planBatches(files, true) == [[large], [medium], [huge], [tiny1, tiny2, tiny3], [tiny4]]
+    }
+
+    @Test
+    void test_planBatches_NoBatching() {
+        policy.smallFileSize = 0
+        assert policy.planBatches(files, true) == [[huge], [large], [medium], [tiny4], [tiny3], [tiny2], [tiny1]]
+    }
+
+    @Test
+    void test_planBatches_EmptyList() {
+        assert policy.planBatches([], true) == []
+    }
+
+    @Test
+    void test_planBatches_CostHistory_RecordedCostsOverrideSizes() {
+        def historyFile = new File(tempDir, 'history.properties')
+        historyFile.text = '''
+            medium=900000
+            huge=1000
+            other=99
+            bad=abc
+        '''.stripIndent()
+        policy.costHistoryFile = historyFile.path
+
+        def batches = policy.planBatches(files, true)
+
+        // medium and huge have recorded costs; the others are estimated from their sizes at (901000 / 10000) per byte
+        assert batches == [[medium], [large], [tiny4, tiny3, tiny2], [huge], [tiny1]]
+        assert large.cost == 450500
+    }
+
+    @Test
+    void test_recordCost_saveCostHistory() {
+        def historyFile = new File(tempDir, 'history.properties')
+        historyFile.text = 'other=123'
+        policy.costHistoryFile = historyFile.path
+
+        policy.recordCost(large, 5_000_000)
+        policy.recordCost(tiny1, 2_500)
+        policy.saveCostHistory()
+
+        def properties = new Properties()
+        historyFile.withInputStream { properties.load(it) }
+        assert properties == [other:'123', large:'5000', tiny1:'2']
+
+        def otherPolicy = new FileSchedulingPolicy(costHistoryFile:historyFile.path)
+        otherPolicy.planBatches([large, medium], true)
+        assert large.cost == 5000
+    }
+
+    @Test
+    void test_recordCost_saveCostHistory_NoCostHistoryFile() {
+        def originalFiles = tempDir.list() as Set
+        policy.recordCost(large, 5_000_000)
+        policy.saveCostHistory()
+        assert tempDir.list() as Set == originalFiles
+    }
+
+    @BeforeEach
+    void setUp() {
+        large = scheduledFile('large', 5000)
+        medium = scheduledFile('medium', 1000)
+        huge = scheduledFile('huge', 9000)
+        tiny1 = scheduledFile('tiny1', 10)
+        tiny2 = scheduledFile('tiny2', 20)
+        tiny3 = scheduledFile('tiny3', 30)
+        tiny4 = scheduledFile('tiny4', 99)
+        files = [large, tiny1, medium, tiny2, huge, tiny3, tiny4]
+    }
+
+    private ScheduledFile scheduledFile(String path, int size) {
+        def file = new File(tempDir, path + '.groovy')
+        file.text = 'x' * size
+        new ScheduledFile(path, file)
+    }
+}
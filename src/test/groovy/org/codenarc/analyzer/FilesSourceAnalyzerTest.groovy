@@ -208,6 +208,76 @@ class FilesSourceAnalyzerTest extends AbstractTestCase {
         }
     }
 
+    @Nested
+    class Analyze_Threads {
+
+        private final List<String> sourceFiles = [
+                SOURCE_FILE,
+                'subdir1/Subdir1File1.groovy',
+                'subdir1/Subdir1File2.groovy',
+                'subdir2/subdir2a/Subdir2aFile1.groovy',
+                'subdir2/Subdir2File1.groovy'
+        ]
+
+        @BeforeEach
+        void beforeEach() {
+            analyzer.baseDirectory = BASE_DIR
+            analyzer.sourceFiles = sourceFiles
+        }
+
+        @Test
+        void MultipleFilesNestedDirs_SameResultsAsSequential() {
+            def sequentialResults = analyzer.analyze(ruleSet)
+
+            analyzer.threads = 3
+            def results = analyzer.analyze(ruleSet)
+            log("results=$results")
+
+            assert resultsPaths(results) == resultsPaths(sequentialResults)
+            assert results.violations*.message == sequentialResults.violations*.message
+            assert testCountRule.count == 10
+            assert results.getNumberOfFilesWithViolations(3) == 5
+            assert results.totalNumberOfFiles == 5
+        }
+
+        @Test
+        void SmallFilesBatched_NotLargestFirst_SameResultsAsSequential() {
+            def sequentialResults = analyzer.analyze(ruleSet)
+
+            analyzer.threads = 2
+            analyzer.schedulingPolicy = new FileSchedulingPolicy(largestFirst:false, smallFileSize:100_000, maxBatchSize:3)
+            def results = analyzer.analyze(ruleSet)
+
+            assert resultsPaths(results) == resultsPaths(sequentialResults)
+            assert results.violations*.message == sequentialResults.violations*.message
+            assert testCountRule.count == 10
+        }
+
+        @Test
+        void SourceFile_DoesNotExist() {
+            analyzer.threads = 2
+            analyzer.sourceFiles = sourceFiles + ['DoesNotExist.groovy']
+            shouldFailWithMessageContaining('Unable to find input file') { analyzer.analyze(ruleSet) }
+            assert testCountRule.count == 0
+        }
+
+        @Test
+        void ErrorAnalyzingFile() {
+            def ruleThrowsException = new MockRule(name: 'testRule')    // throws UnsupportedOperationException
+            ruleSet = new ListRuleSet([ruleThrowsException])
+            analyzer.threads = 2
+
+            // failOnError = false
+            def results = analyzer.analyze(ruleSet)
+            assert results.getNumberOfFilesWithViolations(3) == 0
+            assert results.totalNumberOfFiles == 0
+
+            // failOnError = true
+            analyzer.failOnError = true
+            shouldFailWithMessageContaining(['Error analyzing source file', 'UnsupportedOperationException']) { analyzer.analyze(ruleSet) }
+        }
+    }
+
     private List resultsPaths(Results results, List paths=[]) {
         if (results.path) {
             paths << results.path
@@ -25,11 +25,15 @@ import org.codenarc.results.Results
 import org.codenarc.rule.FakeCountRule
 import org.codenarc.rule.FakePathRule
 import org.codenarc.rule.StubRule
+import org.codenarc.rule.Violation
 import org.codenarc.ruleset.ListRuleSet
 import org.codenarc.source.SourceCode
 import org.codenarc.source.SourceString
 import org.codenarc.test.AbstractTestCase
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+import java.util.function.Consumer
 
 /**
  * Tests for FilesystemSourceAnalyzer.
@@ -41,6 +45,9 @@ class FilesystemSourceAnalyzerTest extends AbstractTestCase {
 
     private static final BASE_DIR = 'src/test/resources/sourcewithdirs'
 
+    @TempDir
+    private File tempDir
+
     private analyzer = new FilesystemSourceAnalyzer()
     private testCountRule = new FakeCountRule()
     private ruleSet = new ListRuleSet([new FakePathRule(), testCountRule])
@@ -237,6 +244,21 @@ class FilesystemSourceAnalyzerTest extends AbstractTestCase {
         assert results.totalNumberOfFiles == 3
     }
 
+    @Test
+    void test_analyze_Shard_ShardsPartitionTheFiles() {
+        def allPaths = new FilesystemSourceAnalyzer(baseDirectory:BASE_DIR).analyze(ruleSet).violations*.message
+        def shardPaths = (1..3).collect { index ->
+            def shardAnalyzer = new FilesystemSourceAnalyzer(baseDirectory:BASE_DIR, shard:new AnalysisShard(index, 3))
+            def results = shardAnalyzer.analyze(new ListRuleSet([new FakePathRule()]))
+            assert results.totalNumberOfFiles == results.violations.size()
+            results.violations*.message
+        }
+        log("shardPaths=$shardPaths")
+
+        assertEqualSets(shardPaths.flatten(), allPaths)
+        assert shardPaths.sum { paths -> paths.size() } == allPaths.size()
+    }
+
     @Test
     void test_analyze_failOnError_True_RuleThrowsException() {
         def rule = new StubRule(applyToClosure:{ sourceCode, violations -> throw new Exception() })
@@ -247,6 +269,170 @@ class FilesystemSourceAnalyzerTest extends AbstractTestCase {
         shouldFail(AnalyzerException) { analyzer.analyze(ruleSet) }
     }
 
+    @Test
+    void test_analyze_Threads_SameResultsAsSequential() {
+        analyzer.baseDirectory = BASE_DIR
+        def sequentialResults = analyzer.analyze(ruleSet)
+
+        analyzer.threads = 4
+        def parallelResults = analyzer.analyze(ruleSet)
+        log("results=$parallelResults")
+
+        assert resultsPaths(parallelResults) == resultsPaths(sequentialResults)
+        assert parallelResults.violations*.message == sequentialResults.violations*.message
+        assert testCountRule.count == 10
+        assert parallelResults.getNumberOfFilesWithViolations(3) == 5
+        assert parallelResults.totalNumberOfFiles == 5
+    }
+
+    @Test
+    void test_analyze_Threads_IncludesAndExcludes() {
+        analyzer.baseDirectory = BASE_DIR
+        analyzer.includes = '**ubdir*.groovy'
+        analyzer.excludes = '**/*File2*'
+        analyzer.threads = 3
+
+        def results = analyzer.analyze(ruleSet)
+
+        assertEqualSets(resultsPaths(results), ['subdir1', 'subdir1/Subdir1File1.groovy', 'subdir2', 'subdir2/subdir2a', 'subdir2/subdir2a/Subdir2aFile1.groovy', 'subdir2/Subdir2File1.groovy'])
+        assert testCountRule.count == 3
+        assert results.totalNumberOfFiles == 3
+    }
+
+    @Test
+    void test_analyze_Threads_RuleThrowsException() {
+        def rule = new StubRule(applyToClosure:{ sourceCode, violations -> throw new Exception() })
+        ruleSet = new ListRuleSet([rule])
+        analyzer.baseDirectory = BASE_DIR
+        analyzer.threads = 2
+
+        def results = analyzer.analyze(ruleSet)
+        assert results.totalNumberOfFiles == 0
+
+        analyzer.failOnError = true
+        shouldFailWithMessageContaining(AnalyzerException, 'Error analyzing source file') { analyzer.analyze(ruleSet) }
+    }
+
+    @Test
+    void test_analyze_AllSchedulerTypes_SameResultsAsSequential() {
+        analyzer.baseDirectory = BASE_DIR
+        def sequentialResults = analyzer.analyze(ruleSet)
+
+        AnalysisSchedulerFactory.TYPES.each { type ->
+            analyzer.schedulerFactory = new AnalysisSchedulerFactory(type:type, threads:3, queueSize:1)
+            def results = analyzer.analyze(ruleSet)
+            assert resultsPaths(results) == resultsPaths(sequentialResults), type
+            assert results.violations*.message == sequentialResults.violations*.message, type
+            assert results.totalNumberOfFiles == 5, type
+        }
+    }
+
+    @Test
+    void test_analyze_SchedulingPolicy_BatchedAndCostHistory_SameResultsAsSequential() {
+        analyzer.baseDirectory = BASE_DIR
+        def sequentialResults = analyzer.analyze(ruleSet)
+
+        def historyFile = new File(tempDir, 'costs.properties')
+        analyzer.threads = 2
+        analyzer.schedulingPolicy = new FileSchedulingPolicy(smallFileSize:100_000, maxBatchSize:2, costHistoryFile:historyFile.path)
+        def results = analyzer.analyze(ruleSet)
+
+        assert resultsPaths(results) == resultsPaths(sequentialResults)
+        assert results.violations*.message == sequentialResults.violations*.message
+
+        def properties = new Properties()
+        historyFile.withInputStream { properties.load(it) }
+        assertEqualSets(properties.keySet(), results.violations*.message.unique().collect { it - (BASE_DIR + '/') })
+    }
+
+    @Test
+    void test_analyze_FileResultsListener_CalledForEachFileInResultsOrder() {
+        analyzer.baseDirectory = BASE_DIR
+        analyzer.threads = 3
+        analyzer.schedulingPolicy = new FileSchedulingPolicy(smallFileSize:0)
+        List<FileResults> listenedResults = []
+        analyzer.fileResultsListener = { FileResults fileResults -> listenedResults << fileResults } as Consumer<FileResults>
+
+        def results = analyzer.analyze(ruleSet)
+
+        def fileResultsPaths = resultsPaths(results).findAll { path -> path.endsWith('.groovy') }
+        assert listenedResults*.path == fileResultsPaths
+        assert listenedResults.every { fileResults -> results.findResultsForPath(fileResults.path).is(fileResults) }
+    }
+
+    @Test
+    void test_analyze_FailFastThresholds_ExceededByListener_RemainingFilesSkipped() {
+        analyzer.baseDirectory = BASE_DIR
+        def thresholds = new ViolationThresholds(1, 0, 0)
+        analyzer.failFastThresholds = thresholds
+        List<FileResults> listenedResults = []
+        analyzer.fileResultsListener = { FileResults fileResults ->
+            listenedResults << fileResults
+            thresholds.recordViolations(fileResults.violations)
+        } as Consumer<FileResults>
+
+        def results = analyzer.analyze(ruleSet)
+
+        assert results.totalNumberOfFiles == 2
+        assert listenedResults*.path == resultsPaths(results).findAll { path -> path.endsWith('.groovy') }
+        assert thresholds.getNumberOfViolationsWithPriority(1) == 2
+        assert thresholds.numberOfSkippedFiles == 3
+    }
+
+    @Test
+    void test_analyze_FailFastThresholds_AlreadyExceeded_AllFilesSkippedAndNoCostsRecorded() {
+        analyzer.baseDirectory = BASE_DIR
+        analyzer.threads = 3
+        def historyFile = new File(tempDir, 'costs.properties')
+        analyzer.schedulingPolicy = new FileSchedulingPolicy(smallFileSize:0, costHistoryFile:historyFile.path)
+        def thresholds = new ViolationThresholds(0, 0, 0)
+        thresholds.recordViolations([new Violation(rule:new StubRule(priority:3))])
+        analyzer.failFastThresholds = thresholds
+
+        def results = analyzer.analyze(ruleSet)
+
+        assert results.totalNumberOfFiles == 0
+        assert thresholds.numberOfSkippedFiles == 5
+        assert !historyFile.exists() || historyFile.text.readLines().every { line -> line.startsWith('#') }
+    }
+
+    @Test
+    void test_analyze_AnalysisCache_SecondRunUsesCachedViolations() {
+        analyzer.baseDirectory = BASE_DIR
+        ruleSet = new ListRuleSet([new FakePathRule(numberOfViolations:2)])
+        def uncachedResults = analyzer.analyze(ruleSet)
+
+        def cacheFile = new File(tempDir, 'cache.bin')
+        analyzer.analysisCache = new AnalysisCache(cacheFile.path)
+        analyzer.analyze(ruleSet)
+        assert cacheFile.exists()
+
+        analyzer.analysisCache = new AnalysisCache(cacheFile.path)
+        def results = analyzer.analyze(ruleSet)
+        assert analyzer.analysisCache.hits == 5
+        assert analyzer.analysisCache.misses == 0
+        assert resultsPaths(results) == resultsPaths(uncachedResults)
+        assert results.violations*.message == uncachedResults.violations*.message
+        assert results.violations*.rule == uncachedResults.violations*.rule
+    }
+
+    @Test
+    void test_analyzeFile() {
+        analyzer.baseDirectory = BASE_DIR
+        def fileResults = analyzer.analyzeFile('subdir1/Subdir1File1.groovy', ruleSet)
+        assert fileResults.path == 'subdir1/Subdir1File1.groovy'
+        assert fileResults.violations*.message == [BASE_DIR + '/subdir1/Subdir1File1.groovy']
+    }
+
+    @Test
+    void test_analyzeFile_NotIncludedOrNotFound_ReturnsNull() {
+        analyzer.baseDirectory = BASE_DIR
+        analyzer.excludes = '**/Subdir1File1.groovy'
+        assert analyzer.analyzeFile('subdir1/Subdir1File1.groovy', ruleSet) == null
+        assert analyzer.analyzeFile('subdir1/NoSuchFile.groovy', ruleSet) == null
+        assert analyzer.analyzeFile('subdir1', ruleSet) == null
+    }
+
     @Test
     void test_getSourceDirectories_ReturnsListWithBaseDirectory() {
         analyzer.baseDirectory = BASE_DIR
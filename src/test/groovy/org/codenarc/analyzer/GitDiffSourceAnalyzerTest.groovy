@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.results.Results
+import org.codenarc.rule.FakePathRule
+import org.codenarc.ruleset.ListRuleSet
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+/**
+ * Tests for GitDiffSourceAnalyzer
+ */
+class GitDiffSourceAnalyzerTest extends AbstractTestCase {
+
+    @TempDir
+    private File tempDir
+
+    private final ruleSet = new ListRuleSet([new FakePathRule()])
+    private GitDiffSourceAnalyzer analyzer
+
+    @Test
+    void test_analyze_GitDiffBaseNotSet() {
+        analyzer.gitDiffBase = null
+        shouldFailWithMessageContaining('gitDiffBase') { analyzer.analyze(ruleSet) }
+    }
+
+    @Test
+    void test_analyze_OnlyAddedAndModifiedFiles() {
+        writeFile('src/Unchanged.groovy')
+        writeFile('src/Modified.groovy')
+        writeFile('src/Deleted.groovy')
+        writeFile('Root.groovy')
+        commitAll()
+
+        writeFile('src/Modified.groovy', 'class Modified { int x }')
+        writeFile('src/sub/Added.groovy')
+        writeFile('src/Added.txt')
+        assert new File(tempDir, 'src/Deleted.groovy').delete()
+        git('add', '--all')
+
+        def results = analyzer.analyze(ruleSet)
+
+        assert results.violations*.message == [path('src/Modified.groovy'), path('src/sub/Added.groovy')]
+        assert results.totalNumberOfFiles == 2
+        assert results.getNumberOfFilesWithViolations(3) == 2
+        assert directoryPaths(results) == [null, '', 'src', 'src/sub']
+        assert results.findResultsForPath('src/sub/Added.groovy')
+    }
+
+    @Test
+    void test_analyze_ExcludesStillApplied() {
+        writeFile('src/Modified.groovy')
+        writeFile('src/OtherModified.groovy')
+        commitAll()
+        writeFile('src/Modified.groovy', 'class Modified { int x }')
+        writeFile('src/OtherModified.groovy', 'class OtherModified { int x }')
+
+        analyzer.excludes = '**/Other*'
+        def results = analyzer.analyze(ruleSet)
+
+        assert results.violations*.message == [path('src/Modified.groovy')]
+        assert results.totalNumberOfFiles == 1
+    }
+
+    @Test
+    void test_analyze_NoChangedFiles() {
+        writeFile('src/Unchanged.groovy')
+        commitAll()
+
+        def results = analyzer.analyze(ruleSet)
+
+        assert results.totalNumberOfFiles == 0
+        assert results.violations == []
+    }
+
+    @Test
+    void test_analyze_BaseDirectoryIsSubdirectory_OnlyFilesWithinBaseDirectory() {
+        writeFile('src/Main.groovy')
+        writeFile('other/Other.groovy')
+        commitAll()
+        writeFile('src/Main.groovy', 'class Main { int x }')
+        writeFile('other/Other.groovy', 'class Other { int x }')
+
+        analyzer.baseDirectory = new File(tempDir, 'src').path
+        def results = analyzer.analyze(ruleSet)
+
+        assert results.violations*.message == [path('src/Main.groovy')]
+    }
+
+    @Test
+    void test_analyze_InvalidRevision() {
+        writeFile('src/Unchanged.groovy')
+        commitAll()
+
+        analyzer.gitDiffBase = 'no-such-revision'
+        shouldFailWithMessageContaining(AnalyzerException, 'no-such-revision') { analyzer.analyze(ruleSet) }
+    }
+
+    @Test
+    void test_parseChangedFilePaths() {
+        assert GitDiffSourceAnalyzer.parseChangedFilePaths('') == []
+        assert GitDiffSourceAnalyzer.parseChangedFilePaths('a/B.groovy\0C d.groovy\0') == ['a/B.groovy', 'C d.groovy']
+    }
+
+    //------------------------------------------------------------------------------------
+    // Helper Methods
+    //------------------------------------------------------------------------------------
+
+    @BeforeEach
+    void setUp() {
+        git('init', '--quiet')
+        analyzer = new GitDiffSourceAnalyzer(baseDirectory:tempDir.path, gitDiffBase:'HEAD')
+    }
+
+    private void writeFile(String path, String text = null) {
+        def file = new File(tempDir, path)
+        file.parentFile.mkdirs()
+        file.text = text ?: "class ${file.name - '.groovy'} { }"
+    }
+
+    private void commitAll() {
+        git('add', '--all')
+        git('-c', 'user.name=test', '-c', 'user.email=test@example.com', 'commit', '--quiet', '-m', 'commit')
+    }
+
+    private void git(String... args) {
+        def process = (['git'] + (args as List)).execute(null as List, tempDir)
+        def errors = new StringBuilder()
+        process.waitForProcessOutput(new StringBuilder(), errors)
+        assert process.exitValue() == 0, errors
+    }
+
+    private String path(String relativePath) {
+        new File(tempDir, relativePath).path.replace('\\', '/')
+    }
+
+    private List<String> directoryPaths(Results results) {
+        results.file ? [] : [results.path] + results.children.collectMany { child -> directoryPaths(child) }
+    }
+}
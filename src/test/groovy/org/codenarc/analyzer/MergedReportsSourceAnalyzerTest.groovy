@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.AnalysisContext
+import org.codenarc.report.AbstractReportWriter
+import org.codenarc.report.BinaryResultsReportWriter
+import org.codenarc.report.JsonReportWriter
+import org.codenarc.results.Results
+import org.codenarc.rule.FakePathRule
+import org.codenarc.ruleset.ListRuleSet
+import org.codenarc.ruleset.RuleSet
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+/**
+ * Tests for MergedReportsSourceAnalyzer
+ */
+class MergedReportsSourceAnalyzerTest extends AbstractTestCase {
+
+    private static final String BASE_DIR = 'src/test/resources/sourcewithdirs'
+
+    @TempDir
+    private File tempDir
+
+    private final FakePathRule rule = new FakePathRule()
+    private final RuleSet ruleSet = new ListRuleSet([rule])
+
+    @Test
+    void test_analyze_MergesShardReports_SameResultsAsUnshardedAnalysis() {
+        def unshardedResults = new FilesystemSourceAnalyzer(baseDirectory:BASE_DIR).analyze(ruleSet)
+        def reportFiles = (1..3).collect { index -> writeShardReport(new AnalysisShard(index, 3)) }
+
+        def analyzer = new MergedReportsSourceAnalyzer(reportFiles:reportFiles)
+        def results = analyzer.analyze(ruleSet)
+
+        assert filePaths(results) == filePaths(unshardedResults).sort()
+        assert results.totalNumberOfFiles == unshardedResults.totalNumberOfFiles
+        assert results.getNumberOfViolationsWithPriority(1) == unshardedResults.getNumberOfViolationsWithPriority(1)
+        ['subdir1', 'subdir2', 'subdir2/subdir2a'].each { path ->
+            assert results.findResultsForPath(path).totalNumberOfFiles == unshardedResults.findResultsForPath(path).totalNumberOfFiles
+        }
+        assert results.violations*.message.sort() == unshardedResults.violations*.message.sort()
+        assert results.violations.every { violation -> violation.rule.is(rule) }
+        assert analyzer.sourceDirectories == [BASE_DIR]
+    }
+
+    @Test
+    void test_analyze_BinaryResultsAndJsonReports() {
+        def unshardedResults = new FilesystemSourceAnalyzer(baseDirectory:BASE_DIR).analyze(ruleSet)
+        def reportFiles = [writeShardReport(new AnalysisShard(1, 2)), writeShardReport(new AnalysisShard(2, 2), new BinaryResultsReportWriter(), 'cnr')]
+
+        def analyzer = new MergedReportsSourceAnalyzer(reportFiles:reportFiles)
+        def results = analyzer.analyze(ruleSet)
+
+        assert filePaths(results) == filePaths(unshardedResults).sort()
+        assert results.violations*.message.sort() == unshardedResults.violations*.message.sort()
+        assert results.violations.every { violation -> violation.rule.is(rule) }
+        assert analyzer.sourceDirectories == [BASE_DIR]
+    }
+
+    @Test
+    void test_analyze_SameFileInTwoReports() {
+        def reportFile = writeShardReport(new AnalysisShard(1, 1))
+        def analyzer = new MergedReportsSourceAnalyzer(reportFiles:[reportFile, reportFile])
+        shouldFailWithMessageContaining('more than one report') { analyzer.analyze(ruleSet) }
+    }
+
+    @Test
+    void test_analyze_NoReportFiles() {
+        shouldFailWithMessageContaining('reportFiles') { new MergedReportsSourceAnalyzer().analyze(ruleSet) }
+    }
+
+    private String writeShardReport(AnalysisShard shard, AbstractReportWriter reportWriter=new JsonReportWriter(), String extension='json') {
+        def analyzer = new FilesystemSourceAnalyzer(baseDirectory:BASE_DIR, shard:shard)
+        def results = analyzer.analyze(ruleSet)
+        def reportFile = new File(tempDir, "shard${shard.index}.$extension")
+        def analysisContext = new AnalysisContext(sourceDirectories:analyzer.sourceDirectories, ruleSet:ruleSet)
+        reportWriter.outputFile = reportFile.path
+        reportWriter.writeReport(analysisContext, results)
+        reportFile.path
+    }
+
+    private static List<String> filePaths(Results results) {
+        results.isFile() ? [results.path] : results.children.collectMany { child -> filePaths(child) }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.rule.MockRule
+import org.codenarc.rule.RuleCapability
+import org.codenarc.rule.basic.BigDecimalInstantiationRule
+import org.codenarc.rule.basic.EmptyClassRule
+import org.codenarc.rule.formatting.LineLengthRule
+import org.codenarc.rule.formatting.TrailingWhitespaceRule
+import org.codenarc.rule.generic.IllegalRegexRule
+import org.codenarc.rule.jdbc.DirectConnectionManagementRule
+import org.codenarc.source.SourceString
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+/**
+ * Tests for RuleExecutionPlan
+ */
+class RuleExecutionPlanTest extends AbstractTestCase {
+
+    private static final SourceString SOURCE = new SourceString('class MyClass { }', 'src/MyClass.groovy', 'MyClass.groovy')
+
+    @Test
+    void testTextAndLinesRules() {
+        def plan = RuleExecutionPlan.forSource(SOURCE, [new LineLengthRule(), new TrailingWhitespaceRule(), new IllegalRegexRule(regex:'abc')])
+        assert plan.requiredCapabilities == [RuleCapability.LINES, RuleCapability.TEXT] as Set
+        assert !plan.astRequired
+        assert !plan.parseRequired
+    }
+
+    @Test
+    void testTextOnlyRules_SourceMayContainSuppressions() {
+        def source = new SourceString('@SuppressWarnings("LineLength") class MyClass { }')
+        def plan = RuleExecutionPlan.forSource(source, [new LineLengthRule()])
+        assert !plan.astRequired
+        assert plan.parseRequired
+    }
+
+    @Test
+    void testAstRules() {
+        def plan = RuleExecutionPlan.forSource(SOURCE, [new LineLengthRule(), new EmptyClassRule()])
+        assert plan.requiredCapabilities == [RuleCapability.LINES, RuleCapability.AST] as Set
+        assert plan.astRequired
+        assert plan.parseRequired
+    }
+
+    @Test
+    void testAstNodeIndexVisitorRules() {
+        def plan = RuleExecutionPlan.forSource(SOURCE, [new DirectConnectionManagementRule()])
+        assert plan.requiredCapabilities == [RuleCapability.AST, RuleCapability.AST_NODE_INDEX] as Set
+
+        plan = RuleExecutionPlan.forSource(SOURCE, [new BigDecimalInstantiationRule()])
+        assert plan.requiredCapabilities == [RuleCapability.AST, RuleCapability.AST_NODE_INDEX] as Set
+    }
+
+    @Test
+    void testRuleNotRequiringAnything() {
+        def plan = RuleExecutionPlan.forSource(SOURCE, [])
+        assert plan.requiredCapabilities.isEmpty()
+        assert !plan.parseRequired
+    }
+
+    @Test
+    void testRulesThatDoNotApplyToTheSourceAreIgnored() {
+        def plan = RuleExecutionPlan.forSource(SOURCE, [
+            new LineLengthRule(),
+            new EmptyClassRule(enabled:false),
+            new EmptyClassRule(applyToFileNames:'*Test.groovy'),
+            new EmptyClassRule(doNotApplyToFilesMatching:'.*/MyClass.groovy'),
+            new IllegalRegexRule()])     // not ready, since no regex
+        assert plan.requiredCapabilities == [RuleCapability.LINES] as Set
+    }
+
+    @Test
+    void testApplicableRules_OnlyTheApplicableRulesAreIncluded() {
+        def rules = [new LineLengthRule(), new EmptyClassRule(), new IllegalRegexRule(regex:'abc')]
+        def applicableRules = new BitSet()
+        applicableRules.set(0)
+        applicableRules.set(2)
+        def plan = RuleExecutionPlan.forSource(SOURCE, rules, applicableRules)
+        assert plan.requiredCapabilities == [RuleCapability.LINES, RuleCapability.TEXT] as Set
+    }
+
+    @Test
+    void testRulesOtherThanAbstractRule_RequireTheAst() {
+        def plan = RuleExecutionPlan.forSource(SOURCE, [new MockRule(name:'Rule1')])
+        assert plan.astRequired
+    }
+
+}
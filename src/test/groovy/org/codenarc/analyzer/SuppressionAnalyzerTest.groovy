@@ -557,6 +557,13 @@ class SuppressionAnalyzerTest extends AbstractTestCase {
         assert !analyzer.isRuleSuppressed(new MockRule(name: 'Rule1'))
     }
 
+    @Test
+    void testMayContainSuppressions() {
+        assert !new SuppressionAnalyzer(new SourceString('class MyClass { }')).mayContainSuppressions()
+        assert new SuppressionAnalyzer(new SourceString('@SuppressWarnings("Rule1") class MyClass { }')).mayContainSuppressions()
+        assert new SuppressionAnalyzer(new SourceString('@java.lang.SuppressWarnings("Rule1") class MyClass { }')).mayContainSuppressions()
+    }
+
     private static Violation violationFor(String ruleName, int lineNumber) {
         new Violation(rule: new MockRule(name: ruleName), lineNumber: lineNumber)
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.analyzer
+
+import org.codenarc.rule.StubRule
+import org.codenarc.rule.Violation
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+/**
+ * Tests for ViolationThresholds
+ */
+class ViolationThresholdsTest extends AbstractTestCase {
+
+    private final ViolationThresholds thresholds = new ViolationThresholds(0, 2, Integer.MAX_VALUE)
+
+    @Test
+    void test_recordViolations_WithinMaximums() {
+        assert !thresholds.recordViolations([violation(2), violation(3), violation(2)])
+        assert !thresholds.recordViolations([])
+        assert !thresholds.recordViolations(null)
+
+        assert !thresholds.exceeded
+        assert thresholds.getNumberOfViolationsWithPriority(1) == 0
+        assert thresholds.getNumberOfViolationsWithPriority(2) == 2
+        assert thresholds.getNumberOfViolationsWithPriority(3) == 1
+        assert thresholds.truncatedMessage == null
+    }
+
+    @Test
+    void test_recordViolations_MaximumExceeded() {
+        assert !thresholds.recordViolations([violation(2), violation(2)])
+        assert thresholds.recordViolations([violation(3), violation(2)])
+        assert thresholds.recordViolations([violation(1)])
+
+        assert thresholds.exceeded
+        assert thresholds.truncatedMessage == 'Analysis truncated: p2 violations exceed maximum of 2; 0 file(s) not analyzed'
+    }
+
+    @Test
+    void test_recordViolations_IgnoresOtherPriorities() {
+        assert !thresholds.recordViolations([violation(0), violation(4)])
+        assert !thresholds.exceeded
+    }
+
+    @Test
+    void test_recordSkippedFile() {
+        thresholds.recordViolations([violation(1)])
+        thresholds.recordSkippedFile()
+        thresholds.recordSkippedFile()
+
+        assert thresholds.numberOfSkippedFiles == 2
+        assert thresholds.truncatedMessage == 'Analysis truncated: p1 violations exceed maximum of 0; 2 file(s) not analyzed'
+    }
+
+    private static Violation violation(int priority) {
+        new Violation(rule:new StubRule(priority:priority))
+    }
+}
@@ -20,12 +20,15 @@ import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
 
 import org.apache.tools.ant.Project
 import org.apache.tools.ant.types.FileSet
+import org.codenarc.analyzer.AnalysisCache
 import org.codenarc.analyzer.AnalyzerException
+import org.codenarc.analyzer.FileSchedulingPolicy
 import org.codenarc.results.FileResults
 import org.codenarc.results.Results
 import org.codenarc.rule.FakeCountRule
 import org.codenarc.rule.FakePathRule
 import org.codenarc.rule.StubRule
+import org.codenarc.rule.formatting.LineLengthRule
 import org.codenarc.ruleset.ListRuleSet
 import org.codenarc.test.AbstractTestCase
 import org.junit.jupiter.api.BeforeEach
@@ -107,6 +110,24 @@ class AntFileSetSourceAnalyzerTest extends AbstractTestCase {
         assertResultsCounts(results.findResultsForPath('sourcewithdirs/subdir2/subdir2a'), 1, 1)
     }
 
+    @Test
+    void test_analyze_NestedSubdirectories_SmallFilesBatched() {
+        fileSet.includes = 'sourcewithdirs/**/*.groovy'
+        def analyzer = new AntFileSetSourceAnalyzer(project, fileSet)
+        analyzer.threads = 2
+        analyzer.schedulingPolicy = new FileSchedulingPolicy(smallFileSize:100_000, maxBatchSize:2)
+        def results = analyzer.analyze(ruleSet)
+
+        assertResultsCounts(results, 5, 5)
+        assert getAllResultsPaths(results).findAll { it.endsWith('.groovy') } == [
+                'sourcewithdirs/SourceFile1.groovy',
+                'sourcewithdirs/subdir1/Subdir1File1.groovy',
+                'sourcewithdirs/subdir1/Subdir1File2.groovy',
+                'sourcewithdirs/subdir2/Subdir2File1.groovy',
+                'sourcewithdirs/subdir2/subdir2a/Subdir2aFile1.groovy'
+        ]
+    }
+
     @Test
     void test_analyze_NestedSubdirectories_NoViolations() {
         ruleSet = new ListRuleSet([new FakeCountRule()])
@@ -165,6 +186,81 @@ class AntFileSetSourceAnalyzerTest extends AbstractTestCase {
         log(msg)
     }
 
+    @Test
+    void test_analyze_SourceFilesWithCompileErrors_failOnError_true_lowMemory() {
+        ruleSet = new ListRuleSet([new FakeCountRule()])
+        fileSet.includes = 'sourcewitherrors/**/*.txt'
+        def analyzer = new AntFileSetSourceAnalyzer(project, fileSet)
+        analyzer.failOnError = true
+        analyzer.lowMemory = true
+
+        shouldFail(AnalyzerException) { analyzer.analyze(ruleSet) }
+    }
+
+    @Test
+    void test_analyze_SourceFilesWithCompileErrors_TextOnlyRules() {
+        ruleSet = new ListRuleSet([new LineLengthRule()])
+        fileSet.includes = 'sourcewitherrors/**/*.txt'
+        def analyzer = new AntFileSetSourceAnalyzer(project, fileSet)
+        def results = analyzer.analyze(ruleSet)
+
+        assertResultsCounts(results, 2, 0)
+
+        // No rule requires the AST, so the source files are not compiled
+        def sourceCode = results.findResultsForPath('sourcewitherrors/SourceFileWithCompileError.txt').sourceCode
+        assert !sourceCode.compilationFailed
+    }
+
+    @Test
+    void test_analyze_SourceFilesWithCompileErrors_TextOnlyRules_failOnError_true() {
+        ruleSet = new ListRuleSet([new LineLengthRule()])
+        fileSet.includes = 'sourcewitherrors/**/*.txt'
+        def analyzer = new AntFileSetSourceAnalyzer(project, fileSet)
+        analyzer.failOnError = true
+
+        shouldFail(AnalyzerException) { analyzer.analyze(ruleSet) }
+    }
+
+    @Test
+    void test_analyze_SourceFilesWithCompileErrors_TextOnlyRules_failOnError_true_AnalysisCache() {
+        ruleSet = new ListRuleSet([new LineLengthRule()])
+        fileSet.includes = 'sourcewitherrors/**/*.txt'
+        def cacheFile = File.createTempFile('AntFileSetSourceAnalyzerTest', '.bin')
+        cacheFile.deleteOnExit()
+        cacheFile.delete()
+
+        // Without failOnError, the source files are not compiled, so the violations for both are cached
+        def analyzer = new AntFileSetSourceAnalyzer(project, fileSet)
+        analyzer.analysisCache = new AnalysisCache(cacheFile.path)
+        analyzer.analyze(ruleSet)
+
+        analyzer = new AntFileSetSourceAnalyzer(project, fileSet)
+        analyzer.failOnError = true
+        analyzer.analysisCache = new AnalysisCache(cacheFile.path)
+        shouldFail(AnalyzerException) { analyzer.analyze(ruleSet) }
+        assert analyzer.analysisCache.hits == 2
+    }
+
+    @Test
+    void test_analyze_SourceFilesWithCompileErrors_failOnError_true_AnalysisCache() {
+        fileSet.includes = 'sourcewitherrors/**/*.txt'
+        def cacheFile = File.createTempFile('AntFileSetSourceAnalyzerTest', '.bin')
+        cacheFile.deleteOnExit()
+        cacheFile.delete()
+        def analyzer
+
+        2.times {
+            analyzer = new AntFileSetSourceAnalyzer(project, fileSet)
+            analyzer.failOnError = true
+            analyzer.analysisCache = new AnalysisCache(cacheFile.path)
+            // A new rule each time, since its count is part of the ruleset fingerprint
+            shouldFail(AnalyzerException) { analyzer.analyze(new ListRuleSet([new FakeCountRule()])) }
+        }
+        // The violations for the source file that failed to compile are not cached
+        assert analyzer.analysisCache.hits == 1
+        assert analyzer.analysisCache.misses == 1
+    }
+
     @Test
     void test_analyze_EmptyFileSet() {
         fileSet.excludes = '**/*'
@@ -22,6 +22,7 @@ import org.apache.tools.ant.BuildException
 import org.apache.tools.ant.Project
 import org.apache.tools.ant.types.FileSet
 import org.codenarc.CodeNarcRunner
+import org.codenarc.analyzer.AnalysisTimings
 import org.codenarc.analyzer.AnalyzerException
 import org.codenarc.analyzer.SourceAnalyzer
 import org.codenarc.plugin.baseline.BaselineResultsPlugin
@@ -99,6 +100,43 @@ class CodeNarcTaskTest extends AbstractTestCase {
         assertStandardHtmlReportWriter(codeNarcRunner)
     }
 
+    @Test
+    void testExecute_StreamReports() {
+        def codeNarcRunner = createAndUseFakeCodeNarcRunner()
+
+        codeNarcTask.streamReports = true
+        codeNarcTask.addFileset(fileSet)
+        codeNarcTask.execute()
+
+        assert codeNarcRunner.streamReports == true
+    }
+
+    @Test
+    void testExecute_LowMemory() {
+        def codeNarcRunner = createAndUseFakeCodeNarcRunner()
+
+        codeNarcTask.lowMemory = true
+        codeNarcTask.addFileset(fileSet)
+        codeNarcTask.execute()
+
+        assert codeNarcRunner.lowMemory == true
+    }
+
+    @Test
+    void testExecute_FailFast() {
+        def codeNarcRunner = createAndUseFakeCodeNarcRunner()
+
+        codeNarcTask.failFast = true
+        codeNarcTask.maxPriority2Violations = 5
+        codeNarcTask.addFileset(fileSet)
+        codeNarcTask.execute()
+
+        def thresholds = codeNarcRunner.failFastThresholds
+        assert thresholds.maxPriority1Violations == Integer.MAX_VALUE
+        assert thresholds.maxPriority2Violations == 5
+        assert thresholds.maxPriority3Violations == Integer.MAX_VALUE
+    }
+
     @Test
     void testExecute_TwoRuleSetFiles() {
         def codeNarcRunner = createAndUseFakeCodeNarcRunner()
@@ -172,6 +210,17 @@ class CodeNarcTaskTest extends AbstractTestCase {
         shouldFail(BuildException) { codeNarcTask.execute() }
     }
 
+    @Test
+    void testExecute_TextOnlyRuleSet_SourceFilesWithCompileErrors_failOnError_true() {
+        codeNarcTask.ruleSetFiles = 'rulesets/TextOnlyRuleSet.xml'
+        codeNarcTask.failOnError = true
+        fileSet.includes = 'sourcewitherrors/**/*.txt'
+        codeNarcTask.addConfiguredReport(new Report(type:'ide'))
+        codeNarcTask.addFileset(fileSet)
+
+        shouldFail(BuildException) { codeNarcTask.execute() }
+    }
+
     @Test
     void testAddConfiguredReport() {
         codeNarcTask.addConfiguredReport(new Report(type:'html'))
@@ -268,6 +317,98 @@ class CodeNarcTaskTest extends AbstractTestCase {
         assert sourceAnalyzer.failOnError == true
     }
 
+    @Test
+    void testCreateSourceAnalyzer_Scheduler() {
+        codeNarcTask.scheduler = 'forkjoin'
+        codeNarcTask.threads = 3
+        codeNarcTask.queueSize = 20
+        codeNarcTask.analysisTimeoutSeconds = 99
+        AntFileSetSourceAnalyzer sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+
+        def schedulerFactory = sourceAnalyzer.schedulerFactory
+        assert schedulerFactory.type == 'forkjoin'
+        assert schedulerFactory.threads == 3
+        assert schedulerFactory.queueSize == 20
+        assert schedulerFactory.timeoutSeconds == 99
+    }
+
+    @Test
+    void testCreateSourceAnalyzer_SchedulingPolicy() {
+        codeNarcTask.largestFirst = false
+        codeNarcTask.smallFileSize = 10
+        codeNarcTask.costHistoryFile = 'costs.properties'
+        AntFileSetSourceAnalyzer sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+
+        def schedulingPolicy = sourceAnalyzer.schedulingPolicy
+        assert schedulingPolicy.largestFirst == false
+        assert schedulingPolicy.smallFileSize == 10
+        assert schedulingPolicy.costHistoryFile == 'costs.properties'
+    }
+
+    @Test
+    void testCreateSourceAnalyzer_ParallelRulesMinLines() {
+        codeNarcTask.parallelRulesMinLines = 3000
+        AntFileSetSourceAnalyzer sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+        assert sourceAnalyzer.parallelRulesMinLines == 3000
+        assert !sourceAnalyzer.fusedAstVisitors
+    }
+
+    @Test
+    void testCreateSourceAnalyzer_FusedAstVisitors() {
+        codeNarcTask.fusedAstVisitors = true
+        AntFileSetSourceAnalyzer sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+        assert sourceAnalyzer.fusedAstVisitors
+    }
+
+    @Test
+    void testCreateSourceAnalyzer_Timeouts() {
+        AntFileSetSourceAnalyzer sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+        assert sourceAnalyzer.analysisTimings == null
+
+        codeNarcTask.parseTimeoutMillis = 20000
+        codeNarcTask.ruleTimeoutMillis = 3000
+        sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+        assert sourceAnalyzer.parseTimeoutMillis == 20000
+        assert sourceAnalyzer.ruleTimeoutMillis == 3000
+        assert sourceAnalyzer.analysisTimings.size == AnalysisTimings.DEFAULT_SIZE
+
+        codeNarcTask.slowestCount = 4
+        assert codeNarcTask.createSourceAnalyzer().analysisTimings.size == 4
+    }
+
+    @Test
+    void testCreateSourceAnalyzer_Shard() {
+        assert codeNarcTask.createSourceAnalyzer().shard == null
+
+        codeNarcTask.shard = '2/3'
+        AntFileSetSourceAnalyzer sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+        assert sourceAnalyzer.shard.index == 2
+        assert sourceAnalyzer.shard.count == 3
+
+        codeNarcTask.shard = '4/3'
+        shouldFailWithMessageContaining('shard') { codeNarcTask.createSourceAnalyzer() }
+    }
+
+    @Test
+    void testCreateSourceAnalyzer_Encoding() {
+        assert codeNarcTask.createSourceAnalyzer().encoding == null
+
+        codeNarcTask.encoding = 'ISO-8859-1'
+        assert codeNarcTask.createSourceAnalyzer().encoding == 'ISO-8859-1'
+    }
+
+    @Test
+    void testCreateSourceAnalyzer_AnalysisCache() {
+        AntFileSetSourceAnalyzer sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+        assert sourceAnalyzer.analysisCache == null
+
+        codeNarcTask.cacheFile = 'cache.bin'
+        codeNarcTask.cacheMaxEntries = 77
+        sourceAnalyzer = codeNarcTask.createSourceAnalyzer()
+        assert sourceAnalyzer.analysisCache.cacheFile == 'cache.bin'
+        assert sourceAnalyzer.analysisCache.maxEntries == 77
+    }
+
     //------------------------------------------------------------------------------------
     // Setup and helper methods
     //------------------------------------------------------------------------------------
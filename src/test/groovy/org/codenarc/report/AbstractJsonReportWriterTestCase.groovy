@@ -16,6 +16,7 @@
  */
 package org.codenarc.report
 
+import static org.codenarc.test.TestUtil.captureSystemOut
 import static org.junit.Assert.*
 
 import groovy.json.JsonOutput
@@ -27,6 +28,7 @@ import org.codenarc.rule.imports.DuplicateImportRule
 import org.codenarc.rule.unnecessary.UnnecessaryBooleanInstantiationRule
 import org.codenarc.ruleset.ListRuleSet
 import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
 
 /**
  * Abstract superclass for tests for JSON Report Writers
@@ -36,6 +38,8 @@ import org.junit.jupiter.api.BeforeEach
  */
 abstract class AbstractJsonReportWriterTestCase<T extends AbstractReportWriter> extends AbstractReportWriterTestCase {
 
+    private static final String STREAMED_REPORT_FILE = 'target/StreamedJsonReport.json'
+
     protected analysisContext
     protected results
     protected ruleSet
@@ -71,6 +75,50 @@ abstract class AbstractJsonReportWriterTestCase<T extends AbstractReportWriter>
         return JsonOutput.toJson(jsonMap).replaceAll('\\n|\\r\\n', System.getProperty('line.separator'))
     }
 
+    @Test
+    void testStreaming_WritesSameReportAsWriteReport() {
+        def reportText = writeReportToFile(STREAMED_REPORT_FILE) { reportWriter.writeReport(analysisContext, results) }
+        def streamedReportText = writeReportToFile(STREAMED_REPORT_FILE) { streamReport(analysisContext, results) }
+        assert streamedReportText == reportText
+    }
+
+    @Test
+    void testStreaming_WriteAsSingleLine() {
+        reportWriter.writeAsSingleLine = true
+        def reportText = writeReportToFile(STREAMED_REPORT_FILE) { reportWriter.writeReport(analysisContext, results) }
+        def streamedReportText = writeReportToFile(STREAMED_REPORT_FILE) { streamReport(analysisContext, results) }
+        assert streamedReportText == reportText
+        assert streamedReportText.readLines().size() == 1
+    }
+
+    @Test
+    void testStreaming_WritesToStandardOut() {
+        reportWriter.writeToStandardOut = true
+        def output = captureSystemOut { reportWriter.writeReport(analysisContext, results) }
+        def streamedOutput = captureSystemOut { streamReport(analysisContext, results) }
+        assert streamedOutput == output
+    }
+
+    @Test
+    void testStreaming_NoFiles() {
+        def emptyResults = new DirectoryResults()
+        emptyResults.addChild(new DirectoryResults('src/main'))
+        def reportText = writeReportToFile(STREAMED_REPORT_FILE) { reportWriter.writeReport(analysisContext, emptyResults) }
+        def streamedReportText = writeReportToFile(STREAMED_REPORT_FILE) { streamReport(analysisContext, emptyResults) }
+        assert streamedReportText == reportText
+    }
+
+    @Test
+    void testStreaming_SomeFilesNotStreamed_WritesCompleteReport() {
+        def allFileResults = getAllFileResults(results)
+        def streamedReportText = writeReportToFile(STREAMED_REPORT_FILE) {
+            reportWriter.begin(analysisContext)
+            allFileResults[0..1].each { fileResults -> reportWriter.fileCompleted(fileResults) }
+            reportWriter.end(results)
+        }
+        assertJson(streamedReportText, writeReportToFile(STREAMED_REPORT_FILE) { reportWriter.writeReport(analysisContext, results) })
+    }
+
     @BeforeEach
     void setupAbstractJsonReportWriterTestCase() {
         def srcMainDirResults = new DirectoryResults('src/main')
@@ -15,6 +15,9 @@
  */
 package org.codenarc.report
 
+import org.codenarc.AnalysisContext
+import org.codenarc.results.FileResults
+import org.codenarc.results.Results
 import org.codenarc.rule.StubRule
 import org.codenarc.rule.Violation
 import org.codenarc.test.AbstractTestCase
@@ -65,4 +68,28 @@ abstract class AbstractReportWriterTestCase<T extends ReportWriter> extends Abst
         reportWriter = createReportWriter()
         reportWriter.getTimestamp = { TIMESTAMP_DATE }
     }
+
+    //------------------------------------------------------------------------------------
+    // Helper methods
+    //------------------------------------------------------------------------------------
+
+    // Stream the report, passing each of the files to fileCompleted() in the order of the results
+    protected void streamReport(AnalysisContext analysisContext, Results results) {
+        reportWriter.begin(analysisContext)
+        getAllFileResults(results).each { fileResults -> reportWriter.fileCompleted(fileResults) }
+        reportWriter.end(results)
+    }
+
+    protected String writeReportToFile(String outputFile, Closure writeReport) {
+        reportWriter.outputFile = outputFile
+        writeReport()
+        def reportFile = new File(outputFile)
+        def reportText = reportFile.text
+        reportFile.delete()
+        reportText
+    }
+
+    protected static List<FileResults> getAllFileResults(Results results) {
+        results.isFile() ? [results] : results.children.collectMany { child -> getAllFileResults(child) }
+    }
 }
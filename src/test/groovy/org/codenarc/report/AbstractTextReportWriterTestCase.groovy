@@ -103,6 +103,34 @@ abstract class AbstractTextReportWriterTestCase<T extends ReportWriter> extends
         shouldFailWithMessageContaining('analysisContext') { reportWriter.writeReport(null, results) }
     }
 
+    @Test
+    void testStreaming_WritesSameReportAsWriteReport() {
+        def reportText = writeReportToFile(NEW_REPORT_FILE) { reportWriter.writeReport(analysisContext, results) }
+        def streamedReportText = writeReportToFile(NEW_REPORT_FILE) { streamReport(analysisContext, results) }
+        assert streamedReportText == reportText
+        assertReportText(streamedReportText, getReportText())
+    }
+
+    @Test
+    void testStreaming_WritesToStandardOut() {
+        reportWriter.writeToStandardOut = true
+        def output = captureSystemOut {
+            streamReport(analysisContext, results)
+        }
+        assertReportText(output, getReportText())
+    }
+
+    @Test
+    void testStreaming_SomeFilesNotStreamed_WritesCompleteReport() {
+        reportWriter.writeToStandardOut = true
+        def output = captureSystemOut {
+            reportWriter.begin(analysisContext)
+            reportWriter.fileCompleted(getAllFileResults(results)[2])
+            reportWriter.end(results)
+        }
+        assertReportText(output, getReportText())
+    }
+
     @Test
     void testDefaultOutputFile_CodeNarcReport() {
         assert reportWriter.defaultOutputFile == 'CodeNarcReport.txt'
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import static org.codenarc.test.TestUtil.shouldFail
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.AnalysisContext
+import org.codenarc.results.DirectoryResults
+import org.codenarc.results.FileResults
+import org.codenarc.results.Results
+import org.codenarc.rule.StubRule
+import org.codenarc.rule.Violation
+import org.codenarc.ruleset.ListRuleSet
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+/**
+ * Tests for BinaryResultsReportWriter and BinaryResultsParser
+ */
+class BinaryResultsReportWriterTest extends AbstractTestCase {
+
+    private static final RULE1 = new StubRule(name:'Rule1', priority:1)
+    private static final RULE2 = new StubRule(name:'Rule2', priority:2)
+    private static final RULE3 = new StubRule(name:'Rule3', priority:3)
+
+    @TempDir
+    private File tempDir
+
+    private final BinaryResultsReportWriter reportWriter = new BinaryResultsReportWriter()
+    private final BinaryResultsParser parser = new BinaryResultsParser()
+    private final AnalysisContext analysisContext = new AnalysisContext(sourceDirectories:['src/main/groovy'],
+            ruleSet:new ListRuleSet([RULE1, RULE2, RULE3]))
+
+    @Test
+    void test_RoundTrip() {
+        def violation1 = new Violation(rule:RULE1, lineNumber:11, sourceLine:'def x = "é<&>"', message:'Message 1')
+        def violation2 = new Violation(rule:RULE2, lineNumber:0)
+        def violation3 = new Violation(rule:RULE3, message:'Message 3')
+        def results = buildResults(
+                new FileResults('Root.groovy', []),
+                new FileResults('src/a/A.groovy', [violation1, violation2]),
+                new FileResults('src/B.groovy', [violation3]))
+
+        def report = parser.parseBinaryResults(writeResults(results), [Rule1:RULE1, Rule3:new StubRule(name:'Rule3', priority:2)])
+
+        assert report.sourceDirectories == ['src/main/groovy']
+        assert report.fileResults*.path == ['Root.groovy', 'src/a/A.groovy', 'src/B.groovy']
+        assert report.fileResults[0].violations == []
+
+        def violations = report.fileResults[1].violations
+        assert violations*.lineNumber == [11, 0]
+        assert violations*.sourceLine == ['def x = "é<&>"', null]
+        assert violations*.message == ['Message 1', null]
+        assert violations[0].rule.is(RULE1)
+        assert violations[1].rule.name == 'Rule2'
+        assert violations[1].rule.priority == 2
+
+        // Different priority from the rule with the same name, so not that rule
+        def reportedRule3 = report.fileResults[2].violations[0].rule
+        assert reportedRule3.name == 'Rule3'
+        assert reportedRule3.priority == 3
+        assert report.fileResults[2].violations[0].lineNumber == null
+        assert report.fileResults[2].violations[0].message == 'Message 3'
+    }
+
+    @Test
+    void test_RoundTrip_ManyViolations_StringsStoredOnce() {
+        def fileResults = (1..200).collect { fileIndex ->
+            def violations = (1..50).collect { line ->
+                new Violation(rule:[RULE1, RULE2, RULE3][line % 3], lineNumber:line * 1000, sourceLine:'println "abc"', message:'Same message')
+            }
+            new FileResults("src/File${fileIndex}.groovy", violations)
+        }
+        def bytes = writeResults(buildResults(*fileResults)).bytes
+
+        def report = parser.parseBinaryResults(new ByteArrayInputStream(bytes), [:])
+
+        assert report.fileResults*.path == fileResults*.path
+        assert report.fileResults*.violations*.size() == fileResults*.violations*.size()
+        assert report.fileResults[199].violations*.lineNumber == (1..50).collect { line -> line * 1000 }
+        assert report.fileResults[5].violations*.rule*.name == fileResults[5].violations*.rule*.name
+        assert bytes.length < 10 * 200 * 50 / 8, "bytes.length=${bytes.length}"
+    }
+
+    @Test
+    void test_writeReport_WritesToOutputFile() {
+        def outputFile = new File(tempDir, 'reports/results.cnr')
+        reportWriter.outputFile = outputFile.path
+        def results = buildResults(new FileResults('src/A.groovy', [new Violation(rule:RULE2, lineNumber:3)]))
+
+        reportWriter.writeReport(analysisContext, results)
+
+        def report = outputFile.withInputStream { input -> parser.parseBinaryResults(input, [Rule2:RULE2]) }
+        assert report.fileResults*.path == ['src/A.groovy']
+        assert report.fileResults[0].violations[0].rule.is(RULE2)
+    }
+
+    @Test
+    void test_DefaultOutputFile() {
+        assert reportWriter.defaultOutputFile == 'CodeNarcResults.cnr'
+    }
+
+    @Test
+    void test_writeReport_Writer_NotSupported() {
+        shouldFail(UnsupportedOperationException) { reportWriter.writeReport(new StringWriter(), analysisContext, buildResults()) }
+    }
+
+    @Test
+    void test_parseBinaryResults_NotBinaryResults() {
+        shouldFailWithMessageContaining('Not a CodeNarc binary results file') {
+            parser.parseBinaryResults(new ByteArrayInputStream('{"abc": 1}'.bytes), [:])
+        }
+    }
+
+    @Test
+    void test_parseBinaryResults_UnsupportedVersion() {
+        def bytes = writeResults(buildResults()).bytes
+        bytes[BinaryResultsReportWriter.SIGNATURE.length] = 99
+        shouldFailWithMessageContaining('[99]') { parser.parseBinaryResults(new ByteArrayInputStream(bytes), [:]) }
+    }
+
+    @Test
+    void test_isBinaryResults() {
+        assert BinaryResultsParser.isBinaryResults(writeResults(buildResults()))
+        assert !BinaryResultsParser.isBinaryResults(new ByteArrayInputStream('CN'.bytes))
+    }
+
+    private ByteArrayInputStream writeResults(Results results) {
+        def outputStream = new ByteArrayOutputStream()
+        reportWriter.writeResults(outputStream, analysisContext, results)
+        new ByteArrayInputStream(outputStream.toByteArray())
+    }
+
+    private static Results buildResults(FileResults... fileResults) {
+        def baseDirResults = new DirectoryResults('')
+        fileResults.each { results -> baseDirResults.addFileResultRecursive(results) }
+        def results = new DirectoryResults()
+        results.addChild(baseDirResults)
+        results
+    }
+}
@@ -15,6 +15,9 @@
  */
 package org.codenarc.report
 
+import org.codenarc.analyzer.AnalysisTimings
+import org.junit.jupiter.api.Test
+
 /**
  * Tests for CompactTextReportWriter
  *
@@ -40,6 +43,26 @@ class CompactTextReportWriterTest extends AbstractTextReportWriterTestCase<Compa
         |src/main/dao/MyOtherDao.groovy:111:Rule1 null
     '''.trim().stripMargin()
 
+    @Test
+    void testWriteReport_AnalysisTimings_NotWritten() {
+        def analysisTimings = new AnalysisTimings()
+        analysisTimings.recordFile('src/main/MyAction.groovy', 25_000_000L)
+        analysisContext.analysisTimings = analysisTimings
+
+        reportWriter.writeReport(stringWriter, analysisContext, results)
+
+        assertReportText(stringWriter.toString(), REPORT_TEXT)
+    }
+
+    @Test
+    void testWriteReport_TruncatedMessage_NotWritten() {
+        analysisContext.truncatedMessage = 'Analysis truncated: p1 violations exceed maximum of 2; 7 file(s) not analyzed'
+
+        reportWriter.writeReport(stringWriter, analysisContext, results)
+
+        assertReportText(stringWriter.toString(), REPORT_TEXT)
+    }
+
     @Override
     protected CompactTextReportWriter createReportWriter() {
         return new CompactTextReportWriter()
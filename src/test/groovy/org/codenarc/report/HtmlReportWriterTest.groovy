@@ -53,6 +53,13 @@ class HtmlReportWriterTest extends AbstractHtmlReportWriterTestCase<HtmlReportWr
         assert !reportText.contains('MyRuleZZ')
     }
 
+    @Test
+    void testWriteReport_TruncatedMessage() {
+        analysisContext.truncatedMessage = 'Analysis truncated: p1 violations exceed maximum of 2; 7 file(s) not analyzed'
+        def reportText = getReportText()
+        assert reportText.contains("</table></div><div class='truncated'>Analysis truncated: p1 violations exceed maximum of 2; 7 file(s) not analyzed</div><div class='summary'><h2>Summary</h2>")
+    }
+
     @Test
     void testWriteReport_IncludesRuleThatDoesNotSupportGetDescription() {
         analysisContext.ruleSet = new ListRuleSet([ [getName:{ 'RuleABC' }, getPriority: { 2 } ] as Rule])
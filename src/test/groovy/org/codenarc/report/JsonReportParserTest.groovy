@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.AnalysisContext
+import org.codenarc.results.DirectoryResults
+import org.codenarc.results.FileResults
+import org.codenarc.rule.StubRule
+import org.codenarc.rule.Violation
+import org.codenarc.ruleset.ListRuleSet
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+/**
+ * Tests for JsonReportParser
+ */
+class JsonReportParserTest extends AbstractTestCase {
+
+    private static final RULE1 = new StubRule(name:'Rule1', priority:1)
+    private static final RULE2 = new StubRule(name:'Rule2', priority:2)
+    private static final RULE3 = new StubRule(name:'Rule3', priority:3)
+
+    private final JsonReportParser parser = new JsonReportParser()
+
+    @Test
+    void test_parseJsonReport_RoundTrip() {
+        def violation1 = new Violation(rule:RULE1, lineNumber:11, sourceLine:'def x = "<&>"', message:'Message 1')
+        def violation2 = new Violation(rule:RULE2, lineNumber:22)
+        def violation3 = new Violation(rule:RULE3, message:'Message 3')
+        def baseDirResults = new DirectoryResults('')
+        baseDirResults.addFileResultRecursive(new FileResults('Root.groovy', []))
+        baseDirResults.addFileResultRecursive(new FileResults('src/a/A.groovy', [violation1, violation2]))
+        baseDirResults.addFileResultRecursive(new FileResults('src/B.groovy', [violation3]))
+        def results = new DirectoryResults()
+        results.addChild(baseDirResults)
+        def writer = new StringWriter()
+        def analysisContext = new AnalysisContext(sourceDirectories:['src/main/groovy'], ruleSet:new ListRuleSet([RULE1, RULE2, RULE3]))
+        new JsonReportWriter().writeReport(writer, analysisContext, results)
+
+        def report = parser.parseJsonReport(new StringReader(writer.toString()), [Rule1:RULE1, Rule3:new StubRule(name:'Rule3', priority:2)])
+
+        assert report.sourceDirectories == ['src/main/groovy']
+        assert report.fileResults*.path == ['Root.groovy', 'src/B.groovy', 'src/a/A.groovy']
+        assert report.fileResults[0].violations == []
+
+        def violations = report.fileResults[2].violations
+        assert violations*.lineNumber == [11, 22]
+        assert violations*.sourceLine == ['def x = "<&>"', null]
+        assert violations*.message == ['Message 1', null]
+        assert violations[0].rule.is(RULE1)
+        assert violations[1].rule.name == 'Rule2'
+        assert violations[1].rule.priority == 2
+
+        // Different priority from the rule with the same name, so not that rule
+        def reportedRule3 = report.fileResults[1].violations[0].rule
+        assert reportedRule3.name == 'Rule3'
+        assert reportedRule3.priority == 3
+        assert report.fileResults[1].violations[0].lineNumber == null
+    }
+
+    @Test
+    void test_parseJsonReport_NotJsonReport() {
+        shouldFailWithMessageContaining('JSON report') { parser.parseJsonReport(new StringReader('{"abc": 1}'), [:]) }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.report
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+
+/**
+ * Tests for ReportSectionSpool
+ */
+class ReportSectionSpoolTest extends AbstractTestCase {
+
+    private final ReportSectionSpool spool = new ReportSectionSpool()
+
+    @Test
+    void test_getSection() {
+        spool.putSection('a/A.groovy', 'Section A\n')
+        spool.putSection('b/B.groovy', '')
+        spool.putSection('C.groovy', 'Section C: é中')
+
+        assert spool.getSection('C.groovy') == 'Section C: é中'
+        assert spool.getSection('a/A.groovy') == 'Section A\n'
+        assert spool.getSection('b/B.groovy') == ''
+        assert spool.getSection('Other.groovy') == null
+        assert spool.hasSection('b/B.groovy')
+        assert !spool.hasSection('Other.groovy')
+    }
+
+    @Test
+    void test_putSection_SameKey_ReplacesSection() {
+        spool.putSection('A.groovy', 'old')
+        spool.putSection('A.groovy', 'new')
+        assert spool.getSection('A.groovy') == 'new'
+    }
+
+    @Test
+    void test_putSection_AfterGetSection() {
+        spool.putSection('A.groovy', 'A')
+        spool.getSection('A.groovy')
+        shouldFailWithMessageContaining('read') { spool.putSection('B.groovy', 'B') }
+    }
+
+    @Test
+    void test_close_DeletesFile() {
+        spool.putSection('A.groovy', 'A')
+        File file = spool.@file
+        assert file.exists()
+        spool.close()
+        assert !file.exists()
+    }
+
+    @AfterEach
+    void afterEach() {
+        spool.close()
+    }
+
+}
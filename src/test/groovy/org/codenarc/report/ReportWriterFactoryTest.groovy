@@ -73,6 +73,11 @@ class ReportWriterFactoryTest extends AbstractTestCase {
         assert reportWriter.writeToStandardOut
     }
 
+    @Test
+    void testGetReportWriter_Binary() {
+        assert reportWriterFactory.getReportWriter('binary').class == BinaryResultsReportWriter
+    }
+
     @Test
     void testGetReportWriter_Sortable() {
         def reportWriter = reportWriterFactory.getReportWriter('sortable')
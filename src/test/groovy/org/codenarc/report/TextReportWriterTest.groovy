@@ -15,6 +15,9 @@
  */
 package org.codenarc.report
 
+import org.codenarc.analyzer.AnalysisTimings
+import org.junit.jupiter.api.Test
+
 /**
  * Tests for TestReportWriter
  *
@@ -60,6 +63,47 @@ File: src/main/dao/MyOtherDao.groovy
 [CodeNarc (${CODENARC_URL}) v${version()}]
 """.trim()
 
+    @Test
+    void testWriteReport_TruncatedMessage() {
+        analysisContext.truncatedMessage = 'Analysis truncated: p1 violations exceed maximum of 2; 7 file(s) not analyzed'
+
+        reportWriter.writeReport(stringWriter, analysisContext, results)
+
+        assert stringWriter.toString().contains('''
+Summary: TotalFiles=4 FilesWithViolations=3 P1=3 P2=0 P3=5
+Analysis truncated: p1 violations exceed maximum of 2; 7 file(s) not analyzed
+
+File: src/main/MyAction.groovy
+''')
+    }
+
+    @Test
+    void testWriteReport_AnalysisTimings() {
+        def analysisTimings = new AnalysisTimings()
+        analysisTimings.recordFile('src/main/MyAction.groovy', 25_000_000L)
+        analysisTimings.recordRule('src/main/MyAction.groovy', 'Rule1', 12_000_000L)
+        analysisTimings.recordTimeout('src/main/dao/MyDao.groovy', 'Rule3', 500)
+        analysisContext.analysisTimings = analysisTimings
+
+        reportWriter.writeReport(stringWriter, analysisContext, results)
+
+        def timingsText = """
+File: src/main/dao/MyOtherDao.groovy
+    Violation: Rule=Rule1 P=1 Line=111 Src=[if (count < 23 && index <= 99 && name.contains('\u0000')) {]
+    Violation: Rule=Rule2 P=3 Line=222 Msg=[bad stuff: !@#\$%^&*()_+<>]
+
+Analysis timeouts:
+    Rule=Rule3 File=src/main/dao/MyDao.groovy Timeout=500ms
+Slowest files:
+    25ms File=src/main/MyAction.groovy
+Slowest rules:
+    12ms Rule=Rule1 File=src/main/MyAction.groovy
+
+[CodeNarc (${CODENARC_URL}) v${version()}]
+"""
+        assert stringWriter.toString().endsWith(timingsText)
+    }
+
     @Override
     protected TextReportWriter createReportWriter() {
         return new TextReportWriter(title:TITLE)
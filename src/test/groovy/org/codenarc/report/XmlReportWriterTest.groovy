@@ -132,6 +132,24 @@ class XmlReportWriterTest extends AbstractXmlReportWriterTestCase<XmlReportWrite
         assertXml(xmlAsString, REPORT_XML)
     }
 
+    @Test
+    void testStreaming_WritesSameReportAsWriteReport() {
+        def xmlAsString = writeReportToFile(NEW_REPORT_FILE) { reportWriter.writeReport(analysisContext, results) }
+        def streamedXmlAsString = writeReportToFile(NEW_REPORT_FILE) { streamReport(analysisContext, results) }
+        assert streamedXmlAsString == xmlAsString
+        assertXml(streamedXmlAsString, REPORT_XML)
+    }
+
+    @Test
+    void testStreaming_SomeFilesNotStreamed_WritesCompleteReport() {
+        def streamedXmlAsString = writeReportToFile(NEW_REPORT_FILE) {
+            reportWriter.begin(analysisContext)
+            reportWriter.fileCompleted(getAllFileResults(results)[0])
+            reportWriter.end(results)
+        }
+        assertXml(streamedXmlAsString, REPORT_XML)
+    }
+
     @Test
     void testWriteReport_NullResults() {
         shouldFailWithMessageContaining('results') { reportWriter.writeReport(analysisContext, null) }
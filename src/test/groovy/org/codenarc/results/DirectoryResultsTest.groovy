@@ -190,4 +190,47 @@ class DirectoryResultsTest extends AbstractTestCase {
         assert file5Res == fileResults5
     }
 
+    @Test
+    void testReplaceFileResults() {
+        def results = new DirectoryResults('')
+        def fileResults1 = new FileResults('file1.groovy', [VIOLATION1])
+        def fileResults2 = new FileResults('subdir/file2.groovy', [VIOLATION1])
+        def fileResults3 = new FileResults('subdir/file3.groovy', [])
+        [fileResults1, fileResults2, fileResults3].each { results.addFileResultRecursive(it) }
+
+        def newFileResults2 = new FileResults('subdir/file2.groovy', [VIOLATION2, VIOLATION3])
+        results.replaceFileResults(newFileResults2)
+        assert results.findResultsForPath('subdir').children == [newFileResults2, fileResults3]
+
+        def newFileResults4 = new FileResults('other/file4.groovy', [VIOLATION7])
+        results.replaceFileResults(newFileResults4)
+        assert results.findResultsForPath('other').children == [newFileResults4]
+        assert results.violations == [VIOLATION1, VIOLATION2, VIOLATION3, VIOLATION7]
+        assert results.getTotalNumberOfFiles() == 4
+    }
+
+    @Test
+    void testRemoveResults() {
+        def results = new DirectoryResults('')
+        def fileResults1 = new FileResults('file1.groovy', [VIOLATION1])
+        def fileResults2 = new FileResults('subdir/file2.groovy', [VIOLATION2])
+        def fileResults3 = new FileResults('subdir/file3.groovy', [VIOLATION3])
+        def fileResults4 = new FileResults('subdir/sub2/file4.groovy', [VIOLATION7])
+        [fileResults1, fileResults2, fileResults3, fileResults4].each { results.addFileResultRecursive(it) }
+
+        assert results.removeResults('subdir/file2.groovy')
+        assert results.findResultsForPath('subdir').children*.path == ['subdir/file3.groovy', 'subdir/sub2']
+
+        // Directory left without files is removed
+        assert results.removeResults('subdir/sub2/file4.groovy')
+        assert results.findResultsForPath('subdir/sub2') == null
+
+        assert !results.removeResults('unknown.groovy')
+
+        // Remove a whole directory
+        assert results.removeResults('subdir')
+        assert results.children == [fileResults1]
+        assert results.getTotalNumberOfFiles() == 1
+    }
+
 }
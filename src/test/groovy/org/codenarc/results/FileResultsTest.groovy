@@ -18,6 +18,8 @@ package org.codenarc.results
 import org.codenarc.rule.StubRule
 import org.codenarc.rule.Violation
 import org.codenarc.source.SourceCode
+import org.codenarc.source.SourceLines
+import org.codenarc.source.SourceString
 import org.codenarc.test.AbstractTestCase
 import org.junit.jupiter.api.Test
 
@@ -61,6 +63,31 @@ class FileResultsTest extends AbstractTestCase {
         assert results.sourceCode == SOURCE_CODE
     }
 
+    @Test
+    void test_releaseSourceCode() {
+        def sourceCode = new SourceString('class MyClass {\n    int count\n}\n', 'src/MyClass.groovy', 'MyClass.groovy')
+        def results = new FileResults(PATH, [VIOLATION1, VIOLATION2], sourceCode)
+        results.releaseSourceCode()
+
+        def retainedSourceCode = results.sourceCode
+        assert retainedSourceCode instanceof SourceLines
+        assert retainedSourceCode.path == 'src/MyClass.groovy'
+        assert retainedSourceCode.name == 'MyClass.groovy'
+        assert retainedSourceCode.lines == sourceCode.lines
+        assert results.path == PATH
+        assert results.violations == [VIOLATION1, VIOLATION2]
+
+        results.releaseSourceCode()
+        assert results.sourceCode.is(retainedSourceCode)
+    }
+
+    @Test
+    void test_releaseSourceCode_NoSourceCode() {
+        def results = new FileResults(PATH, [VIOLATION1])
+        results.releaseSourceCode()
+        assert results.sourceCode == null
+    }
+
     @Test
     void test_Violations() {
         def results = new FileResults(PATH, [VIOLATION1, VIOLATION3, VIOLATION7, VIOLATION3, VIOLATION1, VIOLATION2, VIOLATION4])
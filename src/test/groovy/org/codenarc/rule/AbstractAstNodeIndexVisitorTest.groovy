@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule
+
+import org.codehaus.groovy.ast.ASTNode
+import org.codehaus.groovy.ast.AnnotationNode
+import org.codehaus.groovy.ast.ClassNode
+import org.codehaus.groovy.ast.expr.ConstantExpression
+import org.codehaus.groovy.ast.expr.ConstructorCallExpression
+import org.codehaus.groovy.ast.expr.MethodCallExpression
+import org.codenarc.source.SourceString
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+/**
+ * Tests for AbstractAstNodeIndexVisitor
+ */
+class AbstractAstNodeIndexVisitorTest extends AbstractTestCase {
+
+    private static final SOURCE = '''
+        @Deprecated
+        class MyClass {
+            def date = new Date()
+
+            def doStuff() {
+                process(new File(new String('a.txt')))
+            }
+        }
+    '''
+
+    @Test
+    void testVisitsOnlyTheIndexedNodesOfTheVisitedNodeTypes_InOrder() {
+        def visitor = visit(new FakeAstNodeIndexVisitor(visitedNodeTypes:[ConstructorCallExpression, AnnotationNode] as Set))
+        assert visitor.visitedNodes == ['@Deprecated', 'new Date():null', 'new File(new String(a.txt)):doStuff', 'new String(a.txt):doStuff']
+        assert visitor.classesVisited == ['MyClass', 'MyClass']
+    }
+
+    @Test
+    void testVisitedNodeTypesMustBeIndexed() {
+        def visitor = new FakeAstNodeIndexVisitor(visitedNodeTypes:[ConstantExpression] as Set)
+        shouldFailWithMessageContaining('visitedNodeTypes') { visit(visitor) }
+    }
+
+    @Test
+    void testRequiredCapabilities() {
+        def rule = new FakeAstVisitorRule(astVisitorClass:FakeAstNodeIndexVisitor)
+        assert rule.requiredCapabilities == [RuleCapability.AST, RuleCapability.AST_NODE_INDEX] as Set
+    }
+
+    private static FakeAstNodeIndexVisitor visit(FakeAstNodeIndexVisitor visitor) {
+        def sourceCode = new SourceString(SOURCE)
+        visitor.sourceCode = sourceCode
+        visitor.rule = new FakeAstVisitorRule()
+        visitor.visitClass(sourceCode.ast.classes[0])
+        visitor
+    }
+}
+
+// Test AbstractAstNodeIndexVisitor implementation class
+class FakeAstNodeIndexVisitor extends AbstractAstNodeIndexVisitor {
+    Set<Class<? extends ASTNode>> visitedNodeTypes
+    final List<String> visitedNodes = []
+    final List<String> classesVisited = []
+
+    @Override
+    protected void visitClassEx(ClassNode node) {
+        classesVisited << node.name
+    }
+
+    @Override
+    protected void visitClassComplete(ClassNode node) {
+        classesVisited << node.name
+    }
+
+    @Override
+    void visitConstructorCallExpression(ConstructorCallExpression call) {
+        visitedNodes << "${call.text}:${currentMethodNode?.name}".toString()
+    }
+
+    @Override
+    void visitMethodCallExpression(MethodCallExpression call) {
+        visitedNodes << call.text
+    }
+
+    @Override
+    protected void visitAnnotation(AnnotationNode node) {
+        visitedNodes << "@${node.classNode.name}".toString()
+    }
+}
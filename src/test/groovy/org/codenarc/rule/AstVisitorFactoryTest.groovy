@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule
+
+import org.codehaus.groovy.ast.ClassNode
+import org.codehaus.groovy.ast.expr.MethodCallExpression
+import org.codenarc.source.SourceString
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+/**
+ * Tests for AstVisitorFactory, and its use by AbstractAstVisitorRule
+ */
+class AstVisitorFactoryTest extends AbstractTestCase {
+
+    private static final SOURCE = '''
+        class MyClass {
+            def myMethod() { process(); process() }
+        }
+        class OtherClass {
+            def other() { process() }
+        }
+    '''
+
+    @Test
+    void testForClass_SameFactoryForEachClass() {
+        assert AstVisitorFactory.forClass(RecordingAstVisitor).is(AstVisitorFactory.forClass(RecordingAstVisitor))
+        assert !AstVisitorFactory.forClass(RecordingAstVisitor).is(AstVisitorFactory.forClass(FakeAstVisitor))
+    }
+
+    @Test
+    void testForClass_NotAnAstVisitor() {
+        shouldFailWithMessageContaining('AstVisitor') { AstVisitorFactory.forClass(String) }
+    }
+
+    @Test
+    void testNewVisitor() {
+        def factory = AstVisitorFactory.forClass(RecordingAstVisitor)
+        def visitor = factory.newVisitor()
+        assert visitor instanceof RecordingAstVisitor
+        assert !factory.newVisitor().is(visitor)
+    }
+
+    @Test
+    void testAbstractAstVisitorRule_NewVisitorForEachClass() {
+        def rule = new FakeAstVisitorRule(astVisitorClass:RecordingAstVisitor)
+        def violations = rule.applyTo(new SourceString(SOURCE))
+        assert violations*.message == ['process', 'process']
+        assert RecordingAstVisitor.instances.size() == 2
+        assert !RecordingAstVisitor.instances[0].is(RecordingAstVisitor.instances[1])
+    }
+
+    @Test
+    void testAbstractAstVisitorRule_GetAstVisitor_ReturnsNewVisitor() {
+        def rule = new FakeAstVisitorRule(astVisitorClass:RecordingAstVisitor)
+        assert rule.astVisitor instanceof RecordingAstVisitor
+        assert !rule.astVisitor.is(rule.astVisitor)
+    }
+
+    @BeforeEach
+    void setUpAstVisitorFactoryTest() {
+        RecordingAstVisitor.instances.clear()
+    }
+}
+
+// Test AstVisitor class, which records each instance that visits a class
+class RecordingAstVisitor extends AbstractAstVisitor {
+    static final List<RecordingAstVisitor> instances = []
+
+    @Override
+    protected void visitClassEx(ClassNode node) {
+        instances << this
+    }
+
+    @Override
+    void visitMethodCallExpression(MethodCallExpression call) {
+        if (isFirstVisit(call.methodAsString)) {
+            addViolation(call, call.methodAsString)
+        }
+        super.visitMethodCallExpression(call)
+    }
+}
@@ -28,11 +28,11 @@ class FakeCountRule extends AbstractRule {
     int count = 0
 
     /**
-     * Increment count and add no violations
+     * Increment count and add no violations. Synchronized so that it can be used by parallel analyzers.
      * @param sourceCode - the sourceCode to which the rule is applied
      */
     @Override
-    void applyTo(SourceCode sourceCode, List<Violation> violations) {
+    synchronized void applyTo(SourceCode sourceCode, List<Violation> violations) {
         count ++
     }
 }
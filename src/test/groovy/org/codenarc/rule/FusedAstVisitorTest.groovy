@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule
+
+import org.codehaus.groovy.ast.MethodNode
+import org.codehaus.groovy.ast.expr.ClosureExpression
+import org.codehaus.groovy.ast.expr.MethodCallExpression
+import org.codenarc.rule.basic.ComparisonWithSelfRule
+import org.codenarc.rule.basic.ConstantIfExpressionRule
+import org.codenarc.rule.basic.EmptyIfStatementRule
+import org.codenarc.rule.convention.NoDefRule
+import org.codenarc.rule.groovyism.ExplicitCallToEqualsMethodRule
+import org.codenarc.rule.size.NestedBlockDepthRule
+import org.codenarc.rule.unnecessary.UnnecessaryBooleanInstantiationRule
+import org.codenarc.source.SourceCode
+import org.codenarc.source.SourceString
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+import static org.codenarc.test.TestUtil.shouldFail
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+/**
+ * Tests for FusedAstVisitor
+ */
+class FusedAstVisitorTest extends AbstractTestCase {
+
+    private static final SOURCE = '''
+        class MyClass {
+            def myMethod(int count = defaultCount()) {
+                [1, 2].each { item -> println item }
+                process('abc')
+                println 'done'
+            }
+        }
+        class OtherClass {
+            def other() { println 'other' }
+        }
+    '''
+
+    private final SourceCode sourceCode = new SourceString(SOURCE)
+
+    @Test
+    void testAppliesRulesWithOneTraversalOfEachClass() {
+        def rules = [rule('Calls'), rule('Skip', SkipClosuresAstVisitor), rule('FirstVisit', FirstVisitAstVisitor)]
+        def fusedAstVisitor = new FusedAstVisitor(rules)
+
+        def violationsByRule = fusedAstVisitor.applyTo(sourceCode)
+
+        assert messages(violationsByRule[0]) == ['MyClass.defaultCount', 'MyClass.each', 'MyClass.println', 'MyClass.process',
+            'MyClass.println', 'OtherClass.println']
+        assert messages(violationsByRule[1]) == ['MyClass.defaultCount', 'MyClass.each', 'MyClass.process', 'MyClass.println',
+            'OtherClass.println']
+        assert messages(violationsByRule[2]) == ['MyClass.defaultCount', 'MyClass.each', 'MyClass.println', 'MyClass.process',
+            'OtherClass.println']
+        assertSameViolationsAsEachRule(rules, violationsByRule)
+        assert fusedAstVisitor.classTraversalCount == 2
+    }
+
+    @Test
+    void testMethodHooks() {
+        def rules = [rule('Methods', MethodHooksAstVisitor), rule('Calls')]
+        def violationsByRule = new FusedAstVisitor(rules).applyTo(sourceCode)
+        assert messages(violationsByRule[0]) == ['start:myMethod', 'MyClass.defaultCount', 'end:myMethod', 'MyClass.each',
+            'MyClass.println', 'MyClass.process', 'MyClass.println']
+        assertSameViolationsAsEachRule(rules, violationsByRule)
+    }
+
+    @Test
+    void testApplyToClassNamesAndDoNotApplyToClassNames() {
+        def rules = [rule('Other', MethodCallRecordingAstVisitor, [applyToClassNames:'Other*']),
+                     rule('NotOther', MethodCallRecordingAstVisitor, [doNotApplyToClassNames:'OtherClass']),
+                     rule('None', MethodCallRecordingAstVisitor, [applyToClassNames:'NoSuchClass'])]
+        def fusedAstVisitor = new FusedAstVisitor(rules)
+
+        def violationsByRule = fusedAstVisitor.applyTo(sourceCode)
+
+        assert messages(violationsByRule[0]) == ['OtherClass.println']
+        assert messages(violationsByRule[1]).every { it.startsWith('MyClass') }
+        assert violationsByRule[2].isEmpty()
+        assertSameViolationsAsEachRule(rules, violationsByRule)
+        assert fusedAstVisitor.classTraversalCount == 2
+    }
+
+    @Test
+    void testApplicabilityForOtherRulesToo_ApplyToClassNamesAndDoNotApplyToClassNames() {
+        def rules = [rule('Other', MethodCallRecordingAstVisitor, [applyToClassNames:'Other*']),
+                     rule('NotOther', MethodCallRecordingAstVisitor, [doNotApplyToClassNames:'OtherClass'])]
+        def applicability = RuleApplicability.forRules([new MockRule(name:'Mock'), rules[1], rule('Unused'), rules[0]])
+
+        def violationsByRule = new FusedAstVisitor(rules, applicability).applyTo(sourceCode)
+
+        assert messages(violationsByRule[0]) == ['OtherClass.println']
+        assert messages(violationsByRule[1]).every { it.startsWith('MyClass') }
+        assertSameViolationsAsEachRule(rules, violationsByRule)
+    }
+
+    @Test
+    void testControlsOwnTraversal_VisitorWalksEachClassItself() {
+        def rules = [rule('Calls'), rule('Own', OwnTraversalAstVisitor)]
+        def fusedAstVisitor = new FusedAstVisitor(rules)
+
+        def violationsByRule = fusedAstVisitor.applyTo(sourceCode)
+
+        assertSameViolationsAsEachRule(rules, violationsByRule)
+        assert messages(violationsByRule[1]).size() == 6
+        assert fusedAstVisitor.classTraversalCount == 4
+    }
+
+    @Test
+    void testVisitorNotAnnotatedWithSupportsFusedTraversal_VisitorWalksEachClassItself() {
+        def rules = [rule('Calls'), rule('NotAnnotated', NotAnnotatedAstVisitor)]
+        def fusedAstVisitor = new FusedAstVisitor(rules)
+
+        def violationsByRule = fusedAstVisitor.applyTo(sourceCode)
+
+        assertSameViolationsAsEachRule(rules, violationsByRule)
+        assert messages(violationsByRule[1]).size() == 6
+        assert fusedAstVisitor.classTraversalCount == 4
+    }
+
+    @Test
+    void testViolationMessageAndEnabled() {
+        def rules = [rule('Message', MethodCallRecordingAstVisitor, [violationMessage:'custom']),
+                     rule('Disabled', MethodCallRecordingAstVisitor, [enabled:false])]
+        def violationsByRule = new FusedAstVisitor(rules).applyTo(sourceCode)
+        assert messages(violationsByRule[0]) == ['custom'] * 6
+        assert violationsByRule[1].isEmpty()
+    }
+
+    @Test
+    void testSameViolationsAsEachRule_StandardRules() {
+        final SOURCE = '''
+            class MyClass {
+                def myMethod(String name) {
+                    def unused = new Boolean(true)
+                    if (name == name) { }
+                    if (true) { println name }
+                    if (name.equals('abc')) {
+                        [1, 2].each { it -> if (it) { } }
+                    }
+                }
+            }
+        '''
+        def rules = [new ComparisonWithSelfRule(), new EmptyIfStatementRule(), new ExplicitCallToEqualsMethodRule(),
+                     new NoDefRule(), new UnnecessaryBooleanInstantiationRule(), new ConstantIfExpressionRule()]
+        def source = new SourceString(SOURCE)
+        def fusedAstVisitor = new FusedAstVisitor(rules)
+
+        def violationsByRule = fusedAstVisitor.applyTo(source)
+
+        assertSameViolationsAsEachRule(rules, violationsByRule, source)
+        assert violationsByRule.every { !it.isEmpty() }
+
+        // One shared traversal, plus NoDefRule and the two AstNodeIndex visitors, which visit the class themselves
+        assert fusedAstVisitor.classTraversalCount == 4
+    }
+
+    @Test
+    void testSameViolationsAsEachRule_NestedBlockDepthRule() {
+        final SOURCE = '''
+            class MyClass {
+                def myMethod(int count) {
+                    if (count) {
+                        while (count--) {
+                            [1, 2].each { if (it) { println it } }
+                        }
+                    }
+                    try { } finally { if (count) { } }
+                }
+            }
+        '''
+        def rules = [new NestedBlockDepthRule(maxNestedBlockDepth:2), new EmptyIfStatementRule()]
+        def source = new SourceString(SOURCE)
+        def fusedAstVisitor = new FusedAstVisitor(rules)
+
+        def violationsByRule = fusedAstVisitor.applyTo(source)
+
+        assertSameViolationsAsEachRule(rules, violationsByRule, source)
+        assert violationsByRule[0].size() == 2
+        assert violationsByRule[1].size() == 1
+
+        // NestedBlockDepthRule visits the class itself
+        assert fusedAstVisitor.classTraversalCount == 2
+    }
+
+    @Test
+    void testVisitorThrowsException() {
+        def rules = [rule('Calls'), rule('Bad', ThrowingAstVisitor)]
+        shouldFailWithMessageContaining('bad visitor') { new FusedAstVisitor(rules).applyTo(sourceCode) }
+    }
+
+    @Test
+    void testIsFusible() {
+        assert FusedAstVisitor.isFusible(rule('Calls'))
+        assert FusedAstVisitor.isFusible(new FakeAstVisitorRule())
+        assert !FusedAstVisitor.isFusible(new OwnApplyToRule())
+        assert !FusedAstVisitor.isFusible(new MockRule(name:'Mock'))
+    }
+
+    @Test
+    void testConstructor_RuleNotFusible() {
+        shouldFail(IllegalArgumentException) { new FusedAstVisitor([rule('Calls'), new MockRule(name:'Mock')]) }
+    }
+
+    @Test
+    void testConstructor_RuleNotInTheRuleApplicability() {
+        def rules = [rule('Calls'), rule('Other')]
+        shouldFail(IllegalArgumentException) { new FusedAstVisitor(rules, RuleApplicability.forRules(rules[0..0])) }
+    }
+
+    private void assertSameViolationsAsEachRule(List<Rule> rules, List<List<Violation>> violationsByRule, SourceCode source = sourceCode) {
+        rules.eachWithIndex { rule, index ->
+            assert describe(violationsByRule[index]) == describe(rule.applyTo(source))
+        }
+    }
+
+    private static Rule rule(String name, Class astVisitorClass = MethodCallRecordingAstVisitor, Map properties = [:]) {
+        def rule = new FusedTestRule(name:name, astVisitorClass:astVisitorClass)
+        properties.each { key, value -> rule[key] = value }
+        rule
+    }
+
+    private static List<String> messages(List<Violation> violations) {
+        violations*.message
+    }
+
+    private static List describe(List<Violation> violations) {
+        violations.collect { [it.rule.name, it.lineNumber, it.sourceLine, it.message] }
+    }
+}
+
+class FusedTestRule extends AbstractAstVisitorRule {
+    String name
+    int priority = 2
+    Class astVisitorClass
+}
+
+class OwnApplyToRule extends FusedTestRule {
+    @Override
+    void applyTo(SourceCode sourceCode, List<Violation> violations) {
+        // Does not walk each class
+    }
+}
+
+@SupportsFusedTraversal
+class MethodCallRecordingAstVisitor extends AbstractAstVisitor {
+    @Override
+    void visitMethodCallExpression(MethodCallExpression call) {
+        addViolation(call, "${currentClassName}.${call.methodAsString}")
+        super.visitMethodCallExpression(call)
+    }
+}
+
+@SupportsFusedTraversal
+class SkipClosuresAstVisitor extends MethodCallRecordingAstVisitor {
+    @Override
+    void visitClosureExpression(ClosureExpression expression) {
+        // Do not visit the code within closures
+    }
+}
+
+@SupportsFusedTraversal
+class FirstVisitAstVisitor extends AbstractAstVisitor {
+    @Override
+    void visitMethodCallExpression(MethodCallExpression call) {
+        if (isFirstVisit(call.methodAsString)) {
+            addViolation(call, "${currentClassName}.${call.methodAsString}")
+        }
+        super.visitMethodCallExpression(call)
+    }
+}
+
+@SupportsFusedTraversal
+class MethodHooksAstVisitor extends MethodCallRecordingAstVisitor {
+    @Override
+    protected boolean shouldVisitMethod(MethodNode node) {
+        node.name != 'other'
+    }
+
+    @Override
+    protected void visitMethodEx(MethodNode node) {
+        addViolation(node, "start:${node.name}")
+    }
+
+    @Override
+    protected void visitMethodComplete(MethodNode node) {
+        addViolation(node, "end:${node.name}")
+    }
+}
+
+@ControlsOwnTraversal
+@SupportsFusedTraversal
+class OwnTraversalAstVisitor extends MethodCallRecordingAstVisitor {
+}
+
+class NotAnnotatedAstVisitor extends MethodCallRecordingAstVisitor {
+}
+
+@SupportsFusedTraversal
+class ThrowingAstVisitor extends AbstractAstVisitor {
+    @Override
+    void visitMethodCallExpression(MethodCallExpression call) {
+        throw new IllegalStateException('bad visitor')
+    }
+}
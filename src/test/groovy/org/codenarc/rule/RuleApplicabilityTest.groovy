@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.rule
+
+import org.codehaus.groovy.ast.ClassNode
+import org.codenarc.source.SourceCode
+import org.codenarc.source.SourceString
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+/**
+ * Tests for RuleApplicability
+ */
+class RuleApplicabilityTest extends AbstractTestCase {
+
+    private static final SOURCE = '''
+        package org.example
+        class MyClass { }
+        class MyClassTest { }
+    '''
+
+    private final SourceCode testSource = new SourceString(SOURCE, 'src/test/org/example/MyClassTest.groovy', 'MyClassTest.groovy')
+    private final SourceCode mainSource = new SourceString(SOURCE, 'src/main/org/example/MyClass.groovy', 'MyClass.groovy')
+
+    @Test
+    void testApplicableRules_SourceCode() {
+        def rules = [
+            new FakePathRule(),
+            new FakePathRule(applyToFilesMatching:/.*\/test\/.*/),
+            new FakePathRule(doNotApplyToFilesMatching:/.*\/test\/.*/),
+            new FakePathRule(applyToFileNames:'*Test.groovy'),
+            new FakePathRule(doNotApplyToFileNames:'*Test.groovy'),
+            new FakePathRule(applyToFileNames:'src/main/**/*.groovy'),
+            new FakePathRule(applyToFilesMatching:/.*\/test\/.*/, applyToFileNames:'My*.groovy', doNotApplyToFileNames:'Other*'),
+            new FakePathRule(enabled:false),
+            new NotReadyRule(),
+            new MockRule(name:'Mock'),
+        ]
+        def applicability = RuleApplicability.forRules(rules)
+        assert applicability.rules == rules
+
+        assert applicability.applicableRules(testSource) == bitSet(0, 1, 3, 6, 9)
+        assert applicability.applicableRules(mainSource) == bitSet(0, 2, 4, 5, 9)
+        assert applicability.applicableRules(new SourceString(SOURCE)) == bitSet(0, 2, 4, 9)
+    }
+
+    @Test
+    void testApplicableRules_SourceCode_SameAsMatchesFileFilters() {
+        def values = [null, '', /.*\/test\/.*/, /.*Test\.groovy/]
+        def names = [null, '', 'MyClassTest.groovy', '*.groovy, Other.groovy', 'src/**/My??ass.groovy', 'src/main/*.groovy']
+        def rules = []
+        values.each { applyTo -> values.each { doNotApplyTo -> names.each { applyToNames -> names.each { doNotApplyToNames ->
+            Map properties = [applyToFilesMatching:applyTo, doNotApplyToFilesMatching:doNotApplyTo,
+                applyToFileNames:applyToNames, doNotApplyToFileNames:doNotApplyToNames]
+            rules << new FakePathRule(properties.findAll { it.value != null })
+        } } } }
+        def applicability = RuleApplicability.forRules(rules)
+
+        [testSource, mainSource, new SourceString(SOURCE)].each { sourceCode ->
+            def applicable = applicability.applicableRules(sourceCode)
+            rules.eachWithIndex { rule, index ->
+                def matches = RuleApplicability.matchesFileFilters(rule.applyToFilesMatching, rule.doNotApplyToFilesMatching,
+                    rule.applyToFileNames, rule.doNotApplyToFileNames, sourceCode)
+                assert applicable[index] == matches, rule.properties.toString()
+                assert rule.isApplicableTo(sourceCode) == applicable[index]
+            }
+        }
+    }
+
+    @Test
+    void testApplicableRules_SourceCode_RuleOverridesIsApplicableTo() {
+        def rules = [new CustomApplicabilityRule(applicable:false), new CustomApplicabilityRule(applicable:true, enabled:false)]
+        assert RuleApplicability.forRules(rules).applicableRules(testSource) == bitSet(1)
+    }
+
+    @Test
+    void testApplicableRules_SourceCode_EnabledAndReadyAreCheckedEachTime() {
+        def rule = new FakePathRule()
+        def applicability = RuleApplicability.forRules([rule])
+        assert applicability.applicableRules(testSource) == bitSet(0)
+
+        rule.enabled = false
+        assert applicability.applicableRules(testSource) == bitSet()
+    }
+
+    @Test
+    void testApplicableRules_ClassNode() {
+        def rules = [
+            new FakeAstVisitorRule(),
+            new FakeAstVisitorRule(applyToClassNames:'*Test'),
+            new FakeAstVisitorRule(doNotApplyToClassNames:'*Test'),
+            new FakeAstVisitorRule(applyToClassNames:'org.example.MyClass'),
+            new FakeAstVisitorRule(applyToClassNames:'org.*.My*', doNotApplyToClassNames:'MyClass'),
+            new FakeAstVisitorRule(applyToClassNames:''),
+            new FakePathRule(applyToFilesMatching:'NoMatch'),
+            new CustomClassApplicabilityRule(),
+        ]
+        def applicability = RuleApplicability.forRules(rules)
+        def myClass = classNode('org.example.MyClass')
+        def myClassTest = classNode('org.example.MyClassTest')
+
+        assert applicability.applicableRules(myClass) == bitSet(0, 2, 3, 5, 6)
+        assert applicability.applicableRules(myClassTest) == bitSet(0, 1, 4, 5, 6, 7)
+        rules.eachWithIndex { rule, index ->
+            if (rule instanceof AbstractAstVisitorRule) {
+                assert rule.shouldApplyThisRuleTo(myClass) == applicability.applicableRules(myClass)[index]
+                assert rule.shouldApplyThisRuleTo(myClassTest) == applicability.applicableRules(myClassTest)[index]
+            }
+        }
+    }
+
+    @Test
+    void testIsCurrent() {
+        def rule1 = new FakePathRule(applyToFilesMatching:/.*\/test\/.*/)
+        def rule2 = new FakeAstVisitorRule(applyToClassNames:'*Test')
+        def applicability = RuleApplicability.forRules([rule1, rule2])
+        assert applicability.isCurrent([rule1, rule2])
+        assert !applicability.isCurrent([rule1])
+        assert !applicability.isCurrent([rule2, rule1])
+        assert !applicability.isCurrent([rule1, new FakeAstVisitorRule(applyToClassNames:'*Test')])
+
+        rule1.enabled = false
+        assert applicability.isCurrent([rule1, rule2])
+
+        rule2.doNotApplyToClassNames = 'MyClassTest'
+        assert !applicability.isCurrent([rule1, rule2])
+    }
+
+    @Test
+    void testIndexOf() {
+        def rule1 = new FakePathRule()
+        def rule2 = new FakeAstVisitorRule()
+        def applicability = RuleApplicability.forRules([rule1, rule2, rule1])
+        assert applicability.indexOf(rule1) == 0
+        assert applicability.indexOf(rule2) == 1
+        assert applicability.indexOf(new FakePathRule()) == -1
+    }
+
+    @Test
+    void testIsCurrent_RuleDefinesItsOwnFilterProperties() {
+        def rule = new FakeAstVisitorRuleDefinesNewApplyToClassNamesRule()
+        def applicability = RuleApplicability.forRules([rule])
+        assert applicability.isCurrent([rule])
+
+        rule.applyToClassNames = 'Other'
+        assert !applicability.isCurrent([rule])
+    }
+
+    private static BitSet bitSet(int... indexes) {
+        def bitSet = new BitSet()
+        indexes.each { index -> bitSet.set(index) }
+        bitSet
+    }
+
+    private static ClassNode classNode(String name) {
+        new SourceString(SOURCE).ast.classes.find { it.name == name }
+    }
+}
+
+// Test AbstractRule implementation class that determines its own applicability to a source file
+class CustomApplicabilityRule extends FakePathRule {
+    boolean applicable
+
+    @Override
+    boolean isApplicableTo(SourceCode sourceCode) {
+        applicable
+    }
+}
+
+// Test AbstractAstVisitorRule implementation class that only applies to classes whose names end with 'Test'
+class CustomClassApplicabilityRule extends FakeAstVisitorRule {
+    @Override
+    protected boolean shouldApplyThisRuleTo(ClassNode classNode) {
+        classNode.name.endsWith('Test')
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source
+
+import org.codehaus.groovy.ast.AnnotationNode
+import org.codehaus.groovy.ast.ClassCodeVisitorSupport
+import org.codehaus.groovy.ast.ClassNode
+import org.codehaus.groovy.ast.expr.AttributeExpression
+import org.codehaus.groovy.ast.expr.BinaryExpression
+import org.codehaus.groovy.ast.expr.ClosureExpression
+import org.codehaus.groovy.ast.expr.ConstantExpression
+import org.codehaus.groovy.ast.expr.ConstructorCallExpression
+import org.codehaus.groovy.ast.expr.DeclarationExpression
+import org.codehaus.groovy.ast.expr.MethodCallExpression
+import org.codehaus.groovy.ast.expr.PropertyExpression
+import org.codehaus.groovy.ast.stmt.CatchStatement
+import org.codehaus.groovy.ast.stmt.ForStatement
+import org.codehaus.groovy.ast.stmt.TryCatchStatement
+import org.codehaus.groovy.ast.stmt.WhileStatement
+import org.codehaus.groovy.control.SourceUnit
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+
+import static org.codenarc.test.TestUtil.shouldFailWithMessageContaining
+
+/**
+ * Tests for AstNodeIndex
+ */
+class AstNodeIndexTest extends AbstractTestCase {
+
+    private static final SOURCE = '''
+        @Deprecated
+        class MyClass {
+            def date = new Date()
+            String name = 'abc'.toUpperCase()
+
+            def doStuff(int count = defaultCount()) {
+                def total = count + 1
+                try {
+                    process(new File('a.txt'))
+                } catch (IOException e) {
+                    this.@name = e.message
+                }
+                [1, 2].each { println it }
+                for (int i = 0; i < count; i++) { }
+                while (total > 0) { total-- }
+            }
+        }
+
+        class OtherClass {
+            OtherClass(String name = defaultName(new Date())) {
+                init()
+            }
+        }
+    '''
+
+    private AstNodeIndex index
+    private ClassNode myClass
+    private ClassNode otherClass
+
+    @Test
+    void testGetNodes_ClassNode() {
+        assert text(index.getNodes(myClass, MethodCallExpression)) == ['abc.toUpperCase()', 'this.defaultCount()', 'this.process(new File(a.txt))',
+            '[1, 2].each({ ... })', 'this.println(it)']
+        assert text(index.getNodes(myClass, ConstructorCallExpression)) == ['new Date()', 'new File(a.txt)']
+        assert text(index.getNodes(myClass, DeclarationExpression))[0] == 'def total = (count + 1)'
+        assert text(index.getNodes(myClass, AttributeExpression)) == ['this.@name']
+        assert text(index.getNodes(myClass, PropertyExpression)) == ['e.message']
+        assert index.getNodes(myClass, ClosureExpression).size() == 1
+        assert index.getNodes(myClass, TryCatchStatement).size() == 1
+        assert index.getNodes(myClass, CatchStatement).size() == 1
+        assert index.getNodes(myClass, ForStatement).size() == 1
+        assert index.getNodes(myClass, WhileStatement).size() == 1
+        assert index.getNodes(myClass, AnnotationNode)*.classNode*.name == ['Deprecated']
+
+        assert text(index.getNodes(otherClass, MethodCallExpression)) == ['this.init()']
+        assert index.getNodes(otherClass, ConstructorCallExpression).isEmpty()
+    }
+
+    @Test
+    void testGetNodes_DeclarationExpressionsAreNotIndexedAsBinaryExpressions() {
+        def binaryExpressions = index.getNodes(myClass, BinaryExpression)
+        assert !binaryExpressions.any { it instanceof DeclarationExpression }
+        assert text(binaryExpressions).containsAll(['(count + 1)', '(this.@name = e.message)', '(i < count)', '(total > 0)'])
+    }
+
+    @Test
+    void testGetNodes_MethodNode() {
+        def method = myClass.getMethods('doStuff')[0]
+        assert text(index.getNodes(method, MethodCallExpression)) == ['this.defaultCount()', 'this.process(new File(a.txt))',
+            '[1, 2].each({ ... })', 'this.println(it)']
+        assert text(index.getNodes(method, ConstructorCallExpression)) == ['new File(a.txt)']
+
+        def constructor = otherClass.declaredConstructors[0]
+        assert text(index.getNodes(constructor, MethodCallExpression)) == ['this.init()']
+    }
+
+    @Test
+    void testGetEntries() {
+        def entries = index.getEntries(myClass)
+        def constructorCalls = entries.findAll { it.nodeType == ConstructorCallExpression }
+        assert constructorCalls*.node == index.getNodes(myClass, ConstructorCallExpression)
+        assert constructorCalls*.methodNode*.name == [null, 'doStuff']
+        assert entries*.nodeType.every { it in AstNodeIndex.INDEXED_NODE_TYPES }
+    }
+
+    @Test
+    void testEachNodeIsIndexedOnce() {
+        def entries = index.getEntries(myClass)
+        assert entries*.node.unique(false) { System.identityHashCode(it) }.size() == entries.size()
+    }
+
+    @Test
+    void testGetNodes_ConstructorParameterDefaultsAreNotIndexed() {
+        assert index.getNodes(otherClass, ConstructorCallExpression).isEmpty()
+        assert !index.getEntries(otherClass)*.node*.text.any { it.contains('defaultName') }
+    }
+
+    @Test
+    void testGetMethodCallExpressions() {
+        def methodCallExpressions = index.methodCallExpressions
+        assert methodCallExpressions.keySet() == [myClass, otherClass] as Set
+        assert text(methodCallExpressions[myClass]) == ['abc.toUpperCase()', 'this.process(new File(a.txt))',
+            '[1, 2].each({ ... })', 'this.println(it)']
+        assert text(methodCallExpressions[otherClass]) == ['this.init()']
+    }
+
+    @Test
+    void testGetMethodCallExpressions_SameAsClassCodeVisitorSupport() {
+        def ast = new SourceString(SOURCE).ast
+        new AstNodeIndex(ast).methodCallExpressions.each { classNode, calls ->
+            def collector = new MethodCallCollector()
+            collector.visitClass(classNode)
+            assert calls == collector.calls
+        }
+    }
+
+    @Test
+    void testGetNodes_NotIndexed() {
+        shouldFailWithMessageContaining('ConstantExpression') { index.getNodes(myClass, ConstantExpression) }
+    }
+
+    @Test
+    void testNullModule() {
+        index = new AstNodeIndex(null)
+        assert index.getNodes(myClass, MethodCallExpression).isEmpty()
+        assert index.getEntries(myClass).isEmpty()
+        assert index.methodCallExpressions.isEmpty()
+    }
+
+    @Test
+    void testSourceCode_GetAstNodeIndex() {
+        def sourceCode = new SourceString(SOURCE)
+        def astNodeIndex = sourceCode.astNodeIndex
+        assert astNodeIndex.getNodes(sourceCode.ast.classes[0], ConstructorCallExpression).size() == 2
+
+        // Make sure instance is cached
+        assert sourceCode.astNodeIndex.is(astNodeIndex)
+    }
+
+    @BeforeEach
+    void setUpAstNodeIndexTest() {
+        def ast = new SourceString(SOURCE).ast
+        myClass = ast.classes.find { it.name == 'MyClass' }
+        otherClass = ast.classes.find { it.name == 'OtherClass' }
+        index = new AstNodeIndex(ast)
+    }
+
+    private static List<String> text(List nodes) {
+        nodes*.text
+    }
+}
+
+// Collects the MethodCallExpressions of a class with a plain ClassCodeVisitorSupport traversal
+class MethodCallCollector extends ClassCodeVisitorSupport {
+    final List<MethodCallExpression> calls = []
+
+    @Override
+    void visitMethodCallExpression(MethodCallExpression call) {
+        if (!calls.contains(call)) {
+            calls << call
+        }
+        super.visitMethodCallExpression(call)
+    }
+
+    @Override
+    protected SourceUnit getSourceUnit() {
+        throw new UnsupportedOperationException()
+    }
+}
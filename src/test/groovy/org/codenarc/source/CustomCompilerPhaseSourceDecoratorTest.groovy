@@ -53,6 +53,58 @@ class CustomCompilerPhaseSourceDecoratorTest extends AbstractTestCase {
         assert interfacesOfSuperclassIn(decoratedSource.ast) == [Serializable.name]
     }
 
+    @Test
+    void ContinuedSource_AstHandedOverAndTransformedInPlace() {
+        def source = new SourceString('class SomeThrowable extends Throwable {}')
+        def conversionAst = source.ast
+        assert interfacesOfSuperclassIn(conversionAst).isEmpty()
+
+        def decoratedSource = new CustomCompilerPhaseSourceDecorator(source, Phases.SEMANTIC_ANALYSIS, source)
+        assert decoratedSource.ast.is(conversionAst)
+        assert interfacesOfSuperclassIn(decoratedSource.ast) == [Serializable.name]
+
+        // The continued source parses its AST for the earlier phase again
+        assert !source.ast.is(conversionAst)
+        assert interfacesOfSuperclassIn(source.ast).isEmpty()
+    }
+
+    @Test
+    void ContinuedSource_SourceForAnEarlierPhase_CompilationContinuedAgain() {
+        def source = new SourceString('class SomeThrowable extends Throwable {}')
+        def conversionAst = source.ast
+        def semanticSource = new CustomCompilerPhaseSourceDecorator(source, Phases.SEMANTIC_ANALYSIS, source)
+        assert semanticSource.ast.is(conversionAst)
+
+        def canonicalizationSource = new CustomCompilerPhaseSourceDecorator(source, Phases.CANONICALIZATION, semanticSource)
+        assert canonicalizationSource.ast.is(conversionAst)
+        assert !semanticSource.ast.is(conversionAst)
+        assert interfacesOfSuperclassIn(semanticSource.ast) == [Serializable.name]
+    }
+
+    @Test
+    void ContinuedSource_CompilationUnitReleased_CompiledSeparately() {
+        def source = new SourceString('class SomeThrowable extends Throwable {}')
+        source.ast
+        source.releaseCompilationUnit()
+
+        def decoratedSource = new CustomCompilerPhaseSourceDecorator(source, Phases.SEMANTIC_ANALYSIS, source)
+        assert !decoratedSource.ast.is(source.ast)
+        assert interfacesOfSuperclassIn(decoratedSource.ast) == [Serializable.name]
+        assert interfacesOfSuperclassIn(source.ast).isEmpty()
+    }
+
+    @Test
+    void ContinuedSource_CompilationError_ReferencesClassNotOnClasspath() {
+        def source = new SourceString('class MyClass extends SomeOtherClass {}')
+        def conversionAst = source.ast
+        def decoratedSource = new CustomCompilerPhaseSourceDecorator(source, Phases.SEMANTIC_ANALYSIS, source)
+        assert decoratedSource.ast == null
+
+        // The partly transformed AST is discarded
+        assert !source.ast.is(conversionAst)
+        assert source.ast.classes[0].name == 'MyClass'
+    }
+
     @Test
     void CompilationError_ReferencesClassNotOnClasspath() {
         def source = new SourceString('class MyClass extends SomeOtherClass {}')
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source
+
+import static org.codenarc.test.TestUtil.shouldFail
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+/**
+ * Tests for LineOffsets
+ */
+class LineOffsetsTest extends AbstractTestCase {
+
+    private static final String TEXT = 'abc\ndef\r\n\rxyz'
+
+    private final LineOffsets lineOffsets = new LineOffsets(TEXT)
+
+    @Test
+    void testGetLines_SameAsReadLines() {
+        ['', 'abc', 'abc\n', '\n', '\n\n', 'a\r\nb\rc\n\nd', 'a\n\r', TEXT].each { text ->
+            assert new LineOffsets(text).lines == new StringReader(text).readLines()
+            assert new LineOffsets(text).lineCount == new StringReader(text).readLines().size()
+        }
+    }
+
+    @Test
+    void testGetLines_Immutable() {
+        shouldFail(UnsupportedOperationException) { lineOffsets.lines.add('other') }
+        shouldFail(UnsupportedOperationException) { lineOffsets.lines.set(0, 'other') }
+    }
+
+    @Test
+    void testGetLines_CreatedOnce() {
+        assert lineOffsets.lines.is(lineOffsets.lines)
+        assert lineOffsets.getLine(0).is(lineOffsets.lines[0])
+    }
+
+    @Test
+    void testGetLine() {
+        assert lineOffsets.getLine(0) == 'abc'
+        assert lineOffsets.getLine(1) == 'def'
+        assert lineOffsets.getLine(2) == ''
+        assert lineOffsets.getLine(3) == 'xyz'
+        shouldFail(IndexOutOfBoundsException) { lineOffsets.getLine(4) }
+        shouldFail(IndexOutOfBoundsException) { lineOffsets.getLine(-1) }
+    }
+
+    @Test
+    void testGetLineStartAndEnd() {
+        assert (0..3).collect { lineOffsets.getLineStart(it) } == [0, 4, 9, 10]
+        assert (0..3).collect { lineOffsets.getLineEnd(it) } == [3, 7, 9, 13]
+    }
+
+    @Test
+    void testGetLineNumber() {
+        assert (0..<TEXT.size()).collect { lineOffsets.getLineNumber(it) } == [1, 1, 1, 1, 2, 2, 2, 2, 2, 3, 4, 4, 4]
+        assert lineOffsets.getLineNumber(TEXT.size()) == -1
+        assert lineOffsets.getLineNumber(-1) == -1
+        assert new LineOffsets('').getLineNumber(0) == -1
+    }
+
+    @Test
+    void testGetColumnNumber() {
+        assert (0..<TEXT.size()).collect { lineOffsets.getColumnNumber(it) } == [1, 2, 3, 4, 1, 2, 3, 4, 5, 1, 1, 2, 3]
+        assert lineOffsets.getColumnNumber(TEXT.size()) == -1
+        assert lineOffsets.getColumnNumber(-1) == -1
+    }
+
+    @Test
+    void testGetOffset() {
+        assert lineOffsets.getOffset(1, 1) == 0
+        assert lineOffsets.getOffset(1, 4) == 3
+        assert lineOffsets.getOffset(2, 2) == 5
+        assert lineOffsets.getOffset(2, 5) == 8
+        assert lineOffsets.getOffset(4, 3) == 12
+        assert lineOffsets.getOffset(4, 4) == 13
+    }
+
+    @Test
+    void testGetOffset_Invalid() {
+        assert lineOffsets.getOffset(1, 5) == -1
+        assert lineOffsets.getOffset(2, 6) == -1
+        assert lineOffsets.getOffset(4, 5) == -1
+        assert lineOffsets.getOffset(1, 0) == -1
+        assert lineOffsets.getOffset(0, 1) == -1
+        assert lineOffsets.getOffset(5, 1) == -1
+    }
+
+    @Test
+    void testGetOffset_RoundTrip() {
+        (0..<TEXT.size()).each { offset ->
+            assert lineOffsets.getOffset(lineOffsets.getLineNumber(offset), lineOffsets.getColumnNumber(offset)) == offset
+        }
+    }
+
+    @Test
+    void testManyLines() {
+        def text = (1..1000).collect { "line $it" }.join('\n')
+        def manyLines = new LineOffsets(text)
+        assert manyLines.lineCount == 1000
+        assert manyLines.getLine(999) == 'line 1000'
+        assert manyLines.getLineNumber(text.indexOf('line 500')) == 500
+    }
+
+}
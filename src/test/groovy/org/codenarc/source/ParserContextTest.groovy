@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source
+
+import groovy.grape.GrabAnnotationTransformation
+import org.codehaus.groovy.control.Phases
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+/**
+ * Tests for ParserContext
+ */
+class ParserContextTest extends AbstractTestCase {
+
+    @Test
+    void test_forCurrentThread_ReusedWithinThread() {
+        def parserContext = ParserContext.forCurrentThread()
+        assert ParserContext.forCurrentThread().is(parserContext)
+        assert parserContext.parentClassLoader.is(Thread.currentThread().contextClassLoader)
+    }
+
+    @Test
+    void test_forCurrentThread_SeparateForEachThread() {
+        def parserContext = ParserContext.forCurrentThread()
+        ParserContext otherThreadParserContext = null
+        def thread = new Thread({ otherThreadParserContext = ParserContext.forCurrentThread() })
+        thread.start()
+        thread.join()
+
+        assert otherThreadParserContext
+        assert !otherThreadParserContext.is(parserContext)
+    }
+
+    @Test
+    void test_forCurrentThread_ContextClassLoaderChanged() {
+        def thread = Thread.currentThread()
+        def originalClassLoader = thread.contextClassLoader
+        def parserContext = ParserContext.forCurrentThread()
+        def classLoader = new URLClassLoader(new URL[0], originalClassLoader)
+        try {
+            thread.contextClassLoader = classLoader
+            def newParserContext = ParserContext.forCurrentThread()
+            assert !newParserContext.is(parserContext)
+            assert newParserContext.classLoader.parent.is(classLoader)
+        }
+        finally {
+            thread.contextClassLoader = originalClassLoader
+            classLoader.close()
+        }
+        assert !ParserContext.forCurrentThread().is(parserContext)
+    }
+
+    @Test
+    void test_createCompilationUnit() {
+        def parserContext = ParserContext.forCurrentThread()
+        def sourceUnit = parserContext.createSourceUnit('class MyClass { }')
+        def compilationUnit = parserContext.createCompilationUnit()
+        compilationUnit.addSource(sourceUnit)
+        compilationUnit.compile(Phases.CONVERSION)
+
+        assert sourceUnit.AST.classes[0].name == 'MyClass'
+        assert compilationUnit.classLoader.is(parserContext.classLoader)
+        assert compilationUnit.transformLoader.is(parserContext.transformLoader)
+    }
+
+    @Test
+    void test_COMPILER_CONFIGURATION_GrabDisabled() {
+        assert ParserContext.COMPILER_CONFIGURATION.disabledGlobalASTTransformations == [GrabAnnotationTransformation.name] as Set
+    }
+}
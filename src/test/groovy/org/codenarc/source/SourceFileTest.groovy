@@ -19,6 +19,8 @@ import org.codenarc.test.AbstractTestCase
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 
+import java.nio.charset.StandardCharsets
+
 import static org.codenarc.test.TestUtil.shouldFail
 
 /**
@@ -77,6 +79,13 @@ class SourceFileTest extends AbstractTestCase {
         assert sourceFile.lines.is(lines)
     }
 
+    @Test
+    void testGetText_SourceLoader() {
+        sourceFile = new SourceFile(file, new SourceLoader(StandardCharsets.ISO_8859_1))
+        assert sourceFile.text == new File(FILE).text
+        assert sourceFile.lineOffsets.text.is(sourceFile.text)
+    }
+
     @Test
     void testLine() {
         assert sourceFile.line(0) ==  'class SampleFile {'
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+
+import static org.codenarc.test.TestUtil.shouldFail
+
+/**
+ * Tests for SourceLines
+ */
+class SourceLinesTest extends AbstractTestCase {
+
+    private static final SOURCE = '''class SampleFile {
+            // a comment
+            int count
+        }
+        '''
+    private final SourceString sourceString = new SourceString(SOURCE, 'src/SampleFile.groovy', 'SampleFile.groovy')
+    private final SourceLines sourceLines = new SourceLines(sourceString)
+
+    @Test
+    void testConstructor_NullSourceCode() {
+        shouldFail { new SourceLines(null) }
+    }
+
+    @Test
+    void testRetainsNamePathAndLines() {
+        assert sourceLines.name == 'SampleFile.groovy'
+        assert sourceLines.path == 'src/SampleFile.groovy'
+        assert sourceLines.lines == sourceString.lines
+        assert sourceLines.line(2) == 'int count'
+        assert sourceLines.line(5) == null
+        shouldFail(UnsupportedOperationException) { sourceLines.lines << 'x' }
+    }
+
+    @Test
+    void testGetText() {
+        assert sourceLines.text == sourceString.lines.join('\n')
+    }
+
+    @Test
+    void testGetAst() {
+        def ast = sourceLines.ast
+        assert ast.classes[0].name == 'SampleFile'
+        assert sourceLines.ast.is(ast)
+        assert sourceLines.valid
+    }
+
+    @Test
+    void testToString() {
+        assert sourceLines.toString() == 'SourceLines[src/SampleFile.groovy]'
+    }
+
+}
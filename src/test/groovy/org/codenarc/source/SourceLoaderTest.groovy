@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codenarc.source
+
+import org.codenarc.test.AbstractTestCase
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+import java.nio.charset.Charset
+import java.nio.charset.StandardCharsets
+
+import static org.codenarc.test.TestUtil.shouldFail
+
+/**
+ * Tests for SourceLoader
+ */
+class SourceLoaderTest extends AbstractTestCase {
+
+    private static final String ASCII_TEXT = 'class MyClass {\n\tdef x = 1\r\n\r\n  def y = 2\r}\n'
+    private static final String NON_ASCII_TEXT = 'class Café {\n  def s = "über €"\n}'
+
+    @TempDir
+    private File tempDir
+
+    @Test
+    void testLoad_AsciiFile() {
+        def lineOffsets = SourceLoader.DEFAULT.load(file(ASCII_TEXT.getBytes(StandardCharsets.US_ASCII)))
+        assertSameAs(lineOffsets, ASCII_TEXT)
+    }
+
+    @Test
+    void testLoad_EmptyFile() {
+        def lineOffsets = SourceLoader.DEFAULT.load(file(new byte[0]))
+        assert lineOffsets.text == ''
+        assert lineOffsets.lines == []
+    }
+
+    @Test
+    void testLoad_NonAsciiUtf8File() {
+        def lineOffsets = SourceLoader.DEFAULT.load(file(NON_ASCII_TEXT.getBytes(StandardCharsets.UTF_8)))
+        assertSameAs(lineOffsets, NON_ASCII_TEXT)
+    }
+
+    @Test
+    void testLoad_AsciiLinesThenNonAsciiUtf8() {
+        def text = ASCII_TEXT + 'line\r' + NON_ASCII_TEXT + '\r\nend\r'
+        assertSameAs(SourceLoader.DEFAULT.load(file(text.getBytes(StandardCharsets.UTF_8))), text)
+        assertSameAs(new SourceLoader(null, 0).load(file(text.getBytes(StandardCharsets.UTF_8))), text)
+    }
+
+    @Test
+    void testLoad_AsciiLinesThenNotValidUtf8_PlatformDefaultCharset() {
+        byte[] bytes = (ASCII_TEXT + 'def s = "caf\u00E9"\n').getBytes(StandardCharsets.ISO_8859_1)
+        def lineOffsets = SourceLoader.DEFAULT.load(file(bytes))
+        assertSameAs(lineOffsets, new String(bytes, Charset.defaultCharset()))
+    }
+
+    @Test
+    void testLoad_Utf8Bom() {
+        def lineOffsets = SourceLoader.DEFAULT.load(file(withBom([0xEF, 0xBB, 0xBF], NON_ASCII_TEXT.getBytes(StandardCharsets.UTF_8))))
+        assertSameAs(lineOffsets, NON_ASCII_TEXT)
+
+        lineOffsets = new SourceLoader(StandardCharsets.ISO_8859_1).load(file(withBom([0xEF, 0xBB, 0xBF], ASCII_TEXT.bytes)))
+        assertSameAs(lineOffsets, ASCII_TEXT)
+    }
+
+    @Test
+    void testLoad_Utf16Bom() {
+        def lineOffsets = SourceLoader.DEFAULT.load(file(withBom([0xFE, 0xFF], NON_ASCII_TEXT.getBytes(StandardCharsets.UTF_16BE))))
+        assertSameAs(lineOffsets, NON_ASCII_TEXT)
+
+        lineOffsets = SourceLoader.DEFAULT.load(file(withBom([0xFF, 0xFE], NON_ASCII_TEXT.getBytes(StandardCharsets.UTF_16LE))))
+        assertSameAs(lineOffsets, NON_ASCII_TEXT)
+    }
+
+    @Test
+    void testLoad_ConfiguredCharset() {
+        def loader = new SourceLoader(StandardCharsets.ISO_8859_1)
+        assert loader.charset == StandardCharsets.ISO_8859_1
+        def lineOffsets = loader.load(file(NON_ASCII_TEXT.replace('€', 'E').getBytes(StandardCharsets.ISO_8859_1)))
+        assertSameAs(lineOffsets, NON_ASCII_TEXT.replace('€', 'E'))
+    }
+
+    @Test
+    void testLoad_ConfiguredCharset_NotAsciiCompatible() {
+        def loader = new SourceLoader(StandardCharsets.UTF_16LE)
+        def lineOffsets = loader.load(file(ASCII_TEXT.getBytes(StandardCharsets.UTF_16LE)))
+        assertSameAs(lineOffsets, ASCII_TEXT)
+    }
+
+    @Test
+    void testLoad_MemoryMappedFile() {
+        def loader = new SourceLoader(null, 0)
+        assertSameAs(loader.load(file(ASCII_TEXT.bytes)), ASCII_TEXT)
+        assertSameAs(loader.load(file(NON_ASCII_TEXT.getBytes(StandardCharsets.UTF_8))), NON_ASCII_TEXT)
+    }
+
+    @Test
+    void testLoad_FileDoesNotExist() {
+        shouldFail(IOException) { SourceLoader.DEFAULT.load(new File(tempDir, 'DoesNotExist.groovy')) }
+    }
+
+    @Test
+    void testForEncoding() {
+        assert SourceLoader.forEncoding(null).is(SourceLoader.DEFAULT)
+        assert SourceLoader.forEncoding('').is(SourceLoader.DEFAULT)
+        assert SourceLoader.DEFAULT.charset == null
+        assert SourceLoader.forEncoding('ISO-8859-1').charset == StandardCharsets.ISO_8859_1
+        shouldFail { SourceLoader.forEncoding('NoSuchCharset') }
+    }
+
+    //------------------------------------------------------------------------------------
+    // Helper Methods
+    //------------------------------------------------------------------------------------
+
+    private File file(byte[] bytes) {
+        def file = File.createTempFile('Source', '.groovy', tempDir)
+        file.bytes = bytes
+        file
+    }
+
+    private static byte[] withBom(List<Integer> bom, byte[] bytes) {
+        (bom.collect { it as byte } + bytes.toList()) as byte[]
+    }
+
+    private static void assertSameAs(LineOffsets lineOffsets, String text) {
+        def expected = new LineOffsets(text)
+        assert lineOffsets.text == text
+        assert lineOffsets.lines == expected.lines
+        assert lineOffsets.lineCount == expected.lineCount
+        (0..<expected.lineCount).each { index ->
+            assert lineOffsets.getLineStart(index) == expected.getLineStart(index)
+            assert lineOffsets.getLineEnd(index) == expected.getLineEnd(index)
+        }
+    }
+
+}
@@ -118,6 +118,18 @@ class SourceStringTest extends AbstractTestCase {
         assert sourceString.ast.is(ast)
     }
 
+    @Test
+    void testReleaseAst() {
+        def ast = sourceString.ast
+        assert sourceString.methodCallExpressions != null
+
+        sourceString.releaseAst()
+        def newAst = sourceString.ast
+        assert !newAst.is(ast)
+        assert newAst.classes[0].name == 'SampleFile'
+        assert sourceString.ast.is(newAst)
+    }
+
     @Test
     void testGetAst_ReferencesClassNotInClasspath() {
         final NEW_SOURCE = '''
@@ -132,6 +144,17 @@ class SourceStringTest extends AbstractTestCase {
         assert ast.classes[0].name == 'MyClass'
     }
 
+    @Test
+    void testGetAst_GrabAnnotation_NotResolved() {
+        final NEW_SOURCE = '''
+            @Grab('org.example.doesnotexist:nothing:9.9')
+            import org.example.Nothing
+            class MyClass { }
+        '''
+        sourceString = new SourceString(NEW_SOURCE)
+        assert sourceString.ast.classes[0].name == 'MyClass'
+    }
+
     @Test
     void testGetAst_CompilerErrorInSource() {
         final NEW_SOURCE = '''
@@ -169,12 +192,50 @@ class SourceStringTest extends AbstractTestCase {
         assert sourceString.getLineNumberForCharacterIndex(-1) == -1
     }
 
+    @Test
+    void testGetColumnNumberForCharacterIndex() {
+        sourceString = new SourceString('abc\r\n  def\n')
+        assert sourceString.getColumnNumberForCharacterIndex(0) == 1
+        assert sourceString.getColumnNumberForCharacterIndex(2) == 3
+        assert sourceString.getColumnNumberForCharacterIndex(5) == 1
+        assert sourceString.getColumnNumberForCharacterIndex(7) == 3
+        assert sourceString.getColumnNumberForCharacterIndex(99) == -1
+    }
+
+    @Test
+    void testGetCharacterIndexForLineAndColumn() {
+        sourceString = new SourceString('abc\r\n  def\n')
+        assert sourceString.getCharacterIndexForLineAndColumn(1, 1) == 0
+        assert sourceString.getCharacterIndexForLineAndColumn(2, 3) == 7
+        assert sourceString.getCharacterIndexForLineAndColumn(3, 1) == -1
+    }
+
+    @Test
+    void testGetLines_ServedFromLineOffsets() {
+        assert sourceString.lines == sourceString.lineOffsets.lines
+        assert sourceString.lineOffsets.is(sourceString.lineOffsets)
+    }
+
     @Test
     void testIsValid() {
         assert sourceString.valid
         assert !new SourceString('%^#@$').valid
     }
 
+    @Test
+    void testIsCompilationFailed() {
+        def invalidSource = new SourceString('%^#@$')
+        assert !invalidSource.compilationFailed
+        assert invalidSource.ast == null
+        assert invalidSource.compilationFailed
+
+        invalidSource.releaseAst()
+        assert invalidSource.compilationFailed
+
+        assert sourceString.ast
+        assert !sourceString.compilationFailed
+    }
+
     @BeforeEach
     void setUpSourceStringTest() {
         sourceString = new SourceString(SOURCE)
@@ -106,4 +106,62 @@ class WildcardPatternTest extends AbstractTestCase {
         assert new WildcardPattern(' a , b\t,  c?d ').matches('cdd')
         assert new WildcardPattern(' a , b*g,  c?d ').matches('bcdefg')
     }
+
+    @Test
+    void testMatches_Null() {
+        assert new WildcardPattern(null).matches(null)
+        assert !new WildcardPattern('a').matches(null)
+        assert !new WildcardPattern('a*,**').matches(null)
+    }
+
+    @Test
+    void testMatches_LiteralPrefixAndSuffix() {
+        assert new WildcardPattern('src/**').matches('src/main/MyClass.groovy')
+        assert new WildcardPattern('**.groovy').matches('src/main/MyClass.groovy')
+        assert new WildcardPattern('src/**/*Test.groovy').matches('src/test/MyTest.groovy')
+        assert new WildcardPattern('src/*/My?lass.groovy').matches('src/main/MyClass.groovy')
+        assert new WildcardPattern('ab*ba').matches('abba')
+
+        assert !new WildcardPattern('src/**').matches('test/src/MyClass.groovy')
+        assert !new WildcardPattern('**.groovy').matches('src/main/MyClass.java')
+        assert !new WildcardPattern('src/**/*Test.groovy').matches('src/MyTest.groovy')
+        assert !new WildcardPattern('src/*/My?lass.groovy').matches('src/main/sub/MyClass.groovy')
+        assert !new WildcardPattern('ab*ba').matches('aba')
+    }
+
+    @Test
+    void testMatches_LiteralWithinWildcards() {
+        assert new WildcardPattern('**/test/**').matches('src/test/groovy/MyTest.groovy')
+        assert new WildcardPattern('**/*.groovy').matches('src/MyClass.groovy')
+        assert new WildcardPattern('*Test').matches('MyTest')
+        assert new WildcardPattern('*.*').matches('org.example.MyClass')
+
+        assert !new WildcardPattern('**/test/**').matches('src/testing/MyTest.groovy')
+        assert !new WildcardPattern('**/*.groovy').matches('MyClass.groovy')
+        assert !new WildcardPattern('**/*.groovy').matches('src/MyClass.groovy/other')
+        assert !new WildcardPattern('*Test').matches('a/MyTest')
+        assert !new WildcardPattern('*.*').matches('MyClass')
+    }
+
+    @Test
+    void testMatches_SameAsEquivalentRegularExpression() {
+        def regexes = [
+            '*': /[^\/]*/,
+            '**': /.*/,
+            '*?': /[^\/]*[^\/]/,
+            'a*b*c': /a[^\/]*b.*c/,
+            '**/*.groovy': /.*\/[^\/]*\.groovy/,
+            '*/**/x': /[^\/]*\/.*\/x/,
+            '?*.(x)?': /[^\/][^\/]*\.\(x\)[^\/]/,
+            '**a**': /.*a.*/,
+        ]
+        def inputs = ['', 'a', 'abc', 'a/b/c', 'ab/c', 'a.groovy', 'x/a.groovy', 'x/y/a.groovy', 'a/x', 'a//x',
+            'b.(x)y', 'bb.(x)/', 'ba', 'a/ba']
+        regexes.each { pattern, regex ->
+            def wildcardPattern = new WildcardPattern(pattern)
+            inputs.each { input ->
+                assert wildcardPattern.matches(input) == (input ==~ regex), "pattern=$pattern input=$input"
+            }
+        }
+    }
 }